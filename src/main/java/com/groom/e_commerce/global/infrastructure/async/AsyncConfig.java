@@ -37,6 +37,32 @@ public class AsyncConfig {
 		);
 	}
 
+	/**
+	 * 상품 캐시 Warm-up 전용 (페이지 조회 1 + 병렬 적재 배치 4)
+	 */
+	@Bean(name = "warmUpExecutor")
+	public Executor warmUpExecutor() {
+		return createExecutor(
+			"warmup-",
+			5,
+			5,
+			10
+		);
+	}
+
+	/**
+	 * 상품 목록 다음 페이지 선조회 전용 (큐가 차면 선조회 생략)
+	 */
+	@Bean(name = "prefetchExecutor")
+	public Executor prefetchExecutor() {
+		return createExecutor(
+			"prefetch-",
+			2,
+			2,
+			100
+		);
+	}
+
 	private Executor createExecutor(
 		String prefix,
 		int core,
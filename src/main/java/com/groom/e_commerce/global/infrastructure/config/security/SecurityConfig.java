@@ -44,14 +44,14 @@ public class SecurityConfig {
 				.requestMatchers("/api/v1/payments/**").permitAll()
 
 				// 상품 공개 API (구매자용)
-				.requestMatchers("/api/v1/products", "/api/v1/products/{productId}").permitAll()
+				.requestMatchers("/api/v1/products", "/api/v1/products/{productId}", "/api/v1/products/suggest").permitAll()
 
 				// 내부 API (서비스 간 통신용)
 				.requestMatchers("/api/v1/internal/**").permitAll()
 				.requestMatchers("/internal/**").permitAll()
 
 				// 카테고리 공개 API
-				.requestMatchers("/api/v1/categories", "/api/v1/categories/{categoryId}").permitAll()
+				.requestMatchers("/api/v1/categories", "/api/v1/categories/product-counts", "/api/v1/categories/{categoryId}").permitAll()
 
 				// Swagger
 				.requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
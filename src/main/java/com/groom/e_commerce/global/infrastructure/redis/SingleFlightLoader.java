@@ -0,0 +1,244 @@
+package com.groom.e_commerce.global.infrastructure.redis;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 미스 적재 Single-flight
+ *
+ * - JVM 내부: 같은 키의 동시 요청은 하나의 Future를 공유 (적재는 한 스레드만 수행)
+ * - 노드 간: Redis 단기 락(SET NX PX)을 잡은 노드만 DB 적재, 나머지는 캐시가 채워질 때까지 대기
+ * - Stale-while-revalidate: 다른 노드가 적재 중이면 마지막으로 적재한 값을 즉시 반환,
+ *   적재가 실패해도 남아있는 값이 있으면 반환
+ * - 락 획득/대기 실패 시에는 직접 적재 (가용성 우선, 락은 부하 분산 용도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SingleFlightLoader {
+
+	private static final String LOCK_KEY_PREFIX = "singleflight:lock:";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	@Value("${cache.single-flight.lock-lease-ms:3000}")
+	private long lockLeaseMs;
+
+	@Value("${cache.single-flight.wait-timeout-ms:2000}")
+	private long waitTimeoutMs;
+
+	@Value("${cache.single-flight.poll-interval-ms:50}")
+	private long pollIntervalMs;
+
+	@Value("${cache.single-flight.stale-ttl-seconds:30}")
+	private long staleTtlSeconds;
+
+	@Value("${cache.single-flight.stale-max-entries:10000}")
+	private long staleMaxEntries;
+
+	private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+	private Cache<String, Object> staleValues;
+	private DefaultRedisScript<Long> unlockScript;
+
+	@PostConstruct
+	public void init() {
+		staleValues = Caffeine.newBuilder()
+			.maximumSize(staleMaxEntries)
+			.expireAfterWrite(Duration.ofSeconds(staleTtlSeconds))
+			.build();
+
+		unlockScript = new DefaultRedisScript<>();
+		unlockScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/single_flight_unlock.lua")));
+		unlockScript.setResultType(Long.class);
+	}
+
+	/**
+	 * 캐시 미스 시 키 단위로 한 번만 적재
+	 *
+	 * @param key 적재 단위 키 (노드 간 동일해야 함)
+	 * @param cacheLookup 캐시 재조회 (없으면 null) - 락 획득 후 이중 확인, 대기 중 폴링에 사용
+	 * @param loader DB 조회 + 캐시 적재 (없으면 null 반환 가능)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T load(String key, Supplier<T> cacheLookup, Supplier<T> loader) {
+		CompletableFuture<Object> flight = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			return (T)await(existing, key, cacheLookup, loader);
+		}
+
+		try {
+			Object result = loadAcrossNodes(key, cacheLookup, loader);
+			flight.complete(result);
+			return (T)result;
+		} catch (RuntimeException e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	/**
+	 * 같은 JVM의 선행 요청 결과 대기
+	 */
+	private <T> Object await(CompletableFuture<Object> flight, String key, Supplier<T> cacheLookup,
+		Supplier<T> loader) {
+		try {
+			return flight.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			log.debug("Single-flight wait timed out: key={}", key);
+			return fallback(key, cacheLookup, loader);
+		} catch (ExecutionException e) {
+			Object stale = staleValues.getIfPresent(key);
+			if (stale != null) {
+				return stale;
+			}
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return fallback(key, cacheLookup, loader);
+		}
+	}
+
+	/**
+	 * 마지막 적재 값 제거 (원본 캐시 무효화 시 호출 - 무효화 이전 값을 stale로 응답하지 않도록)
+	 */
+	public void forget(Collection<String> keys) {
+		staleValues.invalidateAll(keys);
+	}
+
+	/**
+	 * 접두사가 일치하는 마지막 적재 값 전체 제거 (원본 캐시 전체 무효화 시)
+	 */
+	public void forgetByPrefix(String prefix) {
+		staleValues.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+	}
+
+	private <T> Object loadAcrossNodes(String key, Supplier<T> cacheLookup, Supplier<T> loader) {
+		String lockKey = LOCK_KEY_PREFIX + key;
+		String token = UUID.randomUUID().toString();
+
+		if (tryLock(lockKey, token)) {
+			try {
+				// 이중 확인: 미스 확인 ~ 락 획득 사이에 다른 노드가 적재했을 수 있음
+				T cached = cacheLookup.get();
+				if (cached != null) {
+					return cached;
+				}
+				return loadAndRemember(key, loader);
+			} catch (RuntimeException e) {
+				Object stale = staleValues.getIfPresent(key);
+				if (stale != null) {
+					log.warn("Single-flight load failed, serving stale value: key={}", key, e);
+					return stale;
+				}
+				throw e;
+			} finally {
+				unlock(lockKey, token);
+			}
+		}
+
+		// 다른 노드가 적재 중
+		Object stale = staleValues.getIfPresent(key);
+		if (stale != null) {
+			return stale;
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+		while (System.nanoTime() < deadline) {
+			try {
+				Thread.sleep(pollIntervalMs);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+
+			T cached = cacheLookup.get();
+			if (cached != null) {
+				return cached;
+			}
+			// 락이 풀렸는데 캐시가 비어있으면 (적재 결과 없음/실패) 대기 중단
+			if (!isLocked(lockKey)) {
+				break;
+			}
+		}
+
+		return fallback(key, cacheLookup, loader);
+	}
+
+	private <T> Object fallback(String key, Supplier<T> cacheLookup, Supplier<T> loader) {
+		T cached = cacheLookup.get();
+		if (cached != null) {
+			return cached;
+		}
+		Object stale = staleValues.getIfPresent(key);
+		if (stale != null) {
+			return stale;
+		}
+		return loadAndRemember(key, loader);
+	}
+
+	private <T> T loadAndRemember(String key, Supplier<T> loader) {
+		T loaded = loader.get();
+		if (loaded != null) {
+			staleValues.put(key, loaded);
+		}
+		return loaded;
+	}
+
+	private boolean tryLock(String lockKey, String token) {
+		try {
+			Boolean acquired = stringRedisTemplate.opsForValue()
+				.setIfAbsent(lockKey, token, Duration.ofMillis(lockLeaseMs));
+			return Boolean.TRUE.equals(acquired);
+		} catch (Exception e) {
+			// Redis 장애 시 노드 간 조율 없이 직접 적재
+			log.error("Failed to acquire single-flight lock: key={}", lockKey, e);
+			return true;
+		}
+	}
+
+	private boolean isLocked(String lockKey) {
+		try {
+			return Boolean.TRUE.equals(stringRedisTemplate.hasKey(lockKey));
+		} catch (Exception e) {
+			log.error("Failed to check single-flight lock: key={}", lockKey, e);
+			return false;
+		}
+	}
+
+	private void unlock(String lockKey, String token) {
+		try {
+			stringRedisTemplate.execute(unlockScript, List.of(lockKey), token);
+		} catch (Exception e) {
+			// 해제 실패 시 lease 만료로 자동 해제
+			log.error("Failed to release single-flight lock: key={}", lockKey, e);
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.groom.e_commerce.global.infrastructure.scheduling;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+	/**
+	 * 기본 스케줄러 (@Scheduled 기본값 - spring.task.scheduling.* 설정 적용)
+	 * 스케줄러 빈을 직접 등록하면 자동 구성이 빠지므로 같은 설정으로 함께 등록
+	 */
+	@Bean(name = "taskScheduler")
+	public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+		return builder.build();
+	}
+
+	/**
+	 * 상품 캐시 동기화 전용 (100ms 주기 - 다른 주기 작업이 길어져도 밀리지 않도록 분리)
+	 */
+	@Bean(name = "cacheSyncScheduler")
+	public ThreadPoolTaskScheduler cacheSyncScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(1);
+		scheduler.setThreadNamePrefix("cache-sync-");
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		return scheduler;
+	}
+}
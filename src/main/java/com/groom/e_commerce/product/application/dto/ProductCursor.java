@@ -0,0 +1,73 @@
+package com.groom.e_commerce.product.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 최신순 Keyset 커서 (createdAt DESC, productId DESC)
+ * OFFSET 없이 마지막으로 읽은 상품 다음부터 조회할 때 사용
+ * 클라이언트에는 encode() 토큰(Base64URL)으로 전달
+ *
+ * Redis 목록과 DB Keyset이 같은 순서가 되도록 맞춤
+ * - createdAt: ZSET score를 DB(PostgreSQL timestamp)와 같은 마이크로초 단위로 기록
+ * - productId: 같은 score는 member 문자열 역순 = PostgreSQL uuid 역순 (uuid 비교는 바이트 순서라 소문자 16진 문자열 순서와 같음)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCursor {
+
+	private LocalDateTime createdAt;
+	private UUID productId;
+
+	public static ProductCursor of(LocalDateTime createdAt, UUID productId) {
+		return new ProductCursor(createdAt, productId);
+	}
+
+	/**
+	 * 커서 토큰 해석 (없으면 null = 첫 페이지)
+	 */
+	public static ProductCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+		try {
+			String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+			LocalDateTime createdAt = LocalDateTime.ofEpochSecond(
+				Long.parseLong(parts[0]), Integer.parseInt(parts[1]), ZoneOffset.UTC);
+			return new ProductCursor(createdAt, UUID.fromString(parts[2]));
+		} catch (RuntimeException e) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST, "잘못된 커서입니다.");
+		}
+	}
+
+	public String encode() {
+		String raw = createdAt.toEpochSecond(ZoneOffset.UTC) + ":" + createdAt.getNano() + ":" + productId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 목록 ZSET score (ProductListCacheService 적재 기준과 동일)
+	 */
+	public double score() {
+		return scoreOf(createdAt);
+	}
+
+	/**
+	 * 최신순 목록 ZSET score - epoch 마이크로초 (2^53 미만이라 double로 손실 없이 표현)
+	 */
+	public static double scoreOf(LocalDateTime createdAt) {
+		return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+	}
+}
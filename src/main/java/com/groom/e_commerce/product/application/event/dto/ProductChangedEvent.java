@@ -0,0 +1,69 @@
+package com.groom.e_commerce.product.application.event.dto;
+
+import java.util.UUID;
+
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Product 내부: 상품 등록/수정/삭제/정지/정지 해제, 옵션/SKU 변경, 재고 확정/복구 이벤트
+ * 커밋 후 캐시 동기화(ProductCacheSyncService)가 DB 현재 상태로 상세/카드/목록/개수와 노드 로컬 인덱스를 다시 만듭니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductChangedEvent {
+
+	private UUID productId;
+	private UUID ownerId;
+	private String title;
+	private ProductStatus status;
+	private boolean deleted;
+	// 카테고리 변경 시 이전 카테고리 (이전 목록/개수 키에서 제거)
+	private UUID previousCategoryId;
+	// 새로 등록된 상품 (이전 집계 상태가 없음이 확실)
+	private boolean created;
+
+	public static ProductChangedEvent from(Product product) {
+		return builderOf(product).build();
+	}
+
+	public static ProductChangedEvent created(Product product) {
+		return builderOf(product).created(true).build();
+	}
+
+	public static ProductChangedEvent moved(Product product, UUID previousCategoryId) {
+		return builderOf(product).previousCategoryId(previousCategoryId).build();
+	}
+
+	/**
+	 * 엔티티 없이 변경된 상품 (JDBC 재고 확정 등 - 상태는 동기화 시 DB에서 읽음)
+	 */
+	public static ProductChangedEvent of(UUID productId) {
+		return ProductChangedEvent.builder()
+			.productId(productId)
+			.build();
+	}
+
+	/**
+	 * 구매자에게 노출되는 상품인지 (판매중 + 미삭제)
+	 */
+	public boolean isVisible() {
+		return !deleted && status == ProductStatus.ON_SALE;
+	}
+
+	private static ProductChangedEventBuilder builderOf(Product product) {
+		return ProductChangedEvent.builder()
+			.productId(product.getId())
+			.ownerId(product.getOwnerId())
+			.title(product.getTitle())
+			.status(product.getStatus())
+			.deleted(product.isDeleted());
+	}
+}
@@ -0,0 +1,73 @@
+package com.groom.e_commerce.product.application.event.listener;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.groom.e_commerce.product.application.event.dto.ProductChangedEvent;
+import com.groom.e_commerce.product.application.service.ProductCacheSyncService;
+import com.groom.e_commerce.product.application.service.ProductSuggestService;
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.product.infrastructure.cache.CachedProductCard;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCardCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService;
+import com.groom.e_commerce.review.application.event.ProductRatingChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 캐시 동기화 리스너
+ * 다른 도메인의 변경(평점 등)을 상품 목록 캐시/정렬 인덱스에 반영하고,
+ * 상품 변경은 커밋 후 캐시 동기화 대기열(ProductCacheSyncService)에 넣습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheEventListener {
+
+	private final ProductListCacheService listCacheService;
+	private final ProductCardCacheService cardCacheService;
+	private final ProductRepository productRepository;
+	private final ProductSuggestService suggestService;
+	private final ProductCacheSyncService syncService;
+
+	/**
+	 * 평점 변경 → 평점 정렬 인덱스 score 갱신 + 자동완성 인기 가중치(리뷰 수) 갱신
+	 * 카테고리는 카드 캐시에서 확인하고, 없으면 DB에서 조회
+	 */
+	@Async("eventExecutor")
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleRatingChanged(ProductRatingChangedEvent event) {
+		UUID categoryId = findCategoryId(event.productId());
+		listCacheService.updateRating(event.productId(), categoryId, event.avgRating());
+		suggestService.updatePopularity(event.productId(), event.reviewCount());
+	}
+
+	/**
+	 * 상품 변경 → 캐시 동기화 요청 (롤백된 변경은 반영되지 않음)
+	 * 상세/카드/목록/개수/자동완성은 동기화 시 DB 현재 상태로 반영
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleProductChanged(ProductChangedEvent event) {
+		syncService.request(event);
+	}
+
+	private UUID findCategoryId(UUID productId) {
+		List<CachedProductCard> cards = cardCacheService.multiGetAsList(List.of(productId));
+		if (!cards.isEmpty() && cards.get(0) != null) {
+			return cards.get(0).getCategoryId();
+		}
+
+		return productRepository.findByIdWithCategory(productId)
+			.map(Product::getCategory)
+			.map(Category::getId)
+			.orElse(null);
+	}
+}
@@ -1,11 +1,15 @@
 package com.groom.e_commerce.product.application.event.listener;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.groom.e_commerce.product.application.dto.StockManagement;
 import com.groom.e_commerce.order.domain.event.outbound.OrderCancelledEvent;
@@ -24,7 +28,7 @@ import lombok.extern.slf4j.Slf4j;
  * Product 도메인 이벤트 리스너
  * Payment, Order 도메인에서 발행한 이벤트를 수신하여 재고 처리를 수행합니다.
  *
- * 상품 정보(items)는 가점유 시점에 Redis에 저장된 매핑을 사용합니다.
+ * 상품 정보(items)는 가점유 시점에 Redis에 기록된 가점유 원장을 사용합니다.
  */
 @Slf4j
 @Component
@@ -62,19 +66,36 @@ public class ProductEventListener {
 			return;
 		}
 
+		// DB 확정 동안 만료 회수 보류 (확정은 DB 커밋 후 - 실패 시 미확정으로 남아 해제/회수됨)
+		if (!stockRedisService.holdReservation(event.orderId())) {
+			productEventPublisher.publishStockDeductionFailed(
+				StockDeductionFailedEvent.builder()
+					.orderId(event.orderId())
+					.failReason("가점유가 만료되어 재고가 회수되었습니다.")
+					.failedItems(List.of())
+					.build()
+			);
+			return;
+		}
+
 		try {
 			// DB 재고 확정 차감
 			productServiceV1.confirmStockBulk(stockManagements);
-
-			// 성공 이벤트 발행
-			List<StockDeductedEvent.DeductedItem> deductedItems = stockManagements.stream()
-				.map(item -> StockDeductedEvent.DeductedItem.builder()
+			commitReservationAfterCommit(event.orderId());
+
+			// 성공 이벤트 발행 (잔여 가용 재고는 MGET 한 번으로 조회)
+			List<Integer> remainingStocks = productServiceV1.getAvailableStocks(stockManagements);
+			List<StockDeductedEvent.DeductedItem> deductedItems = new ArrayList<>(stockManagements.size());
+			for (int i = 0; i < stockManagements.size(); i++) {
+				StockManagement item = stockManagements.get(i);
+				Integer remaining = remainingStocks.get(i);
+				deductedItems.add(StockDeductedEvent.DeductedItem.builder()
 					.productId(item.getProductId())
 					.variantId(item.getVariantId())
 					.quantity(item.getQuantity())
-					.remainingStock(productServiceV1.getAvailableStock(item.getProductId(), item.getVariantId()))
-					.build())
-				.toList();
+					.remainingStock(remaining != null ? remaining : 0)
+					.build());
+			}
 
 			productEventPublisher.publishStockDeducted(
 				StockDeductedEvent.builder()
@@ -108,6 +129,35 @@ public class ProductEventListener {
 		}
 	}
 
+	/**
+	 * 가점유 확정 (만료 회수 대상에서 제외) - DB 확정 차감이 커밋된 뒤에만 수행
+	 */
+	private void commitReservationAfterCommit(UUID orderId) {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			commitReservation(orderId);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				commitReservation(orderId);
+			}
+		});
+	}
+
+	private void commitReservation(UUID orderId) {
+		try {
+			if (!stockRedisService.commitReservation(orderId)) {
+				// 확정 보류 시간을 넘겨 회수됨 → Redis 가용 재고가 DB보다 많음 (재고 정합성 검증에서 보정)
+				log.error("[Product] 가점유 확정 실패 (DB 확정 후 회수됨) - orderId: {}", orderId);
+			}
+		} catch (Exception e) {
+			// 만료 인덱스에 남아 보류 시간 이후 회수됨 (재고 정합성 검증에서 보정)
+			log.error("[Product] 가점유 확정 실패 - orderId: {}", orderId, e);
+		}
+	}
+
 	/**
 	 * 결제 실패 이벤트 처리
 	 * - 가점유된 재고를 Redis에서 복구
@@ -119,20 +169,21 @@ public class ProductEventListener {
 		log.info("[Product] PaymentFailEvent 수신 - orderId: {}, failCode: {}, failMessage: {}",
 			event.orderId(), event.failCode(), event.failMessage());
 
-		// Redis에서 주문-상품 매핑 조회
-		List<StockManagement> stockManagements = stockRedisService.getOrderStockItems(event.orderId());
+		try {
+			// 미확정 가점유 해제 (원장 기준 원자적 반환 - Reclaimer와 중복 반환 없음)
+			List<StockManagement> released = stockRedisService.releaseReservation(event.orderId());
 
-		if (stockManagements.isEmpty()) {
-			log.warn("[Product] 주문-상품 매핑을 찾을 수 없음 - orderId: {}", event.orderId());
-			return;
-		}
+			if (released.isEmpty()) {
+				// 원장 도입 이전 포맷의 매핑
+				List<StockManagement> stockManagements = stockRedisService.takeReservation(event.orderId());
 
-		try {
-			// Redis 가점유 재고 복구
-			productServiceV1.releaseStockBulk(stockManagements);
+				if (stockManagements.isEmpty()) {
+					log.warn("[Product] 주문-상품 매핑을 찾을 수 없음 - orderId: {}", event.orderId());
+					return;
+				}
 
-			// 매핑 삭제
-			stockRedisService.deleteOrderStockItems(event.orderId());
+				productServiceV1.releaseStockBulk(stockManagements);
+			}
 
 			log.info("[Product] 가점유 재고 복구 완료 - orderId: {}", event.orderId());
 
@@ -143,7 +194,8 @@ public class ProductEventListener {
 
 	/**
 	 * 주문 취소 이벤트 처리
-	 * - Redis 가용 재고 복구 + DB 실재고 복구
+	 * - 결제 전: 미확정 가점유만 Redis에서 해제
+	 * - 결제 후: Redis 가용 재고 복구 + DB 실재고 복구
 	 */
 	@Async("eventExecutor")
 	@EventListener
@@ -152,8 +204,15 @@ public class ProductEventListener {
 		log.info("[Product] OrderCancelledEvent 수신 - orderId: {}, reason: {}",
 			event.orderId(), event.reason());
 
-		// Redis에서 주문-상품 매핑 조회
-		List<StockManagement> stockManagements = stockRedisService.getOrderStockItems(event.orderId());
+		// 결제 전 취소: 미확정 가점유만 Redis 가용 재고로 반환
+		List<StockManagement> released = stockRedisService.releaseReservation(event.orderId());
+		if (!released.isEmpty()) {
+			log.info("[Product] 미확정 가점유 해제 완료 - orderId: {}", event.orderId());
+			return;
+		}
+
+		// 결제 후 취소: 원장을 원자적으로 소비 (중복 복구 방지)
+		List<StockManagement> stockManagements = stockRedisService.takeReservation(event.orderId());
 
 		if (stockManagements.isEmpty()) {
 			log.warn("[Product] 주문-상품 매핑을 찾을 수 없음 (이미 처리됨?) - orderId: {}", event.orderId());
@@ -164,9 +223,6 @@ public class ProductEventListener {
 			// Redis + DB 재고 복구
 			productServiceV1.restoreStockBulk(stockManagements);
 
-			// 매핑 삭제
-			stockRedisService.deleteOrderStockItems(event.orderId());
-
 			log.info("[Product] 재고 복구 완료 - orderId: {}", event.orderId());
 
 		} catch (Exception e) {
@@ -3,6 +3,7 @@ package com.groom.e_commerce.product.application.event.publisher;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import com.groom.e_commerce.product.application.event.dto.ProductChangedEvent;
 import com.groom.e_commerce.product.application.event.dto.StockDeductedEvent;
 import com.groom.e_commerce.product.application.event.dto.StockDeductionFailedEvent;
 
@@ -11,7 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Product 도메인 이벤트 발행자
- * 재고 처리 결과를 다른 도메인에 알립니다.
+ * 재고 처리 결과를 다른 도메인에 알리고, 상품 변경을 커밋 후 리스너에 전달합니다.
  */
 @Slf4j
 @Component
@@ -39,4 +40,14 @@ public class ProductEventPublisher {
 			event.getOrderId(), event.getFailReason());
 		eventPublisher.publishEvent(event);
 	}
+
+	/**
+	 * 상품 변경 이벤트 발행
+	 * 커밋 후 캐시 동기화(상세/카드/목록/개수/자동완성)에 반영
+	 */
+	public void publishProductChanged(ProductChangedEvent event) {
+		log.debug("[Product] ProductChangedEvent 발행 - productId: {}, status: {}, deleted: {}",
+			event.getProductId(), event.getStatus(), event.isDeleted());
+		eventPublisher.publishEvent(event);
+	}
 }
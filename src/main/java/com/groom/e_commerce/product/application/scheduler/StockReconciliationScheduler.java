@@ -0,0 +1,27 @@
+package com.groom.e_commerce.product.application.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.product.application.service.StockReconciliationService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis ↔ DB 재고 정합성 검증 스케줄러 (기본 비활성화)
+ *
+ * 전체 SKU를 순회하므로 트래픽이 적은 시간대의 cron으로 설정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.stock.reconcile.enabled", havingValue = "true")
+public class StockReconciliationScheduler {
+
+	private final StockReconciliationService stockReconciliationService;
+
+	@Scheduled(cron = "${product.stock.reconcile.cron:0 30 4 * * *}")
+	public void reconcile() {
+		stockReconciliationService.reconcile();
+	}
+}
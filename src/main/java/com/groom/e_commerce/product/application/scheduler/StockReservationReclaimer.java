@@ -0,0 +1,56 @@
+package com.groom.e_commerce.product.application.scheduler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.product.infrastructure.cache.StockRedisService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 재고 가점유 회수 스케줄러
+ *
+ * 결제 없이 방치된 가점유(주문서 이탈 등)를 가점유 원장 기준으로 가용 재고에 반환합니다.
+ * 회수는 Lua Script로 주문 단위 원자적으로 처리되므로 여러 노드에서 동시에 실행되어도
+ * 같은 가점유가 두 번 반환되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.stock.reclaim.enabled", havingValue = "true", matchIfMissing = true)
+public class StockReservationReclaimer {
+
+	private final StockRedisService stockRedisService;
+
+	@Value("${product.stock.reclaim.batch-size:200}")
+	private int batchSize;
+
+	// 한 번의 실행에서 처리할 최대 배치 수 (Redis 단일 스레드 점유 방지)
+	@Value("${product.stock.reclaim.max-batches:50}")
+	private int maxBatches;
+
+	@Scheduled(fixedDelayString = "${product.stock.reclaim.interval-ms:10000}")
+	public void reclaimExpiredReservations() {
+		long now = System.currentTimeMillis();
+		long total = 0;
+
+		try {
+			for (int i = 0; i < maxBatches; i++) {
+				long reclaimed = stockRedisService.reclaimExpired(now, batchSize);
+				total += reclaimed;
+				if (reclaimed < batchSize) {
+					break;
+				}
+			}
+		} catch (Exception e) {
+			log.error("Failed to reclaim expired stock reservations", e);
+		}
+
+		if (total > 0) {
+			log.info("Expired stock reservations reclaimed: orders={}", total);
+		}
+	}
+}
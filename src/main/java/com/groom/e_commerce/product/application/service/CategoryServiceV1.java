@@ -5,12 +5,15 @@ import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.groom.e_commerce.global.presentation.advice.CustomException;
 import com.groom.e_commerce.global.presentation.advice.ErrorCode;
 import com.groom.e_commerce.product.domain.entity.Category;
 import com.groom.e_commerce.product.domain.repository.CategoryRepository;
 import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.product.infrastructure.cache.CategoryPathInvalidationBroadcaster;
 import com.groom.e_commerce.product.presentation.dto.request.ReqCategoryCreateDtoV1;
 import com.groom.e_commerce.product.presentation.dto.request.ReqCategoryUpdateDtoV1;
 import com.groom.e_commerce.product.presentation.dto.response.ResCategoryDtoV1;
@@ -24,6 +27,7 @@ public class CategoryServiceV1 {
 
 	private final CategoryRepository categoryRepository;
 	private final ProductRepository productRepository;
+	private final CategoryPathInvalidationBroadcaster categoryPathBroadcaster;
 
 	/**
 	 * 전체 카테고리 목록 조회 (계층 구조)
@@ -125,11 +129,31 @@ public class CategoryServiceV1 {
 		Category category = categoryRepository.findById(categoryId)
 			.orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
 
+		boolean renamed = request.getName() != null && !request.getName().equals(category.getName());
+
 		category.update(
 			request.getName(),
 			request.getSortOrder(),
 			request.getIsActive()
 		);
+
+		// 이름 변경 시 자신과 하위 카테고리의 이름 경로 갱신
+		if (renamed && category.getAncestorPath() != null) {
+			category.refreshPath();
+			categoryRepository.findSubtree(category.getSubtreePath()).forEach(Category::refreshPath);
+		}
+	}
+
+	/**
+	 * 카테고리 경로 재구성 (Master) - 경로 컬럼 도입 전 데이터 채우기
+	 * @return 갱신한 카테고리 수
+	 */
+	@Transactional
+	public int rebuildPaths() {
+		List<Category> categories = categoryRepository.findAllByOrderByDepthAsc();
+		categories.forEach(Category::refreshPath);
+		afterCommit(categoryPathBroadcaster::clearAll);
+		return categories.size();
 	}
 
 	/**
@@ -151,5 +175,20 @@ public class CategoryServiceV1 {
 		}
 
 		categoryRepository.delete(category);
+		afterCommit(() -> categoryPathBroadcaster.evict(categoryId));
+	}
+
+	// 커밋 전에 비우면 다른 요청이 이전 경로를 다시 적재할 수 있으므로 커밋 후 전 노드 무효화
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
 	}
 }
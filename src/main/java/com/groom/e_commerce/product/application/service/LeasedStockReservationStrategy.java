@@ -0,0 +1,324 @@
+package com.groom.e_commerce.product.application.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.product.application.dto.StockManagement;
+import com.groom.e_commerce.product.infrastructure.cache.StockCacheKey;
+import com.groom.e_commerce.product.infrastructure.cache.StockRedisService;
+import com.groom.e_commerce.product.presentation.dto.response.ResStockLeaseDto;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 로컬 재고 임차 전략 (핫 SKU만 임차)
+ *
+ * [핫 SKU]
+ * - 설정(hot-skus)에 등록한 상품/Variant ID
+ * - 정리 주기(sweep-interval) 동안 가점유 요청이 hot-threshold 이상인 SKU (임차분이 유휴 반환되면 해제)
+ * 그 외 SKU는 redis 전략과 같이 Redis 재고에서 바로 차감합니다. (재고가 적은 SKU를 한 노드가 묶어두지 않도록)
+ *
+ * [동작]
+ * 1. 핫 SKU별로 Redis에서 재고 블록(block-size)을 임차하여 JVM 내부 카운터에 보관
+ * 2. 핫 SKU는 로컬 카운터 CAS 차감, 나머지는 Redis 재고 차감 - 원장 기록까지 한 번의 Lua 호출
+ *    나머지 재고가 부족하거나 원장 기록이 실패하면 이미 차감한 임차분을 로컬 카운터로 되돌림
+ * 3. 잔량이 refill-threshold 아래로 내려가면 ioExecutor에서 비동기로 보충
+ * 4. idle-timeout 동안 사용되지 않은 SKU는 임차분을 Redis로 반환하고 항목을 제거, 종료 시 남은 임차분도 반환
+ *
+ * [보장]
+ * 임차는 Lua Script로 남은 재고 이하만 차감하므로 전체 노드의 임차 총량은 Redis 재고를 넘지 않습니다.
+ * 가점유한 수량은 redis 전략과 같은 원장에 기록되므로 결제 실패/취소 해제와 만료 회수 시 Redis 재고로 반환됩니다.
+ * 노드가 비정상 종료되면 반환되지 못한 임차분만큼 Redis 재고가 적게 남으며(과소 판매),
+ * 정합성 검증 리포트에서 Drift로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "product.stock.reservation.strategy", havingValue = "lease")
+public class LeasedStockReservationStrategy implements StockReservationStrategy {
+
+	private final StockRedisService stockRedisService;
+	private final Executor ioExecutor;
+	private final Map<String, StockLease> leases = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+	private final Set<String> detectedHotSkus = ConcurrentHashMap.newKeySet();
+
+	// 항상 임차하는 상품/Variant ID (옵션 상품은 Variant ID)
+	@Value("${product.stock.lease.hot-skus:}")
+	private Set<UUID> configuredHotSkus = Set.of();
+
+	// 정리 주기 동안 가점유 요청이 이 횟수 이상이면 핫 SKU로 감지 (0이면 감지하지 않음)
+	@Value("${product.stock.lease.hot-threshold:100}")
+	private long hotThreshold;
+
+	@Value("${product.stock.lease.block-size:50}")
+	private int blockSize;
+
+	// 잔량이 블록 크기 대비 이 비율 미만이면 비동기 보충
+	@Value("${product.stock.lease.refill-threshold:0.2}")
+	private double refillThreshold;
+
+	@Value("${product.stock.lease.idle-timeout-ms:30000}")
+	private long idleTimeoutMs;
+
+	public LeasedStockReservationStrategy(
+		StockRedisService stockRedisService,
+		@Qualifier("ioExecutor") Executor ioExecutor
+	) {
+		this.stockRedisService = stockRedisService;
+		this.ioExecutor = ioExecutor;
+	}
+
+	@Override
+	public void reserve(UUID orderId, List<StockManagement> items) {
+		List<StockManagement> hotItems = new ArrayList<>();
+		List<StockManagement> coldItems = new ArrayList<>();
+		for (StockManagement item : items) {
+			(isHot(item) ? hotItems : coldItems).add(item);
+		}
+
+		List<Taken> taken = new ArrayList<>(hotItems.size());
+		try {
+			for (StockManagement item : hotItems) {
+				taken.add(new Taken(take(item.getProductId(), item.getVariantId(), item.getQuantity()), item.getQuantity()));
+			}
+			stockRedisService.reserveAll(orderId, coldItems, hotItems);
+		} catch (RuntimeException e) {
+			// 재고 부족/원장 기록 실패 → 이미 차감한 임차분을 되돌림 (All-or-Nothing)
+			taken.forEach(t -> putBack(t.lease(), t.quantity()));
+			throw e;
+		}
+	}
+
+	/**
+	 * 핫 SKU 여부 (아니면 감지용 요청 수만 집계)
+	 */
+	private boolean isHot(StockManagement item) {
+		UUID skuId = item.getVariantId() != null ? item.getVariantId() : item.getProductId();
+		String stockKey = StockCacheKey.stockKey(item.getProductId(), item.getVariantId());
+		if (configuredHotSkus.contains(skuId) || detectedHotSkus.contains(stockKey)) {
+			return true;
+		}
+		if (hotThreshold > 0) {
+			requestCounts.computeIfAbsent(stockKey, key -> new LongAdder()).increment();
+		}
+		return false;
+	}
+
+	/**
+	 * 임차분에서 차감 (로컬 잔량이 부족하면 동기 임차)
+	 * @return 차감한 임차 항목
+	 */
+	private StockLease take(UUID productId, UUID variantId, int quantity) {
+		String stockKey = StockCacheKey.stockKey(productId, variantId);
+		while (true) {
+			StockLease lease = leases.computeIfAbsent(stockKey, key -> new StockLease(key, productId, variantId));
+			if (lease.retired) {
+				// 유휴 정리 중인 항목 → 새 항목으로 다시 시도
+				leases.remove(stockKey, lease);
+				continue;
+			}
+			lease.touch();
+
+			if (lease.tryTake(quantity)) {
+				if (lease.remaining.get() < blockSize * refillThreshold) {
+					refillAsync(lease);
+				}
+				return lease;
+			}
+
+			// 로컬 잔량 부족 → 동기 임차 (요청 수량이 블록보다 크면 요청 수량만큼)
+			int leased = stockRedisService.lease(productId, variantId, Math.max(blockSize, quantity));
+			if (leased == 0) {
+				if (lease.tryTake(quantity)) {
+					return lease;
+				}
+				throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
+			}
+			addLeased(lease, leased);
+		}
+	}
+
+	@Override
+	public List<ResStockLeaseDto> getLeaseStats() {
+		return leases.values().stream()
+			.map(StockLease::toDto)
+			.sorted(Comparator.comparingLong(ResStockLeaseDto::getLeased).reversed())
+			.toList();
+	}
+
+	/**
+	 * 유휴 임차분 반환 (일정 시간 가점유가 없던 SKU) + 이번 주기 요청 수로 핫 SKU 감지
+	 */
+	@Scheduled(fixedDelayString = "${product.stock.lease.sweep-interval-ms:5000}")
+	public void returnIdleLeases() {
+		long idleBefore = System.currentTimeMillis() - idleTimeoutMs;
+		for (StockLease lease : leases.values()) {
+			if (lease.lastUsedAt < idleBefore) {
+				// 항목 제거 후 반환 (제거 이후 들어온 임차분은 retired를 확인한 쪽에서 반환)
+				lease.retired = true;
+				leases.remove(lease.stockKey, lease);
+				detectedHotSkus.remove(lease.stockKey);
+				returnLease(lease);
+			}
+		}
+		detectHotSkus();
+	}
+
+	private void detectHotSkus() {
+		for (Map.Entry<String, LongAdder> entry : requestCounts.entrySet()) {
+			// 집계 항목을 떼어낸 뒤 판정 (그 사이 들어온 요청은 다음 주기 항목에 집계)
+			if (requestCounts.remove(entry.getKey(), entry.getValue()) && entry.getValue().sum() >= hotThreshold) {
+				detectedHotSkus.add(entry.getKey());
+				log.info("Hot SKU detected for stock lease: key={}, requests={}", entry.getKey(), entry.getValue().sum());
+			}
+		}
+	}
+
+	/**
+	 * 종료 시 남은 임차분 전부 반환
+	 */
+	@PreDestroy
+	public void returnAllLeases() {
+		leases.values().forEach(this::returnLease);
+	}
+
+	private void refillAsync(StockLease lease) {
+		if (!lease.refilling.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			ioExecutor.execute(() -> {
+				try {
+					addLeased(lease, stockRedisService.lease(lease.productId, lease.variantId, blockSize));
+				} catch (Exception e) {
+					log.warn("Failed to refill stock lease: key={}", lease.stockKey, e);
+				} finally {
+					lease.refilling.set(false);
+				}
+			});
+		} catch (Exception e) {
+			lease.refilling.set(false);
+			log.warn("Stock lease refill rejected: key={}", lease.stockKey, e);
+		}
+	}
+
+	/**
+	 * 임차분 추가 (이미 정리된 항목이면 바로 Redis로 반환)
+	 */
+	private void addLeased(StockLease lease, int quantity) {
+		lease.add(quantity);
+		if (lease.retired) {
+			returnLease(lease);
+		}
+	}
+
+	/**
+	 * 가점유 실패 시 차감했던 수량 되돌림 (이미 정리된 항목이면 바로 Redis로 반환)
+	 */
+	private void putBack(StockLease lease, int quantity) {
+		lease.putBack(quantity);
+		if (lease.retired) {
+			returnLease(lease);
+		}
+	}
+
+	private void returnLease(StockLease lease) {
+		int remaining = lease.remaining.getAndSet(0);
+		if (remaining <= 0) {
+			return;
+		}
+
+		stockRedisService.release(lease.productId, lease.variantId, remaining);
+		lease.returned.add(remaining);
+		log.debug("Stock lease returned: key={}, quantity={}", lease.stockKey, remaining);
+	}
+
+	private record Taken(StockLease lease, int quantity) {
+	}
+
+	/**
+	 * SKU별 임차 상태 (유휴 정리 시 retired 표시 후 제거 - 그 뒤에 추가된 잔량은 추가한 쪽이 반환)
+	 */
+	private static class StockLease {
+
+		private final String stockKey;
+		private final UUID productId;
+		private final UUID variantId;
+		private final AtomicInteger remaining = new AtomicInteger();
+		private final AtomicBoolean refilling = new AtomicBoolean(false);
+		private final LongAdder leased = new LongAdder();
+		private final LongAdder served = new LongAdder();
+		private final LongAdder returned = new LongAdder();
+		private volatile long lastUsedAt = System.currentTimeMillis();
+		private volatile boolean retired;
+
+		StockLease(String stockKey, UUID productId, UUID variantId) {
+			this.stockKey = stockKey;
+			this.productId = productId;
+			this.variantId = variantId;
+		}
+
+		void touch() {
+			lastUsedAt = System.currentTimeMillis();
+		}
+
+		boolean tryTake(int quantity) {
+			while (true) {
+				int current = remaining.get();
+				if (current < quantity) {
+					return false;
+				}
+				if (remaining.compareAndSet(current, current - quantity)) {
+					served.add(quantity);
+					return true;
+				}
+			}
+		}
+
+		void add(int quantity) {
+			if (quantity > 0) {
+				remaining.addAndGet(quantity);
+				leased.add(quantity);
+			}
+		}
+
+		void putBack(int quantity) {
+			remaining.addAndGet(quantity);
+			served.add(-quantity);
+		}
+
+		ResStockLeaseDto toDto() {
+			long leasedTotal = leased.sum();
+			long servedTotal = served.sum();
+			return ResStockLeaseDto.builder()
+				.stockKey(stockKey)
+				.productId(productId)
+				.variantId(variantId)
+				.remaining(remaining.get())
+				.leased(leasedTotal)
+				.served(servedTotal)
+				.returned(returned.sum())
+				.utilization(leasedTotal > 0 ? (double)servedTotal / leasedTotal : 0.0)
+				.build();
+		}
+	}
+}
@@ -0,0 +1,274 @@
+package com.groom.e_commerce.product.application.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.groom.e_commerce.product.application.event.dto.ProductChangedEvent;
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.infrastructure.cache.CachedProductDetail;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCacheSyncWriter;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCountCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductHotPageCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService.SyncState;
+import com.groom.e_commerce.product.infrastructure.repository.ProductAggregateLoader;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 캐시 동기화 (커밋 후)
+ *
+ * - 요청: 커밋 후 이벤트의 상품 ID를 대기열에 넣음 (같은 상품의 연속 변경은 coalesce-ms 동안 하나로 합침)
+ * - 처리: 대기 시간이 지난 상품을 배치로 꺼내 상세 집합을 한 번(ProductAggregateLoader, 고정 쿼리 수) 적재 후
+ *   상품마다 Redis 파이프라인 한 번으로 상세/카드/목록/정렬 인덱스/판매중 개수 반영 + 앞쪽 페이지 무효화
+ *   → L1 무효화 전파(배치당 1회), 검색 개수 캐시 삭제, 자동완성 인덱스 반영, 앞쪽 페이지 재계산 요청
+ * - 실패: 지수 백오프로 재시도 (max-attempts 초과 시 로그만 남김)
+ *
+ * 대기열은 노드 메모리라 처리 전에 노드가 종료되면 유실됩니다.
+ * 이 경우 캐시 TTL, 목록 조회 시 누락 카드 보충, 판매중 개수 검증(ProductCategoryCountService)으로 수렴합니다.
+ */
+@Slf4j
+@Service
+public class ProductCacheSyncService {
+
+	private final ProductAggregateLoader aggregateLoader;
+	private final ProductCacheSyncWriter syncWriter;
+	private final ProductListCacheService listCacheService;
+	private final ProductDetailCacheService detailCacheService;
+	private final ProductCountCacheService countCacheService;
+	private final ProductSuggestService suggestService;
+	private final ProductHotPageCacheService hotPageCacheService;
+	private final ProductHotPageService hotPageService;
+	private final ProductListPrefetcher listPrefetcher;
+	private final TransactionTemplate readOnlyTransaction;
+
+	private final ConcurrentHashMap<UUID, PendingSync> pending = new ConcurrentHashMap<>();
+
+	// 같은 상품 변경을 합치는 시간
+	@Value("${product.cache.sync.coalesce-ms:200}")
+	private long coalesceMs;
+
+	@Value("${product.cache.sync.batch-size:100}")
+	private int batchSize;
+
+	@Value("${product.cache.sync.max-attempts:5}")
+	private int maxAttempts;
+
+	// 재시도 대기 (시도마다 2배)
+	@Value("${product.cache.sync.retry-backoff-ms:500}")
+	private long retryBackoffMs;
+
+	public ProductCacheSyncService(
+		ProductAggregateLoader aggregateLoader,
+		ProductCacheSyncWriter syncWriter,
+		ProductListCacheService listCacheService,
+		ProductDetailCacheService detailCacheService,
+		ProductCountCacheService countCacheService,
+		ProductSuggestService suggestService,
+		ProductHotPageCacheService hotPageCacheService,
+		ProductHotPageService hotPageService,
+		ProductListPrefetcher listPrefetcher,
+		PlatformTransactionManager transactionManager
+	) {
+		this.aggregateLoader = aggregateLoader;
+		this.syncWriter = syncWriter;
+		this.listCacheService = listCacheService;
+		this.detailCacheService = detailCacheService;
+		this.countCacheService = countCacheService;
+		this.suggestService = suggestService;
+		this.hotPageCacheService = hotPageCacheService;
+		this.hotPageService = hotPageService;
+		this.listPrefetcher = listPrefetcher;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	/**
+	 * 동기화 요청 (이미 대기 중이면 합침 - 처리 시점의 DB 상태를 읽으므로 마지막 변경까지 반영)
+	 */
+	public void request(ProductChangedEvent event) {
+		Set<UUID> staleCategoryIds = event.getPreviousCategoryId() != null
+			? Set.of(event.getPreviousCategoryId())
+			: Set.of();
+		PendingSync change = new PendingSync(System.currentTimeMillis() + coalesceMs, 0, staleCategoryIds,
+			event.isCreated());
+		pending.merge(event.getProductId(), change, PendingSync::merge);
+	}
+
+	public int pendingCount() {
+		return pending.size();
+	}
+
+	@Scheduled(fixedDelayString = "${product.cache.sync.flush-interval-ms:100}", scheduler = "cacheSyncScheduler")
+	public void flush() {
+		while (true) {
+			Map<UUID, PendingSync> batch = claimDue();
+			if (batch.isEmpty()) {
+				return;
+			}
+			sync(batch);
+			if (batch.size() < batchSize) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 종료 전 대기 중인 변경을 바로 처리 (재시도 대기 중인 항목 포함)
+	 */
+	@PreDestroy
+	public void drain() {
+		pending.replaceAll((productId, change) -> change.dueNow());
+		flush();
+	}
+
+	/**
+	 * 대기 시간이 지난 항목을 꺼냄 (꺼내는 사이 새 변경이 합쳐진 항목은 다음 처리로 넘김)
+	 */
+	private Map<UUID, PendingSync> claimDue() {
+		long now = System.currentTimeMillis();
+		Map<UUID, PendingSync> batch = new LinkedHashMap<>();
+		for (Map.Entry<UUID, PendingSync> entry : pending.entrySet()) {
+			if (batch.size() >= batchSize) {
+				break;
+			}
+			PendingSync change = entry.getValue();
+			if (change.dueAt() <= now && pending.remove(entry.getKey(), change)) {
+				batch.put(entry.getKey(), change);
+			}
+		}
+		return batch;
+	}
+
+	private void sync(Map<UUID, PendingSync> batch) {
+		List<UUID> productIds = new ArrayList<>(batch.keySet());
+		Map<UUID, Product> products = new HashMap<>();
+		Map<UUID, CachedProductDetail> details = new HashMap<>();
+		Map<UUID, Long> generations;
+		List<SyncState> states;
+
+		try {
+			// 상세 기록 세대는 DB를 읽기 전에 읽음 (그 사이 다른 쪽이 기록했으면 이번 기록은 건너뛰고 재시도)
+			generations = detailCacheService.readGenerations(productIds);
+			// 연관 엔티티는 영속성 컨텍스트 안에서 캐시 객체로 변환
+			readOnlyTransaction.executeWithoutResult(status -> {
+				for (Product product : aggregateLoader.loadAll(productIds)) {
+					products.put(product.getId(), product);
+				}
+				for (Product product : products.values()) {
+					if (ProductDetailCacheService.isCacheable(product)) {
+						details.put(product.getId(), CachedProductDetail.from(product));
+					}
+				}
+			});
+			states = listCacheService.readSyncStates(productIds);
+		} catch (Exception e) {
+			log.error("Failed to load product cache sync batch: count={}", productIds.size(), e);
+			batch.forEach(this::retry);
+			return;
+		}
+
+		List<UUID> synced = new ArrayList<>(productIds.size());
+		Set<UUID> hotPageCategoryIds = new HashSet<>();
+		for (int i = 0; i < productIds.size(); i++) {
+			UUID productId = productIds.get(i);
+			PendingSync change = batch.get(productId);
+			Product product = products.get(productId);
+			try {
+				Set<UUID> affected = affectedHotPages(product, change, states.get(i));
+				boolean written = syncWriter.write(productId, product, details.get(productId), generations.get(productId),
+					change.staleCategoryIds(), states.get(i), change.created(), affected);
+				hotPageCategoryIds.addAll(affected);
+				if (written) {
+					synced.add(productId);
+					applyLocal(productId, product);
+				} else {
+					// 상세 세대 또는 집계 마커가 읽은 뒤 바뀜 → 상태를 다시 읽어 처리
+					log.debug("Product cache state changed during sync: productId={}", productId);
+					retry(productId, change);
+				}
+			} catch (Exception e) {
+				log.error("Failed to sync product cache: productId={}, attempts={}", productId, change.attempts() + 1, e);
+				retry(productId, change);
+			}
+		}
+
+		detailCacheService.invalidateLocal(synced);
+		hotPageService.markDirty(hotPageCategoryIds);
+		// 선조회로 보관 중인 다음 페이지도 같은 범위에서 폐기 (보관 TTL까지 변경 전 목록을 응답하지 않도록)
+		listPrefetcher.invalidate(hotPageCategoryIds);
+	}
+
+	/**
+	 * 앞쪽 페이지 무효화 대상 (현재/이전/집계된 카테고리 계보 + 전체)
+	 */
+	private Set<UUID> affectedHotPages(Product product, PendingSync change, SyncState state) {
+		List<UUID> categoryIds = new ArrayList<>(change.staleCategoryIds());
+		categoryIds.add(product != null ? product.getCategory().getId() : null);
+		categoryIds.add(state.countedCategoryId());
+		return hotPageCacheService.affectedCategories(categoryIds);
+	}
+
+	/**
+	 * 노드 로컬 인덱스/검색 개수 캐시 반영 (DB에 없는 상품은 삭제로 처리)
+	 */
+	private void applyLocal(UUID productId, Product product) {
+		if (product == null) {
+			countCacheService.evict(null);
+			suggestService.apply(ProductChangedEvent.builder().productId(productId).deleted(true).build());
+			return;
+		}
+		countCacheService.evict(product.getOwnerId());
+		suggestService.apply(ProductChangedEvent.from(product));
+	}
+
+	private void retry(UUID productId, PendingSync change) {
+		int attempts = change.attempts() + 1;
+		if (attempts >= maxAttempts) {
+			log.error("Product cache sync gave up: productId={}, attempts={}", productId, attempts);
+			return;
+		}
+		long dueAt = System.currentTimeMillis() + retryBackoffMs * (1L << (attempts - 1));
+		pending.merge(productId, change.retry(dueAt, attempts), PendingSync::merge);
+	}
+
+	/**
+	 * 대기 중인 변경 (불변 - 합칠 때마다 새 값으로 교체)
+	 * @param staleCategoryIds 이전 카테고리 (목록/개수 키에서 제거)
+	 */
+	private record PendingSync(long dueAt, int attempts, Set<UUID> staleCategoryIds, boolean created) {
+
+		PendingSync merge(PendingSync other) {
+			Set<UUID> stale = staleCategoryIds;
+			if (!other.staleCategoryIds.isEmpty()) {
+				stale = new HashSet<>(staleCategoryIds);
+				stale.addAll(other.staleCategoryIds);
+			}
+			return new PendingSync(Math.min(dueAt, other.dueAt), Math.max(attempts, other.attempts), stale,
+				created || other.created);
+		}
+
+		PendingSync retry(long nextDueAt, int nextAttempts) {
+			return new PendingSync(nextDueAt, nextAttempts, staleCategoryIds, created);
+		}
+
+		PendingSync dueNow() {
+			return new PendingSync(0L, attempts, staleCategoryIds, created);
+		}
+	}
+}
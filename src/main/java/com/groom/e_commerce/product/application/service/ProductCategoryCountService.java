@@ -0,0 +1,194 @@
+package com.groom.e_commerce.product.application.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.groom.e_commerce.global.infrastructure.redis.SingleFlightLoader;
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.repository.CategoryRepository;
+import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.product.domain.repository.ProductRepository.CategoryCountView;
+import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService;
+import com.groom.e_commerce.product.presentation.dto.response.ResCategoryProductCountDtoV1;
+import com.groom.e_commerce.product.presentation.dto.response.ResCategoryProductCountDtoV1.CategoryCount;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카테고리별 판매중 상품 수 (하위 카테고리 포함)
+ *
+ * - 조회: 활성 카테고리 전체 + 전체 개수를 MGET 한 번 (상품 변경 동기화에서 증감으로 유지되는 값)
+ * - 미스: 카테고리별 GROUP BY 한 번으로 전체를 계산해 조상 카테고리까지 합산 후 채움 (Single-flight)
+ * - 검증: 주기적으로 같은 계산을 수행해 캐시와 다른 키만 보정 (유실된 동기화, 재계산 표시 시간을 넘겨 도착한 증감)
+ * - 정리: 주기적으로 DB에 없는/삭제된 상품의 집계 마커 삭제
+ *
+ * 활성 카테고리 목록은 계산 시마다 갱신해 메모리에 보관 (새 카테고리는 다음 검증부터 포함)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCategoryCountService {
+
+	private static final String LOAD_KEY = "product:count:facets";
+	private static final int MAX_CATEGORY_DEPTH = 10;
+
+	private final ProductRepository productRepository;
+	private final CategoryRepository categoryRepository;
+	private final ProductListCacheService listCacheService;
+	private final SingleFlightLoader singleFlightLoader;
+	private final ProductHotPageService hotPageService;
+
+	@Value("${product.count.verify-enabled:true}")
+	private boolean verifyEnabled;
+
+	// 깊이순 활성 카테고리 ID (계산 전에는 null)
+	private volatile List<UUID> activeCategoryIds;
+
+	/**
+	 * 활성 카테고리별 판매중 상품 수
+	 */
+	public ResCategoryProductCountDtoV1 getCategoryCounts() {
+		if (activeCategoryIds == null) {
+			return toResponse(loadCounts());
+		}
+
+		List<UUID> keys = countKeys();
+		Map<UUID, Long> counts = listCacheService.getCachedCounts(keys);
+		if (counts.containsValue(-1L)) {
+			counts = singleFlightLoader.load(
+				LOAD_KEY,
+				() -> {
+					Map<UUID, Long> cached = listCacheService.getCachedCounts(keys);
+					return cached.containsValue(-1L) ? null : cached;
+				},
+				this::loadCounts
+			);
+		}
+		return toResponse(counts);
+	}
+
+	/**
+	 * 판매중 개수 검증 (DB 기준으로 다른 키만 보정)
+	 * @return 보정한 키 수
+	 */
+	public int verify() {
+		long startedAt = System.currentTimeMillis();
+		List<UUID> corrected = listCacheService.correctCounts(computeCounts());
+		// 앞쪽 페이지의 전체 개수도 보정한 값으로 다시 계산
+		hotPageService.markDirty(corrected);
+		log.info("Product counts verified: corrected={}, elapsedMs={}", corrected.size(),
+			System.currentTimeMillis() - startedAt);
+		return corrected.size();
+	}
+
+	/**
+	 * 집계 마커 정리 (동기화 유실로 남은 DB에 없는/삭제된 상품의 field 삭제 - 마커 Hash가 상품 수 이상으로 커지지 않도록)
+	 * @return 삭제한 마커 수
+	 */
+	public long pruneMarkers() {
+		long startedAt = System.currentTimeMillis();
+		long pruned = listCacheService.pruneCountMarkers(productRepository::findLiveIdsIn);
+		log.info("Product count markers pruned: pruned={}, elapsedMs={}", pruned, System.currentTimeMillis() - startedAt);
+		return pruned;
+	}
+
+	@Scheduled(fixedDelayString = "${product.count.marker-prune-interval-ms:3600000}",
+		initialDelayString = "${product.count.verify-initial-delay-ms:60000}")
+	public void pruneMarkersPeriodically() {
+		if (!verifyEnabled) {
+			return;
+		}
+		try {
+			pruneMarkers();
+		} catch (Exception e) {
+			log.error("Failed to prune product count markers", e);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${product.count.verify-interval-ms:600000}",
+		initialDelayString = "${product.count.verify-initial-delay-ms:60000}")
+	public void verifyPeriodically() {
+		if (!verifyEnabled) {
+			return;
+		}
+		try {
+			verify();
+		} catch (Exception e) {
+			log.error("Failed to verify product counts", e);
+		}
+	}
+
+	private Map<UUID, Long> loadCounts() {
+		Map<UUID, Long> counts = computeCounts();
+		try {
+			hotPageService.markDirty(listCacheService.correctCounts(counts));
+		} catch (Exception e) {
+			log.error("Failed to fill product counts", e);
+		}
+		return counts;
+	}
+
+	/**
+	 * 카테고리별 판매중 상품 수 계산 (직속 개수를 조상 카테고리까지 합산, null 키: 전체)
+	 * 비활성 카테고리도 목록 인덱스가 있으므로 함께 계산
+	 */
+	private Map<UUID, Long> computeCounts() {
+		List<Category> allCategories = categoryRepository.findAllByOrderByDepthAsc();
+
+		Map<UUID, UUID> parents = new HashMap<>();
+		Map<UUID, Long> counts = new HashMap<>();
+		for (Category category : allCategories) {
+			// 부모 프록시의 ID 접근은 초기화 없음
+			parents.put(category.getId(), category.getParent() != null ? category.getParent().getId() : null);
+			counts.put(category.getId(), 0L);
+		}
+
+		long total = 0;
+		for (CategoryCountView row : productRepository.countOnSaleGroupByCategory()) {
+			total += row.getProductCount();
+			UUID current = row.getCategoryId();
+			for (int depth = 0; current != null && depth < MAX_CATEGORY_DEPTH; depth++) {
+				counts.merge(current, row.getProductCount(), Long::sum);
+				current = parents.get(current);
+			}
+		}
+		counts.put(null, total);
+
+		activeCategoryIds = allCategories.stream()
+			.filter(category -> Boolean.TRUE.equals(category.getIsActive()))
+			.map(Category::getId)
+			.toList();
+		return counts;
+	}
+
+	/**
+	 * 조회 키 (활성 카테고리 + 전체)
+	 */
+	private List<UUID> countKeys() {
+		List<UUID> keys = new ArrayList<>(activeCategoryIds);
+		keys.add(null);
+		return keys;
+	}
+
+	private ResCategoryProductCountDtoV1 toResponse(Map<UUID, Long> counts) {
+		List<CategoryCount> categories = activeCategoryIds.stream()
+			.map(categoryId -> CategoryCount.builder()
+				.categoryId(categoryId)
+				.productCount(counts.getOrDefault(categoryId, 0L))
+				.build())
+			.toList();
+
+		return ResCategoryProductCountDtoV1.builder()
+			.totalCount(counts.getOrDefault(null, 0L))
+			.categories(categories)
+			.build();
+	}
+}
@@ -0,0 +1,215 @@
+package com.groom.e_commerce.product.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.repository.CategoryRepository;
+import com.groom.e_commerce.product.infrastructure.cache.CachedProductCard;
+import com.groom.e_commerce.product.infrastructure.cache.CachedProductPage;
+import com.groom.e_commerce.product.infrastructure.cache.ProductHotPageCacheService;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductHotPageStatsDto;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductHotPageStatsDto.PageStats;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카테고리별 최신순 앞쪽 페이지 미리 계산
+ *
+ * - 조회: 앞쪽 페이지(pages, page-size 일치)는 미리 계산한 페이지를 그대로 응답, 나머지/미스는 기존 경로
+ * - 재계산 대상: 변경 동기화가 무효화한 카테고리 계보 + 조회 미스 카테고리 + 개수를 DB로 다시 센 카테고리
+ *   + 주기적으로 활성 카테고리 전체 (임차한 한 노드만)
+ *   (대기열에서 카테고리 단위로 합쳐 rebuild-interval-ms마다 처리)
+ * - 통계: 페이지 번호별 적중/미스 (노드 기준)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductHotPageService {
+
+	// 대기열 키 (ConcurrentHashMap은 null 키 불가 - 전체 목록)
+	private static final UUID ALL = new UUID(0L, 0L);
+
+	private final ProductHotPageCacheService hotPageCacheService;
+	private final CategoryRepository categoryRepository;
+
+	private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+	@Value("${product.hot-page.refresh-interval-ms:300000}")
+	private long refreshIntervalMs;
+
+	private final LongAdder rebuilds = new LongAdder();
+	private final LongAdder rebuildSkips = new LongAdder();
+	private LongAdder[] hits;
+	private LongAdder[] misses;
+
+	@PostConstruct
+	public void init() {
+		hits = new LongAdder[hotPageCacheService.pages()];
+		misses = new LongAdder[hotPageCacheService.pages()];
+		for (int i = 0; i < hits.length; i++) {
+			hits[i] = new LongAdder();
+			misses[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * 미리 계산한 페이지 조회
+	 * @return 대상 페이지가 아니거나 미스면 null (미스는 재계산 대기열에 추가)
+	 */
+	public Page<ResProductSearchDtoV1> getPage(UUID categoryId, Pageable pageable) {
+		int pageNumber = pageable.getPageNumber();
+		if (!hotPageCacheService.covers(pageNumber, pageable.getPageSize())) {
+			return null;
+		}
+
+		CachedProductPage page = hotPageCacheService.get(categoryId, pageNumber);
+		if (page == null) {
+			misses[pageNumber].increment();
+			pending.add(toKey(categoryId));
+			return null;
+		}
+
+		hits[pageNumber].increment();
+		List<ResProductSearchDtoV1> content = page.cards().stream().map(CachedProductCard::toSearchDto).toList();
+		return new PageImpl<>(content, pageable, page.totalCount());
+	}
+
+	/**
+	 * 미리 계산하는 페이지인지 (선조회 생략 판단용)
+	 */
+	public boolean covers(Pageable pageable) {
+		return hotPageCacheService.covers(pageable.getPageNumber(), pageable.getPageSize());
+	}
+
+	/**
+	 * 재계산 요청 (변경 동기화 후 - 무효화한 카테고리, null: 전체)
+	 */
+	public void markDirty(Collection<UUID> categoryIds) {
+		if (!hotPageCacheService.isEnabled()) {
+			return;
+		}
+		categoryIds.forEach(categoryId -> pending.add(toKey(categoryId)));
+	}
+
+	/**
+	 * 페이지 무효화 + 재계산 요청 (변경 동기화 밖에서 목록/개수 키를 바꾼 경우 - 카테고리 계보 + 전체)
+	 * @param categoryIds 바뀐 카테고리 (null 무시)
+	 */
+	public void invalidate(Collection<UUID> categoryIds) {
+		if (!hotPageCacheService.isEnabled()) {
+			return;
+		}
+		Set<UUID> affected = hotPageCacheService.affectedCategories(categoryIds);
+		hotPageCacheService.invalidate(affected);
+		markDirty(affected);
+	}
+
+	@Scheduled(fixedDelayString = "${product.hot-page.rebuild-interval-ms:200}")
+	public void rebuildPending() {
+		Iterator<UUID> iterator = pending.iterator();
+		while (iterator.hasNext()) {
+			UUID key = iterator.next();
+			iterator.remove();
+			UUID categoryId = ALL.equals(key) ? null : key;
+			try {
+				if (hotPageCacheService.rebuild(categoryId)) {
+					rebuilds.increment();
+				} else {
+					rebuildSkips.increment();
+				}
+			} catch (Exception e) {
+				// 다음 변경/미스/주기 재계산에서 다시 시도
+				rebuildSkips.increment();
+				log.error("Failed to rebuild hot product pages: categoryId={}", categoryId, e);
+			}
+		}
+	}
+
+	/**
+	 * 주기 재계산 (페이지는 모든 노드가 공유하므로 임차한 한 노드만 수행)
+	 * 임차 시간은 주기보다 조금 짧게 - 노드마다 실행 시각이 달라도 주기마다 한 노드가 수행
+	 */
+	@Scheduled(fixedDelayString = "${product.hot-page.refresh-interval-ms:300000}",
+		initialDelayString = "${product.hot-page.refresh-initial-delay-ms:30000}")
+	public void refreshPeriodically() {
+		if (!hotPageCacheService.isEnabled()) {
+			return;
+		}
+		try {
+			if (hotPageCacheService.tryAcquireRefreshLease(Duration.ofMillis(refreshIntervalMs * 9 / 10))) {
+				refreshAll();
+			}
+		} catch (Exception e) {
+			log.error("Failed to acquire hot product pages refresh lease", e);
+		}
+	}
+
+	/**
+	 * 활성 카테고리 전체 + 전체 목록 재계산 요청 (유실된 동기화, 목록 적재 경로로 바뀐 목록 반영)
+	 */
+	public void refreshAll() {
+		if (!hotPageCacheService.isEnabled()) {
+			return;
+		}
+		try {
+			List<UUID> categoryIds = new ArrayList<>();
+			categoryRepository.findAllActiveOrderByDepthAndSortOrder().stream()
+				.map(Category::getId)
+				.forEach(categoryIds::add);
+			categoryIds.add(null);
+			markDirty(categoryIds);
+			log.info("Hot product pages refresh requested: categories={}", categoryIds.size());
+		} catch (Exception e) {
+			log.error("Failed to request hot product pages refresh", e);
+		}
+	}
+
+	public ResProductHotPageStatsDto getStats() {
+		long totalHits = 0;
+		long totalMisses = 0;
+		List<PageStats> byPage = new ArrayList<>(hits.length);
+		for (int i = 0; i < hits.length; i++) {
+			long pageHits = hits[i].sum();
+			long pageMisses = misses[i].sum();
+			totalHits += pageHits;
+			totalMisses += pageMisses;
+			byPage.add(PageStats.of(i + 1, pageHits, pageMisses));
+		}
+
+		long total = totalHits + totalMisses;
+		return ResProductHotPageStatsDto.builder()
+			.enabled(hotPageCacheService.isEnabled())
+			.pages(hotPageCacheService.pages())
+			.pageSize(hotPageCacheService.pageSize())
+			.hits(totalHits)
+			.misses(totalMisses)
+			.hitRate(total > 0 ? (double)totalHits / total : 0.0)
+			.rebuilds(rebuilds.sum())
+			.rebuildSkips(rebuildSkips.sum())
+			.pendingCategories(pending.size())
+			.byPage(byPage)
+			.build();
+	}
+
+	private static UUID toKey(UUID categoryId) {
+		return categoryId != null ? categoryId : ALL;
+	}
+}
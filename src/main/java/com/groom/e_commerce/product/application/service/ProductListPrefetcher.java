@@ -0,0 +1,300 @@
+package com.groom.e_commerce.product.application.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductPrefetchStatsDto;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 목록 다음 페이지 선조회 (노드 로컬)
+ *
+ * - 선조회: N페이지 응답 후 N+1페이지를 prefetchExecutor에서 미리 읽어 ttl-seconds 동안 보관 (한 번 응답하면 제거)
+ *   읽는 과정에서 목록 ID/카드/상세가 Redis와 L1에 적재됨 (캐시 미스 보충)
+ * - 적중: 보관 중인 페이지로 응답 / 낭비: 요청 없이 만료
+ * - 적응: 카테고리별로 window개 결과마다 적중률을 계산해 min-hit-rate 미만이면 cooldown-seconds 동안 선조회 중단
+ * - 무효화: 변경 동기화가 목록을 무효화한 카테고리의 보관 페이지는 폐기 (진행 중인 선조회 결과도 보관하지 않음)
+ *
+ * 다른 노드의 변경은 전파하지 않으므로 TTL을 짧게 유지합니다.
+ */
+@Slf4j
+@Component
+public class ProductListPrefetcher {
+
+	private final Executor prefetchExecutor;
+	private final TransactionTemplate readOnlyTransaction;
+	private final Ticker ticker;
+
+	@Value("${product.prefetch.enabled:true}")
+	private boolean enabled;
+
+	@Value("${product.prefetch.ttl-seconds:5}")
+	private long ttlSeconds;
+
+	@Value("${product.prefetch.max-entries:1000}")
+	private long maxEntries;
+
+	// 적중률을 판단하는 결과(적중 + 낭비) 수
+	@Value("${product.prefetch.window:50}")
+	private int window;
+
+	@Value("${product.prefetch.min-hit-rate:0.3}")
+	private double minHitRate;
+
+	@Value("${product.prefetch.cooldown-seconds:300}")
+	private long cooldownSeconds;
+
+	private Cache<String, Prefetched> prefetched;
+	private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+	private final ConcurrentHashMap<String, CategoryPolicy> policies = new ConcurrentHashMap<>();
+
+	private final LongAdder issued = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder wasted = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder skippedByPolicy = new LongAdder();
+
+	@Autowired
+	public ProductListPrefetcher(
+		@Qualifier("prefetchExecutor") Executor prefetchExecutor,
+		PlatformTransactionManager transactionManager
+	) {
+		this(prefetchExecutor, transactionManager, Ticker.systemTicker());
+	}
+
+	ProductListPrefetcher(Executor prefetchExecutor, PlatformTransactionManager transactionManager, Ticker ticker) {
+		this.prefetchExecutor = prefetchExecutor;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.ticker = ticker;
+	}
+
+	@PostConstruct
+	public void init() {
+		prefetched = Caffeine.newBuilder()
+			.maximumSize(maxEntries)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.ticker(ticker)
+			// 요청이 없어도 만료 시각에 정리 → 낭비 집계가 다음 접근까지 늦어지지 않음
+			.scheduler(Scheduler.systemScheduler())
+			.evictionListener((String key, Prefetched entry, RemovalCause cause) -> {
+				// 응답에 쓰이지 않고 만료/밀려남 → 낭비 (응답/무효화로 제거한 항목은 호출되지 않음)
+				if (entry != null) {
+					wasted.increment();
+					record(entry.categoryKey(), false);
+				}
+			})
+			.build();
+	}
+
+	/**
+	 * 선조회한 페이지 (없으면 null - 응답에 쓰면 보관에서 제거)
+	 */
+	public Page<ResProductSearchDtoV1> take(UUID categoryId, Pageable pageable) {
+		if (!enabled) {
+			return null;
+		}
+		Prefetched entry = prefetched.asMap().remove(key(categoryId, pageable));
+		if (entry == null) {
+			return null;
+		}
+		hits.increment();
+		record(entry.categoryKey(), true);
+		return entry.page();
+	}
+
+	/**
+	 * 다음 페이지 선조회 요청 (정책상 중단된 카테고리, 이미 보관/진행 중인 페이지, 큐가 찬 경우 생략)
+	 * @param loader 페이지 조회 (읽기 전용 트랜잭션 안에서 실행)
+	 */
+	public void prefetch(UUID categoryId, Pageable next, Supplier<Page<ResProductSearchDtoV1>> loader) {
+		if (!enabled) {
+			return;
+		}
+		String categoryKey = categoryKey(categoryId);
+		CategoryPolicy policy = policy(categoryKey);
+		if (!policy.isActive(nowMillis())) {
+			skippedByPolicy.increment();
+			return;
+		}
+
+		String key = key(categoryId, next);
+		if (prefetched.getIfPresent(key) != null || !inFlight.add(key)) {
+			return;
+		}
+
+		// 읽기 전에 무효화 시퀀스를 기록 - 읽는 중 카테고리가 무효화되면 결과를 보관하지 않음
+		long sequence = policy.invalidationSequence();
+		try {
+			prefetchExecutor.execute(() -> load(key, categoryKey, sequence, loader));
+			issued.increment();
+		} catch (RejectedExecutionException e) {
+			inFlight.remove(key);
+			rejected.increment();
+		}
+	}
+
+	/**
+	 * 카테고리의 보관 페이지 폐기 (변경 동기화가 무효화한 카테고리 계보 + 전체, null: 전체 목록)
+	 * 적중/낭비 어느 쪽으로도 집계하지 않음
+	 */
+	public void invalidate(Collection<UUID> categoryIds) {
+		if (!enabled || categoryIds.isEmpty()) {
+			return;
+		}
+		Set<String> categoryKeys = categoryIds.stream()
+			.map(ProductListPrefetcher::categoryKey)
+			.collect(Collectors.toSet());
+		categoryKeys.forEach(categoryKey -> policy(categoryKey).invalidate());
+		prefetched.asMap().values().removeIf(entry -> categoryKeys.contains(entry.categoryKey()));
+	}
+
+	public ResProductPrefetchStatsDto getStats() {
+		long hitCount = hits.sum();
+		long wastedCount = wasted.sum();
+		long resolved = hitCount + wastedCount;
+		long now = nowMillis();
+		return ResProductPrefetchStatsDto.builder()
+			.enabled(enabled)
+			.issued(issued.sum())
+			.hits(hitCount)
+			.wasted(wastedCount)
+			.hitRate(resolved > 0 ? (double)hitCount / resolved : 0.0)
+			.rejected(rejected.sum())
+			.failed(failed.sum())
+			.skippedByPolicy(skippedByPolicy.sum())
+			.pending(prefetched.estimatedSize())
+			.disabledCategories(policies.values().stream().filter(policy -> !policy.isActive(now)).count())
+			.build();
+	}
+
+	private void load(String key, String categoryKey, long sequence, Supplier<Page<ResProductSearchDtoV1>> loader) {
+		try {
+			Page<ResProductSearchDtoV1> page = readOnlyTransaction.execute(status -> loader.get());
+			if (page != null && page.hasContent() && policy(categoryKey).invalidationSequence() == sequence) {
+				prefetched.put(key, new Prefetched(categoryKey, page));
+			}
+		} catch (Exception e) {
+			failed.increment();
+			log.warn("Failed to prefetch product list page: key={}", key, e);
+		} finally {
+			inFlight.remove(key);
+		}
+	}
+
+	/**
+	 * 보관 중인 페이지 만료 처리 (만료된 항목의 낭비 집계를 바로 반영)
+	 */
+	void cleanUp() {
+		prefetched.cleanUp();
+	}
+
+	private void record(String categoryKey, boolean hit) {
+		policy(categoryKey).record(hit, window, minHitRate, cooldownSeconds * 1000L, nowMillis(), categoryKey);
+	}
+
+	private long nowMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(ticker.read());
+	}
+
+	private CategoryPolicy policy(String categoryKey) {
+		return policies.computeIfAbsent(categoryKey, k -> new CategoryPolicy());
+	}
+
+	private static String categoryKey(UUID categoryId) {
+		return categoryId != null ? categoryId.toString() : "all";
+	}
+
+	private static String key(UUID categoryId, Pageable pageable) {
+		return categoryKey(categoryId) + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize();
+	}
+
+	private record Prefetched(String categoryKey, Page<ResProductSearchDtoV1> page) {
+	}
+
+	/**
+	 * 카테고리별 적중률 창 (window개 결과마다 판단 후 초기화) + 무효화 시퀀스
+	 * 시각은 호출자의 Ticker 기준 (밀리초, 기준점은 임의 - 비교에만 사용)
+	 */
+	static final class CategoryPolicy {
+
+		private final AtomicInteger hits = new AtomicInteger();
+		private final AtomicInteger resolved = new AtomicInteger();
+		private final AtomicLong invalidations = new AtomicLong();
+		// System.nanoTime 기준 시각은 음수일 수 있으므로 최솟값에서 시작
+		private volatile long disabledUntil = Long.MIN_VALUE;
+
+		boolean isActive(long now) {
+			return now >= disabledUntil;
+		}
+
+		long invalidationSequence() {
+			return invalidations.get();
+		}
+
+		void invalidate() {
+			invalidations.incrementAndGet();
+		}
+
+		/**
+		 * 판단을 기다리는 결과 수 (현재 창)
+		 */
+		int pendingResults() {
+			return resolved.get();
+		}
+
+		void record(boolean hit, int window, double minHitRate, long cooldownMillis, long now, String categoryKey) {
+			if (hit) {
+				hits.incrementAndGet();
+			}
+			if (resolved.incrementAndGet() < window) {
+				return;
+			}
+
+			// 창이 찼을 때 한 스레드만 판단 (먼저 판단한 스레드가 창을 비웠으면 다시 확인 후 생략)
+			synchronized (this) {
+				int total = resolved.get();
+				if (total < window) {
+					return;
+				}
+				double hitRate = (double)hits.getAndSet(0) / total;
+				// 판단 중 기록된 결과는 다음 창으로 (set(0)은 그 사이 증가분을 잃음)
+				resolved.addAndGet(-total);
+				if (hitRate < minHitRate) {
+					disabledUntil = now + cooldownMillis;
+					log.info("Product list prefetch paused: category={}, hitRate={}", categoryKey,
+						String.format("%.2f", hitRate));
+				}
+			}
+		}
+	}
+}
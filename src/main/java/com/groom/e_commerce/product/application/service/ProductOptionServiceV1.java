@@ -11,6 +11,8 @@ import org.springframework.transaction.annotation.Transactional;
 import com.groom.e_commerce.global.presentation.advice.CustomException;
 import com.groom.e_commerce.global.presentation.advice.ErrorCode;
 import com.groom.e_commerce.global.util.SecurityUtil;
+import com.groom.e_commerce.product.application.event.dto.ProductChangedEvent;
+import com.groom.e_commerce.product.application.event.publisher.ProductEventPublisher;
 import com.groom.e_commerce.product.domain.entity.Product;
 import com.groom.e_commerce.product.domain.entity.ProductOption;
 import com.groom.e_commerce.product.domain.entity.ProductOptionValue;
@@ -28,6 +30,7 @@ public class ProductOptionServiceV1 {
 
 	private final ProductRepository productRepository;
 	private final ProductOptionRepository productOptionRepository;
+	private final ProductEventPublisher productEventPublisher;
 
 	/**
 	 * 옵션 전체 수정 (PUT) - 기존 옵션 삭제 후 새로 생성
@@ -69,6 +72,9 @@ public class ProductOptionServiceV1 {
 		// 저장 및 ID 생성을 위해 Flush
 		productRepository.saveAndFlush(product);
 
+		// 커밋 후 상세/카드 캐시의 옵션 갱신
+		productEventPublisher.publishProductChanged(ProductChangedEvent.from(product));
+
 		// 저장된 옵션 목록 반환 (ID 포함)
 		return product.getOptions().stream()
 			.map(ResOptionDtoV1::from)
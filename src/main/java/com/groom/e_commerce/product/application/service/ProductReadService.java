@@ -1,8 +1,13 @@
 package com.groom.e_commerce.product.application.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -10,14 +15,25 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.e_commerce.global.infrastructure.redis.SingleFlightLoader;
+import com.groom.e_commerce.product.application.dto.ProductCursor;
 import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.enums.ProductCountMode;
 import com.groom.e_commerce.product.domain.enums.ProductSortType;
-import com.groom.e_commerce.product.domain.enums.ProductStatus;
-import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.product.infrastructure.cache.CachedProductCard;
 import com.groom.e_commerce.product.infrastructure.cache.CachedProductDetail;
+import com.groom.e_commerce.product.infrastructure.cache.CachedProductResponse;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCacheKey;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCardCacheService;
 import com.groom.e_commerce.product.infrastructure.cache.ProductDetailCacheService;
 import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductResponseCache;
+import com.groom.e_commerce.product.infrastructure.repository.ProductAggregateLoader;
 import com.groom.e_commerce.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductCacheStatsDto;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductCursorPageDto;
 import com.groom.e_commerce.product.presentation.dto.response.ResProductDetailDtoV1;
 import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
 
@@ -28,8 +44,10 @@ import lombok.extern.slf4j.Slf4j;
  * 상품 조회 전용 서비스 (Redis Read + DB Fallback)
  *
  * [조회 흐름]
- * 1. Redis 캐시 조회 (ZRANGE + MGET)
- * 2. 캐시 미스 시 DB 조회 → 캐시 적재 (Lazy Loading)
+ * 1. 상세는 L1(JVM) 캐시 → Redis 순으로 조회, 목록은 Redis ZRANGE 후 카드(목록용 projection) 일괄 조회
+ *    (최신순 앞쪽 페이지는 미리 계산한 페이지 HGET 한 번, 그 뒤 페이지는 이전 페이지 요청 때 선조회한 페이지)
+ * 2. 캐시 미스 시 DB 조회 → 캐시 적재 (Lazy Loading, SingleFlightLoader로 노드 간 중복 적재 방지)
+ * 3. 응답 바이트 캐시 사용 시 상세/목록 앞쪽 페이지는 직렬화된 본문을 그대로 반환 (DTO 변환/JSON 직렬화 생략)
  */
 @Slf4j
 @Service
@@ -38,52 +56,163 @@ public class ProductReadService {
 
 	private final ProductListCacheService listCacheService;
 	private final ProductDetailCacheService detailCacheService;
+	private final ProductCardCacheService cardCacheService;
 	private final ProductQueryRepository productQueryRepository;
-	private final ProductRepository productRepository;
-	private final ConcurrentHashMap<String, Object> mutexMap = new ConcurrentHashMap<>();
+	private final ProductAggregateLoader aggregateLoader;
+	private final SingleFlightLoader singleFlightLoader;
+	private final ProductResponseCache responseCache;
+	private final ProductHotPageService hotPageService;
+	private final ProductListPrefetcher listPrefetcher;
+	private final ObjectMapper objectMapper;
 
 	/**
 	 * 카테고리별 상품 목록 조회 (Redis + DB Fallback)
+	 * 응답 후 다음 페이지를 백그라운드에서 선조회 (미리 계산하는 앞쪽 페이지 제외)
 	 */
 	@Transactional(readOnly = true)
 	public Page<ResProductSearchDtoV1> getProductList(UUID categoryId, Pageable pageable) {
-		int page = pageable.getPageNumber();
-		int size = pageable.getPageSize();
-		long offset = (long) page * size;
+		Page<ResProductSearchDtoV1> page = hotPageService.getPage(categoryId, pageable);
+		if (page == null) {
+			page = listPrefetcher.take(categoryId, pageable);
+		}
+		if (page == null) {
+			page = readList(categoryId, pageable);
+		}
 
-		// 1. ZRANGE로 ID 리스트 조회
-		List<UUID> productIds = listCacheService.getProductIds(categoryId, offset, size);
+		prefetchNext(categoryId, page);
+		return page;
+	}
 
-		// 캐시 미스 → DB 조회 후 캐시 적재
-		if (productIds.isEmpty()) {
-			String lockKey = categoryId + ":" + page;
-			synchronized (mutexMap.computeIfAbsent(lockKey, k -> new Object())) {
-				// Double Check
-				productIds = listCacheService.getProductIds(categoryId, offset, size);
-				if (productIds.isEmpty()) {
-					log.debug("Cache miss for product list: categoryId={}, page={}", categoryId, page);
-					return loadListFromDbAndCache(categoryId, pageable);
-				}
+	/**
+	 * 목록 캐시 조회 → 미스 시 DB 조회 후 캐시 적재
+	 */
+	private Page<ResProductSearchDtoV1> readList(UUID categoryId, Pageable pageable) {
+		Page<ResProductSearchDtoV1> cached = readListFromCache(categoryId, pageable);
+		if (cached != null) {
+			return cached;
+		}
+
+		// 캐시 미스 → 노드 전체에서 한 번만 DB 조회 후 캐시 적재
+		log.debug("Cache miss for product list: categoryId={}, page={}", categoryId, pageable.getPageNumber());
+		return singleFlightLoader.load(
+			ProductCacheKey.productList(categoryId) + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize(),
+			() -> readListFromCache(categoryId, pageable),
+			() -> loadListFromDbAndCache(categoryId, pageable)
+		);
+	}
+
+	/**
+	 * 다음 페이지 선조회 - 목록 ID/카드 적재 + 상세를 L1에 적재 (상세 진입 대비)
+	 */
+	private void prefetchNext(UUID categoryId, Page<ResProductSearchDtoV1> page) {
+		if (!page.hasNext() || hotPageService.covers(page.nextPageable())) {
+			return;
+		}
+
+		Pageable next = page.nextPageable();
+		listPrefetcher.prefetch(categoryId, next, () -> {
+			Page<ResProductSearchDtoV1> loaded = readList(categoryId, next);
+			detailCacheService.multiGetAsList(loaded.map(ResProductSearchDtoV1::getProductId).getContent());
+			return loaded;
+		});
+	}
+
+	/**
+	 * 카테고리별 상품 목록 조회 - 가격/평점 정렬, 가격 구간 필터 (Redis 정렬 인덱스 + DB Fallback)
+	 * 인덱스가 카테고리 전체 상품을 담고 있을 때만 캐시로 응답 (일부만 있으면 순서/개수가 틀림)
+	 */
+	@Transactional(readOnly = true)
+	public Page<ResProductSearchDtoV1> getSortedProductList(UUID categoryId, Long minPrice, Long maxPrice,
+		ProductSortType sortType, Pageable pageable) {
+		boolean priceFiltered = minPrice != null || maxPrice != null;
+		if (!priceFiltered && (sortType == null || sortType == ProductSortType.NEWEST)) {
+			return getProductList(categoryId, pageable);
+		}
+
+		// 최신순/평점순 가격 필터는 결과 집합(ZRANGESTORE, Redis 6.2+)이 필요
+		boolean priceSetsNeeded = priceFiltered
+			&& sortType != ProductSortType.PRICE_ASC && sortType != ProductSortType.PRICE_DESC;
+		if (listCacheService.isSortIndexComplete()
+			&& (!priceSetsNeeded || listCacheService.supportsPriceFilterSets())) {
+			long offset = (long) pageable.getPageNumber() * pageable.getPageSize();
+			long totalCount;
+			List<UUID> productIds;
+			if (priceFiltered) {
+				totalCount = listCacheService.countByPriceRange(categoryId, minPrice, maxPrice);
+				productIds = totalCount <= 0 ? List.of() : listCacheService.getPriceRangeProductIds(
+					categoryId, sortType, minPrice, maxPrice, offset, pageable.getPageSize());
+			} else {
+				// 전체 개수도 정렬 인덱스 기준 (내용과 같은 집합)
+				totalCount = listCacheService.countSortIndex(categoryId);
+				productIds = totalCount <= 0 ? List.of()
+					: listCacheService.getSortedProductIds(categoryId, sortType, offset, pageable.getPageSize());
+			}
+
+			if (totalCount >= 0) {
+				List<ResProductSearchDtoV1> content = productIds.isEmpty() ? List.of()
+					: readCards(categoryId, productIds).stream().map(CachedProductCard::toSearchDto).toList();
+				return new PageImpl<>(content, pageable, totalCount);
 			}
 		}
 
-		// 2. MGET으로 상세 일괄 조회
-		List<CachedProductDetail> details = detailCacheService.multiGetAsList(productIds);
+		log.debug("Sort index unavailable, falling back to DB: categoryId={}, sort={}", categoryId, sortType);
+		return productQueryRepository.searchProductsForBuyer(null, categoryId, minPrice, maxPrice, sortType,
+			ProductCountMode.AUTO, pageable).map(ResProductSearchDtoV1::from);
+	}
 
-		// 3. DTO 변환 (null 제외)
-		List<ResProductSearchDtoV1> content = details.stream()
-			.filter(detail -> detail != null)
-			.map(this::toSearchDto)
-			.toList();
+	/**
+	 * 카테고리별 상품 목록 커서 조회 (최신순, 무한 스크롤)
+	 * Redis 목록으로 모자라면 (Warm-up 상한 이후 구간, 목록에서 빠진 상품 등) DB Keyset으로 이어서 채움
+	 * 가격 구간이 있으면 가격 인덱스 ∩ 최신순 결과 집합에서 커서 조회
+	 */
+	@Transactional(readOnly = true)
+	public ResProductCursorPageDto getProductListByCursor(UUID categoryId, Long minPrice, Long maxPrice,
+		ProductCursor cursor, int size) {
+		// 다음 페이지 존재 여부 확인용 1건 추가 조회
+		int fetchSize = size + 1;
 
-		// 4. 전체 개수 조회
-		long totalCount = listCacheService.getCachedTotalCount(categoryId);
-		if (totalCount == -1) {
-			totalCount = productQueryRepository.countProductsForBuyer(categoryId);
-			listCacheService.setTotalCount(categoryId, totalCount);
+		if (minPrice != null || maxPrice != null) {
+			return toCursorPage(readPriceRangeCardsAfter(categoryId, minPrice, maxPrice, cursor, fetchSize), size);
+		}
+
+		// 1. Redis 커서 조회 + 카드 일괄 조회
+		List<UUID> productIds = listCacheService.getProductIdsAfter(categoryId, cursor, fetchSize);
+		List<CachedProductCard> cards = new ArrayList<>(
+			productIds.isEmpty() ? List.of() : readCards(categoryId, productIds));
+
+		// 2. 모자란 만큼 마지막 카드 다음부터 DB Keyset 조회
+		if (cards.size() < fetchSize) {
+			ProductCursor last = cards.isEmpty() ? cursor : toCursor(cards.get(cards.size() - 1));
+			cards.addAll(loadCardsAfterFromDb(categoryId, null, null, last, fetchSize - cards.size()));
+		}
+
+		return toCursorPage(cards, size);
+	}
+
+	/**
+	 * 가격 구간 커서 조회 - 정렬 인덱스가 완전할 때만 Redis, 아니면 DB Keyset
+	 */
+	private List<CachedProductCard> readPriceRangeCardsAfter(UUID categoryId, Long minPrice, Long maxPrice,
+		ProductCursor cursor, int fetchSize) {
+		if (!listCacheService.isSortIndexComplete() || !listCacheService.supportsPriceFilterSets()) {
+			return loadCardsAfterFromDb(categoryId, minPrice, maxPrice, cursor, fetchSize);
 		}
 
-		return new PageImpl<>(content, pageable, totalCount);
+		List<UUID> productIds = listCacheService.getPriceRangeProductIdsAfter(
+			categoryId, minPrice, maxPrice, cursor, fetchSize);
+		return productIds.isEmpty() ? List.of() : readCards(categoryId, productIds);
+	}
+
+	private ResProductCursorPageDto toCursorPage(List<CachedProductCard> cards, int size) {
+		boolean hasNext = cards.size() > size;
+		List<CachedProductCard> pageCards = hasNext ? cards.subList(0, size) : cards;
+
+		return ResProductCursorPageDto.builder()
+			.content(pageCards.stream().map(CachedProductCard::toSearchDto).toList())
+			.nextCursor(hasNext ? toCursor(pageCards.get(pageCards.size() - 1)).encode() : null)
+			.hasNext(hasNext)
+			.size(pageCards.size())
+			.build();
 	}
 
 	/**
@@ -91,38 +220,310 @@ public class ProductReadService {
 	 */
 	@Transactional(readOnly = true)
 	public ResProductDetailDtoV1 getProductDetail(UUID productId) {
-		CachedProductDetail cached = detailCacheService.get(productId);
+		CachedProductDetail cached = getCachedDetail(productId);
 
-		// 캐시 미스 → DB 조회 후 캐시 적재
+		// 캐시 미스 → 조회 불가 표시가 없으면 노드 전체에서 한 번만 DB 조회 후 캐시 적재
 		if (cached == null) {
 			log.debug("Cache miss for product detail: productId={}", productId);
-			return loadDetailFromDbAndCache(productId);
+			if (detailCacheService.isKnownMissing(productId)) {
+				return null;
+			}
+			return singleFlightLoader.load(
+				ProductCacheKey.productDetail(productId),
+				() -> {
+					CachedProductDetail loaded = getCachedDetail(productId);
+					return loaded != null ? loaded.toResponseDto() : null;
+				},
+				// 대기하던 요청은 선행 요청이 남긴 조회 불가 표시를 확인 후 적재
+				() -> detailCacheService.isKnownMissing(productId) ? null : loadDetailFromDbAndCache(productId)
+			);
 		}
 
 		return cached.toResponseDto();
 	}
 
+	/**
+	 * 상세 캐시 조회 (캐시 대상이 아닌 상태로 남은 값은 삭제 후 미스로 처리 - 변경 동기화 유실 대비)
+	 */
+	private CachedProductDetail getCachedDetail(UUID productId) {
+		CachedProductDetail cached = detailCacheService.get(productId);
+		if (cached == null || ProductDetailCacheService.isCacheable(cached.getStatus())) {
+			return cached;
+		}
+		log.info("Evicting cached product detail that is no longer cacheable: productId={}, status={}", productId,
+			cached.getStatus());
+		detailCacheService.delete(productId);
+		return null;
+	}
+
+	/**
+	 * 응답 바이트 캐시 사용 여부 (상세)
+	 */
+	public boolean isResponseCacheEnabled() {
+		return responseCache.isEnabled();
+	}
+
+	/**
+	 * 응답 바이트 캐시 대상 목록 페이지 여부 (최신순, 가격 구간 없음, 앞쪽 페이지)
+	 */
+	public boolean isResponseCacheable(Long minPrice, Long maxPrice, ProductSortType sortType, Pageable pageable) {
+		return minPrice == null && maxPrice == null
+			&& (sortType == null || sortType == ProductSortType.NEWEST)
+			&& responseCache.isHotListPage(pageable.getPageNumber(), pageable.getPageSize());
+	}
+
+	/**
+	 * 상품 상세 응답 본문 (응답 바이트 캐시 → 상세 캐시 → DB Fallback)
+	 * @return 없으면 null, DB에서 읽은 응답은 저장하지 않음 (다음 조회에서 상세 캐시 기준으로 저장)
+	 */
+	@Transactional(readOnly = true)
+	public CachedProductResponse getProductDetailResponse(UUID productId) {
+		CachedProductResponse cached = responseCache.getDetail(productId);
+		if (cached != null) {
+			return cached;
+		}
+
+		long sequence = responseCache.currentSequence();
+		CachedProductDetail detail = getCachedDetail(productId);
+		if (detail == null) {
+			ResProductDetailDtoV1 loaded = getProductDetail(productId);
+			return loaded != null ? CachedProductResponse.uncached(toJson(loaded)) : null;
+		}
+
+		CachedProductResponse response = CachedProductResponse.of(toJson(detail.toResponseDto()), detail.getCachedAt(),
+			Set.of());
+		responseCache.putDetailIfNotInvalidated(productId, response, sequence);
+		return response;
+	}
+
+	/**
+	 * 카테고리별 상품 목록 응답 본문 (최신순 앞쪽 페이지 - isResponseCacheable 확인 후 호출)
+	 */
+	@Transactional(readOnly = true)
+	public CachedProductResponse getProductListResponse(UUID categoryId, Pageable pageable) {
+		CachedProductResponse cached = responseCache.getList(categoryId, pageable.getPageNumber(),
+			pageable.getPageSize());
+		if (cached != null) {
+			return cached;
+		}
+
+		long sequence = responseCache.currentSequence();
+		Page<ResProductSearchDtoV1> page = getProductList(categoryId, pageable);
+		Set<UUID> productIds = new HashSet<>();
+		page.forEach(product -> productIds.add(product.getProductId()));
+
+		CachedProductResponse response = CachedProductResponse.ofContent(toJson(page), productIds);
+		responseCache.putListIfNotInvalidated(categoryId, pageable.getPageNumber(), pageable.getPageSize(), response,
+			sequence);
+		return response;
+	}
+
+	/**
+	 * 304 응답 기록 (통계)
+	 */
+	public void recordNotModified() {
+		responseCache.recordNotModified();
+	}
+
+	/**
+	 * 응답 본문 직렬화 (HTTP 메시지 컨버터와 같은 ObjectMapper)
+	 */
+	private byte[] toJson(Object response) {
+		try {
+			return objectMapper.writeValueAsBytes(response);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize product response", e);
+		}
+	}
+
+	/**
+	 * 캐시에서 목록 조회 (ID 목록 미스 시 null)
+	 */
+	private Page<ResProductSearchDtoV1> readListFromCache(UUID categoryId, Pageable pageable) {
+		long offset = (long) pageable.getPageNumber() * pageable.getPageSize();
+
+		// 1. ZRANGE로 ID 리스트 조회
+		List<UUID> productIds = listCacheService.getProductIds(categoryId, offset, pageable.getPageSize());
+		if (productIds.isEmpty()) {
+			return null;
+		}
+
+		// 2. 카드 일괄 조회 + 미스 보충
+		List<ResProductSearchDtoV1> content = readCards(categoryId, productIds).stream()
+			.map(CachedProductCard::toSearchDto)
+			.toList();
+
+		// 3. 전체 개수 조회
+		return new PageImpl<>(content, pageable, getTotalCount(categoryId));
+	}
+
+	/**
+	 * 카드 MGET (상세 전체를 읽지 않음) + 캐시 미스 일괄 보충
+	 * @return 순서가 유지된 카드 (목록 노출 대상이 아닌 상품 제외)
+	 */
+	private List<CachedProductCard> readCards(UUID categoryId, List<UUID> productIds) {
+		List<CachedProductCard> cards = new ArrayList<>(cardCacheService.multiGetAsList(productIds));
+		if (cards.isEmpty()) {
+			cards.addAll(Collections.nCopies(productIds.size(), null));
+		}
+		// 목록 노출 대상이 아닌 카드(품절 전환, 동기화 유실)는 미스로 보고 DB 상태로 다시 판단 → 목록에서 제거
+		cards.replaceAll(card -> card != null && ProductListCacheService.isListable(card.getStatus()) ? card : null);
+
+		// fetch join 한 번 + MSET 한 번
+		backfillMissingCards(categoryId, productIds, cards);
+
+		return cards.stream()
+			.filter(card -> card != null)
+			.toList();
+	}
+
+	/**
+	 * DB Keyset으로 커서 다음 상품을 읽어 캐시에 적재
+	 * 목록 ZSET에는 넣지 않음 (ZSET 중간에 빈 구간이 생기면 순위 기반 커서가 그 구간을 건너뜀)
+	 */
+	private List<CachedProductCard> loadCardsAfterFromDb(UUID categoryId, Long minPrice, Long maxPrice,
+		ProductCursor cursor, int limit) {
+		List<UUID> productIds = productQueryRepository.findBuyerCursorsAfter(categoryId, minPrice, maxPrice, cursor, limit)
+			.stream()
+			.map(ProductCursor::getProductId)
+			.toList();
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+
+		Map<UUID, CachedProductDetail> loaded = loadDetailsAndCache(productIds);
+		return productIds.stream()
+			.map(loaded::get)
+			.filter(detail -> detail != null && ProductListCacheService.isListable(detail.getStatus()))
+			.map(CachedProductCard::from)
+			.toList();
+	}
+
+	private ProductCursor toCursor(CachedProductCard card) {
+		return ProductCursor.of(card.getCreatedAt(), card.getProductId());
+	}
+
+	/**
+	 * 목록 ZSET에는 있지만 카드/상세가 없는 상품을 한 번에 DB에서 읽어 캐시에 다시 적재
+	 * (부분 eviction 후 목록 페이지가 짧아지는 문제 방지)
+	 * DB에 없거나 목록 노출 대상이 아닌 상품은 목록 ZSET에서 제거
+	 */
+	private void backfillMissingCards(UUID categoryId, List<UUID> productIds, List<CachedProductCard> cards) {
+		List<UUID> missIds = new ArrayList<>();
+		for (int i = 0; i < productIds.size(); i++) {
+			if (cards.get(i) == null) {
+				missIds.add(productIds.get(i));
+			}
+		}
+		if (missIds.isEmpty()) {
+			return;
+		}
+
+		Map<UUID, CachedProductDetail> loaded = loadDetailsAndCache(missIds);
+
+		int removed = 0;
+		Set<UUID> removedCategoryIds = new HashSet<>();
+		for (int i = 0; i < productIds.size(); i++) {
+			if (cards.get(i) != null) {
+				continue;
+			}
+			UUID productId = productIds.get(i);
+			CachedProductDetail detail = loaded.get(productId);
+			if (detail != null && ProductListCacheService.isListable(detail.getStatus())) {
+				cards.set(i, CachedProductCard.from(detail));
+			} else {
+				// 조회 중인 목록(+ 조상, 전체)과 상품의 카테고리 목록(+ 조상)에서 제거 (해당 계보의 판매중 개수도 다시 계산)
+				listCacheService.removeProduct(productId, categoryId);
+				removedCategoryIds.add(categoryId);
+				if (detail != null && !detail.getCategoryId().equals(categoryId)) {
+					listCacheService.removeProduct(productId, detail.getCategoryId());
+					removedCategoryIds.add(detail.getCategoryId());
+				}
+				removed++;
+			}
+		}
+		if (removed > 0) {
+			// 제거한 상품이 담긴 앞쪽 페이지 + 개수 키를 지운 계보의 페이지 무효화 후 재계산
+			hotPageService.invalidate(removedCategoryIds);
+		}
+
+		log.info("Back-filled product list page: categoryId={}, missing={}, loaded={}, removed={}",
+			categoryId, missIds.size(), loaded.size(), removed);
+	}
+
+	/**
+	 * 상품 상세를 한 번에 DB에서 읽어 상세 + 카드 캐시에 적재 (상세 집합 고정 쿼리 수 적재 + 기록 스크립트 한 번)
+	 * 캐시에는 캐시 대상(판매중/품절)만 적재 - 정지/숨김 상품은 변경 동기화와 같은 기준으로 캐시하지 않음
+	 * 기록 세대를 DB 조회 전에 읽어 두어, 그 사이 변경 동기화가 기록한 상품은 덮어쓰지 않음
+	 * @return productId -> 캐시 객체 (DB에 없거나 삭제된 상품 제외, 목록 노출 여부는 호출자가 상태로 판단)
+	 */
+	private Map<UUID, CachedProductDetail> loadDetailsAndCache(List<UUID> productIds) {
+		Map<UUID, Long> generations = readGenerations(productIds);
+		Map<UUID, CachedProductDetail> loaded = new HashMap<>();
+		List<CachedProductDetail> cacheable = new ArrayList<>();
+		for (Product product : aggregateLoader.loadAll(productIds)) {
+			if (product.isDeleted()) {
+				continue;
+			}
+			CachedProductDetail detail = CachedProductDetail.from(product);
+			loaded.put(product.getId(), detail);
+			if (ProductDetailCacheService.isCacheable(product)) {
+				cacheable.add(detail);
+			}
+		}
+
+		try {
+			detailCacheService.putAll(cacheable, generations);
+		} catch (Exception e) {
+			// 캐시 적재 실패해도 이번 응답은 DB 값으로 채움
+			log.warn("Failed to cache product details loaded from DB: count={}", cacheable.size());
+		}
+		return loaded;
+	}
+
+	/**
+	 * 전체 개수 조회 (캐시 미스 시 노드 전체에서 한 번만 COUNT)
+	 */
+	private long getTotalCount(UUID categoryId) {
+		long totalCount = listCacheService.getCachedTotalCount(categoryId);
+		if (totalCount != -1) {
+			return totalCount;
+		}
+
+		return singleFlightLoader.load(
+			ProductCacheKey.productCount(categoryId),
+			() -> {
+				long cached = listCacheService.getCachedTotalCount(categoryId);
+				return cached != -1 ? cached : null;
+			},
+			() -> {
+				long count = productQueryRepository.countProductsForBuyer(categoryId);
+				listCacheService.setTotalCount(categoryId, count);
+				// 개수가 없어 재계산을 건너뛴 앞쪽 페이지를 다시 계산
+				hotPageService.markDirty(Collections.singletonList(categoryId));
+				return count;
+			}
+		);
+	}
+
 	/**
 	 * DB에서 목록 조회 후 캐시 적재 (Lazy Loading)
 	 */
 	private Page<ResProductSearchDtoV1> loadListFromDbAndCache(UUID categoryId, Pageable pageable) {
 		// DB 조회
 		Page<Product> products = productQueryRepository.searchProductsForBuyer(
-			null, categoryId, null, null, ProductSortType.NEWEST, pageable
+			null, categoryId, null, null, ProductSortType.NEWEST, ProductCountMode.EXACT, pageable
 		);
 
-		// Total Count 캐싱
+		// Total Count 캐싱 (정확한 개수만 - 정렬 인덱스 완전성 판단에 사용)
 		listCacheService.setTotalCount(categoryId, products.getTotalElements());
 
 		if (products.isEmpty()) {
 			return Page.empty(pageable);
 		}
 
-		// 캐시 적재 (비동기로 처리해도 됨)
-		products.forEach(product -> {
-			listCacheService.addProduct(product);
-			detailCacheService.put(product);
-		});
+		// 목록 캐시 적재 (상세/카드는 목록 조회의 누락 카드 보충에서 세대 확인 후 적재)
+		products.forEach(listCacheService::addProduct);
 
 		log.info("Loaded {} products from DB and cached: categoryId={}", products.getNumberOfElements(), categoryId);
 
@@ -134,31 +535,44 @@ public class ProductReadService {
 	 * DB에서 상세 조회 후 캐시 적재 (Lazy Loading)
 	 */
 	private ResProductDetailDtoV1 loadDetailFromDbAndCache(UUID productId) {
-		// DB 조회 (옵션, Variant 포함)
-		Product product = productRepository.findByIdWithCategory(productId).orElse(null);
+		// 기록 세대는 DB 조회 전에 읽음 (그 사이 변경 동기화가 기록했으면 이번 적재는 건너뜀)
+		Long generation = readGenerations(List.of(productId)).get(productId);
 
-		if (product == null || product.isDeleted()) {
-			return null;
-		}
+		// DB 조회 (카테고리, 옵션/옵션 값, Variant 포함 - 고정 쿼리 수)
+		Product product = aggregateLoader.load(productId).orElse(null);
 
-		// 판매중이 아닌 상품은 조회 불가
-		if (product.getStatus() != ProductStatus.ON_SALE) {
+		// 없는/삭제된/캐시 대상이 아닌(판매중/품절 외) 상품은 조회 불가 → 표시해 두고 TTL 동안 DB 조회 생략
+		// 변경 동기화와 같은 기준 (ProductDetailCacheService.isCacheable)
+		if (product == null || !ProductDetailCacheService.isCacheable(product)) {
+			detailCacheService.markMissing(productId);
 			return null;
 		}
 
-		// 옵션, Variant 로딩
-		productRepository.findByIdWithOptionsOnly(productId);
-		productRepository.findByIdWithVariantsOnly(productId);
-
-		// 캐시 적재
-		listCacheService.addProduct(product);
-		detailCacheService.put(product);
+		// 캐시 적재 (목록/정렬 인덱스는 목록 노출 대상만 - 품절 상품은 상세만)
+		if (ProductListCacheService.isListable(product)) {
+			listCacheService.addProduct(product);
+		}
+		if (generation != null) {
+			detailCacheService.put(product, generation);
+		}
 
 		log.info("Loaded product from DB and cached: productId={}", productId);
 
 		return ResProductDetailDtoV1.from(product, null, null, null);
 	}
 
+	/**
+	 * 상세 기록 세대 조회 (실패 시 빈 맵 - 이번 조회는 캐시에 적재하지 않음)
+	 */
+	private Map<UUID, Long> readGenerations(List<UUID> productIds) {
+		try {
+			return detailCacheService.readGenerations(productIds);
+		} catch (Exception e) {
+			log.warn("Failed to read product detail generations: count={}", productIds.size(), e);
+			return Map.of();
+		}
+	}
+
 	/**
 	 * 캐시 존재 여부 확인
 	 */
@@ -166,18 +580,10 @@ public class ProductReadService {
 		return detailCacheService.exists(productId);
 	}
 
-	private ResProductSearchDtoV1 toSearchDto(CachedProductDetail detail) {
-		return ResProductSearchDtoV1.builder()
-			.productId(detail.getProductId())
-			.title(detail.getTitle())
-			.thumbnailUrl(detail.getThumbnailUrl())
-			.status(detail.getStatus())
-			.minPrice(detail.getMinPrice())
-			.maxPrice(detail.getMaxPrice())
-			.avgRating(null)
-			.reviewCount(null)
-			.categoryName(detail.getCategoryName())
-			.ownerStoreName(null)
-			.build();
+	/**
+	 * 상품 상세 캐시 계층별 통계 (현재 노드)
+	 */
+	public ResProductCacheStatsDto getCacheStats() {
+		return detailCacheService.getStats();
 	}
-}
\ No newline at end of file
+}
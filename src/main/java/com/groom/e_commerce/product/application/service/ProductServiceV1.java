@@ -18,20 +18,23 @@ import com.groom.e_commerce.global.presentation.advice.ErrorCode;
 import com.groom.e_commerce.global.util.SecurityUtil;
 import com.groom.e_commerce.product.application.dto.ProductCartInfo;
 import com.groom.e_commerce.product.application.dto.StockManagement;
+import com.groom.e_commerce.product.application.event.dto.ProductChangedEvent;
+import com.groom.e_commerce.product.application.event.publisher.ProductEventPublisher;
 import com.groom.e_commerce.product.domain.entity.Category;
 import com.groom.e_commerce.product.domain.entity.Product;
 import com.groom.e_commerce.product.domain.entity.ProductOption;
 import com.groom.e_commerce.product.domain.entity.ProductOptionValue;
 import com.groom.e_commerce.product.domain.entity.ProductVariant;
+import com.groom.e_commerce.product.domain.enums.ProductCountMode;
 import com.groom.e_commerce.product.domain.enums.ProductSortType;
 import com.groom.e_commerce.product.domain.enums.ProductStatus;
 import com.groom.e_commerce.product.domain.enums.VariantStatus;
 import com.groom.e_commerce.product.domain.repository.ProductRepository;
 import com.groom.e_commerce.product.domain.repository.ProductVariantRepository;
-import com.groom.e_commerce.product.infrastructure.cache.ProductDetailCacheService;
-import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService;
 import com.groom.e_commerce.product.infrastructure.cache.StockRedisService;
+import com.groom.e_commerce.product.infrastructure.repository.ProductAggregateLoader;
 import com.groom.e_commerce.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.e_commerce.product.infrastructure.repository.ProductStockJdbcRepository;
 import com.groom.e_commerce.product.presentation.dto.request.ReqProductCreateDtoV1;
 import com.groom.e_commerce.product.presentation.dto.request.ReqProductSuspendDtoV1;
 import com.groom.e_commerce.product.presentation.dto.request.ReqProductUpdateDtoV1;
@@ -40,6 +43,7 @@ import com.groom.e_commerce.product.presentation.dto.response.ResProductDetailDt
 import com.groom.e_commerce.product.presentation.dto.response.ResProductDtoV1;
 import com.groom.e_commerce.product.presentation.dto.response.ResProductListDtoV1;
 import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
+import com.groom.e_commerce.product.presentation.dto.response.ResStockLeaseDto;
 
 import lombok.RequiredArgsConstructor;
 
@@ -48,13 +52,18 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class ProductServiceV1 {
 
+	// 재고 샤드 수 상한 (샤드가 모두 비었을 때 한 번의 가점유가 순회하는 키 수)
+	private static final int MAX_STOCK_SHARDS = 64;
+
 	private final ProductRepository productRepository;
 	private final ProductVariantRepository productVariantRepository;
 	private final ProductQueryRepository productQueryRepository;
+	private final ProductAggregateLoader aggregateLoader;
+	private final ProductStockJdbcRepository productStockJdbcRepository;
 	private final CategoryServiceV1 categoryService;
-	private final ProductListCacheService listCacheService;
-	private final ProductDetailCacheService detailCacheService;
 	private final StockRedisService stockRedisService;
+	private final StockReservationStrategy stockReservationStrategy;
+	private final ProductEventPublisher productEventPublisher;
 
 	/**
 	 * 상품 등록 (Owner)
@@ -154,9 +163,8 @@ public class ProductServiceV1 {
 			stockRedisService.syncStock(savedProduct.getId(), null, savedProduct.getStockQuantity());
 		}
 
-		// 캐시에 추가
-		listCacheService.addProduct(savedProduct);
-		detailCacheService.put(savedProduct);
+		// 캐시는 커밋 후 동기화에서 추가
+		productEventPublisher.publishProductChanged(ProductChangedEvent.created(savedProduct));
 
 		return ResProductCreateDtoV1.from(savedProduct);
 	}
@@ -197,10 +205,12 @@ public class ProductServiceV1 {
 	/**
 	 * 내 상품 목록 조회 (Owner)
 	 */
-	public Page<ResProductListDtoV1> getSellerProducts(ProductStatus status, String keyword, Pageable pageable) {
+	public Page<ResProductListDtoV1> getSellerProducts(ProductStatus status, String keyword,
+		ProductCountMode countMode, Pageable pageable) {
 		UUID ownerId = SecurityUtil.getCurrentUserId();
 
-		Page<Product> products = productQueryRepository.findSellerProducts(ownerId, status, keyword, pageable);
+		Page<Product> products = productQueryRepository.findSellerProducts(ownerId, status, keyword, countMode,
+			pageable);
 		return products.map(ResProductListDtoV1::from);
 	}
 
@@ -231,11 +241,11 @@ public class ProductServiceV1 {
 			request.getStatus()
 		);
 
-		// 캐시 업데이트
-		detailCacheService.put(product);
+		// 캐시는 커밋 후 동기화에서 갱신 (카테고리 변경 시 이전 카테고리 목록/개수에서 제거)
 		if (category != null && !category.getId().equals(oldCategoryId)) {
-			// 카테고리 변경 시 목록 캐시 이동
-			listCacheService.moveProduct(product, oldCategoryId);
+			productEventPublisher.publishProductChanged(ProductChangedEvent.moved(product, oldCategoryId));
+		} else {
+			productEventPublisher.publishProductChanged(ProductChangedEvent.from(product));
 		}
 
 		return ResProductDtoV1.from(product);
@@ -251,12 +261,10 @@ public class ProductServiceV1 {
 		Product product = findProductById(productId);
 		validateProductOwnership(product, ownerId);
 
-		UUID categoryId = product.getCategory().getId();
 		product.softDelete(ownerId);
 
-		// 캐시에서 제거
-		listCacheService.removeProduct(productId, categoryId);
-		detailCacheService.delete(productId);
+		// 캐시는 커밋 후 동기화에서 제거
+		productEventPublisher.publishProductChanged(ProductChangedEvent.from(product));
 	}
 
 	/**
@@ -277,12 +285,13 @@ public class ProductServiceV1 {
 		Long minPrice,
 		Long maxPrice,
 		ProductSortType sortType,
+		ProductCountMode countMode,
 		Pageable pageable
 	) {
 		Page<Product> products = productQueryRepository.searchProductsForBuyer(
-			keyword, categoryId, minPrice, maxPrice, sortType, pageable
+			keyword, categoryId, minPrice, maxPrice, sortType, countMode, pageable
 		);
-		return products.map(ResProductSearchDtoV1::from);
+		return products.map(product -> ResProductSearchDtoV1.from(product, keyword));
 	}
 
 	/**
@@ -290,8 +299,8 @@ public class ProductServiceV1 {
 	 */
 	@Transactional(readOnly = true)
 	public ResProductDetailDtoV1 getProductDetail(UUID productId) {
-		// Step 1: 상품 + 카테고리 조회
-		Product product = productRepository.findByIdWithCategory(productId)
+		// 상품 + 카테고리 + 옵션/옵션 값 + Variant (고정 쿼리 수)
+		Product product = aggregateLoader.load(productId)
 			.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
 
 		// 삭제된 상품은 조회 불가
@@ -304,12 +313,6 @@ public class ProductServiceV1 {
 			throw new CustomException(ErrorCode.PRODUCT_NOT_ON_SALE);
 		}
 
-		// Step 2: 옵션 + 옵션값 조회 (같은 영속성 컨텍스트)
-		productRepository.findByIdWithOptionsOnly(productId);
-
-		// Step 3: variants 조회 (같은 영속성 컨텍스트)
-		productRepository.findByIdWithVariantsOnly(productId);
-
 		// TODO: Review 도메인에서 avgRating, reviewCount 조회
 		// TODO: User 도메인에서 ownerStoreName 조회
 		return ResProductDetailDtoV1.from(product, null, null, null);
@@ -318,8 +321,9 @@ public class ProductServiceV1 {
 	/**
 	 * 상품 목록 조회 (Manager)
 	 */
-	public Page<ResProductListDtoV1> getAllProductsForManager(String keyword, ProductStatus status, Pageable pageable) {
-		Page<Product> products = productQueryRepository.findAllForManager(keyword, status, pageable);
+	public Page<ResProductListDtoV1> getAllProductsForManager(String keyword, ProductStatus status,
+		ProductCountMode countMode, Pageable pageable) {
+		Page<Product> products = productQueryRepository.findAllForManager(keyword, status, countMode, pageable);
 		return products.map(ResProductListDtoV1::from);
 	}
 
@@ -331,9 +335,8 @@ public class ProductServiceV1 {
 		Product product = findProductById(productId);
 		product.suspend(request.getReason());
 
-		// 캐시에서 제거 (정지된 상품은 목록에서 미노출)
-		listCacheService.removeProduct(productId, product.getCategory().getId());
-		detailCacheService.delete(productId);
+		// 정지된 상품은 목록에서 미노출 (커밋 후 동기화에서 캐시 제거)
+		productEventPublisher.publishProductChanged(ProductChangedEvent.from(product));
 
 		return ResProductDtoV1.from(product);
 	}
@@ -346,9 +349,8 @@ public class ProductServiceV1 {
 		Product product = findProductById(productId);
 		product.restore();
 
-		// 캐시에 다시 추가
-		listCacheService.addProduct(product);
-		detailCacheService.put(product);
+		// 커밋 후 동기화에서 캐시에 다시 추가
+		productEventPublisher.publishProductChanged(ProductChangedEvent.from(product));
 
 		return ResProductDtoV1.from(product);
 	}
@@ -479,20 +481,11 @@ public class ProductServiceV1 {
 	// ==================== Redis 재고 관리 (가점유 시스템) ====================
 
 	/**
-	 * 재고 가점유 (Redis Lua Script - 주문서 작성 시)
-	 * 원자적으로 재고 검증 + 차감
-	 */
-	public void reserveStock(UUID productId, UUID variantId, int quantity) {
-		stockRedisService.reserve(productId, variantId, quantity);
-	}
-
-	/**
-	 * Bulk 재고 가점유
+	 * 주문 단위 Bulk 재고 가점유 (All-or-Nothing)
+	 * 설정된 전략에 따라 Redis Lua Script 또는 노드 로컬 임차분에서 차감하고, 가점유 원장에 기록
 	 */
-	public void reserveStockBulk(List<StockManagement> items) {
-		for (StockManagement item : items) {
-			reserveStock(item.getProductId(), item.getVariantId(), item.getQuantity());
-		}
+	public void reserveStockBulk(UUID orderId, List<StockManagement> items) {
+		stockReservationStrategy.reserve(orderId, items);
 	}
 
 	/**
@@ -519,16 +512,19 @@ public class ProductServiceV1 {
 	public void confirmStock(UUID productId, UUID variantId, int quantity) {
 		// DB 실재고 차감 (엔티티 메서드 호출 → 상태 자동 변경)
 		decreaseStock(productId, variantId, quantity);
+
+		// 재고/상태(SOLD_OUT 전환) 캐시 반영
+		productEventPublisher.publishProductChanged(ProductChangedEvent.of(productId));
 	}
 
 	/**
 	 * Bulk 재고 확정 차감
+	 * 엔티티 조회 없이 조건부 UPDATE 배치로 차감 + 상태 변경 (하나라도 실패 시 전체 롤백)
 	 */
 	@Transactional
 	public void confirmStockBulk(List<StockManagement> items) {
-		for (StockManagement item : items) {
-			confirmStock(item.getProductId(), item.getVariantId(), item.getQuantity());
-		}
+		productStockJdbcRepository.decreaseStocks(items);
+		publishStockChanged(items);
 	}
 
 	/**
@@ -542,6 +538,9 @@ public class ProductServiceV1 {
 
 		// 2. DB 실재고 복구 (엔티티 메서드 호출 → 상태 자동 변경)
 		increaseStock(productId, variantId, quantity);
+
+		// 3. 재고/상태(ON_SALE 복귀) 캐시 반영
+		productEventPublisher.publishProductChanged(ProductChangedEvent.of(productId));
 	}
 
 	/**
@@ -554,10 +553,59 @@ public class ProductServiceV1 {
 		}
 	}
 
+	/**
+	 * 재고 확정/복구된 상품마다 변경 이벤트 (커밋 후 캐시의 재고/상태 갱신)
+	 */
+	private void publishStockChanged(List<StockManagement> items) {
+		items.stream()
+			.map(StockManagement::getProductId)
+			.distinct()
+			.forEach(productId -> productEventPublisher.publishProductChanged(ProductChangedEvent.of(productId)));
+	}
+
 	/**
 	 * 가용 재고 조회 (Redis)
 	 */
 	public Integer getAvailableStock(UUID productId, UUID variantId) {
 		return stockRedisService.getAvailableStock(productId, variantId);
 	}
+
+	/**
+	 * 가용 재고 일괄 조회 (Redis MGET, 요청 순서 유지)
+	 */
+	public List<Integer> getAvailableStocks(List<StockManagement> items) {
+		return stockRedisService.getAvailableStocks(items);
+	}
+
+	/**
+	 * 재고 샤드 수 변경 (관리자 - 플래시 세일 등 핫 SKU 대상)
+	 * 옵션 상품은 판매 종료되지 않은 모든 Variant에 적용
+	 *
+	 * @param shardCount 샤드 수 (0이면 단일 키 모드로 복귀)
+	 */
+	public void changeStockShardCount(UUID productId, int shardCount) {
+		if (shardCount < 0 || shardCount > MAX_STOCK_SHARDS) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST,
+				"샤드 수는 0 이상 " + MAX_STOCK_SHARDS + " 이하여야 합니다.");
+		}
+
+		Product product = findProductById(productId);
+		if (!Boolean.TRUE.equals(product.getHasOptions())) {
+			stockRedisService.changeShardCount(productId, null, shardCount);
+			return;
+		}
+
+		for (ProductVariant variant : productVariantRepository.findByProductId(productId)) {
+			if (variant.getStatus() != VariantStatus.DISCONTINUED) {
+				stockRedisService.changeShardCount(productId, variant.getId(), shardCount);
+			}
+		}
+	}
+
+	/**
+	 * 노드 로컬 재고 임차 현황 (lease 전략 사용 시)
+	 */
+	public List<ResStockLeaseDto> getStockLeaseStats() {
+		return stockReservationStrategy.getLeaseStats();
+	}
 }
@@ -0,0 +1,272 @@
+package com.groom.e_commerce.product.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.groom.e_commerce.product.application.event.dto.ProductChangedEvent;
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.repository.CategoryRepository;
+import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.product.domain.repository.ProductRepository.ProductTitleView;
+import com.groom.e_commerce.product.infrastructure.suggest.PrefixSuggestIndex;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductSuggestDtoV1;
+import com.groom.e_commerce.review.domain.entity.ProductRatingEntity;
+import com.groom.e_commerce.review.domain.repository.ProductRatingRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품/카테고리 자동완성
+ *
+ * - 요청 처리: 노드 로컬 PrefixSuggestIndex만 조회 (DB/Redis 접근 없음)
+ * - 적재: 기동 시 판매중 상품 제목 전체 (ID Keyset 페이지 + 페이지별 리뷰 수 일괄 조회)
+ * - 갱신: 이 노드의 상품 변경은 커밋 후 이벤트로 즉시 반영,
+ *   다른 노드 변경/재고 확정(SOLD_OUT 전환)은 updated_at 기준 주기적 변경분 동기화로 반영
+ * - 인기 가중치: 리뷰 수 (평점 변경 이벤트로 갱신)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSuggestService {
+
+	private static final int MAX_LIMIT = 10;
+	private static final int MAX_CATEGORY_DEPTH = 10;
+	private static final UUID MIN_ID = new UUID(0L, 0L);
+
+	private final ProductRepository productRepository;
+	private final CategoryRepository categoryRepository;
+	private final ProductRatingRepository productRatingRepository;
+
+	@Value("${product.suggest.enabled:true}")
+	private boolean enabled;
+
+	// 인기 상위 목록을 미리 계산하는 접두사 길이 (자모 단위)
+	@Value("${product.suggest.head-depth:6}")
+	private int headDepth;
+
+	// 조회 시 만들어 유지하는 긴 접두사 목록 수 상한 (초과 시 비우고 다시 채움)
+	@Value("${product.suggest.max-deep-heads:50000}")
+	private int maxDeepHeads;
+
+	// 제목 중간 단어로도 찾을 수 있도록 색인하는 단어 시작 위치 수
+	@Value("${product.suggest.max-words:3}")
+	private int maxWords;
+
+	@Value("${product.suggest.max-key-length:32}")
+	private int maxKeyLength;
+
+	@Value("${product.suggest.page-size:1000}")
+	private int pageSize;
+
+	// 커밋 지연/노드 간 시계 차이 보정 (이 구간은 다시 읽어 멱등 반영)
+	@Value("${product.suggest.sync-overlap-seconds:10}")
+	private long syncOverlapSeconds;
+
+	private final AtomicBoolean building = new AtomicBoolean();
+
+	// 적재 전에는 null (빈 결과 반환)
+	private volatile PrefixSuggestIndex productIndex;
+	private volatile PrefixSuggestIndex categoryIndex;
+	private volatile LocalDateTime syncedUntil;
+
+	/**
+	 * 자동완성 조회
+	 */
+	public ResProductSuggestDtoV1 suggest(String keyword, int limit) {
+		int size = Math.min(Math.max(1, limit), MAX_LIMIT);
+		PrefixSuggestIndex products = productIndex;
+		PrefixSuggestIndex categories = categoryIndex;
+
+		return ResProductSuggestDtoV1.of(
+			keyword,
+			categories != null ? categories.suggest(keyword, size) : List.of(),
+			products != null ? products.suggest(keyword, size) : List.of()
+		);
+	}
+
+	@Async("eventExecutor")
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		if (enabled) {
+			rebuild();
+		}
+	}
+
+	/**
+	 * 전체 재적재 (새 인덱스를 만든 뒤 교체, 적재 중에도 기존 인덱스로 응답)
+	 * @return 색인한 상품 수 (이미 적재 중이면 -1)
+	 */
+	public int rebuild() {
+		if (!building.compareAndSet(false, true)) {
+			return -1;
+		}
+
+		try {
+			long startedAt = System.currentTimeMillis();
+			LocalDateTime buildStart = LocalDateTime.now();
+			PrefixSuggestIndex products = newIndex();
+
+			UUID afterId = MIN_ID;
+			while (true) {
+				List<ProductTitleView> page = productRepository.findOnSaleTitlesAfter(afterId, PageRequest.of(0, pageSize));
+				if (page.isEmpty()) {
+					break;
+				}
+				Map<UUID, Long> weights = loadWeights(page);
+				for (ProductTitleView row : page) {
+					products.put(row.getId(), row.getTitle(), weights.getOrDefault(row.getId(), 0L));
+				}
+				afterId = page.get(page.size() - 1).getId();
+				if (page.size() < pageSize) {
+					break;
+				}
+			}
+
+			categoryIndex = buildCategoryIndex();
+			productIndex = products;
+			syncedUntil = buildStart;
+
+			// 적재 중 커밋된 변경분 반영
+			syncChanges();
+
+			log.info("Product suggest index built: products={}, elapsedMs={}",
+				products.size(), System.currentTimeMillis() - startedAt);
+			return products.size();
+		} catch (Exception e) {
+			log.error("Failed to build product suggest index", e);
+			return 0;
+		} finally {
+			building.set(false);
+		}
+	}
+
+	/**
+	 * updated_at 기준 변경분 동기화 (다른 노드 변경, JDBC 재고 확정에 의한 상태 변경 포함)
+	 * (updated_at, id) Keyset으로 끝까지 읽음 → 같은 updated_at 행이 페이지보다 많아도 진행
+	 * 카테고리는 수가 적어 매번 다시 만듦
+	 */
+	@Scheduled(fixedDelayString = "${product.suggest.sync-interval-ms:30000}")
+	public void syncChanges() {
+		PrefixSuggestIndex products = productIndex;
+		if (!enabled || products == null) {
+			return;
+		}
+
+		try {
+			LocalDateTime runStart = LocalDateTime.now();
+			LocalDateTime afterUpdatedAt = syncedUntil.minus(Duration.ofSeconds(syncOverlapSeconds));
+			UUID afterId = MIN_ID;
+			int changed = 0;
+			while (true) {
+				List<ProductTitleView> page = productRepository.findTitlesUpdatedAfter(afterUpdatedAt, afterId,
+					PageRequest.of(0, pageSize));
+				applyRows(products, page);
+				changed += page.size();
+				if (page.size() < pageSize) {
+					break;
+				}
+				ProductTitleView last = page.get(page.size() - 1);
+				afterUpdatedAt = last.getUpdatedAt();
+				afterId = last.getId();
+			}
+
+			// 끝까지 읽었을 때만 전진 (도중 실패 시 다음 실행에서 처음부터 다시 읽어도 멱등)
+			syncedUntil = runStart;
+			categoryIndex = buildCategoryIndex();
+
+			if (changed > 0) {
+				log.debug("Product suggest index synced: changed={}", changed);
+			}
+		} catch (Exception e) {
+			log.error("Failed to sync product suggest index", e);
+		}
+	}
+
+	private void applyRows(PrefixSuggestIndex products, List<ProductTitleView> rows) {
+		Map<UUID, Long> weights = loadWeights(rows.stream().filter(ProductTitleView::isVisible).toList());
+		for (ProductTitleView row : rows) {
+			if (row.isVisible()) {
+				products.put(row.getId(), row.getTitle(), weights.getOrDefault(row.getId(), 0L));
+			} else {
+				products.remove(row.getId());
+			}
+		}
+	}
+
+	/**
+	 * 이 노드의 상품 변경 반영 (커밋 후)
+	 * 가중치는 색인된 값을 유지하고, 새로 노출되는 상품만 리뷰 수를 조회
+	 */
+	public void apply(ProductChangedEvent event) {
+		PrefixSuggestIndex products = productIndex;
+		if (products == null) {
+			return;
+		}
+
+		if (!event.isVisible()) {
+			products.remove(event.getProductId());
+			return;
+		}
+
+		Long weight = products.weightOf(event.getProductId());
+		if (weight == null) {
+			weight = productRatingRepository.findByProductId(event.getProductId())
+				.map(rating -> (long)rating.getReviewCount())
+				.orElse(0L);
+		}
+		products.put(event.getProductId(), event.getTitle(), weight);
+	}
+
+	/**
+	 * 인기 가중치(리뷰 수) 변경 반영 - 미색인(비노출) 상품은 무시
+	 */
+	public void updatePopularity(UUID productId, int reviewCount) {
+		PrefixSuggestIndex products = productIndex;
+		if (products != null) {
+			products.updateWeight(productId, reviewCount);
+		}
+	}
+
+	private PrefixSuggestIndex newIndex() {
+		return new PrefixSuggestIndex(headDepth, MAX_LIMIT, maxDeepHeads, maxWords, maxKeyLength);
+	}
+
+	private Map<UUID, Long> loadWeights(List<ProductTitleView> rows) {
+		if (rows.isEmpty()) {
+			return Map.of();
+		}
+		List<UUID> productIds = rows.stream().map(ProductTitleView::getId).toList();
+		return productRatingRepository.findAllByProductIdIn(productIds).stream()
+			.collect(Collectors.toMap(ProductRatingEntity::getProductId, rating -> (long)rating.getReviewCount(),
+				(a, b) -> a));
+	}
+
+	/**
+	 * 활성 카테고리 이름으로 색인 (상위 카테고리 우선), 표시는 전체 경로
+	 */
+	private PrefixSuggestIndex buildCategoryIndex() {
+		PrefixSuggestIndex categories = newIndex();
+		for (Category category : categoryRepository.findAllByOrderByDepthAsc()) {
+			if (!Boolean.TRUE.equals(category.getIsActive())) {
+				continue;
+			}
+			String text = category.getFullName() != null ? category.getFullName() : category.getName();
+			categories.put(category.getId(), text, MAX_CATEGORY_DEPTH - category.getDepth());
+		}
+		return categories;
+	}
+}
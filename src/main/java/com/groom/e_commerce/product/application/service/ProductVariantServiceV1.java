@@ -10,6 +10,8 @@ import org.springframework.transaction.annotation.Transactional;
 import com.groom.e_commerce.global.presentation.advice.CustomException;
 import com.groom.e_commerce.global.presentation.advice.ErrorCode;
 import com.groom.e_commerce.global.util.SecurityUtil;
+import com.groom.e_commerce.product.application.event.dto.ProductChangedEvent;
+import com.groom.e_commerce.product.application.event.publisher.ProductEventPublisher;
 import com.groom.e_commerce.product.domain.entity.Product;
 import com.groom.e_commerce.product.domain.entity.ProductOption;
 import com.groom.e_commerce.product.domain.entity.ProductOptionValue;
@@ -29,6 +31,7 @@ public class ProductVariantServiceV1 {
 
 	private final ProductRepository productRepository;
 	private final ProductVariantRepository productVariantRepository;
+	private final ProductEventPublisher productEventPublisher;
 
 	/**
 	 * SKU(Variant) 추가
@@ -69,6 +72,9 @@ public class ProductVariantServiceV1 {
 			.findFirst()
 			.orElseThrow(() -> new CustomException(ErrorCode.VARIANT_NOT_FOUND));
 
+		// 커밋 후 상세/카드 캐시의 옵션/재고 갱신
+		productEventPublisher.publishProductChanged(ProductChangedEvent.from(savedProduct));
+
 		return ResVariantDtoV1.from(savedVariant);
 	}
 
@@ -91,6 +97,9 @@ public class ProductVariantServiceV1 {
 			variant.updateStatus(request.getStatus());
 		}
 
+		// 커밋 후 상세/카드 캐시의 옵션/재고 갱신
+		productEventPublisher.publishProductChanged(ProductChangedEvent.from(product));
+
 		return ResVariantDtoV1.from(variant);
 	}
 
@@ -119,6 +128,9 @@ public class ProductVariantServiceV1 {
 			product.getVariants().remove(variant);
 			productVariantRepository.delete(variant);
 		}
+
+		// 커밋 후 상세/카드 캐시의 옵션/재고 갱신
+		productEventPublisher.publishProductChanged(ProductChangedEvent.from(product));
 	}
 
 	/**
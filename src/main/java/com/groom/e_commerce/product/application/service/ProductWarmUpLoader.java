@@ -1,59 +1,417 @@
 package com.groom.e_commerce.product.application.service;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.groom.e_commerce.product.application.dto.ProductCursor;
+import com.groom.e_commerce.product.application.dto.StockManagement;
 import com.groom.e_commerce.product.domain.entity.Product;
-import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.product.domain.entity.ProductVariant;
+import com.groom.e_commerce.product.infrastructure.cache.CachedProductDetail;
 import com.groom.e_commerce.product.infrastructure.cache.ProductDetailCacheService;
 import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductWarmUpCheckpointStore;
+import com.groom.e_commerce.product.infrastructure.cache.StockRedisService;
+import com.groom.e_commerce.product.infrastructure.repository.ProductAggregateLoader;
+import com.groom.e_commerce.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductWarmUpDto;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductWarmUpDto.WarmUpStatus;
+import com.groom.e_commerce.review.domain.repository.ProductRatingRepository;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 상품 캐시 Warm-up 엔진
+ *
+ * [처리 흐름]
+ * 1. 최신순 Keyset 페이지로 상품 ID만 순차 조회 (OFFSET 없음)
+ * 2. 페이지마다 배치를 warmUpExecutor에 넘겨 최대 parallelism개를 동시에 적재
+ *    - DB: ProductAggregateLoader로 상세 집합 일괄 적재 (배치당 고정 쿼리 수)
+ *    - Redis: 상세 MSET, 목록/정렬 인덱스 ZADD 파이프라인, 재고 키 초기화 파이프라인
+ * 3. 앞에서부터 연속으로 완료된 배치까지만 체크포인트를 전진 (재개 시 누락 없음)
+ *
+ * 취소 시 새 배치는 넘기지 않고 진행 중인 배치만 마무리하며, 체크포인트부터 재개할 수 있습니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ProductWarmUpLoader {
 
-	private final ProductRepository productRepository;
+	private final ProductQueryRepository productQueryRepository;
+	private final ProductAggregateLoader aggregateLoader;
 	private final ProductListCacheService listCacheService;
 	private final ProductDetailCacheService detailCacheService;
+	private final StockRedisService stockRedisService;
+	private final ProductWarmUpCheckpointStore checkpointStore;
+	private final ProductRatingRepository productRatingRepository;
+	private final TransactionTemplate readOnlyTransaction;
+	private final Executor warmUpExecutor;
+
+	private final AtomicReference<WarmUpRun> currentRun = new AtomicReference<>();
 
 	// 메모리 보호를 위해 최신 10만 개만 Warm-up
-	private static final int WARM_UP_LIMIT = 100000;
-	private static final int PAGE_SIZE = 1000;
-
-	@Transactional(readOnly = true)
-	public void loadTopProducts() {
-		log.info("Starting Product Cache Warm-up (Limit: {})...", WARM_UP_LIMIT);
-		
-		int totalPages = (int) Math.ceil((double) WARM_UP_LIMIT / PAGE_SIZE);
-
-		for (int i = 0; i < totalPages; i++) {
-			Page<Product> products = productRepository.findAll(
-				PageRequest.of(i, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))
-			);
-			
-			if (products.isEmpty()) break;
-
-			for (Product product : products) {
-				// 1. 상세 캐시 (JSON) 적재
-				detailCacheService.put(product);
-				
-				// 2. 목록 캐시 (ZSET) 적재 (판매 중/품절 상태만)
-				if (product.getStatus() == com.groom.e_commerce.product.domain.enums.ProductStatus.ON_SALE || 
-					product.getStatus() == com.groom.e_commerce.product.domain.enums.ProductStatus.SOLD_OUT) {
-					listCacheService.addProduct(product);
+	@Value("${product.warm-up.limit:100000}")
+	private long warmUpLimit;
+
+	@Value("${product.warm-up.page-size:1000}")
+	private int pageSize;
+
+	// 동시에 적재하는 배치 수 (warmUpExecutor 스레드 수 - 1 이하)
+	@Value("${product.warm-up.parallelism:4}")
+	private int parallelism;
+
+	public ProductWarmUpLoader(
+		ProductQueryRepository productQueryRepository,
+		ProductAggregateLoader aggregateLoader,
+		ProductListCacheService listCacheService,
+		ProductDetailCacheService detailCacheService,
+		StockRedisService stockRedisService,
+		ProductWarmUpCheckpointStore checkpointStore,
+		ProductRatingRepository productRatingRepository,
+		PlatformTransactionManager transactionManager,
+		@Qualifier("warmUpExecutor") Executor warmUpExecutor
+	) {
+		this.productQueryRepository = productQueryRepository;
+		this.aggregateLoader = aggregateLoader;
+		this.listCacheService = listCacheService;
+		this.detailCacheService = detailCacheService;
+		this.stockRedisService = stockRedisService;
+		this.checkpointStore = checkpointStore;
+		this.productRatingRepository = productRatingRepository;
+		this.warmUpExecutor = warmUpExecutor;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	/**
+	 * Warm-up 시작 (백그라운드)
+	 *
+	 * @param resume true: 마지막 체크포인트부터 재개, false: 처음부터
+	 * @return false: 이미 실행 중
+	 */
+	public synchronized boolean start(boolean resume) {
+		WarmUpRun previous = currentRun.get();
+		if (previous != null && previous.isActive()) {
+			return false;
+		}
+
+		ProductCursor from = null;
+		long resumedFrom = 0;
+		if (resume) {
+			from = checkpointStore.getCursor();
+			resumedFrom = from != null ? checkpointStore.getProcessed() : 0;
+		} else {
+			checkpointStore.clear();
+		}
+
+		WarmUpRun run = new WarmUpRun(from, resumedFrom);
+		currentRun.set(run);
+
+		try {
+			warmUpExecutor.execute(() -> execute(run));
+		} catch (Exception e) {
+			log.error("Failed to start product cache warm-up", e);
+			run.finish(WarmUpStatus.FAILED);
+			return false;
+		}
+
+		log.info("Starting Product Cache Warm-up (Limit: {}, resumedFrom: {})...", warmUpLimit, resumedFrom);
+		return true;
+	}
+
+	/**
+	 * Warm-up 취소 (진행 중인 배치는 마무리)
+	 *
+	 * @return false: 실행 중이 아님
+	 */
+	public boolean cancel() {
+		WarmUpRun run = currentRun.get();
+		if (run == null || !run.isActive()) {
+			return false;
+		}
+		run.cancel();
+		return true;
+	}
+
+	/**
+	 * 진행 현황 조회
+	 */
+	public ResProductWarmUpDto getProgress() {
+		WarmUpRun run = currentRun.get();
+		if (run == null) {
+			return ResProductWarmUpDto.builder()
+				.status(WarmUpStatus.IDLE)
+				.limit(warmUpLimit)
+				.build();
+		}
+		return run.toDto();
+	}
+
+	private void execute(WarmUpRun run) {
+		Semaphore permits = new Semaphore(parallelism);
+		ProductCursor cursor = run.resumeCursor;
+		long dispatched = run.resumedFrom;
+		long sequence = 0;
+		boolean exhausted = false;
+
+		try {
+			while (!run.isCancelled() && dispatched < warmUpLimit) {
+				int size = (int)Math.min(pageSize, warmUpLimit - dispatched);
+				List<ProductCursor> page = productQueryRepository.findLatestCursorsAfter(cursor, size);
+				if (page.isEmpty()) {
+					exhausted = true;
+					break;
+				}
+
+				permits.acquire();
+				if (run.isCancelled()) {
+					permits.release();
+					break;
+				}
+				dispatch(run, run.register(sequence++, page), permits);
+
+				cursor = page.get(page.size() - 1);
+				dispatched += page.size();
+				if (page.size() < size) {
+					exhausted = true;
+					break;
 				}
 			}
-			
-			log.info("Warm-up Progress: {} products cached...", (i + 1) * PAGE_SIZE);
+
+			// 진행 중인 배치 완료 대기
+			permits.acquire(parallelism);
+			run.finish(run.hasFailed() ? WarmUpStatus.FAILED
+				: run.isCancelled() ? WarmUpStatus.CANCELLED : WarmUpStatus.COMPLETED);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			run.finish(WarmUpStatus.FAILED);
+		} catch (Exception e) {
+			log.error("Product cache warm-up failed", e);
+			run.finish(WarmUpStatus.FAILED);
+		}
+
+		if (run.status == WarmUpStatus.COMPLETED) {
+			checkpointStore.clear();
+			// 처음부터 상한 없이 끝까지 적재했을 때만 정렬 인덱스를 완전한 것으로 표시
+			// (이후 멤버십은 변경 동기화가 유지 - 동기화 유실/메모리 축출은 감지하지 않으므로 일괄 삭제 후 재적재로 복구)
+			if (exhausted && run.resumeCursor == null) {
+				listCacheService.markSortIndexComplete();
+			}
+		}
+		log.info("Product Cache Warm-up {}: processed={}, elapsed={}ms",
+			run.status, run.resumedFrom + run.processed, run.elapsedMs());
+	}
+
+	private void dispatch(WarmUpRun run, WarmUpBatch batch, Semaphore permits) {
+		try {
+			warmUpExecutor.execute(() -> {
+				try {
+					run.complete(batch, loadBatch(batch));
+				} catch (Exception e) {
+					log.error("Warm-up batch failed: sequence={}", batch.sequence, e);
+					run.fail();
+				} finally {
+					permits.release();
+				}
+			});
+		} catch (Exception e) {
+			log.error("Warm-up batch rejected: sequence={}", batch.sequence, e);
+			run.fail();
+			permits.release();
+		}
+	}
+
+	/**
+	 * 배치 적재
+	 * DB 트랜잭션 안에서 캐시 객체까지 변환하고, Redis 쓰기는 커넥션 반환 후 수행
+	 *
+	 * @return 새로 초기화된 재고 키 수
+	 */
+	private long loadBatch(WarmUpBatch batch) {
+		List<UUID> productIds = batch.cursors.stream()
+			.map(ProductCursor::getProductId)
+			.toList();
+
+		// 기록 세대는 DB 조회 전에 읽음 (그 사이 변경 동기화가 기록한 상품은 덮어쓰지 않음)
+		Map<UUID, Long> generations = detailCacheService.readGenerations(productIds);
+
+		List<Product> products = new ArrayList<>();
+		Map<UUID, Double> ratings = new HashMap<>();
+		List<CachedProductDetail> details = readOnlyTransaction.execute(status -> {
+			products.addAll(aggregateLoader.loadAll(productIds));
+			productRatingRepository.findAllByProductIdIn(productIds)
+				.forEach(rating -> ratings.put(rating.getProductId(), rating.getAvgRating()));
+			return products.stream()
+				.filter(ProductDetailCacheService::isCacheable)
+				.map(CachedProductDetail::from)
+				.toList();
+		});
+
+		// 1. 상세 + 카드 캐시 적재
+		detailCacheService.putAll(details, generations);
+
+		// 2. 목록 캐시 + 가격/평점 정렬 인덱스 (ZSET) 적재 (판매 중 상태만, 평점 score 먼저 기록)
+		listCacheService.putRatings(ratings);
+		listCacheService.addProducts(products.stream()
+			.filter(ProductListCacheService::isListable)
+			.toList());
+
+		// 3. 재고 키 초기화 (없는 키만 - 운영 중인 가용 재고는 유지)
+		List<StockManagement> stocks = new ArrayList<>();
+		for (Product product : products) {
+			if (Boolean.TRUE.equals(product.getHasOptions())) {
+				for (ProductVariant variant : product.getVariants()) {
+					stocks.add(StockManagement.of(product.getId(), variant.getId(), variant.getStockQuantity()));
+				}
+			} else {
+				stocks.add(StockManagement.of(product.getId(), null, product.getStockQuantity()));
+			}
+		}
+		return stockRedisService.initStocksIfAbsent(stocks);
+	}
+
+	private static final class WarmUpBatch {
+
+		private final long sequence;
+		private final List<ProductCursor> cursors;
+		private boolean done;
+
+		WarmUpBatch(long sequence, List<ProductCursor> cursors) {
+			this.sequence = sequence;
+			this.cursors = cursors;
+		}
+
+		ProductCursor last() {
+			return cursors.get(cursors.size() - 1);
+		}
+	}
+
+	/**
+	 * 1회 실행 상태 (배치 완료 순서와 무관하게 연속 완료 구간까지만 체크포인트 전진)
+	 */
+	private final class WarmUpRun {
+
+		private final ProductCursor resumeCursor;
+		private final long resumedFrom;
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final long startedNanos = System.nanoTime();
+		private final TreeMap<Long, WarmUpBatch> uncommitted = new TreeMap<>();
+
+		private volatile WarmUpStatus status = WarmUpStatus.RUNNING;
+		private volatile boolean cancelled;
+		private volatile LocalDateTime finishedAt;
+		private long finishedNanos;
+
+		private long processed;
+		private long committed;
+		private long stockKeysInitialized;
+		private int inFlight;
+		private int failedBatches;
+		private ProductCursor checkpoint;
+
+		WarmUpRun(ProductCursor resumeCursor, long resumedFrom) {
+			this.resumeCursor = resumeCursor;
+			this.resumedFrom = resumedFrom;
+			this.checkpoint = resumeCursor;
+		}
+
+		boolean isActive() {
+			return status == WarmUpStatus.RUNNING || status == WarmUpStatus.CANCELLING;
+		}
+
+		boolean isCancelled() {
+			return cancelled;
+		}
+
+		void cancel() {
+			cancelled = true;
+			status = WarmUpStatus.CANCELLING;
+		}
+
+		synchronized boolean hasFailed() {
+			return failedBatches > 0;
+		}
+
+		synchronized WarmUpBatch register(long sequence, List<ProductCursor> cursors) {
+			WarmUpBatch batch = new WarmUpBatch(sequence, cursors);
+			uncommitted.put(sequence, batch);
+			inFlight++;
+			return batch;
+		}
+
+		void complete(WarmUpBatch batch, long initializedStocks) {
+			ProductCursor advanced = null;
+			long advancedProcessed = 0;
+
+			synchronized (this) {
+				batch.done = true;
+				inFlight--;
+				processed += batch.cursors.size();
+				stockKeysInitialized += initializedStocks;
+
+				while (!uncommitted.isEmpty() && uncommitted.firstEntry().getValue().done) {
+					WarmUpBatch first = uncommitted.pollFirstEntry().getValue();
+					committed += first.cursors.size();
+					checkpoint = first.last();
+					advanced = checkpoint;
+					advancedProcessed = resumedFrom + committed;
+				}
+			}
+
+			if (advanced != null) {
+				checkpointStore.save(advanced, advancedProcessed);
+			}
+		}
+
+		// 실패한 배치는 체크포인트를 막으므로 새 배치를 멈추고 재개 시 해당 배치부터 다시 적재
+		synchronized void fail() {
+			inFlight--;
+			failedBatches++;
+			cancelled = true;
+		}
+
+		synchronized void finish(WarmUpStatus finalStatus) {
+			finishedNanos = System.nanoTime();
+			finishedAt = LocalDateTime.now();
+			status = finalStatus;
+		}
+
+		synchronized long elapsedMs() {
+			long end = finishedAt != null ? finishedNanos : System.nanoTime();
+			return Duration.ofNanos(end - startedNanos).toMillis();
+		}
+
+		synchronized ResProductWarmUpDto toDto() {
+			long elapsedMs = elapsedMs();
+			return ResProductWarmUpDto.builder()
+				.status(status)
+				.startedAt(startedAt)
+				.finishedAt(finishedAt)
+				.limit(warmUpLimit)
+				.processed(resumedFrom + processed)
+				.resumedFrom(resumedFrom)
+				.stockKeysInitialized(stockKeysInitialized)
+				.inFlightBatches(inFlight)
+				.failedBatches(failedBatches)
+				.elapsedMs(elapsedMs)
+				.productsPerSecond(elapsedMs > 0 ? processed * 1000.0 / elapsedMs : 0.0)
+				.checkpointCreatedAt(checkpoint != null ? checkpoint.getCreatedAt() : null)
+				.checkpointProductId(checkpoint != null ? checkpoint.getProductId() : null)
+				.build();
 		}
-		
-		log.info("Product Cache Warm-up Completed successfully.");
 	}
 }
@@ -0,0 +1,28 @@
+package com.groom.e_commerce.product.application.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.product.application.dto.StockManagement;
+import com.groom.e_commerce.product.infrastructure.cache.StockRedisService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청마다 Redis에서 직접 가점유하는 기본 전략 (검증 + 차감 + 원장 기록을 한 번의 Lua 호출로 처리)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.stock.reservation.strategy", havingValue = "redis", matchIfMissing = true)
+public class RedisStockReservationStrategy implements StockReservationStrategy {
+
+	private final StockRedisService stockRedisService;
+
+	@Override
+	public void reserve(UUID orderId, List<StockManagement> items) {
+		stockRedisService.reserveAll(orderId, items);
+	}
+}
@@ -0,0 +1,378 @@
+package com.groom.e_commerce.product.application.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import com.groom.e_commerce.product.application.dto.StockManagement;
+import com.groom.e_commerce.product.infrastructure.cache.StockCacheKey;
+import com.groom.e_commerce.product.infrastructure.cache.StockRedisService;
+import com.groom.e_commerce.product.infrastructure.repository.ProductStockJdbcRepository;
+import com.groom.e_commerce.product.presentation.dto.response.ResStockReconciliationDto;
+import com.groom.e_commerce.product.presentation.dto.response.ResStockReconciliationDto.DriftEntry;
+import com.groom.e_commerce.product.presentation.dto.response.ResStockReconciliationDto.DriftType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis ↔ PostgreSQL 재고 정합성 검증 서비스
+ *
+ * [기대값]
+ * Redis 가용 재고 = DB 실재고 - 미확정 가점유 수량 (결제 완료된 가점유는 이미 DB에서 차감됨)
+ *
+ * [처리 흐름]
+ * 1. DB 상품/Variant 재고를 Keyset 페이지로 읽고 페이지마다 MGET(재고) + HMGET(SKU별 미확정 수량)으로 비교
+ * 2. Redis 재고 키를 SCAN으로 순회하며 대응하는 상품/Variant가 없는 키 검출
+ * 3. (옵션) 허용 범위 내 Drift는 보정 - 해당 SKU의 DB 재고를 다시 읽고, 미확정 수량 재조회 + 기대값 계산 +
+ *    Compare-And-Set을 한 번의 Lua 호출로 수행 (샤드 재고 모드/DB 확정 중인 SKU는 리포트만)
+ *
+ * 페이지 비교 값은 리포트용 관측치이며, 보정은 검증 도중의 가점유/확정을 반영한 값으로만 수행합니다.
+ *
+ * 전체 SKU를 힙에 올리지 않고, 리포트에는 Drift가 큰 상위 N건만 보관합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReconciliationService {
+
+	private final ProductStockJdbcRepository productStockJdbcRepository;
+	private final StockRedisService stockRedisService;
+
+	@Value("${product.stock.reconcile.page-size:1000}")
+	private int pageSize;
+
+	@Value("${product.stock.reconcile.auto-correct:false}")
+	private boolean autoCorrect;
+
+	// 자동 보정 허용 범위 (|Drift| 이하만 보정, 그 이상은 리포트만)
+	@Value("${product.stock.reconcile.max-correction:10}")
+	private long maxCorrection;
+
+	@Value("${product.stock.reconcile.max-report-entries:500}")
+	private int maxReportEntries;
+
+	// 노드 로컬 임차분은 Redis에서 빠져 있어 Drift로 보이므로 lease 전략에서는 보정하지 않음
+	@Value("${product.stock.reservation.strategy:redis}")
+	private String reservationStrategy;
+
+	private final AtomicBoolean running = new AtomicBoolean(false);
+	private volatile ResStockReconciliationDto lastReport;
+
+	/**
+	 * 정합성 검증 실행 (설정된 자동 보정 여부 사용)
+	 */
+	public boolean reconcile() {
+		return reconcile(autoCorrect);
+	}
+
+	/**
+	 * 정합성 검증 비동기 실행 (관리자 수동 트리거)
+	 */
+	@Async("ioExecutor")
+	public void reconcileAsync(boolean correct) {
+		reconcile(correct);
+	}
+
+	/**
+	 * 정합성 검증 실행 (동시에 한 번만 실행)
+	 *
+	 * @param correct 허용 범위 내 Drift 자동 보정 여부
+	 * @return true: 실행 완료, false: 이미 실행 중
+	 */
+	public boolean reconcile(boolean correct) {
+		if (correct && "lease".equals(reservationStrategy)) {
+			log.warn("Stock auto-correction disabled: outstanding node leases are not visible in Redis");
+			correct = false;
+		}
+
+		if (!running.compareAndSet(false, true)) {
+			log.info("Stock reconciliation already running");
+			return false;
+		}
+
+		try {
+			lastReport = doReconcile(correct);
+			log.info("Stock reconciliation completed: scanned={}, drift={}, missing={}, orphan={}, corrected={}",
+				lastReport.getScannedSkus(), lastReport.getDriftCount(), lastReport.getMissingCount(),
+				lastReport.getOrphanCount(), lastReport.getCorrectedCount());
+			return true;
+		} catch (Exception e) {
+			log.error("Stock reconciliation failed", e);
+			return false;
+		} finally {
+			running.set(false);
+		}
+	}
+
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	/**
+	 * 마지막 정합성 검증 리포트 조회
+	 */
+	public ResStockReconciliationDto getLastReport() {
+		ResStockReconciliationDto report = lastReport;
+		if (report == null) {
+			return ResStockReconciliationDto.builder()
+				.running(running.get())
+				.autoCorrect(autoCorrect)
+				.drifts(List.of())
+				.build();
+		}
+		return report.isRunning() == running.get() ? report : ResStockReconciliationDto.builder()
+			.running(running.get())
+			.autoCorrect(report.isAutoCorrect())
+			.startedAt(report.getStartedAt())
+			.finishedAt(report.getFinishedAt())
+			.scannedSkus(report.getScannedSkus())
+			.scannedRedisKeys(report.getScannedRedisKeys())
+			.driftCount(report.getDriftCount())
+			.missingCount(report.getMissingCount())
+			.orphanCount(report.getOrphanCount())
+			.correctedCount(report.getCorrectedCount())
+			.totalAbsoluteDrift(report.getTotalAbsoluteDrift())
+			.drifts(report.getDrifts())
+			.build();
+	}
+
+	private ResStockReconciliationDto doReconcile(boolean correct) {
+		ReconcileRun run = new ReconcileRun(maxReportEntries);
+
+		// 1. DB Keyset 순회 (옵션 없는 상품 → Variant)
+		UUID lastProductId = ProductStockJdbcRepository.FIRST_KEY;
+		while (true) {
+			List<StockManagement> page = productStockJdbcRepository.findProductStocksAfter(lastProductId, pageSize);
+			if (page.isEmpty()) {
+				break;
+			}
+			comparePage(page, correct, run);
+			lastProductId = page.get(page.size() - 1).getProductId();
+			if (page.size() < pageSize) {
+				break;
+			}
+		}
+
+		UUID lastVariantId = ProductStockJdbcRepository.FIRST_KEY;
+		while (true) {
+			List<StockManagement> page = productStockJdbcRepository.findVariantStocksAfter(lastVariantId, pageSize);
+			if (page.isEmpty()) {
+				break;
+			}
+			comparePage(page, correct, run);
+			lastVariantId = page.get(page.size() - 1).getVariantId();
+			if (page.size() < pageSize) {
+				break;
+			}
+		}
+
+		// 2. Redis SCAN으로 고아 키 검출
+		scanOrphans(StockCacheKey.allProductStockPattern(), StockCacheKey.productStockPrefix(),
+			productStockJdbcRepository::findExistingStockProductIds, false, run);
+		scanOrphans(StockCacheKey.allVariantStockPattern(), StockCacheKey.variantStockPrefix(),
+			productStockJdbcRepository::findExistingStockVariantIds, true, run);
+
+		return run.toReport(correct);
+	}
+
+	private void comparePage(List<StockManagement> page, boolean correct, ReconcileRun run) {
+		List<String> keys = page.stream()
+			.map(item -> StockCacheKey.stockKey(item.getProductId(), item.getVariantId()))
+			.toList();
+		List<String> values = stockRedisService.multiGetRaw(keys);
+		List<Long> pending = stockRedisService.getPendingQuantities(page);
+
+		for (int i = 0; i < page.size(); i++) {
+			StockManagement item = page.get(i);
+			String key = keys.get(i);
+			String observed = values.get(i);
+
+			long dbStock = item.getQuantity();
+			long pendingReserved = pending.get(i);
+			long expected = dbStock - pendingReserved;
+			run.scannedSkus++;
+
+			if (observed == null) {
+				Long sharded = stockRedisService.getShardedStock(key);
+				if (sharded != null) {
+					// 샤드 재고 모드 SKU는 샤드 합계로 비교하고 보정하지 않음 (리포트만)
+					long drift = sharded - expected;
+					if (drift != 0) {
+						run.driftCount++;
+						run.totalAbsoluteDrift += Math.abs(drift);
+						run.record(entry(DriftType.DRIFT, key, item, dbStock, pendingReserved, expected, sharded, false));
+					}
+					continue;
+				}
+
+				// 키가 없으면 가점유 자체가 불가능 → 범위와 무관하게 보정 (그 사이 생성되었으면 건너뜀)
+				boolean corrected = correct && correctStock(item, null, -1);
+				run.missingCount++;
+				run.record(entry(DriftType.MISSING, key, item, dbStock, pendingReserved, expected, null, corrected));
+				continue;
+			}
+
+			long redisStock = Long.parseLong(observed);
+			long drift = redisStock - expected;
+			if (drift == 0) {
+				continue;
+			}
+
+			boolean corrected = correct && Math.abs(drift) <= maxCorrection
+				&& correctStock(item, observed, maxCorrection);
+			run.driftCount++;
+			run.totalAbsoluteDrift += Math.abs(drift);
+			run.record(entry(DriftType.DRIFT, key, item, dbStock, pendingReserved, expected, redisStock, corrected));
+		}
+	}
+
+	/**
+	 * 단일 SKU 보정 (DB 재고를 다시 읽고 Lua에서 미확정 수량 재조회 + 기대값 계산 + Compare-And-Set)
+	 * 페이지를 읽은 뒤 확정/가점유가 일어났으면 다시 읽은 값으로 계산하거나 관측 값 불일치로 건너뜀
+	 */
+	private boolean correctStock(StockManagement item, String observed, long maxCorrection) {
+		Integer dbStock = productStockJdbcRepository.findStock(item.getProductId(), item.getVariantId());
+		if (dbStock == null) {
+			return false;
+		}
+		return stockRedisService.compareAndSetStock(item, observed, dbStock, maxCorrection);
+	}
+
+	private void scanOrphans(
+		String pattern,
+		String prefix,
+		Function<List<UUID>, List<UUID>> existingIdsFinder,
+		boolean variant,
+		ReconcileRun run
+	) {
+		try (Cursor<String> cursor = stockRedisService.scanStockKeys(pattern, pageSize)) {
+			List<UUID> batch = new ArrayList<>(pageSize);
+			while (cursor.hasNext()) {
+				String key = cursor.next();
+				run.scannedRedisKeys++;
+				try {
+					batch.add(UUID.fromString(key.substring(prefix.length())));
+				} catch (IllegalArgumentException e) {
+					log.warn("Unexpected stock key format: {}", key);
+				}
+				if (batch.size() >= pageSize) {
+					checkOrphans(batch, existingIdsFinder, variant, run);
+					batch.clear();
+				}
+			}
+			if (!batch.isEmpty()) {
+				checkOrphans(batch, existingIdsFinder, variant, run);
+			}
+		}
+	}
+
+	private void checkOrphans(
+		List<UUID> ids,
+		Function<List<UUID>, List<UUID>> existingIdsFinder,
+		boolean variant,
+		ReconcileRun run
+	) {
+		Set<UUID> existing = new HashSet<>(existingIdsFinder.apply(ids));
+		for (UUID id : ids) {
+			if (existing.contains(id)) {
+				continue;
+			}
+			run.orphanCount++;
+			String key = variant ? StockCacheKey.variantStock(id) : StockCacheKey.productStock(id);
+			run.record(DriftEntry.builder()
+				.type(DriftType.ORPHAN)
+				.stockKey(key)
+				.productId(variant ? null : id)
+				.variantId(variant ? id : null)
+				.corrected(false)
+				.build());
+		}
+	}
+
+	private DriftEntry entry(DriftType type, String key, StockManagement item, long dbStock, long pendingReserved,
+		long expected, Long redisStock, boolean corrected) {
+		return DriftEntry.builder()
+			.type(type)
+			.stockKey(key)
+			.productId(item.getProductId())
+			.variantId(item.getVariantId())
+			.dbStock(dbStock)
+			.pendingReserved(pendingReserved)
+			.expectedStock(expected)
+			.redisStock(redisStock)
+			.drift(redisStock != null ? redisStock - expected : -expected)
+			.corrected(corrected)
+			.build();
+	}
+
+	/**
+	 * 1회 실행 동안의 집계 상태 (Drift가 큰 상위 N건만 유지)
+	 */
+	private static class ReconcileRun {
+
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final int maxEntries;
+		private final PriorityQueue<DriftEntry> topEntries;
+
+		private long scannedSkus;
+		private long scannedRedisKeys;
+		private long driftCount;
+		private long missingCount;
+		private long orphanCount;
+		private long correctedCount;
+		private long totalAbsoluteDrift;
+
+		ReconcileRun(int maxEntries) {
+			this.maxEntries = maxEntries;
+			this.topEntries = new PriorityQueue<>(Comparator.comparingLong(ReconcileRun::weight));
+		}
+
+		void record(DriftEntry entry) {
+			if (entry.isCorrected()) {
+				correctedCount++;
+			}
+			topEntries.offer(entry);
+			if (topEntries.size() > maxEntries) {
+				topEntries.poll();
+			}
+		}
+
+		// 고아/누락 키는 항상 상위에 노출
+		private static long weight(DriftEntry entry) {
+			return entry.getType() == DriftType.DRIFT ? Math.abs(entry.getDrift()) : Long.MAX_VALUE;
+		}
+
+		ResStockReconciliationDto toReport(boolean autoCorrect) {
+			List<DriftEntry> drifts = new ArrayList<>(topEntries);
+			drifts.sort(Comparator.comparingLong(ReconcileRun::weight).reversed());
+
+			return ResStockReconciliationDto.builder()
+				.running(false)
+				.autoCorrect(autoCorrect)
+				.startedAt(startedAt)
+				.finishedAt(LocalDateTime.now())
+				.scannedSkus(scannedSkus)
+				.scannedRedisKeys(scannedRedisKeys)
+				.driftCount(driftCount)
+				.missingCount(missingCount)
+				.orphanCount(orphanCount)
+				.correctedCount(correctedCount)
+				.totalAbsoluteDrift(totalAbsoluteDrift)
+				.drifts(drifts)
+				.build();
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.groom.e_commerce.product.application.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.groom.e_commerce.product.application.dto.StockManagement;
+import com.groom.e_commerce.product.presentation.dto.response.ResStockLeaseDto;
+
+/**
+ * 주문 재고 가점유 전략
+ *
+ * product.stock.reservation.strategy 설정으로 선택합니다.
+ * - redis (기본): 요청마다 Redis Lua Script로 검증 + 차감
+ * - lease: 노드가 Redis에서 재고 블록을 임차하고 JVM 내부 카운터로 처리 (핫 SKU용)
+ *
+ * 어느 전략이든 가점유는 주문별 가점유 원장에 기록되며, 해제/만료 회수/확정은 원장 기준으로 처리됩니다.
+ */
+public interface StockReservationStrategy {
+
+	/**
+	 * 주문 단위 재고 가점유 (All-or-Nothing)
+	 * 같은 주문으로 다시 호출하면 원장에 수량이 누적됩니다.
+	 *
+	 * @throws com.groom.e_commerce.global.presentation.advice.CustomException 재고 부족
+	 */
+	void reserve(UUID orderId, List<StockManagement> items);
+
+	/**
+	 * 노드 로컬 임차 현황 (임차를 사용하지 않는 전략은 빈 리스트)
+	 */
+	default List<ResStockLeaseDto> getLeaseStats() {
+		return List.of();
+	}
+}
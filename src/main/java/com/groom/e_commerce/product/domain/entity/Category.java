@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -22,7 +23,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "p_category")
+@Table(name = "p_category", indexes = @Index(name = "idx_category_ancestor_path", columnList = "ancestor_path"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Category extends BaseEntity {
@@ -42,6 +43,15 @@ public class Category extends BaseEntity {
 	@Column(name = "name", nullable = false, length = 100)
 	private String name;
 
+	// 조상 카테고리 ID 경로 (Materialized Path) - 대분류: "/", 중분류: "/{대분류ID}/", 소분류: "/{대분류ID}/{중분류ID}/"
+	// 하위 트리 조회는 ancestor_path LIKE '{getSubtreePath()}%' (부모 변경 기능이 없으므로 생성 후 불변)
+	@Column(name = "ancestor_path", length = 255)
+	private String ancestorPath;
+
+	// 이름 경로 (예: "패션 > 여성의류 > 원피스") - 상품 캐시 적재 시 부모를 따라 올라가지 않도록 저장
+	@Column(name = "full_name", length = 500)
+	private String fullName;
+
 	@Column(name = "depth", nullable = false)
 	private Integer depth;
 
@@ -59,6 +69,7 @@ public class Category extends BaseEntity {
 		this.depth = depth;
 		this.sortOrder = sortOrder;
 		this.isActive = isActive != null ? isActive : true;
+		refreshPath();
 	}
 
 	public void update(String name, Integer sortOrder, Boolean isActive) {
@@ -77,4 +88,46 @@ public class Category extends BaseEntity {
 	public boolean isRoot() {
 		return this.parent == null;
 	}
+
+	/**
+	 * 부모 기준으로 경로/이름 경로 재계산 (부모가 먼저 계산되어 있어야 함 - depth 순으로 호출)
+	 */
+	public void refreshPath() {
+		if (this.parent == null) {
+			this.ancestorPath = "/";
+			this.fullName = this.name;
+			return;
+		}
+		if (this.parent.getAncestorPath() == null) {
+			// 부모 경로가 아직 없음 (경로 재구성 전 데이터)
+			this.ancestorPath = null;
+			this.fullName = null;
+			return;
+		}
+		this.ancestorPath = this.parent.getSubtreePath();
+		this.fullName = this.parent.getFullName() + " > " + this.name;
+	}
+
+	/**
+	 * 하위 카테고리들의 path 접두사 (자기 자신 제외)
+	 */
+	public String getSubtreePath() {
+		return this.ancestorPath + this.id + "/";
+	}
+
+	/**
+	 * 조상 카테고리 ID (가까운 순: 부모, 조부모 ...)
+	 */
+	public List<UUID> getAncestorIds() {
+		List<UUID> ancestorIds = new ArrayList<>();
+		if (this.ancestorPath == null) {
+			return ancestorIds;
+		}
+		for (String id : this.ancestorPath.split("/")) {
+			if (!id.isEmpty()) {
+				ancestorIds.add(0, UUID.fromString(id));
+			}
+		}
+		return ancestorIds;
+	}
 }
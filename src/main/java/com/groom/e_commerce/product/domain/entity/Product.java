@@ -35,7 +35,8 @@ import lombok.NoArgsConstructor;
 	indexes = {
 		@Index(name = "idx_product_category_status_created", columnList = "category_id, status, created_at DESC"),
 		@Index(name = "idx_product_title", columnList = "title"),
-		@Index(name = "idx_product_price", columnList = "price")
+		@Index(name = "idx_product_price", columnList = "price"),
+		@Index(name = "idx_product_updated_at", columnList = "updated_at")
 	}
 )
 @Getter
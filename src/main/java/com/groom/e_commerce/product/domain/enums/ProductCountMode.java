@@ -0,0 +1,31 @@
+package com.groom.e_commerce.product.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 목록 조회 전체 개수 계산 방식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProductCountMode {
+
+	AUTO("auto", "캐시된 정확한 개수, 결과가 많으면 통계 기반 추정치"),
+	EXACT("exact", "캐시된 정확한 개수"),
+	NONE("none", "개수 생략 (다음 페이지 존재 여부만, 무한 스크롤용)");
+
+	private final String value;
+	private final String description;
+
+	public static ProductCountMode fromValue(String value) {
+		if (value == null) {
+			return AUTO;
+		}
+		for (ProductCountMode countMode : values()) {
+			if (countMode.value.equalsIgnoreCase(value)) {
+				return countMode;
+			}
+		}
+		return AUTO;
+	}
+}
@@ -10,7 +10,8 @@ public enum ProductSortType {
 	PRICE_ASC("price_asc", "가격 낮은순"),
 	PRICE_DESC("price_desc", "가격 높은순"),
 	NEWEST("newest", "최신순"),
-	RATING("rating", "평점순");
+	RATING("rating", "평점순"),
+	RELEVANCE("relevance", "관련도순");
 
 	private final String value;
 	private final String description;
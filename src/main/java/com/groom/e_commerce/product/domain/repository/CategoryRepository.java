@@ -33,6 +33,13 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
 		+ "WHERE c.parent IS NULL ORDER BY c.sortOrder")
 	List<Category> findRootCategoriesWithChildrenIncludingInactive();
 
+	// 하위 트리 조회 (ancestor_path 접두사, 상위 depth부터)
+	@Query("SELECT c FROM Category c WHERE c.ancestorPath LIKE CONCAT(:subtreePath, '%') ORDER BY c.depth")
+	List<Category> findSubtree(@Param("subtreePath") String subtreePath);
+
+	// 경로 재구성용 전체 조회 (부모가 먼저 오도록 depth 순)
+	List<Category> findAllByOrderByDepthAsc();
+
 	// 카테고리 삭제 전 자식이 있는지 검사
 	boolean existsByParentId(UUID parentId);
 
@@ -1,7 +1,10 @@
 package com.groom.e_commerce.product.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -78,8 +81,9 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
 	@Query("SELECT p FROM Product p WHERE p.deletedAt IS NULL")
 	Page<Product> findAllNotDeleted(Pageable pageable);
 
-	// 상품 검색
-	@Query("SELECT p FROM Product p WHERE p.title LIKE %:keyword% AND p.status = 'ON_SALE' AND p.deletedAt IS NULL")
+	// 상품 검색 (lower(title) LIKE → idx_product_title_trgm)
+	@Query("SELECT p FROM Product p WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+		+ "AND p.status = 'ON_SALE' AND p.deletedAt IS NULL")
 	Page<Product> searchByTitle(@Param("keyword") String keyword, Pageable pageable);
 
 	// 장바구니/주문 시 여러 상품 정보를 한 번에 조회할 때 사용 (삭제되지 않은 상품만)
@@ -88,9 +92,54 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
 
 	Optional<String> findTitleById(UUID id);
 
+	// 판매중 개수 집계 마커 정리용 - 주어진 ID 중 DB에 있고 삭제되지 않은 상품 ID
+	@Query("SELECT p.id FROM Product p WHERE p.id IN :ids AND p.deletedAt IS NULL")
+	Set<UUID> findLiveIdsIn(@Param("ids") Collection<UUID> ids);
+
 	boolean existsByCategoryIdAndDeletedAtIsNull(UUID categoryId);
 
 	// 옵션 없는 상품 중 특정 상태인 상품들 조회 (재고 동기화용)
 	@Query("SELECT p FROM Product p WHERE p.hasOptions = false AND p.status = :status AND p.deletedAt IS NULL")
 	List<Product> findAllByHasOptionsFalseAndStatus(@Param("status") ProductStatus status);
+
+	// 자동완성 인덱스 적재용 - 판매중 상품 제목 (ID Keyset)
+	@Query("SELECT p.id AS id, p.title AS title, p.status AS status, p.deletedAt AS deletedAt, p.updatedAt AS updatedAt "
+		+ "FROM Product p WHERE p.status = 'ON_SALE' AND p.deletedAt IS NULL AND p.id > :afterId ORDER BY p.id")
+	List<ProductTitleView> findOnSaleTitlesAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+	// 자동완성 인덱스 변경분 동기화용 - (updated_at, id) Keyset 다음 변경 상품 (삭제/정지 포함, idx_product_updated_at)
+	@Query("SELECT p.id AS id, p.title AS title, p.status AS status, p.deletedAt AS deletedAt, p.updatedAt AS updatedAt "
+		+ "FROM Product p WHERE p.updatedAt > :afterUpdatedAt OR (p.updatedAt = :afterUpdatedAt AND p.id > :afterId) "
+		+ "ORDER BY p.updatedAt, p.id")
+	List<ProductTitleView> findTitlesUpdatedAfter(@Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+		@Param("afterId") UUID afterId, Pageable pageable);
+
+	// 카테고리별 판매중 상품 수 (판매중 개수 검증/카테고리 탐색 개수용 - 직속 카테고리 기준, 상위 합산은 호출 측)
+	@Query("SELECT p.category.id AS categoryId, COUNT(p) AS productCount "
+		+ "FROM Product p WHERE p.status = 'ON_SALE' AND p.deletedAt IS NULL GROUP BY p.category.id")
+	List<CategoryCountView> countOnSaleGroupByCategory();
+
+	interface CategoryCountView {
+
+		UUID getCategoryId();
+
+		long getProductCount();
+	}
+
+	interface ProductTitleView {
+
+		UUID getId();
+
+		String getTitle();
+
+		ProductStatus getStatus();
+
+		LocalDateTime getDeletedAt();
+
+		LocalDateTime getUpdatedAt();
+
+		default boolean isVisible() {
+			return getDeletedAt() == null && getStatus() == ProductStatus.ON_SALE;
+		}
+	}
 }
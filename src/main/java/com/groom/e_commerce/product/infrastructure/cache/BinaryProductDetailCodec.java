@@ -0,0 +1,290 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.domain.enums.VariantStatus;
+
+/**
+ * 상품 상세 캐시 바이너리 포맷 (스키마 버전 포함)
+ *
+ * 레이아웃: [MAGIC][VERSION][FLAGS]([원본 길이 varint] if DEFLATE)[본문]
+ * - 필드 순서가 곧 스키마 (필드 추가/변경 시 VERSION을 올리고 이전 버전 읽기 유지)
+ * - 정수는 varint, 문자열은 (길이 + 1) varint + UTF-8, null은 0으로 표기
+ * - enum은 ordinal 대신 이름으로 저장 (상수 순서 변경에 안전)
+ * - 본문이 임계값 이상이고 압축 결과가 더 작을 때만 DEFLATE 적용
+ */
+@Component
+public class BinaryProductDetailCodec implements ProductDetailCodec {
+
+	public static final String FORMAT = "binary";
+
+	// JSON의 '{' 와 겹치지 않는 값
+	static final byte MAGIC = (byte)0xB7;
+	static final byte VERSION_1 = 1;
+
+	private static final int FLAG_DEFLATE = 1;
+	private static final int HEADER_BYTES = 3;
+	private static final int MAX_INFLATED_BYTES = 16 * 1024 * 1024;
+
+	private final int compressThresholdBytes;
+
+	public BinaryProductDetailCodec(
+		@Value("${product.cache.codec.compress-threshold-bytes:1024}") int compressThresholdBytes
+	) {
+		this.compressThresholdBytes = compressThresholdBytes;
+	}
+
+	@Override
+	public String format() {
+		return FORMAT;
+	}
+
+	@Override
+	public boolean canDecode(byte[] bytes) {
+		return bytes.length >= HEADER_BYTES && bytes[0] == MAGIC;
+	}
+
+	@Override
+	public byte[] encode(CachedProductDetail detail) {
+		CacheBinaryWriter body = new CacheBinaryWriter();
+		writeDetail(body, detail);
+		byte[] raw = body.toByteArray();
+
+		if (compressThresholdBytes > 0 && raw.length >= compressThresholdBytes) {
+			byte[] compressed = deflate(raw);
+			CacheBinaryWriter out = new CacheBinaryWriter();
+			out.writeHeader(MAGIC, VERSION_1, FLAG_DEFLATE);
+			out.writeVarLong(raw.length);
+			if (out.size() + compressed.length < HEADER_BYTES + raw.length) {
+				out.writeBytes(compressed);
+				return out.toByteArray();
+			}
+		}
+
+		CacheBinaryWriter out = new CacheBinaryWriter();
+		out.writeHeader(MAGIC, VERSION_1, 0);
+		out.writeBytes(raw);
+		return out.toByteArray();
+	}
+
+	@Override
+	public CachedProductDetail decode(byte[] bytes) {
+		if (!canDecode(bytes)) {
+			throw new SerializationException("Not a binary product detail value");
+		}
+
+		int version = bytes[1];
+		if (version != VERSION_1) {
+			throw new SerializationException("Unsupported product detail codec version: " + version);
+		}
+
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes, HEADER_BYTES, bytes.length - HEADER_BYTES);
+			if ((bytes[2] & FLAG_DEFLATE) != 0) {
+				int rawLength = (int)CacheBinaryReader.readVarLong(buffer);
+				buffer = ByteBuffer.wrap(inflate(bytes, buffer.position(), rawLength));
+			}
+			return readDetail(new CacheBinaryReader(buffer));
+		} catch (BufferUnderflowException | IllegalArgumentException | ArithmeticException e) {
+			throw new SerializationException("Corrupted binary product detail value", e);
+		}
+	}
+
+	// ===== 스키마 v1 =====
+
+	private static void writeDetail(CacheBinaryWriter w, CachedProductDetail d) {
+		w.writeUuid(d.getProductId());
+		w.writeUuid(d.getOwnerId());
+		w.writeUuid(d.getCategoryId());
+		w.writeString(d.getCategoryName());
+		w.writeString(d.getCategoryFullPath());
+		w.writeString(d.getTitle());
+		w.writeString(d.getDescription());
+		w.writeString(d.getThumbnailUrl());
+		w.writeNullableLong(d.getPrice());
+		w.writeNullableLong(d.getMinPrice());
+		w.writeNullableLong(d.getMaxPrice());
+		w.writeNullableLong(d.getStockQuantity() == null ? null : d.getStockQuantity().longValue());
+		w.writeString(d.getStatus() == null ? null : d.getStatus().name());
+		w.writeBoolean(d.getHasOptions());
+
+		List<CachedProductDetail.CachedOption> options = d.getOptions();
+		w.writeSize(options);
+		if (options != null) {
+			for (CachedProductDetail.CachedOption option : options) {
+				w.writeUuid(option.getOptionId());
+				w.writeString(option.getName());
+				w.writeNullableLong(option.getSortOrder() == null ? null : option.getSortOrder().longValue());
+				w.writeSize(option.getValues());
+				if (option.getValues() != null) {
+					for (CachedProductDetail.CachedOptionValue value : option.getValues()) {
+						w.writeUuid(value.getOptionValueId());
+						w.writeString(value.getValue());
+					}
+				}
+			}
+		}
+
+		List<CachedProductDetail.CachedVariant> variants = d.getVariants();
+		w.writeSize(variants);
+		if (variants != null) {
+			for (CachedProductDetail.CachedVariant variant : variants) {
+				w.writeUuid(variant.getVariantId());
+				w.writeString(variant.getSkuCode());
+				w.writeSize(variant.getOptionValueIds());
+				if (variant.getOptionValueIds() != null) {
+					for (UUID optionValueId : variant.getOptionValueIds()) {
+						w.writeUuid(optionValueId);
+					}
+				}
+				w.writeString(variant.getOptionName());
+				w.writeNullableLong(variant.getPrice());
+				w.writeNullableLong(variant.getStockQuantity() == null ? null : variant.getStockQuantity().longValue());
+				w.writeString(variant.getStatus() == null ? null : variant.getStatus().name());
+			}
+		}
+
+		w.writeDateTime(d.getCreatedAt());
+		w.writeVarLong(d.getCachedAt());
+	}
+
+	private static CachedProductDetail readDetail(CacheBinaryReader r) {
+		CachedProductDetail.CachedProductDetailBuilder builder = CachedProductDetail.builder()
+			.productId(r.readUuid())
+			.ownerId(r.readUuid())
+			.categoryId(r.readUuid())
+			.categoryName(r.readString())
+			.categoryFullPath(r.readString())
+			.title(r.readString())
+			.description(r.readString())
+			.thumbnailUrl(r.readString())
+			.price(r.readNullableLong())
+			.minPrice(r.readNullableLong())
+			.maxPrice(r.readNullableLong())
+			.stockQuantity(toInteger(r.readNullableLong()))
+			.status(toEnum(ProductStatus.class, r.readString()))
+			.hasOptions(r.readBoolean());
+
+		int optionCount = r.readSize();
+		List<CachedProductDetail.CachedOption> options = optionCount < 0 ? null : new ArrayList<>(optionCount);
+		for (int i = 0; i < optionCount; i++) {
+			UUID optionId = r.readUuid();
+			String name = r.readString();
+			Integer sortOrder = toInteger(r.readNullableLong());
+
+			int valueCount = r.readSize();
+			List<CachedProductDetail.CachedOptionValue> values = valueCount < 0 ? null : new ArrayList<>(valueCount);
+			for (int j = 0; j < valueCount; j++) {
+				values.add(CachedProductDetail.CachedOptionValue.builder()
+					.optionValueId(r.readUuid())
+					.value(r.readString())
+					.build());
+			}
+
+			options.add(CachedProductDetail.CachedOption.builder()
+				.optionId(optionId)
+				.name(name)
+				.sortOrder(sortOrder)
+				.values(values)
+				.build());
+		}
+
+		int variantCount = r.readSize();
+		List<CachedProductDetail.CachedVariant> variants = variantCount < 0 ? null : new ArrayList<>(variantCount);
+		for (int i = 0; i < variantCount; i++) {
+			UUID variantId = r.readUuid();
+			String skuCode = r.readString();
+
+			int idCount = r.readSize();
+			List<UUID> optionValueIds = idCount < 0 ? null : new ArrayList<>(idCount);
+			for (int j = 0; j < idCount; j++) {
+				optionValueIds.add(r.readUuid());
+			}
+
+			variants.add(CachedProductDetail.CachedVariant.builder()
+				.variantId(variantId)
+				.skuCode(skuCode)
+				.optionValueIds(optionValueIds)
+				.optionName(r.readString())
+				.price(r.readNullableLong())
+				.stockQuantity(toInteger(r.readNullableLong()))
+				.status(toEnum(VariantStatus.class, r.readString()))
+				.build());
+		}
+
+		return builder
+			.options(options)
+			.variants(variants)
+			.createdAt(r.readDateTime())
+			.cachedAt(r.readVarLong())
+			.build();
+	}
+
+	private static Integer toInteger(Long value) {
+		return value == null ? null : Math.toIntExact(value);
+	}
+
+	private static <E extends Enum<E>> E toEnum(Class<E> type, String name) {
+		return name == null ? null : Enum.valueOf(type, name);
+	}
+
+	// ===== 압축 =====
+
+	private static byte[] deflate(byte[] raw) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(raw);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+			byte[] chunk = new byte[4096];
+			while (!deflater.finished()) {
+				int n = deflater.deflate(chunk);
+				out.write(chunk, 0, n);
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(byte[] bytes, int offset, int rawLength) {
+		if (rawLength < 0 || rawLength > MAX_INFLATED_BYTES) {
+			throw new SerializationException("Invalid inflated length: " + rawLength);
+		}
+
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(bytes, offset, bytes.length - offset);
+			byte[] raw = new byte[rawLength];
+			int read = 0;
+			while (read < rawLength && !inflater.finished()) {
+				int n = inflater.inflate(raw, read, rawLength - read);
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				read += n;
+			}
+			if (read != rawLength) {
+				throw new SerializationException("Truncated compressed product detail value");
+			}
+			return raw;
+		} catch (DataFormatException e) {
+			throw new SerializationException("Corrupted compressed product detail value", e);
+		} finally {
+			inflater.end();
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * 캐시 바이너리 포맷 공통 읽기 (CacheBinaryWriter 대응)
+ */
+final class CacheBinaryReader {
+
+	private final ByteBuffer buffer;
+
+	CacheBinaryReader(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	static long readVarLong(ByteBuffer buffer) {
+		long v = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			v |= (long)(b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return (v >>> 1) ^ -(v & 1);
+			}
+		}
+		throw new IllegalArgumentException("Malformed varint");
+	}
+
+	long readVarLong() {
+		return readVarLong(buffer);
+	}
+
+	Long readNullableLong() {
+		return buffer.get() == 0 ? null : readVarLong();
+	}
+
+	Boolean readBoolean() {
+		byte b = buffer.get();
+		return b == 0 ? null : b == 2;
+	}
+
+	String readString() {
+		long length = readVarLong() - 1;
+		if (length < 0) {
+			return null;
+		}
+		if (length > buffer.remaining()) {
+			throw new IllegalArgumentException("String length exceeds payload");
+		}
+		String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), (int)length,
+			StandardCharsets.UTF_8);
+		buffer.position(buffer.position() + (int)length);
+		return value;
+	}
+
+	UUID readUuid() {
+		if (buffer.get() == 0) {
+			return null;
+		}
+		return new UUID(buffer.getLong(), buffer.getLong());
+	}
+
+	LocalDateTime readDateTime() {
+		if (buffer.get() == 0) {
+			return null;
+		}
+		long epochSecond = readVarLong();
+		int nano = (int)readVarLong();
+		return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+	}
+
+	int readSize() {
+		long size = readVarLong() - 1;
+		if (size > buffer.remaining()) {
+			throw new IllegalArgumentException("Collection size exceeds payload");
+		}
+		return (int)size;
+	}
+}
@@ -0,0 +1,113 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캐시 바이너리 포맷 공통 쓰기 (varint, nullable 표기)
+ */
+final class CacheBinaryWriter {
+
+	private byte[] buf = new byte[512];
+	private int pos;
+
+	void writeHeader(byte magic, byte version, int flags) {
+		writeByte(magic);
+		writeByte(version);
+		writeByte(flags);
+	}
+
+	void writeByte(int b) {
+		ensure(1);
+		buf[pos++] = (byte)b;
+	}
+
+	void writeBytes(byte[] bytes) {
+		ensure(bytes.length);
+		System.arraycopy(bytes, 0, buf, pos, bytes.length);
+		pos += bytes.length;
+	}
+
+	void writeVarLong(long value) {
+		// zigzag: 음수도 짧게
+		long v = (value << 1) ^ (value >> 63);
+		ensure(10);
+		while ((v & ~0x7FL) != 0) {
+			buf[pos++] = (byte)((v & 0x7F) | 0x80);
+			v >>>= 7;
+		}
+		buf[pos++] = (byte)v;
+	}
+
+	void writeNullableLong(Long value) {
+		if (value == null) {
+			writeByte(0);
+			return;
+		}
+		writeByte(1);
+		writeVarLong(value);
+	}
+
+	void writeBoolean(Boolean value) {
+		writeByte(value == null ? 0 : (value ? 2 : 1));
+	}
+
+	void writeString(String value) {
+		if (value == null) {
+			writeVarLong(0);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(bytes.length + 1L);
+		writeBytes(bytes);
+	}
+
+	void writeUuid(UUID value) {
+		if (value == null) {
+			writeByte(0);
+			return;
+		}
+		writeByte(1);
+		ensure(16);
+		putLong(value.getMostSignificantBits());
+		putLong(value.getLeastSignificantBits());
+	}
+
+	void writeDateTime(LocalDateTime value) {
+		if (value == null) {
+			writeByte(0);
+			return;
+		}
+		writeByte(1);
+		writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+		writeVarLong(value.getNano());
+	}
+
+	void writeSize(List<?> list) {
+		writeVarLong(list == null ? 0 : list.size() + 1L);
+	}
+
+	int size() {
+		return pos;
+	}
+
+	byte[] toByteArray() {
+		return Arrays.copyOf(buf, pos);
+	}
+
+	private void putLong(long v) {
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			buf[pos++] = (byte)(v >>> shift);
+		}
+	}
+
+	private void ensure(int extra) {
+		if (pos + extra > buf.length) {
+			buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + extra));
+		}
+	}
+}
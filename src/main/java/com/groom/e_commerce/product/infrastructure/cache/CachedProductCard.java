@@ -0,0 +1,69 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 목록 카드 캐시용 projection
+ * 목록 렌더링 필드만 보관 (설명, 옵션, Variant 제외)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CachedProductCard {
+
+	private UUID productId;
+	private UUID categoryId;
+	private String categoryName;
+	private String title;
+	private String thumbnailUrl;
+	private ProductStatus status;
+	private Long minPrice;
+	private Long maxPrice;
+	private LocalDateTime createdAt;
+
+	/**
+	 * 상세 캐시 객체로부터 카드 생성 (상세와 같은 시점의 값으로 기록)
+	 */
+	public static CachedProductCard from(CachedProductDetail detail) {
+		return CachedProductCard.builder()
+			.productId(detail.getProductId())
+			.categoryId(detail.getCategoryId())
+			.categoryName(detail.getCategoryName())
+			.title(detail.getTitle())
+			.thumbnailUrl(detail.getThumbnailUrl())
+			.status(detail.getStatus())
+			.minPrice(detail.getMinPrice())
+			.maxPrice(detail.getMaxPrice())
+			.createdAt(detail.getCreatedAt())
+			.build();
+	}
+
+	/**
+	 * 카드 객체를 목록 응답 DTO로 변환
+	 */
+	public ResProductSearchDtoV1 toSearchDto() {
+		return ResProductSearchDtoV1.builder()
+			.productId(this.productId)
+			.title(this.title)
+			.thumbnailUrl(this.thumbnailUrl)
+			.status(this.status)
+			.minPrice(this.minPrice)
+			.maxPrice(this.maxPrice)
+			.avgRating(null)
+			.reviewCount(null)
+			.categoryName(this.categoryName)
+			.ownerStoreName(null)
+			.build();
+	}
+}
@@ -128,16 +128,10 @@ public class CachedProductDetail implements Serializable {
 	 * Product 엔티티로부터 캐시 객체 생성
 	 */
 	public static CachedProductDetail from(Product product) {
-		Long minPrice = product.getPrice();
+		Long minPrice = minPriceOf(product);
 		Long maxPrice = product.getPrice();
 
-		if (Boolean.TRUE.equals(product.getHasOptions())
-			&& product.getVariants() != null
-			&& !product.getVariants().isEmpty()) {
-			minPrice = product.getVariants().stream()
-				.map(ProductVariant::getPrice)
-				.min(Long::compareTo)
-				.orElse(product.getPrice());
+		if (hasVariantPrices(product)) {
 			maxPrice = product.getVariants().stream()
 				.map(ProductVariant::getPrice)
 				.max(Long::compareTo)
@@ -170,6 +164,25 @@ public class CachedProductDetail implements Serializable {
 			.build();
 	}
 
+	/**
+	 * 목록/가격 정렬 기준 최저가 (옵션 상품은 Variant 최저가)
+	 */
+	public static Long minPriceOf(Product product) {
+		if (!hasVariantPrices(product)) {
+			return product.getPrice();
+		}
+		return product.getVariants().stream()
+			.map(ProductVariant::getPrice)
+			.min(Long::compareTo)
+			.orElse(product.getPrice());
+	}
+
+	private static boolean hasVariantPrices(Product product) {
+		return Boolean.TRUE.equals(product.getHasOptions())
+			&& product.getVariants() != null
+			&& !product.getVariants().isEmpty();
+	}
+
 	/**
 	 * 캐시 객체를 응답 DTO로 변환
 	 */
@@ -224,6 +237,10 @@ public class CachedProductDetail implements Serializable {
 	}
 
 	private static String buildCategoryPath(Product product) {
+		// 저장된 이름 경로 우선 (경로 재구성 전 데이터만 부모를 따라 올라감)
+		if (product.getCategory().getFullName() != null) {
+			return product.getCategory().getFullName();
+		}
 		try {
 			StringBuilder path = new StringBuilder();
 			var current = product.getCategory();
@@ -0,0 +1,9 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.util.List;
+
+/**
+ * 미리 계산한 목록 페이지 (최신순 앞쪽 페이지 - 카드 + 카테고리 전체 개수)
+ */
+public record CachedProductPage(List<CachedProductCard> cards, long totalCount) {
+}
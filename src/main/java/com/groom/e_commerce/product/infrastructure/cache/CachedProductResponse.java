@@ -0,0 +1,46 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * 직렬화가 끝난 상품 API 응답 본문 (JSON 바이트)
+ *
+ * ETag: 응답 포맷 버전 + 상세는 상세 캐시 저장 시간(cachedAt), 목록은 본문 해시 - 같은 값이면 같은 바이트
+ * (노드/재적재와 관계없이 내용이 같으면 같은 ETag → TTL 만료 후에도 304 유지)
+ * 응답 DTO 필드가 바뀌면 FORMAT_VERSION을 올려 이전 배포의 ETag와 구분
+ *
+ * @param body 응답 본문
+ * @param etag 강한 ETag (따옴표 포함, 저장하지 않는 응답은 null)
+ * @param productIds 본문에 포함된 상품 (목록 페이지 무효화용, 상세는 빈 집합)
+ */
+public record CachedProductResponse(byte[] body, String etag, Set<UUID> productIds) {
+
+	private static final String FORMAT_VERSION = "v1";
+
+	public static CachedProductResponse of(byte[] body, long cachedAt, Set<UUID> productIds) {
+		return new CachedProductResponse(body, "\"" + FORMAT_VERSION + "-" + Long.toHexString(cachedAt) + "\"",
+			productIds);
+	}
+
+	/**
+	 * 본문 해시(MD5)를 ETag로 사용하는 응답 (목록 - 여러 상품으로 구성되어 단일 버전이 없음)
+	 */
+	public static CachedProductResponse ofContent(byte[] body, Set<UUID> productIds) {
+		return new CachedProductResponse(body, "\"" + FORMAT_VERSION + "-" + DigestUtils.md5DigestAsHex(body) + "\"",
+			productIds);
+	}
+
+	/**
+	 * 캐시에 저장하지 않는 응답 (DB Fallback 직후 - 저장 시간을 알 수 없음)
+	 */
+	public static CachedProductResponse uncached(byte[] body) {
+		return new CachedProductResponse(body, null, Set.of());
+	}
+
+	public int weight() {
+		return body.length + 64 + productIds.size() * 32;
+	}
+}
@@ -0,0 +1,113 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.repository.CategoryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카테고리 경로 로컬 캐시 (노드별 JVM 메모리)
+ *
+ * - lineage: 자기 자신 + 조상 카테고리 ID (목록/정렬 인덱스를 조상 카테고리에도 기록할 때 사용)
+ * - subtreePath: 하위 카테고리 ancestor_path 접두사 (DB 하위 트리 조회용)
+ *
+ * 카테고리는 부모 변경이 없어 경로가 생성 후 불변 → 무효화는 경로 재구성/삭제 시에만 수행
+ * 무효화는 CategoryPathInvalidationBroadcaster로 전 노드에 전파하고, 전파 유실에 대비해 ttl-seconds 후 다시 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryPathCache {
+
+	private static final int MAX_DEPTH = 10;
+
+	private final CategoryRepository categoryRepository;
+
+	@Value("${product.category.path-cache.ttl-seconds:600}")
+	private long ttlSeconds;
+
+	private final ConcurrentHashMap<UUID, CategoryPath> paths = new ConcurrentHashMap<>();
+
+	/**
+	 * 자기 자신 + 조상 카테고리 ID (가까운 순)
+	 * 조회 실패 시 자기 자신만 반환
+	 */
+	public List<UUID> lineage(UUID categoryId) {
+		CategoryPath path = get(categoryId);
+		return path != null ? path.lineage() : List.of(categoryId);
+	}
+
+	/**
+	 * 하위 카테고리 ancestor_path 접두사 (경로 재구성 전이면 null)
+	 */
+	public String subtreePath(UUID categoryId) {
+		CategoryPath path = get(categoryId);
+		return path != null ? path.subtreePath() : null;
+	}
+
+	public void evict(UUID categoryId) {
+		paths.remove(categoryId);
+	}
+
+	public void clear() {
+		paths.clear();
+	}
+
+	private CategoryPath get(UUID categoryId) {
+		CategoryPath cached = paths.get(categoryId);
+		if (cached != null && System.currentTimeMillis() - cached.loadedAt() < ttlSeconds * 1000L) {
+			return cached;
+		}
+
+		try {
+			CategoryPath loaded = load(categoryId);
+			if (loaded != null) {
+				paths.put(categoryId, loaded);
+			}
+			return loaded;
+		} catch (Exception e) {
+			log.error("Failed to load category path: categoryId={}", categoryId, e);
+			return null;
+		}
+	}
+
+	private CategoryPath load(UUID categoryId) {
+		Category category = categoryRepository.findById(categoryId).orElse(null);
+		if (category == null) {
+			return null;
+		}
+
+		List<UUID> lineage = new ArrayList<>();
+		lineage.add(categoryId);
+
+		if (category.getAncestorPath() != null) {
+			lineage.addAll(category.getAncestorIds());
+			return new CategoryPath(List.copyOf(lineage), category.getSubtreePath(), System.currentTimeMillis());
+		}
+
+		// 경로 재구성 전 데이터: 부모 ID를 따라 조회 (프록시 ID 접근은 초기화 없음)
+		Category current = category;
+		int depth = MAX_DEPTH;
+		while (current.getParent() != null && depth-- > 0) {
+			UUID parentId = current.getParent().getId();
+			lineage.add(parentId);
+			current = categoryRepository.findById(parentId).orElse(null);
+			if (current == null) {
+				break;
+			}
+		}
+		return new CategoryPath(List.copyOf(lineage), null, System.currentTimeMillis());
+	}
+
+	private record CategoryPath(List<UUID> lineage, String subtreePath, long loadedAt) {
+	}
+}
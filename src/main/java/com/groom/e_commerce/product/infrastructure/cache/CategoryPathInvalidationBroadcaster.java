@@ -0,0 +1,76 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카테고리 경로 로컬 캐시 무효화 브로드캐스트 (Redis Pub/Sub)
+ *
+ * 메시지: {nodeId}|{categoryId} (전체 무효화는 {nodeId}|*)
+ * 발신 노드는 로컬 캐시를 직접 무효화하므로 자기 메시지는 무시합니다.
+ * Pub/Sub은 유실될 수 있으므로 CategoryPathCache TTL이 최종 안전장치입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryPathInvalidationBroadcaster implements MessageListener {
+
+	private static final String ALL = "*";
+	private static final String NODE_ID = UUID.randomUUID().toString();
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final CategoryPathCache categoryPathCache;
+
+	/**
+	 * 로컬 캐시에서 제거 후 다른 노드에 전파
+	 */
+	public void evict(UUID categoryId) {
+		categoryPathCache.evict(categoryId);
+		send(categoryId.toString());
+	}
+
+	/**
+	 * 로컬 캐시 전체 삭제 후 다른 노드에 전파
+	 */
+	public void clearAll() {
+		categoryPathCache.clear();
+		send(ALL);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int sep = body.indexOf('|');
+		if (sep < 0 || body.substring(0, sep).equals(NODE_ID)) {
+			return;
+		}
+
+		String payload = body.substring(sep + 1);
+		if (ALL.equals(payload)) {
+			categoryPathCache.clear();
+			return;
+		}
+		try {
+			categoryPathCache.evict(UUID.fromString(payload));
+		} catch (IllegalArgumentException e) {
+			log.warn("Invalid category path invalidation message: {}", body);
+		}
+	}
+
+	private void send(String payload) {
+		try {
+			stringRedisTemplate.convertAndSend(ProductCacheKey.categoryPathInvalidationChannel(),
+				NODE_ID + "|" + payload);
+		} catch (Exception e) {
+			log.error("Failed to publish category path invalidation", e);
+		}
+	}
+}
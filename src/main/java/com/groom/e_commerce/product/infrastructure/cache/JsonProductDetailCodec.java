@@ -0,0 +1,51 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기존 포맷 (GenericJackson2JsonRedisSerializer, 타입 정보 포함 JSON)
+ *
+ * 바이너리 전환 전후로 남아있는 값을 읽기 위해 유지
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonProductDetailCodec implements ProductDetailCodec {
+
+	public static final String FORMAT = "json";
+
+	private final GenericJackson2JsonRedisSerializer jsonRedisSerializer;
+
+	@Override
+	public String format() {
+		return FORMAT;
+	}
+
+	@Override
+	public byte[] encode(CachedProductDetail detail) {
+		return jsonRedisSerializer.serialize(detail);
+	}
+
+	@Override
+	public CachedProductDetail decode(byte[] bytes) {
+		Object value = jsonRedisSerializer.deserialize(bytes);
+		if (value instanceof CachedProductDetail detail) {
+			return detail;
+		}
+		throw new SerializationException("Unexpected cached value type: "
+			+ (value == null ? "null" : value.getClass().getName()));
+	}
+
+	@Override
+	public boolean canDecode(byte[] bytes) {
+		for (byte b : bytes) {
+			if (!Character.isWhitespace(b)) {
+				return b == '{';
+			}
+		}
+		return false;
+	}
+}
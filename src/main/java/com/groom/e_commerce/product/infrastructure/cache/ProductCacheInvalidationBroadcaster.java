@@ -0,0 +1,97 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 상세 L1 캐시 무효화 브로드캐스트 (Redis Pub/Sub)
+ *
+ * 메시지: {nodeId}|{productId1},{productId2},... (전체 무효화는 {nodeId}|*)
+ * 발신 노드는 로컬 L1을 직접 무효화하므로 자기 메시지는 무시합니다.
+ * Pub/Sub은 유실될 수 있으므로 L1 TTL이 최종 안전장치입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidationBroadcaster implements MessageListener {
+
+	private static final String ALL = "*";
+	private static final String NODE_ID = UUID.randomUUID().toString();
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ProductDetailLocalCache localCache;
+
+	private final LongAdder sent = new LongAdder();
+	private final LongAdder received = new LongAdder();
+
+	public void publish(UUID productId) {
+		send(productId.toString());
+	}
+
+	public void publish(Collection<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return;
+		}
+		send(productIds.stream().map(UUID::toString).collect(Collectors.joining(",")));
+	}
+
+	public void publishClearAll() {
+		send(ALL);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int sep = body.indexOf('|');
+		if (sep < 0 || body.substring(0, sep).equals(NODE_ID)) {
+			return;
+		}
+
+		received.increment();
+		String payload = body.substring(sep + 1);
+		if (ALL.equals(payload)) {
+			localCache.clear();
+			return;
+		}
+
+		List<UUID> productIds = new ArrayList<>();
+		for (String productId : payload.split(",")) {
+			try {
+				productIds.add(UUID.fromString(productId));
+			} catch (IllegalArgumentException e) {
+				log.warn("Invalid product cache invalidation message: {}", body);
+			}
+		}
+		localCache.invalidateAll(productIds);
+	}
+
+	public long sentCount() {
+		return sent.sum();
+	}
+
+	public long receivedCount() {
+		return received.sum();
+	}
+
+	private void send(String payload) {
+		try {
+			stringRedisTemplate.convertAndSend(ProductCacheKey.detailInvalidationChannel(), NODE_ID + "|" + payload);
+			sent.increment();
+		} catch (Exception e) {
+			log.error("Failed to publish product cache invalidation", e);
+		}
+	}
+}
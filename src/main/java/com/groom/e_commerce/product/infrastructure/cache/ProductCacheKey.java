@@ -6,23 +6,85 @@ import java.util.UUID;
  * Product 도메인 Redis 캐시 키 전략
  *
  * [목록 캐시 - Sorted Set]
- * product:list:category:{categoryId} → score: createdAt(Timestamp), member: productId
+ * product:list:v2:category:{categoryId} → score: createdAt(epoch micros), member: productId
+ * (v2: score를 초 → 마이크로초로 변경, DB createdAt 정밀도와 맞춤 - 이전 키는 product:list:* 일괄 삭제로 정리)
+ *
+ * [정렬 인덱스 - Sorted Set, 목록 캐시와 같은 멤버]
+ * product:sort:price:category:{categoryId} → score: 최저가(Variant 포함)
+ * product:sort:rating:category:{categoryId} → score: 평균 평점 (product:rating:scores Hash 기준)
+ * product:sort:complete → 정렬 인덱스가 판매중 상품 전체를 담고 있음 (전체 Warm-up 완료 시 기록, 일괄 삭제 시 함께 삭제)
+ *
+ * [최신순 앞쪽 페이지 - Hash(Binary), 미리 계산]
+ * product:hotpage:{categoryId|all} → "{page}:{size}" → 카드 목록 + 전체 개수 (변경 동기화 시 삭제 후 재계산)
+ * product:hotpage:version:{categoryId|all} → 변경 동기화마다 INCR (재계산 결과는 시작 시 버전이 그대로일 때만 기록)
+ *
+ * [가격 구간 필터 결과 - Sorted Set, 짧은 TTL]
+ * product:filter:{sort}:{categoryId|all}:{minPrice}:{maxPrice} → 가격 인덱스 ∩ 정렬 키 (score: 정렬 기준)
  *
  * [상세 캐시 - String(JSON)]
  * product:detail:{productId} → JSON (옵션, Variant 포함)
+ * 노드별 L1 캐시는 product:detail:invalidation 채널로 무효화
+ * product:detail:missing:{productId} → 조회 불가 상품 표시 (짧은 TTL, 변경 동기화 시 삭제)
+ *
+ * [카드 캐시 - String(Binary)]
+ * product:card:{productId} → 목록 렌더링 필드만 (상세 캐시와 함께 기록)
+ *
+ * [판매중 상품 수 - String, 쓰기 시 INCR/DECR]
+ * product:count:category:{categoryId|all} → 하위 카테고리 포함 판매중 상품 수
+ * product:count:member → Hash: productId → 집계된 categoryId (판매중 아님: "-", 마커 없음: 집계 여부 모름)
+ *
+ * [검색 조건별 개수 - Hash, 항목별 만료 시각]
+ * product:count:filter:all → 조건 해시: "{count}:{expiresAtMillis}" (구매자/관리자 검색)
+ * product:count:filter:owner:{ownerId} → 판매자 본인 상품 검색
  */
 public final class ProductCacheKey {
 
 	// ==================== 상품 목록 (Sorted Set) ====================
-	private static final String LIST_PREFIX = "product:list:category:";
-	private static final String LIST_ALL = "product:list:all";
+	private static final String LIST_ROOT = "product:list:";
+	private static final String LIST_PREFIX = LIST_ROOT + "v2:category:";
+	private static final String LIST_ALL = LIST_ROOT + "v2:all";
+
+	// ==================== 정렬 인덱스 (Sorted Set) ====================
+	private static final String SORT_PREFIX = "product:sort:";
+	private static final String PRICE_INDEX_PREFIX = SORT_PREFIX + "price:category:";
+	private static final String PRICE_INDEX_ALL = SORT_PREFIX + "price:all";
+	private static final String RATING_INDEX_PREFIX = SORT_PREFIX + "rating:category:";
+	private static final String RATING_INDEX_ALL = SORT_PREFIX + "rating:all";
+	private static final String SORT_INDEX_COMPLETE = SORT_PREFIX + "complete";
+
+	// ==================== 최신순 앞쪽 페이지 (Hash) ====================
+	private static final String HOT_PAGE_PREFIX = "product:hotpage:";
+	private static final String HOT_PAGE_VERSION_PREFIX = HOT_PAGE_PREFIX + "version:";
+
+	// ==================== 가격 구간 필터 결과 (Sorted Set, TTL) ====================
+	private static final String FILTER_PREFIX = "product:filter:";
+
+	// ==================== 상품 평점 (Hash) ====================
+	private static final String RATING_SCORES = "product:rating:scores";
 
 	// ==================== 상품 개수 (String) ====================
 	private static final String COUNT_PREFIX = "product:count:category:";
+	private static final String COUNT_MEMBER = "product:count:member";
+	private static final String COUNT_RECOUNT_PREFIX = "product:count:recount:";
+
+	// ==================== 검색 조건별 개수 (Hash) ====================
+	private static final String FILTER_COUNT_PREFIX = "product:count:filter:";
+	private static final String FILTER_COUNT_ALL = FILTER_COUNT_PREFIX + "all";
+	private static final String FILTER_COUNT_OWNER_PREFIX = FILTER_COUNT_PREFIX + "owner:";
 
 	// ==================== 상품 상세 (String/JSON) ====================
 	private static final String DETAIL_PREFIX = "product:detail:";
 
+	// ==================== 상품 카드 (String/Binary, 목록용 projection) ====================
+	private static final String CARD_PREFIX = "product:card:";
+
+	// ==================== L1 캐시 무효화 (Pub/Sub 채널) ====================
+	private static final String DETAIL_INVALIDATION_CHANNEL = "product:detail:invalidation";
+	private static final String CATEGORY_PATH_INVALIDATION_CHANNEL = "product:category:path:invalidation";
+
+	// ==================== Warm-up 체크포인트 (Hash) ====================
+	private static final String WARM_UP_CHECKPOINT = "product:warmup:checkpoint";
+
 	private ProductCacheKey() {
 	}
 
@@ -46,6 +108,87 @@ public final class ProductCacheKey {
 		return LIST_ALL;
 	}
 
+	/**
+	 * 최신순 앞쪽 페이지 키 (Hash: "{page}:{size}" → 페이지)
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 */
+	public static String productHotPage(UUID categoryId) {
+		return HOT_PAGE_PREFIX + (categoryId == null ? "all" : categoryId.toString());
+	}
+
+	/**
+	 * 최신순 앞쪽 페이지 버전 키 (String, 변경 동기화마다 INCR)
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 */
+	public static String productHotPageVersion(UUID categoryId) {
+		return HOT_PAGE_VERSION_PREFIX + (categoryId == null ? "all" : categoryId.toString());
+	}
+
+	/**
+	 * 앞쪽 페이지 주기 재계산 임차 키 (String, TTL) - 주기마다 한 노드만 전체 재계산
+	 */
+	public static String productHotPageRefreshLease() {
+		return HOT_PAGE_PREFIX + "refresh-lease";
+	}
+
+	// ==================== 정렬 인덱스 키 ====================
+
+	/**
+	 * 카테고리별 가격 정렬 인덱스 키 (Sorted Set)
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 */
+	public static String productPriceIndex(UUID categoryId) {
+		if (categoryId == null) {
+			return PRICE_INDEX_ALL;
+		}
+		return PRICE_INDEX_PREFIX + categoryId.toString();
+	}
+
+	/**
+	 * 카테고리별 평점 정렬 인덱스 키 (Sorted Set)
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 */
+	public static String productRatingIndex(UUID categoryId) {
+		if (categoryId == null) {
+			return RATING_INDEX_ALL;
+		}
+		return RATING_INDEX_PREFIX + categoryId.toString();
+	}
+
+	/**
+	 * 정렬 인덱스 완전성 표시 키 (String) - 정렬 인덱스 키 패턴에 포함되어 일괄 삭제 시 함께 삭제
+	 */
+	public static String productSortIndexComplete() {
+		return SORT_INDEX_COMPLETE;
+	}
+
+	/**
+	 * 상품별 평균 평점 키 (Hash: productId → avgRating)
+	 * 평점 인덱스에 새로 추가되는 상품의 score 조회용
+	 */
+	public static String productRatingScores() {
+		return RATING_SCORES;
+	}
+
+	/**
+	 * 가격 구간 필터 결과 키 (Sorted Set, TTL)
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 * @param sort 정렬 기준 (newest, rating)
+	 * @param minPrice 최소 가격 (null이면 하한 없음)
+	 * @param maxPrice 최대 가격 (null이면 상한 없음)
+	 */
+	public static String productPriceFilter(UUID categoryId, String sort, Long minPrice, Long maxPrice) {
+		return FILTER_PREFIX + sort + ":" + (categoryId == null ? "all" : categoryId.toString())
+			+ ":" + (minPrice == null ? "-inf" : minPrice) + ":" + (maxPrice == null ? "+inf" : maxPrice);
+	}
+
+	/**
+	 * 가격 구간 필터 임시 키 (결과 키 생성 중에만 존재)
+	 */
+	public static String productPriceFilterTemp(String resultKey) {
+		return resultKey + ":tmp";
+	}
+
 	// ==================== 개수 키 ====================
 	public static String productCount(UUID categoryId) {
 		if (categoryId == null) {
@@ -54,6 +197,34 @@ public final class ProductCacheKey {
 		return COUNT_PREFIX + categoryId.toString();
 	}
 
+	/**
+	 * 판매중 상품 수 집계 마커 (Hash: productId → 집계된 categoryId 또는 "-")
+	 * 이전 집계 상태를 기준으로 증감하여 같은 변경이 두 번 반영되지 않도록 함
+	 */
+	public static String productCountMember() {
+		return COUNT_MEMBER;
+	}
+
+	/**
+	 * DB 재계산 표시 키 (String, 짧은 TTL) - 재계산 직후의 증감은 이미 반영된 변경일 수 있어 개수 키를 삭제
+	 * @param countKey productCount 키
+	 */
+	public static String productCountRecount(String countKey) {
+		return COUNT_RECOUNT_PREFIX + countKey.substring(COUNT_PREFIX.length());
+	}
+
+	/**
+	 * 검색 조건별 개수 키 (Hash: 조건 해시 → "{count}:{expiresAtMillis}")
+	 * 상품 변경 시 Hash 단위로 삭제 (SCAN 없이 무효화)
+	 * @param ownerId 판매자 ID (null이면 구매자/관리자 검색)
+	 */
+	public static String productFilterCount(UUID ownerId) {
+		if (ownerId == null) {
+			return FILTER_COUNT_ALL;
+		}
+		return FILTER_COUNT_OWNER_PREFIX + ownerId.toString();
+	}
+
 	// ==================== 상세 키 ====================
 
 	/**
@@ -64,13 +235,97 @@ public final class ProductCacheKey {
 		return DETAIL_PREFIX + productId.toString();
 	}
 
+	/**
+	 * 상세 조회 불가 표시 키 (없는/삭제된/판매중·품절 외 상태 상품, 짧은 TTL)
+	 * 상세 키 패턴(product:detail:*)에 포함되어 상세 캐시 전체 삭제 시 함께 삭제
+	 * @param productId 상품 ID
+	 */
+	public static String productDetailMissing(UUID productId) {
+		return DETAIL_PREFIX + "missing:" + productId.toString();
+	}
+
+	/**
+	 * 상품 상세 기록 세대 키 (String, TTL) - 상세/카드 기록 CAS 기준 (product_detail_write.lua)
+	 */
+	public static String productDetailGeneration(UUID productId) {
+		return DETAIL_PREFIX + "gen:" + productId.toString();
+	}
+
+	/**
+	 * 상품 상세 L1 캐시 무효화 채널 (Pub/Sub)
+	 */
+	public static String detailInvalidationChannel() {
+		return DETAIL_INVALIDATION_CHANNEL;
+	}
+
+	/**
+	 * 카테고리 경로 로컬 캐시 무효화 채널 (Pub/Sub)
+	 */
+	public static String categoryPathInvalidationChannel() {
+		return CATEGORY_PATH_INVALIDATION_CHANNEL;
+	}
+
+	// ==================== 카드 키 ====================
+
+	/**
+	 * 상품 카드(목록용 projection) 캐시 키
+	 * @param productId 상품 ID
+	 */
+	public static String productCard(UUID productId) {
+		return CARD_PREFIX + productId.toString();
+	}
+
+	// ==================== Warm-up 키 ====================
+
+	/**
+	 * Warm-up 재개 지점 키 (Hash: createdAt, productId, processed)
+	 */
+	public static String warmUpCheckpoint() {
+		return WARM_UP_CHECKPOINT;
+	}
+
 	// ==================== 패턴 (일괄 삭제용) ====================
 
 	/**
-	 * 상품 목록 키 패턴 (전체 삭제용)
+	 * 상품 목록 키 패턴 (전체 삭제용, 이전 버전 키 포함)
 	 */
 	public static String productListPattern() {
-		return LIST_PREFIX + "*";
+		return LIST_ROOT + "*";
+	}
+
+	/**
+	 * 최신순 앞쪽 페이지 키 패턴 (전체 삭제용, 버전 키 포함)
+	 */
+	public static String productHotPagePattern() {
+		return HOT_PAGE_PREFIX + "*";
+	}
+
+	/**
+	 * 정렬 인덱스 키 패턴 (전체 삭제용)
+	 */
+	public static String productSortIndexPattern() {
+		return SORT_PREFIX + "*";
+	}
+
+	/**
+	 * 가격 구간 필터 결과 키 패턴 (전체 삭제용)
+	 */
+	public static String productPriceFilterPattern() {
+		return FILTER_PREFIX + "*";
+	}
+
+	/**
+	 * 검색 조건별 개수 키 패턴 (전체 삭제용)
+	 */
+	public static String productFilterCountPattern() {
+		return FILTER_COUNT_PREFIX + "*";
+	}
+
+	/**
+	 * 상품 상세 키 접두사 (로컬 적재 값 전체 삭제용)
+	 */
+	public static String productDetailPrefix() {
+		return DETAIL_PREFIX;
 	}
 
 	/**
@@ -79,4 +334,11 @@ public final class ProductCacheKey {
 	public static String productDetailPattern() {
 		return DETAIL_PREFIX + "*";
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 상품 카드 키 패턴 (전체 삭제용)
+	 */
+	public static String productCardPattern() {
+		return CARD_PREFIX + "*";
+	}
+}
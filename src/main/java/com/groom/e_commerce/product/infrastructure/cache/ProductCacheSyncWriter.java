@@ -0,0 +1,98 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService.SyncState;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 변경 동기화 쓰기 (상품 1건 = 파이프라인 1회)
+ * 상세/카드 기록 스크립트(세대 CAS) + 목록/정렬 인덱스 ZADD/ZREM + 판매중 개수 증감 스크립트 + 앞쪽 페이지 삭제/버전 증가
+ * 스크립트는 EVALSHA로 보내고, Redis 재시작 등으로 NOSCRIPT가 나면 스크립트를 로드한 뒤 한 번 다시 보냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheSyncWriter {
+
+	private static final String NO_SCRIPT = "NOSCRIPT";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ProductListCacheService listCacheService;
+	private final ProductDetailCacheService detailCacheService;
+	private final ProductHotPageCacheService hotPageCacheService;
+
+	/**
+	 * 실패 시 예외를 전파하여 호출자가 재시도하도록 함 (스크립트는 CAS, 나머지 명령은 멱등이라 다시 보내도 안전)
+	 * @param product DB 현재 상태 (DB에 없으면 null)
+	 * @param detail 상세 캐시 값 (캐시 대상이 아니면 null → 상세/카드 삭제)
+	 * @param generation DB 조회 전에 읽은 상세 기록 세대 (ProductDetailCacheService.readGenerations)
+	 * @param hotPageCategoryIds 앞쪽 페이지를 무효화할 카테고리 (ProductHotPageCacheService.affectedCategories)
+	 * @return false: 상세 세대 또는 집계 마커가 그 사이 바뀜 (상태를 다시 읽고 재시도 필요)
+	 */
+	public boolean write(UUID productId, Product product, CachedProductDetail detail, long generation,
+		Set<UUID> staleCategoryIds, SyncState state, boolean created, Set<UUID> hotPageCategoryIds) {
+		try {
+			return execute(productId, product, detail, generation, staleCategoryIds, state, created, hotPageCategoryIds);
+		} catch (RuntimeException e) {
+			if (!isNoScript(e)) {
+				throw e;
+			}
+			log.warn("Product cache sync scripts missing, reloading: productId={}", productId);
+			stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				detailCacheService.appendScriptLoad(connection);
+				listCacheService.appendScriptLoad(connection);
+				return null;
+			});
+			return execute(productId, product, detail, generation, staleCategoryIds, state, created, hotPageCategoryIds);
+		}
+	}
+
+	private boolean execute(UUID productId, Product product, CachedProductDetail detail, long generation,
+		Set<UUID> staleCategoryIds, SyncState state, boolean created, Set<UUID> hotPageCategoryIds) {
+		AtomicInteger trailing = new AtomicInteger();
+		List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			if (detail != null) {
+				detailCacheService.appendPut(connection, detail, generation);
+			} else {
+				detailCacheService.appendDelete(connection, productId, generation);
+			}
+			listCacheService.appendSync(connection, productId, product, staleCategoryIds, state, created);
+			// 목록/개수 반영 뒤에 버전을 올려야 버전을 읽고 시작한 재계산이 반영 이전 상태를 기록하지 않음
+			trailing.set(hotPageCacheService.appendInvalidate(connection, hotPageCategoryIds));
+			return null;
+		});
+
+		// 첫 명령이 상세 기록 스크립트, 앞쪽 페이지 명령 직전이 개수 증감 스크립트
+		boolean detailWritten = results.get(0) instanceof Long written && written > 0;
+		Object transition = results.get(results.size() - 1 - trailing.get());
+		return detailWritten && !(transition instanceof Long result && result < 0);
+	}
+
+	private static boolean isNoScript(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause.getMessage() != null && cause.getMessage().contains(NO_SCRIPT)) {
+				return true;
+			}
+			if (cause instanceof RedisPipelineException pipeline) {
+				for (Object result : pipeline.getPipelineResult()) {
+					if (result instanceof Throwable failure && isNoScript(failure)) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+}
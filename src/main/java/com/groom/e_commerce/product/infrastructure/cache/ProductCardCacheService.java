@@ -0,0 +1,112 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 카드(목록용 projection) 캐시 조회 서비스
+ *
+ * 키: product:card:{productId}
+ * 값: CachedProductCard (ProductCardCodec - 바이너리)
+ *
+ * 특징:
+ * - 기록/삭제는 ProductDetailCacheService가 상세와 함께 수행
+ * - 목록 페이지는 카드만 MGET (옵션/Variant 역직렬화 없음)
+ * - 카드가 없고 상세만 있으면 상세로 카드를 만들어 채움 (카드 도입 전 적재분 포함)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCardCacheService {
+
+	private final RedisTemplate<String, byte[]> productCacheBytesRedisTemplate;
+	private final ProductCardCodec cardCodec;
+	private final ProductDetailCacheService detailCacheService;
+
+	/**
+	 * 다수 상품 카드를 리스트로 조회 (순서 유지, 캐시 미스는 null)
+	 * @param productIds 상품 ID 리스트
+	 * @return CachedProductCard 리스트 (순서 유지)
+	 */
+	public List<CachedProductCard> multiGetAsList(List<UUID> productIds) {
+		if (productIds == null || productIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		try {
+			List<String> keys = productIds.stream().map(ProductCacheKey::productCard).toList();
+			List<byte[]> results = productCacheBytesRedisTemplate.opsForValue().multiGet(keys);
+
+			List<CachedProductCard> cards = new ArrayList<>(productIds.size());
+			List<Integer> missIndexes = new ArrayList<>();
+			for (int i = 0; i < productIds.size(); i++) {
+				CachedProductCard card = results == null ? null : decodeQuietly(results.get(i), productIds.get(i));
+				cards.add(card);
+				if (card == null) {
+					missIndexes.add(i);
+				}
+			}
+
+			if (!missIndexes.isEmpty()) {
+				fillFromDetails(productIds, cards, missIndexes);
+			}
+			return cards;
+		} catch (Exception e) {
+			log.error("Failed to multi-get product cards from cache", e);
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * 카드 미스를 상세 캐시로 보충하고 카드로 다시 기록
+	 */
+	private void fillFromDetails(List<UUID> productIds, List<CachedProductCard> cards, List<Integer> missIndexes) {
+		List<UUID> missIds = missIndexes.stream().map(productIds::get).toList();
+		List<CachedProductDetail> details = detailCacheService.multiGetAsList(missIds);
+		if (details.isEmpty()) {
+			return;
+		}
+
+		Map<String, byte[]> entries = new HashMap<>();
+		for (int i = 0; i < missIndexes.size(); i++) {
+			CachedProductDetail detail = details.get(i);
+			if (detail == null) {
+				continue;
+			}
+			CachedProductCard card = CachedProductCard.from(detail);
+			cards.set(missIndexes.get(i), card);
+			entries.put(ProductCacheKey.productCard(card.getProductId()), cardCodec.encode(card));
+		}
+
+		if (!entries.isEmpty()) {
+			try {
+				productCacheBytesRedisTemplate.opsForValue().multiSet(entries);
+				log.debug("Product cards rebuilt from detail cache: count={}", entries.size());
+			} catch (Exception e) {
+				log.error("Failed to write back product cards: count={}", entries.size(), e);
+			}
+		}
+	}
+
+	private CachedProductCard decodeQuietly(byte[] bytes, UUID productId) {
+		if (bytes == null) {
+			return null;
+		}
+		try {
+			return cardCodec.decode(bytes);
+		} catch (Exception e) {
+			log.warn("Failed to decode product card cache value: productId={}", productId, e);
+			return null;
+		}
+	}
+}
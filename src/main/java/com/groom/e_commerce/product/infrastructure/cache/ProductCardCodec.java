@@ -0,0 +1,107 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+
+/**
+ * 상품 카드 캐시 바이너리 포맷 (스키마 버전 포함)
+ *
+ * 레이아웃: [MAGIC][VERSION][FLAGS][본문] - 본문 인코딩 규칙은 BinaryProductDetailCodec과 동일
+ * 카드는 작아서 압축하지 않음
+ *
+ * 목록 앞쪽 페이지(CachedProductPage): [PAGE_MAGIC][VERSION][FLAGS][전체 개수][카드 수][카드 본문...]
+ */
+@Component
+public class ProductCardCodec {
+
+	static final byte MAGIC = (byte)0xC4;
+	static final byte PAGE_MAGIC = (byte)0xC5;
+	static final byte VERSION_1 = 1;
+
+	private static final int HEADER_BYTES = 3;
+
+	public byte[] encode(CachedProductCard card) {
+		CacheBinaryWriter w = new CacheBinaryWriter();
+		w.writeHeader(MAGIC, VERSION_1, 0);
+		writeCard(w, card);
+		return w.toByteArray();
+	}
+
+	public CachedProductCard decode(byte[] bytes) {
+		CacheBinaryReader r = open(bytes, MAGIC, "product card");
+		try {
+			return readCard(r);
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new SerializationException("Corrupted product card value", e);
+		}
+	}
+
+	public byte[] encodePage(CachedProductPage page) {
+		CacheBinaryWriter w = new CacheBinaryWriter();
+		w.writeHeader(PAGE_MAGIC, VERSION_1, 0);
+		w.writeVarLong(page.totalCount());
+		w.writeSize(page.cards());
+		page.cards().forEach(card -> writeCard(w, card));
+		return w.toByteArray();
+	}
+
+	public CachedProductPage decodePage(byte[] bytes) {
+		CacheBinaryReader r = open(bytes, PAGE_MAGIC, "product page");
+		try {
+			long totalCount = r.readVarLong();
+			int size = r.readSize();
+			List<CachedProductCard> cards = new ArrayList<>(Math.max(size, 0));
+			for (int i = 0; i < size; i++) {
+				cards.add(readCard(r));
+			}
+			return new CachedProductPage(cards, totalCount);
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new SerializationException("Corrupted product page value", e);
+		}
+	}
+
+	private static CacheBinaryReader open(byte[] bytes, byte magic, String name) {
+		if (bytes.length < HEADER_BYTES || bytes[0] != magic) {
+			throw new SerializationException("Not a " + name + " value");
+		}
+		if (bytes[1] != VERSION_1) {
+			throw new SerializationException("Unsupported " + name + " codec version: " + bytes[1]);
+		}
+		return new CacheBinaryReader(ByteBuffer.wrap(bytes, HEADER_BYTES, bytes.length - HEADER_BYTES));
+	}
+
+	private static void writeCard(CacheBinaryWriter w, CachedProductCard card) {
+		w.writeUuid(card.getProductId());
+		w.writeUuid(card.getCategoryId());
+		w.writeString(card.getCategoryName());
+		w.writeString(card.getTitle());
+		w.writeString(card.getThumbnailUrl());
+		w.writeString(card.getStatus() == null ? null : card.getStatus().name());
+		w.writeNullableLong(card.getMinPrice());
+		w.writeNullableLong(card.getMaxPrice());
+		w.writeDateTime(card.getCreatedAt());
+	}
+
+	private static CachedProductCard readCard(CacheBinaryReader r) {
+		CachedProductCard.CachedProductCardBuilder builder = CachedProductCard.builder()
+			.productId(r.readUuid())
+			.categoryId(r.readUuid())
+			.categoryName(r.readString())
+			.title(r.readString())
+			.thumbnailUrl(r.readString());
+		String status = r.readString();
+		return builder
+			.status(status == null ? null : ProductStatus.valueOf(status))
+			.minPrice(r.readNullableLong())
+			.maxPrice(r.readNullableLong())
+			.createdAt(r.readDateTime())
+			.build();
+	}
+}
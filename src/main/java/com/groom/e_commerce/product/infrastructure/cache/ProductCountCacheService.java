@@ -0,0 +1,89 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 조건별 정확한 개수 캐시 (Redis Hash)
+ *
+ * - 필드: 조건 signature의 MD5, 값: "{count}:{expiresAtMillis}" (항목별 TTL)
+ * - 범위(전체/판매자별)마다 Hash 하나 → 상품 변경 시 키 삭제로 무효화
+ * - Hash 자체에도 TTL을 걸고, 항목 수가 상한을 넘으면 비우고 다시 채움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCountCacheService {
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	@Value("${product.count.cache-ttl-seconds:30}")
+	private long ttlSeconds;
+
+	@Value("${product.count.max-entries:10000}")
+	private long maxEntries;
+
+	/**
+	 * @return -1 if cache miss (없거나 만료)
+	 */
+	public long get(UUID ownerId, String signature) {
+		try {
+			Object value = stringRedisTemplate.opsForHash()
+				.get(ProductCacheKey.productFilterCount(ownerId), field(signature));
+			if (value == null) {
+				return -1;
+			}
+			String[] parts = value.toString().split(":");
+			return Long.parseLong(parts[1]) > System.currentTimeMillis() ? Long.parseLong(parts[0]) : -1;
+		} catch (Exception e) {
+			log.error("Failed to get filter count cache: ownerId={}", ownerId, e);
+			return -1;
+		}
+	}
+
+	public void put(UUID ownerId, String signature, long count) {
+		String key = ProductCacheKey.productFilterCount(ownerId);
+		try {
+			Long size = stringRedisTemplate.opsForHash().size(key);
+			if (size != null && size >= maxEntries) {
+				stringRedisTemplate.unlink(key);
+			}
+			long expiresAt = System.currentTimeMillis() + ttlSeconds * 1000;
+			stringRedisTemplate.opsForHash().put(key, field(signature), count + ":" + expiresAt);
+			stringRedisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+		} catch (Exception e) {
+			log.error("Failed to put filter count cache: ownerId={}", ownerId, e);
+		}
+	}
+
+	/**
+	 * 상품 변경 → 전체 검색 개수 + 해당 판매자 검색 개수 삭제
+	 */
+	public void evict(UUID ownerId) {
+		try {
+			if (ownerId == null) {
+				stringRedisTemplate.unlink(ProductCacheKey.productFilterCount(null));
+			} else {
+				stringRedisTemplate.unlink(List.of(
+					ProductCacheKey.productFilterCount(null),
+					ProductCacheKey.productFilterCount(ownerId)));
+			}
+		} catch (Exception e) {
+			log.error("Failed to evict filter count cache: ownerId={}", ownerId, e);
+		}
+	}
+
+	private String field(String signature) {
+		return DigestUtils.md5DigestAsHex(signature.getBytes(StandardCharsets.UTF_8));
+	}
+}
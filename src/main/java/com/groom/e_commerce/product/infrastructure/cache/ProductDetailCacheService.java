@@ -1,16 +1,33 @@
 package com.groom.e_commerce.product.infrastructure.cache;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductCacheStatsDto;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductCacheStatsDto.TierStats;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,51 +35,237 @@ import lombok.extern.slf4j.Slf4j;
  * 상품 상세 Redis 캐시 서비스
  *
  * 키: product:detail:{productId}
- * 값: CachedProductDetail (JSON)
+ * 값: CachedProductDetail (ProductDetailSerializer - 바이너리/JSON 이중 읽기)
+ * 목록용 카드(product:card:{productId})도 같은 스크립트로 함께 기록/삭제
  *
  * 특징:
  * - TTL 없음 (이벤트 기반 즉시 업데이트)
  * - MGET으로 다수 상품 일괄 조회 지원
+ * - L1(JVM) → L2(Redis) 2단 조회, 변경 시 Pub/Sub으로 모든 노드의 L1 무효화
+ * - 기록은 상품별 세대(product:detail:gen:{productId}) CAS - DB를 읽기 전에 readGenerations로 세대를 읽어 두고
+ *   기록 시점에 세대가 그대로일 때만 반영 (조회 중 적재/Warm-up이 변경 동기화보다 늦게 도착해도 이전 값으로 덮지 않음)
+ * - 조회 불가 상품(없음/삭제/판매중·품절 외 상태)은 짧은 TTL 표시 키로 DB 조회 생략 (변경 동기화 시 삭제/기록)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductDetailCacheService {
 
-	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisTemplate<String, byte[]> productCacheBytesRedisTemplate;
+	private final ProductDetailSerializer serializer;
+	private final ProductCardCodec cardCodec;
+	private final ProductDetailLocalCache localCache;
+	private final ProductResponseCache responseCache;
+	private final ProductCacheInvalidationBroadcaster invalidationBroadcaster;
+
+	private static final byte[] MISSING_VALUE = {'1'};
+	private static final byte[] DELETE_VALUE = {};
+
+	// L2(Redis) 조회 통계 (L1 통계는 ProductDetailLocalCache)
+	private final LongAdder redisHits = new LongAdder();
+	private final LongAdder redisMisses = new LongAdder();
+
+	// 조회 불가 표시 통계 (표시로 DB 조회를 생략한 수 / 표시 기록 수)
+	private final LongAdder negativeHits = new LongAdder();
+	private final LongAdder negativeStores = new LongAdder();
+
+	@Value("${product.cache.negative.enabled:true}")
+	private boolean negativeEnabled;
+
+	// 짧게 유지 - 조회 중 DB를 읽은 뒤 정지 해제/재등록이 커밋되면 이 시간 동안 남을 수 있음
+	@Value("${product.cache.negative.ttl-seconds:30}")
+	private long negativeTtlSeconds;
+
+	// 세대 키 TTL - 세대를 읽은 뒤 기록하기까지(DB 조회 + 재시도 대기)보다 충분히 길게
+	@Value("${product.cache.detail.generation-ttl-seconds:3600}")
+	private long generationTtlSeconds;
+
+	private DefaultRedisScript<Long> writeScript;
+
+	@PostConstruct
+	public void init() {
+		writeScript = new DefaultRedisScript<>();
+		writeScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/product_detail_write.lua")));
+		writeScript.setResultType(Long.class);
+	}
 
 	/**
-	 * 상품 상세 캐시 저장/업데이트
+	 * 상세/카드 캐시 대상 (판매중/품절 + 미삭제) - 품절 상품은 목록에서 빠져도 상세는 조회 가능
+	 */
+	public static boolean isCacheable(Product product) {
+		return !product.isDeleted() && isCacheable(product.getStatus());
+	}
+
+	public static boolean isCacheable(ProductStatus status) {
+		return status == ProductStatus.ON_SALE || status == ProductStatus.SOLD_OUT;
+	}
+
+	/**
+	 * 기록 세대 일괄 조회 (DB를 읽기 전에 호출 - 세대 키가 없으면 0)
+	 * 실패 시 예외를 전파 (세대를 모르면 기록하지 않음)
+	 * @return productId -> 세대
+	 */
+	public Map<UUID, Long> readGenerations(Collection<UUID> productIds) {
+		if (productIds == null || productIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		List<UUID> ids = List.copyOf(productIds);
+		List<byte[]> values = productCacheBytesRedisTemplate.opsForValue()
+			.multiGet(ids.stream().map(ProductCacheKey::productDetailGeneration).toList());
+		if (values == null) {
+			throw new IllegalStateException("Product detail generations unavailable");
+		}
+
+		Map<UUID, Long> generations = new HashMap<>(ids.size() * 2);
+		for (int i = 0; i < ids.size(); i++) {
+			byte[] value = values.get(i);
+			generations.put(ids.get(i), value != null ? Long.parseLong(new String(value, StandardCharsets.UTF_8)) : 0L);
+		}
+		return generations;
+	}
+
+	/**
+	 * 상품 상세 캐시 저장/업데이트 (세대가 그대로일 때만)
 	 * @param product 저장할 상품 엔티티
+	 * @param generation DB 조회 전에 읽은 세대
 	 */
-	public void put(Product product) {
+	public void put(Product product, long generation) {
 		try {
-			String key = ProductCacheKey.productDetail(product.getId());
 			CachedProductDetail cached = CachedProductDetail.from(product);
 
-			redisTemplate.opsForValue().set(key, cached);
+			long written = write(List.of(cached), Map.of(product.getId(), generation));
+			evictLocal(product.getId());
 
-			log.debug("Product detail cached: productId={}", product.getId());
+			log.debug("Product detail cached: productId={}, written={}", product.getId(), written);
 		} catch (Exception e) {
 			log.error("Failed to cache product detail: productId={}", product.getId(), e);
 		}
 	}
 
+	/**
+	 * 상품 상세 캐시 일괄 저장 (스크립트 한 번 - 세대가 그대로인 상품만)
+	 * 실패 시 예외를 전파하여 호출자(Warm-up)가 재시도 지점을 유지할 수 있도록 함
+	 * @param details 저장할 캐시 객체 (DB 트랜잭션 안에서 미리 변환된 상태)
+	 * @param generations DB 조회 전에 읽은 세대 (없는 상품은 기록하지 않음)
+	 * @return 기록한 상품 수
+	 */
+	public long putAll(List<CachedProductDetail> details, Map<UUID, Long> generations) {
+		if (details == null || details.isEmpty()) {
+			return 0;
+		}
+
+		try {
+			long written = write(details, generations);
+
+			List<UUID> productIds = details.stream().map(CachedProductDetail::getProductId).toList();
+			localCache.invalidateAll(productIds);
+			invalidationBroadcaster.publish(productIds);
+
+			log.debug("Product details cached (bulk): count={}, written={}", details.size(), written);
+			return written;
+		} catch (Exception e) {
+			log.error("Failed to cache product details (bulk): count={}", details.size(), e);
+			throw e;
+		}
+	}
+
+	/**
+	 * 상세 + 카드 기록 스크립트를 파이프라인에 추가 (커밋 후 변경 동기화 전용, 결과 1: 반영 / 0: 세대가 바뀜)
+	 * 파이프라인 성공 후 호출자가 invalidateLocal로 L1 무효화
+	 */
+	public void appendPut(RedisConnection connection, CachedProductDetail detail, long generation) {
+		appendWrite(connection, detail.getProductId(), generation, serializer.serialize(detail),
+			cardCodec.encode(CachedProductCard.from(detail)));
+	}
+
+	/**
+	 * 상세 + 카드 삭제 + 조회 불가 표시 스크립트를 파이프라인에 추가 (커밋 후 변경 동기화 전용)
+	 */
+	public void appendDelete(RedisConnection connection, UUID productId, long generation) {
+		appendWrite(connection, productId, generation, DELETE_VALUE, DELETE_VALUE);
+	}
+
+	/**
+	 * 기록 스크립트 로드 명령을 파이프라인에 추가 (EVALSHA가 NOSCRIPT로 실패했을 때)
+	 */
+	public void appendScriptLoad(RedisConnection connection) {
+		connection.scriptingCommands().scriptLoad(bytes(writeScript.getScriptAsString()));
+	}
+
+	/**
+	 * 조회 불가 표시 확인 (true면 DB 조회 없이 미존재 응답)
+	 */
+	public boolean isKnownMissing(UUID productId) {
+		if (!negativeEnabled) {
+			return false;
+		}
+
+		try {
+			boolean missing = Boolean.TRUE.equals(
+				productCacheBytesRedisTemplate.hasKey(ProductCacheKey.productDetailMissing(productId)));
+			if (missing) {
+				negativeHits.increment();
+			}
+			return missing;
+		} catch (Exception e) {
+			log.error("Failed to check missing product marker: productId={}", productId, e);
+			return false;
+		}
+	}
+
+	/**
+	 * 조회 불가 표시 (없는/삭제된/캐시 대상이 아닌 상품 - isCacheable 기준)
+	 */
+	public void markMissing(UUID productId) {
+		if (!negativeEnabled) {
+			return;
+		}
+
+		try {
+			productCacheBytesRedisTemplate.opsForValue().set(ProductCacheKey.productDetailMissing(productId),
+				MISSING_VALUE, Duration.ofSeconds(negativeTtlSeconds));
+			negativeStores.increment();
+		} catch (Exception e) {
+			log.error("Failed to mark missing product: productId={}", productId, e);
+		}
+	}
+
+	/**
+	 * 로컬 L1 무효화 + 다른 노드에 무효화 전파 (한 메시지)
+	 */
+	public void invalidateLocal(List<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return;
+		}
+		localCache.invalidateAll(productIds);
+		invalidationBroadcaster.publish(productIds);
+	}
+
 	/**
 	 * 상품 상세 캐시 조회
 	 * @param productId 상품 ID
 	 * @return 캐시된 상품 상세 (없으면 null)
 	 */
 	public CachedProductDetail get(UUID productId) {
+		CachedProductDetail local = localCache.get(productId);
+		if (local != null) {
+			return local;
+		}
+
 		try {
+			long sequence = localCache.currentSequence();
 			String key = ProductCacheKey.productDetail(productId);
-			Object cached = redisTemplate.opsForValue().get(key);
+			CachedProductDetail detail = serializer.deserialize(productCacheBytesRedisTemplate.opsForValue().get(key));
 
-			if (cached instanceof CachedProductDetail) {
+			if (detail != null) {
+				redisHits.increment();
+				localCache.putIfNotInvalidated(productId, detail, sequence);
 				log.debug("Product detail cache hit: productId={}", productId);
-				return (CachedProductDetail) cached;
+				return detail;
 			}
 
+			redisMisses.increment();
 			log.debug("Product detail cache miss: productId={}", productId);
 			return null;
 		} catch (Exception e) {
@@ -82,22 +285,13 @@ public class ProductDetailCacheService {
 		}
 
 		try {
-			List<String> keys = productIds.stream()
-				.map(ProductCacheKey::productDetail)
-				.toList();
-
-			List<Object> results = redisTemplate.opsForValue().multiGet(keys);
-
-			if (results == null) {
-				return Collections.emptyMap();
-			}
+			List<CachedProductDetail> details = multiGetAsList(productIds);
 
 			// 결과 매핑 (null 제외)
-			Map<UUID, CachedProductDetail> resultMap = new java.util.HashMap<>();
-			for (int i = 0; i < productIds.size(); i++) {
-				Object cached = results.get(i);
-				if (cached instanceof CachedProductDetail detail) {
-					resultMap.put(productIds.get(i), detail);
+			Map<UUID, CachedProductDetail> resultMap = new HashMap<>();
+			for (int i = 0; i < details.size(); i++) {
+				if (details.get(i) != null) {
+					resultMap.put(productIds.get(i), details.get(i));
 				}
 			}
 
@@ -122,19 +316,45 @@ public class ProductDetailCacheService {
 		}
 
 		try {
-			List<String> keys = productIds.stream()
-				.map(ProductCacheKey::productDetail)
+			// 1. L1 조회
+			List<CachedProductDetail> details = new ArrayList<>(productIds.size());
+			List<Integer> missIndexes = new ArrayList<>();
+			for (int i = 0; i < productIds.size(); i++) {
+				CachedProductDetail local = localCache.get(productIds.get(i));
+				details.add(local);
+				if (local == null) {
+					missIndexes.add(i);
+				}
+			}
+
+			if (missIndexes.isEmpty()) {
+				return details;
+			}
+
+			// 2. L1 미스만 MGET
+			long sequence = localCache.currentSequence();
+			List<String> keys = missIndexes.stream()
+				.map(i -> ProductCacheKey.productDetail(productIds.get(i)))
 				.toList();
 
-			List<Object> results = redisTemplate.opsForValue().multiGet(keys);
+			List<byte[]> results = productCacheBytesRedisTemplate.opsForValue().multiGet(keys);
 
 			if (results == null) {
 				return Collections.emptyList();
 			}
 
-			return results.stream()
-				.map(obj -> obj instanceof CachedProductDetail ? (CachedProductDetail) obj : null)
-				.toList();
+			for (int i = 0; i < missIndexes.size(); i++) {
+				int index = missIndexes.get(i);
+				CachedProductDetail detail = deserializeQuietly(results.get(i), productIds.get(index));
+				if (detail != null) {
+					redisHits.increment();
+					details.set(index, detail);
+					localCache.putIfNotInvalidated(productIds.get(index), detail, sequence);
+				} else {
+					redisMisses.increment();
+				}
+			}
+			return details;
 		} catch (Exception e) {
 			log.error("Failed to multi-get product details as list from cache", e);
 			return Collections.emptyList();
@@ -147,8 +367,9 @@ public class ProductDetailCacheService {
 	 */
 	public void delete(UUID productId) {
 		try {
-			String key = ProductCacheKey.productDetail(productId);
-			redisTemplate.delete(key);
+			productCacheBytesRedisTemplate.delete(
+				List.of(ProductCacheKey.productDetail(productId), ProductCacheKey.productCard(productId)));
+			evictLocal(productId);
 
 			log.debug("Product detail cache deleted: productId={}", productId);
 		} catch (Exception e) {
@@ -161,9 +382,13 @@ public class ProductDetailCacheService {
 	 * @param productId 상품 ID
 	 */
 	public boolean exists(UUID productId) {
+		if (localCache.get(productId) != null) {
+			return true;
+		}
+
 		try {
 			String key = ProductCacheKey.productDetail(productId);
-			Boolean exists = redisTemplate.hasKey(key);
+			Boolean exists = productCacheBytesRedisTemplate.hasKey(key);
 			return Boolean.TRUE.equals(exists);
 		} catch (Exception e) {
 			log.error("Failed to check product detail cache existence: productId={}", productId, e);
@@ -176,13 +401,117 @@ public class ProductDetailCacheService {
 	 */
 	public void clearAll() {
 		try {
-			Set<String> keys = redisTemplate.keys(ProductCacheKey.productDetailPattern());
+			localCache.clear();
+			invalidationBroadcaster.publishClearAll();
+
+			Set<String> keys = productCacheBytesRedisTemplate.keys(ProductCacheKey.productDetailPattern());
 			if (keys != null && !keys.isEmpty()) {
-				redisTemplate.delete(keys);
+				productCacheBytesRedisTemplate.delete(keys);
 				log.info("All product detail cache cleared: {} keys", keys.size());
 			}
+
+			Set<String> cardKeys = productCacheBytesRedisTemplate.keys(ProductCacheKey.productCardPattern());
+			if (cardKeys != null && !cardKeys.isEmpty()) {
+				productCacheBytesRedisTemplate.delete(cardKeys);
+				log.info("All product card cache cleared: {} keys", cardKeys.size());
+			}
 		} catch (Exception e) {
 			log.error("Failed to clear all product detail cache", e);
 		}
 	}
+
+	/**
+	 * 계층별 캐시 통계 (응답 바이트, L1: JVM, L2: Redis)
+	 */
+	public ResProductCacheStatsDto getStats() {
+		CacheStats l1 = localCache.stats();
+		CacheStats response = responseCache.stats();
+		return ResProductCacheStatsDto.builder()
+			.l1(TierStats.of(localCache.isEnabled(), l1.hitCount(), l1.missCount(),
+				localCache.size(), localCache.weightBytes(), l1.evictionCount()))
+			.l2(TierStats.of(true, redisHits.sum(), redisMisses.sum(), 0, 0, 0))
+			.response(TierStats.of(responseCache.isEnabled(), response.hitCount(), response.missCount(),
+				responseCache.size(), responseCache.weightBytes(), response.evictionCount()))
+			.responseNotModified(responseCache.notModifiedCount())
+			.invalidationsSent(invalidationBroadcaster.sentCount())
+			.invalidationsReceived(invalidationBroadcaster.receivedCount())
+			.codecWriteFormat(serializer.writeFormat())
+			.codecForeignFormatReads(serializer.foreignFormatReads())
+			.negativeHits(negativeHits.sum())
+			.negativeStores(negativeStores.sum())
+			.build();
+	}
+
+	/**
+	 * 상세 + 카드 기록 (세대가 읽어 둔 값과 같은 상품만, NOSCRIPT 시 EVAL로 재시도는 RedisTemplate이 처리)
+	 * @return 기록한 상품 수
+	 */
+	private long write(List<CachedProductDetail> details, Map<UUID, Long> generations) {
+		List<String> keys = new ArrayList<>(details.size() * 4);
+		List<Object> args = new ArrayList<>(details.size() * 3 + 2);
+		args.add(bytes(String.valueOf(generationTtlSeconds)));
+		args.add(bytes(String.valueOf(negativeEnabled ? negativeTtlSeconds : 0)));
+		for (CachedProductDetail detail : details) {
+			Long generation = generations.get(detail.getProductId());
+			if (generation == null) {
+				continue;
+			}
+			keys.addAll(writeKeys(detail.getProductId()));
+			args.add(bytes(String.valueOf(generation)));
+			args.add(serializer.serialize(detail));
+			args.add(cardCodec.encode(CachedProductCard.from(detail)));
+		}
+		if (keys.isEmpty()) {
+			return 0;
+		}
+
+		Long written = productCacheBytesRedisTemplate.execute(writeScript, keys, args.toArray());
+		return written != null ? written : 0;
+	}
+
+	private void appendWrite(RedisConnection connection, UUID productId, long generation, byte[] detail,
+		byte[] card) {
+		List<byte[]> keysAndArgs = new ArrayList<>(9);
+		writeKeys(productId).forEach(key -> keysAndArgs.add(bytes(key)));
+		keysAndArgs.add(bytes(String.valueOf(generationTtlSeconds)));
+		keysAndArgs.add(bytes(String.valueOf(negativeEnabled ? negativeTtlSeconds : 0)));
+		keysAndArgs.add(bytes(String.valueOf(generation)));
+		keysAndArgs.add(detail);
+		keysAndArgs.add(card);
+
+		connection.scriptingCommands().evalSha(writeScript.getSha1(), ReturnType.INTEGER, 4,
+			keysAndArgs.toArray(byte[][]::new));
+	}
+
+	/**
+	 * 상품 1건의 기록 스크립트 키 (세대, 상세, 카드, 조회 불가 표시 - product_detail_write.lua 순서)
+	 */
+	private static List<String> writeKeys(UUID productId) {
+		return List.of(ProductCacheKey.productDetailGeneration(productId), ProductCacheKey.productDetail(productId),
+			ProductCacheKey.productCard(productId), ProductCacheKey.productDetailMissing(productId));
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * MGET 결과 중 한 건이 손상되어도 나머지는 살리고 해당 건만 미스로 처리
+	 */
+	private CachedProductDetail deserializeQuietly(byte[] bytes, UUID productId) {
+		try {
+			return serializer.deserialize(bytes);
+		} catch (Exception e) {
+			log.warn("Failed to decode product detail cache value: productId={}", productId, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 로컬 L1 무효화 + 다른 노드에 무효화 전파
+	 */
+	private void evictLocal(UUID productId) {
+		localCache.invalidate(productId);
+		invalidationBroadcaster.publish(productId);
+	}
 }
@@ -0,0 +1,23 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+/**
+ * 상품 상세 캐시 값 인코딩/디코딩
+ *
+ * 구현체는 자신이 쓴 값을 첫 바이트로 식별할 수 있어야 함 (포맷 혼재 구간 이중 읽기용)
+ */
+public interface ProductDetailCodec {
+
+	/**
+	 * 설정값(product.cache.codec.write-format)에서 사용하는 포맷 이름
+	 */
+	String format();
+
+	byte[] encode(CachedProductDetail detail);
+
+	CachedProductDetail decode(byte[] bytes);
+
+	/**
+	 * 이 코덱으로 쓴 값인지 판별
+	 */
+	boolean canDecode(byte[] bytes);
+}
@@ -0,0 +1,153 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.groom.e_commerce.global.infrastructure.redis.SingleFlightLoader;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 상세 L1 캐시 (JVM 내부, Redis 앞단)
+ *
+ * - 용량: 추정 바이트(weight) 기준 상한 + 항목당 상한 (큰 상품은 L1에 올리지 않음)
+ * - TTL: 다른 노드의 무효화 메시지가 유실되어도 stale 기간을 TTL로 제한
+ * - 무효화 시퀀스: Redis 조회 시작 후 무효화가 발생했으면 조회 결과를 L1에 올리지 않음
+ *   (무효화 이전 값이 무효화 이후에 적재되는 경합 방지)
+ * - 무효화는 응답 바이트 캐시(ProductResponseCache)와 상세 적재 Single-flight의 마지막 적재 값에도 함께 적용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailLocalCache {
+
+	private final ProductResponseCache responseCache;
+	private final SingleFlightLoader singleFlightLoader;
+
+	@Value("${product.cache.l1.enabled:true}")
+	private boolean enabled;
+
+	@Value("${product.cache.l1.max-weight-bytes:67108864}")
+	private long maxWeightBytes;
+
+	@Value("${product.cache.l1.max-entry-bytes:262144}")
+	private int maxEntryBytes;
+
+	@Value("${product.cache.l1.ttl-seconds:30}")
+	private long ttlSeconds;
+
+	private final AtomicLong invalidationSequence = new AtomicLong();
+	private Cache<UUID, CachedProductDetail> cache;
+
+	@PostConstruct
+	public void init() {
+		cache = Caffeine.newBuilder()
+			.maximumWeight(maxWeightBytes)
+			.weigher((UUID productId, CachedProductDetail detail) -> estimateBytes(detail))
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.recordStats()
+			.build();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * L1 조회 (없으면 null)
+	 */
+	public CachedProductDetail get(UUID productId) {
+		return enabled ? cache.getIfPresent(productId) : null;
+	}
+
+	/**
+	 * Redis 조회 직전에 호출하여 현재 무효화 시퀀스를 기록
+	 */
+	public long currentSequence() {
+		return invalidationSequence.get();
+	}
+
+	/**
+	 * L1 적재 (조회 시작 이후 무효화가 없었을 때만)
+	 *
+	 * @param observedSequence Redis 조회 직전의 무효화 시퀀스
+	 */
+	public void putIfNotInvalidated(UUID productId, CachedProductDetail detail, long observedSequence) {
+		if (!enabled || detail == null || estimateBytes(detail) > maxEntryBytes) {
+			return;
+		}
+		if (invalidationSequence.get() == observedSequence) {
+			cache.put(productId, detail);
+		}
+	}
+
+	public void invalidate(UUID productId) {
+		invalidateAll(List.of(productId));
+	}
+
+	public void invalidateAll(Collection<UUID> productIds) {
+		invalidationSequence.incrementAndGet();
+		if (enabled) {
+			cache.invalidateAll(productIds);
+		}
+		responseCache.invalidateAll(productIds);
+		singleFlightLoader.forget(productIds.stream().map(ProductCacheKey::productDetail).toList());
+	}
+
+	public void clear() {
+		invalidationSequence.incrementAndGet();
+		if (enabled) {
+			cache.invalidateAll();
+		}
+		responseCache.clear();
+		singleFlightLoader.forgetByPrefix(ProductCacheKey.productDetailPrefix());
+	}
+
+	public long size() {
+		return enabled ? cache.estimatedSize() : 0;
+	}
+
+	public long weightBytes() {
+		return enabled ? cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L) : 0;
+	}
+
+	public CacheStats stats() {
+		return enabled ? cache.stats() : CacheStats.empty();
+	}
+
+	/**
+	 * 힙 점유량 추정 (문자열 2바이트/문자 + 객체 헤더 근사치)
+	 */
+	private static int estimateBytes(CachedProductDetail detail) {
+		long bytes = 512;
+		bytes += 2L * (length(detail.getTitle()) + length(detail.getDescription())
+			+ length(detail.getThumbnailUrl()) + length(detail.getCategoryFullPath()));
+		if (detail.getOptions() != null) {
+			for (CachedProductDetail.CachedOption option : detail.getOptions()) {
+				bytes += 128 + 2L * length(option.getName());
+				if (option.getValues() != null) {
+					bytes += 96L * option.getValues().size();
+				}
+			}
+		}
+		if (detail.getVariants() != null) {
+			bytes += 256L * detail.getVariants().size();
+		}
+		return (int)Math.min(bytes, Integer.MAX_VALUE);
+	}
+
+	private static int length(String value) {
+		return value != null ? value.length() : 0;
+	}
+}
@@ -0,0 +1,78 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 상세 캐시 값 직렬화 (쓰기 포맷 선택 + 이중 읽기)
+ *
+ * - 쓰기: product.cache.codec.write-format 에 지정된 코덱 하나로만 기록
+ * - 읽기: 값의 첫 바이트로 포맷을 판별하여 등록된 모든 코덱으로 읽음
+ *   → 롤링 배포 중 json/binary 값이 섞여 있어도 캐시 미스 없이 읽고,
+ *     쓰기 포맷이 아닌 값은 다음 갱신(put) 시 자연스럽게 교체됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailSerializer {
+
+	private final List<ProductDetailCodec> codecs;
+
+	@Value("${product.cache.codec.write-format:binary}")
+	private String writeFormat;
+
+	private ProductDetailCodec writer;
+
+	// 쓰기 포맷이 아닌 값을 읽은 횟수 (마이그레이션 진행 확인용)
+	private final LongAdder foreignFormatReads = new LongAdder();
+
+	@PostConstruct
+	public void init() {
+		writer = codecs.stream()
+			.filter(codec -> codec.format().equalsIgnoreCase(writeFormat))
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException("Unknown product detail codec: " + writeFormat));
+		log.info("Product detail cache codec: write={}", writer.format());
+	}
+
+	public byte[] serialize(CachedProductDetail detail) {
+		return writer.encode(detail);
+	}
+
+	/**
+	 * @return 역직렬화된 값 (null/빈 값이면 null)
+	 */
+	public CachedProductDetail deserialize(byte[] bytes) {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+
+		if (writer.canDecode(bytes)) {
+			return writer.decode(bytes);
+		}
+
+		for (ProductDetailCodec codec : codecs) {
+			if (codec != writer && codec.canDecode(bytes)) {
+				foreignFormatReads.increment();
+				return codec.decode(bytes);
+			}
+		}
+		throw new SerializationException("Unknown product detail cache value format");
+	}
+
+	public String writeFormat() {
+		return writer.format();
+	}
+
+	public long foreignFormatReads() {
+		return foreignFormatReads.sum();
+	}
+}
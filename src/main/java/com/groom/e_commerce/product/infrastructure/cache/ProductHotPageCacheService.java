@@ -0,0 +1,202 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최신순 앞쪽 페이지 Redis 캐시 (카테고리별 미리 계산)
+ *
+ * 키: product:hotpage:{categoryId|all} (Hash: "{page}:{size}" → CachedProductPage)
+ * - 조회: HGET 한 번 (ZREVRANGE + 카드 MGET + 개수 GET 대신)
+ * - 무효화: 변경 동기화 파이프라인에서 상품 카테고리 계보 + 전체의 Hash 삭제 + 버전 INCR
+ * - 재계산: 목록 ZSET/카드/개수로 페이지를 만들어 시작 시 버전이 그대로일 때만 기록 (스크립트)
+ *   → 재계산 중 변경이 끼어들면 이전 상태 페이지를 버리고 다음 재계산에 맡김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductHotPageCacheService {
+
+	private final RedisTemplate<String, byte[]> productCacheBytesRedisTemplate;
+	private final ProductCardCodec cardCodec;
+	private final ProductCardCacheService cardCacheService;
+	private final ProductListCacheService listCacheService;
+	private final CategoryPathCache categoryPathCache;
+
+	@Value("${product.hot-page.enabled:true}")
+	private boolean enabled;
+
+	// 미리 계산하는 페이지 수 (0부터, 이 값 미만 페이지만)
+	@Value("${product.hot-page.pages:3}")
+	private int pages;
+
+	// 미리 계산하는 페이지 크기 (다른 크기 요청은 기존 경로)
+	@Value("${product.hot-page.page-size:20}")
+	private int pageSize;
+
+	private DefaultRedisScript<Long> writeScript;
+
+	@PostConstruct
+	public void init() {
+		writeScript = new DefaultRedisScript<>();
+		writeScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/product_hot_page_write.lua")));
+		writeScript.setResultType(Long.class);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public int pages() {
+		return pages;
+	}
+
+	public int pageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * 미리 계산하는 페이지인지 (0-based 페이지 번호)
+	 */
+	public boolean covers(int pageNumber, int size) {
+		return enabled && pageNumber < pages && size == pageSize;
+	}
+
+	/**
+	 * 페이지 조회
+	 * @return 없거나 읽기 실패 시 null
+	 */
+	public CachedProductPage get(UUID categoryId, int pageNumber) {
+		try {
+			byte[] bytes = productCacheBytesRedisTemplate.<String, byte[]>opsForHash()
+				.get(ProductCacheKey.productHotPage(categoryId), field(pageNumber));
+			return bytes != null ? cardCodec.decodePage(bytes) : null;
+		} catch (Exception e) {
+			log.error("Failed to get hot product page: categoryId={}, page={}", categoryId, pageNumber, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 상품 변경의 영향을 받는 페이지 (카테고리 + 조상 카테고리 + 전체)
+	 * @param categoryIds 상품의 현재/이전 카테고리 (null 무시)
+	 */
+	public Set<UUID> affectedCategories(Collection<UUID> categoryIds) {
+		Set<UUID> affected = new LinkedHashSet<>();
+		for (UUID categoryId : categoryIds) {
+			if (categoryId != null) {
+				affected.addAll(categoryPathCache.lineage(categoryId));
+			}
+		}
+		affected.add(null);
+		return affected;
+	}
+
+	/**
+	 * 페이지 삭제 + 버전 증가 명령을 파이프라인에 추가 (커밋 후 변경 동기화 전용 - 목록/개수 명령 뒤에 추가)
+	 * @return 추가한 명령 수
+	 */
+	public int appendInvalidate(RedisConnection connection, Set<UUID> categoryIds) {
+		if (!enabled) {
+			return 0;
+		}
+		for (UUID categoryId : categoryIds) {
+			connection.keyCommands().del(bytes(ProductCacheKey.productHotPage(categoryId)));
+			connection.stringCommands().incr(bytes(ProductCacheKey.productHotPageVersion(categoryId)));
+		}
+		return categoryIds.size() * 2;
+	}
+
+	/**
+	 * 페이지 삭제 + 버전 증가 (변경 동기화 밖에서 목록/개수 키를 바꾼 경우 - 누락 카드 보충 중 제거 등)
+	 */
+	public void invalidate(Set<UUID> categoryIds) {
+		if (!enabled || categoryIds.isEmpty()) {
+			return;
+		}
+		try {
+			productCacheBytesRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				appendInvalidate(connection, categoryIds);
+				return null;
+			});
+		} catch (Exception e) {
+			log.error("Failed to invalidate hot product pages: categories={}", categoryIds.size(), e);
+		}
+	}
+
+	/**
+	 * 주기 재계산 임차 (SET NX PX - 임차한 노드만 전체 재계산 요청)
+	 * @return true: 이번 주기는 이 노드가 수행
+	 */
+	public boolean tryAcquireRefreshLease(Duration lease) {
+		Boolean acquired = productCacheBytesRedisTemplate.opsForValue()
+			.setIfAbsent(ProductCacheKey.productHotPageRefreshLease(), bytes("1"), lease);
+		return Boolean.TRUE.equals(acquired);
+	}
+
+	/**
+	 * 카테고리 앞쪽 페이지 재계산
+	 * 목록이 적재되지 않았거나 카드/개수가 없으면 기록하지 않음 (기존 경로가 DB 적재/카드 보충 후 다음 재계산에서 기록)
+	 * @return true: 기록함
+	 */
+	public boolean rebuild(UUID categoryId) {
+		if (!enabled) {
+			return false;
+		}
+
+		String versionKey = ProductCacheKey.productHotPageVersion(categoryId);
+		byte[] version = productCacheBytesRedisTemplate.opsForValue().get(versionKey);
+		byte[] observed = version != null ? version : bytes("0");
+
+		long totalCount = listCacheService.getCachedTotalCount(categoryId);
+		List<UUID> productIds = listCacheService.getProductIds(categoryId, 0, (long)pages * pageSize);
+		if (totalCount < 0 || (productIds.isEmpty() && totalCount != 0)) {
+			return false;
+		}
+
+		List<CachedProductCard> cards = cardCacheService.multiGetAsList(productIds);
+		if (cards.size() != productIds.size() || cards.contains(null)) {
+			return false;
+		}
+
+		List<Object> args = new ArrayList<>(1 + pages * 2);
+		args.add(observed);
+		for (int page = 0; page < pages; page++) {
+			int from = Math.min(page * pageSize, cards.size());
+			int to = Math.min(from + pageSize, cards.size());
+			args.add(bytes(field(page)));
+			args.add(cardCodec.encodePage(new CachedProductPage(List.copyOf(cards.subList(from, to)), totalCount)));
+		}
+
+		Long written = productCacheBytesRedisTemplate.execute(writeScript,
+			List.of(ProductCacheKey.productHotPage(categoryId), versionKey), args.toArray());
+		return written != null && written == 1L;
+	}
+
+	private String field(int pageNumber) {
+		return pageNumber + ":" + pageSize;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -1,28 +1,59 @@
 package com.groom.e_commerce.product.infrastructure.cache;
 
-import java.time.ZoneOffset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.DefaultTuple;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.RedisZSetCommands.Tuple;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Service;
 
+import com.groom.e_commerce.product.application.dto.ProductCursor;
 import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.enums.ProductSortType;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 상품 목록 Redis Sorted Set 캐시 서비스
  *
- * 키: product:list:category:{categoryId}
- * 값: Sorted Set (score: createdAt timestamp, member: productId)
+ * 키: product:list:v2:category:{categoryId}
+ * 값: Sorted Set (score: createdAt epoch 마이크로초, member: productId) - 순서는 DB Keyset과 동일 (ProductCursor)
+ * 대상: 판매중 상품만 (DB 구매자 조회, 판매중 개수와 같은 기준)
+ * 상품은 자기 카테고리와 모든 조상 카테고리 키에 함께 기록 (상위 카테고리 키 = 하위 트리 합집합)
+ *
+ * 정렬 인덱스: product:sort:price|rating:category:{categoryId} (같은 멤버, score만 다름)
+ * 가격 구간 필터: 가격 인덱스 ZRANGEBYSCORE/ZCOUNT, 다른 정렬은 교집합 결과 집합(짧은 TTL)
+ * 판매중 상품 수: product:count:category:{categoryId} - 상품 변경 동기화(appendSync)에서 ZADD/ZREM과 같은 파이프라인으로 증감
  *
  * 장점:
  * - 상품 변경 시 해당 상품만 추가/삭제 (목록 전체 무효화 불필요)
- * - ZREVRANGE로 페이지네이션 즉시 처리
+ * - ZREVRANGE로 페이지네이션 즉시 처리 (커서 조회는 ZREVRANK 기준 - 깊은 페이지도 O(log N))
  * - 키 수 = 카테고리 수 (키 폭발 방지)
  */
 @Slf4j
@@ -30,48 +61,154 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ProductListCacheService {
 
+	// 집계 마커: 판매중이 아니어서 개수에 포함되지 않은 상품
+	private static final String NOT_COUNTED = "-";
+	private static final int MARKER_PRUNE_BATCH = 500;
+
 	private final StringRedisTemplate stringRedisTemplate;
+	private final CategoryPathCache categoryPathCache;
+
+	// 가격 구간 필터 결과 집합 TTL (짧게 유지 - 상품 변경은 TTL 내에서만 늦게 반영)
+	@Value("${product.cache.filter.result-ttl-seconds:30}")
+	private long filterResultTtlSeconds;
+
+	// DB 재계산 표시 유지 시간 - 커밋 후 동기화가 늦어도 이 안에 도착하면 재계산에 포함된 변경을 다시 증감하지 않음
+	@Value("${product.cache.count.recount-guard-ms:5000}")
+	private long recountGuardMs;
+
+	@SuppressWarnings("rawtypes")
+	private DefaultRedisScript<List> listAfterScript;
+	private DefaultRedisScript<Long> priceFilterScript;
+	private DefaultRedisScript<Long> countTransitionScript;
+
+	// 가격 구간 결과 집합(ZRANGESTORE) 지원 여부 - 최초 확인 후 고정 (확인 실패 시 다음 요청에서 재확인)
+	private volatile Boolean priceFilterSetsSupported;
+
+	@PostConstruct
+	public void init() {
+		listAfterScript = new DefaultRedisScript<>();
+		listAfterScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/product_list_after.lua")));
+		listAfterScript.setResultType(List.class);
+
+		priceFilterScript = new DefaultRedisScript<>();
+		priceFilterScript.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/product_price_filter.lua")));
+		priceFilterScript.setResultType(Long.class);
+
+		countTransitionScript = new DefaultRedisScript<>();
+		countTransitionScript.setScriptSource(
+			new ResourceScriptSource(new ClassPathResource("scripts/product_count_transition.lua")));
+		countTransitionScript.setResultType(Long.class);
+	}
 
 	/**
-	 * 카테고리 목록에 상품 추가
+	 * 카테고리 목록 + 정렬 인덱스에 상품 추가
 	 * @param product 추가할 상품
 	 */
 	public void addProduct(Product product) {
 		try {
-			String productId = product.getId().toString();
-			double score = product.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
-
-			// 카테고리별 목록에 추가
-			String categoryKey = ProductCacheKey.productList(product.getCategory().getId());
-			stringRedisTemplate.opsForZSet().add(categoryKey, productId, score);
-
-			// 전체 목록에도 추가
-			String allKey = ProductCacheKey.productListAll();
-			stringRedisTemplate.opsForZSet().add(allKey, productId, score);
+			writeIndexes(List.of(product));
 
 			log.debug("Product added to list cache: productId={}, categoryId={}",
-				productId, product.getCategory().getId());
+				product.getId(), product.getCategory().getId());
 		} catch (Exception e) {
 			log.error("Failed to add product to list cache: productId={}", product.getId(), e);
 		}
 	}
 
 	/**
-	 * 카테고리 목록에서 상품 제거
+	 * 카테고리/전체 목록 + 정렬 인덱스에 상품 일괄 추가 (키별 다중 ZADD를 하나의 파이프라인으로 전송)
+	 * 실패 시 예외를 전파하여 호출자(Warm-up)가 재시도 지점을 유지할 수 있도록 함
+	 * @param products 추가할 상품 (카테고리가 적재된 상태)
+	 */
+	public void addProducts(List<Product> products) {
+		if (products == null || products.isEmpty()) {
+			return;
+		}
+
+		try {
+			int keyCount = writeIndexes(products);
+			log.debug("Products added to list cache (bulk): count={}, keys={}", products.size(), keyCount);
+		} catch (Exception e) {
+			log.error("Failed to add products to list cache (bulk): count={}", products.size(), e);
+			throw e;
+		}
+	}
+
+	/**
+	 * 목록(최신순) / 가격 / 평점 인덱스를 한 파이프라인으로 기록
+	 * 평점 score는 product:rating:scores Hash에서 HMGET 한 번으로 조회 (없으면 0)
+	 * 캐시 적재(Warm-up, 조회 시 적재)는 상태 변화가 아니므로 개수는 그대로 두고, 집계 마커만 없을 때 기록 (HSETNX)
+	 * @return 기록한 키 수
+	 */
+	private int writeIndexes(List<Product> products) {
+		List<Object> ratings = stringRedisTemplate.opsForHash().multiGet(
+			ProductCacheKey.productRatingScores(),
+			products.stream().map(product -> (Object)product.getId().toString()).toList());
+
+		Map<String, Set<Tuple>> tuplesByKey = new HashMap<>();
+		for (int i = 0; i < products.size(); i++) {
+			Product product = products.get(i);
+			byte[] member = product.getId().toString().getBytes(StandardCharsets.UTF_8);
+			Object rating = ratings == null ? null : ratings.get(i);
+			Tuple createdAt = new DefaultTuple(member, createdAtScore(product));
+			Tuple price = new DefaultTuple(member, priceScore(product));
+			Tuple avgRating = new DefaultTuple(member, rating == null ? 0 : Double.parseDouble(rating.toString()));
+
+			// 상품 카테고리 + 조상 카테고리 + 전체 (상위 카테고리 키 = 하위 트리 합집합)
+			List<UUID> categoryIds = new ArrayList<>(categoryPathCache.lineage(product.getCategory().getId()));
+			categoryIds.add(null);
+			for (UUID categoryId : categoryIds) {
+				addTuple(tuplesByKey, ProductCacheKey.productList(categoryId), createdAt);
+				addTuple(tuplesByKey, ProductCacheKey.productPriceIndex(categoryId), price);
+				addTuple(tuplesByKey, ProductCacheKey.productRatingIndex(categoryId), avgRating);
+			}
+		}
+
+		byte[] memberKey = ProductCacheKey.productCountMember().getBytes(StandardCharsets.UTF_8);
+		stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			tuplesByKey.forEach((key, tuples) ->
+				connection.zSetCommands().zAdd(key.getBytes(StandardCharsets.UTF_8), tuples));
+			for (Product product : products) {
+				connection.hashCommands().hSetNX(memberKey, product.getId().toString().getBytes(StandardCharsets.UTF_8),
+					countMarker(product).getBytes(StandardCharsets.UTF_8));
+			}
+			return null;
+		});
+		return tuplesByKey.size();
+	}
+
+	private static void addTuple(Map<String, Set<Tuple>> tuplesByKey, String key, Tuple tuple) {
+		tuplesByKey.computeIfAbsent(key, k -> new HashSet<>()).add(tuple);
+	}
+
+	private static double createdAtScore(Product product) {
+		return ProductCursor.scoreOf(product.getCreatedAt());
+	}
+
+	private static double priceScore(Product product) {
+		Long minPrice = CachedProductDetail.minPriceOf(product);
+		return minPrice != null ? minPrice : 0;
+	}
+
+	/**
+	 * 카테고리 목록 + 정렬 인덱스에서 상품 제거 (캐시 정리용 - 조회 중 발견한 삭제/비노출 상품)
+	 * 집계 여부를 알 수 없으므로 마커와 계보의 판매중 개수 키를 함께 삭제 (다음 조회에서 DB로 다시 계산)
 	 * @param productId 제거할 상품 ID
 	 * @param categoryId 카테고리 ID
 	 */
 	public void removeProduct(UUID productId, UUID categoryId) {
 		try {
-			String productIdStr = productId.toString();
+			byte[] member = productId.toString().getBytes(StandardCharsets.UTF_8);
+			List<String> keys = lineageIndexKeys(categoryId);
+			List<String> countKeys = countKeys(categoryId);
 
-			// 카테고리별 목록에서 제거
-			String categoryKey = ProductCacheKey.productList(categoryId);
-			stringRedisTemplate.opsForZSet().remove(categoryKey, productIdStr);
-
-			// 전체 목록에서도 제거
-			String allKey = ProductCacheKey.productListAll();
-			stringRedisTemplate.opsForZSet().remove(allKey, productIdStr);
+			stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				keys.forEach(key -> connection.zSetCommands().zRem(key.getBytes(StandardCharsets.UTF_8), member));
+				connection.hashCommands().hDel(ProductCacheKey.productCountMember().getBytes(StandardCharsets.UTF_8),
+					member);
+				countKeys.forEach(key -> connection.keyCommands().del(key.getBytes(StandardCharsets.UTF_8)));
+				return null;
+			});
 
 			log.debug("Product removed from list cache: productId={}, categoryId={}", productId, categoryId);
 		} catch (Exception e) {
@@ -80,28 +217,339 @@ public class ProductListCacheService {
 	}
 
 	/**
-	 * 상품의 카테고리 변경 처리
-	 * @param product 변경된 상품
-	 * @param oldCategoryId 이전 카테고리 ID
+	 * 동기화 전 상태 일괄 조회 (집계 마커 + 평점 score, 파이프라인 한 번)
+	 * 실패 시 예외를 전파하여 호출자(변경 동기화)가 재시도하도록 함
+	 * @return 요청 순서와 같은 상태 목록
+	 */
+	public List<SyncState> readSyncStates(List<UUID> productIds) {
+		byte[][] fields = productIds.stream()
+			.map(productId -> productId.toString().getBytes(StandardCharsets.UTF_8))
+			.toArray(byte[][]::new);
+
+		List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			connection.hashCommands().hMGet(ProductCacheKey.productCountMember().getBytes(StandardCharsets.UTF_8), fields);
+			connection.hashCommands().hMGet(ProductCacheKey.productRatingScores().getBytes(StandardCharsets.UTF_8), fields);
+			return null;
+		});
+
+		List<?> markers = (List<?>)results.get(0);
+		List<?> ratings = (List<?>)results.get(1);
+		List<SyncState> states = new ArrayList<>(productIds.size());
+		for (int i = 0; i < productIds.size(); i++) {
+			Object marker = markers.get(i);
+			Object rating = ratings.get(i);
+			states.add(new SyncState(marker != null ? marker.toString() : null,
+				rating != null ? Double.parseDouble(rating.toString()) : 0));
+		}
+		return states;
+	}
+
+	/**
+	 * 상품 1건의 목록/정렬 인덱스 + 판매중 개수 동기화 명령을 파이프라인에 추가 (커밋 후 변경 동기화 전용)
+	 * - 목록 노출 상태(판매중)면 현재 카테고리 계보에 ZADD하고 이전 카테고리 계보에만 있는 키에서 ZREM
+	 * - 그 외(품절/숨김/정지/삭제/DB에 없음)는 현재 + 이전 카테고리 계보에서 ZREM
+	 * - 삭제/DB에 없음이면 평점 Hash(product:rating:scores)의 field도 삭제 (다시 노출될 수 없으므로)
+	 * - 판매중 개수는 마지막 명령(스크립트)으로 증감 → 결과가 -1이면 마커가 그 사이 바뀐 것이므로 다시 읽고 재시도
+	 * @param product DB 현재 상태 (카테고리/Variant 적재, 삭제된 상품 포함, DB에 없으면 null)
+	 * @param staleCategoryIds 이전 카테고리 (카테고리 변경 시)
+	 * @param state readSyncStates로 읽어 둔 상태
+	 * @param created 새로 등록된 상품 (마커가 없으면 미집계 상태로 확정)
+	 */
+	public void appendSync(RedisConnection connection, UUID productId, Product product, Set<UUID> staleCategoryIds,
+		SyncState state, boolean created) {
+		byte[] member = productId.toString().getBytes(StandardCharsets.UTF_8);
+		UUID categoryId = product != null ? product.getCategory().getId() : null;
+		boolean listable = product != null && isListable(product);
+
+		Set<String> staleKeys = new LinkedHashSet<>();
+		staleCategoryIds.forEach(staleId -> staleKeys.addAll(lineageIndexKeys(staleId)));
+
+		if (listable) {
+			List<UUID> categoryIds = new ArrayList<>(categoryPathCache.lineage(categoryId));
+			categoryIds.add(null);
+			double createdAt = createdAtScore(product);
+			double price = priceScore(product);
+			for (UUID lineageId : categoryIds) {
+				connection.zSetCommands().zAdd(bytes(ProductCacheKey.productList(lineageId)), createdAt, member);
+				connection.zSetCommands().zAdd(bytes(ProductCacheKey.productPriceIndex(lineageId)), price, member);
+				connection.zSetCommands().zAdd(bytes(ProductCacheKey.productRatingIndex(lineageId)), state.rating(), member);
+			}
+			staleKeys.removeAll(lineageIndexKeys(categoryId));
+		} else {
+			staleKeys.addAll(lineageIndexKeys(categoryId));
+		}
+		staleKeys.forEach(key -> connection.zSetCommands().zRem(bytes(key), member));
+		if (product == null || product.isDeleted()) {
+			connection.hashCommands().hDel(bytes(ProductCacheKey.productRatingScores()), member);
+		}
+
+		appendCountTransition(connection, productId, product, staleCategoryIds, state.marker(), created);
+	}
+
+	/**
+	 * 판매중 개수 증감 스크립트 (이전 마커 기준, 공유하는 조상/전체 키는 건드리지 않음)
+	 */
+	private void appendCountTransition(RedisConnection connection, UUID productId, Product product,
+		Set<UUID> staleCategoryIds, String marker, boolean created) {
+		UUID categoryId = product != null ? product.getCategory().getId() : null;
+		boolean onSale = product != null && !product.isDeleted() && product.getStatus() == ProductStatus.ON_SALE;
+		List<String> newKeys = onSale ? countKeys(categoryId) : List.of();
+
+		List<String> decrKeys = List.of();
+		List<String> incrKeys = List.of();
+		List<String> deleteKeys = List.of();
+		if (marker != null) {
+			List<String> oldKeys = NOT_COUNTED.equals(marker) ? List.of() : countKeys(UUID.fromString(marker));
+			decrKeys = oldKeys.stream().filter(key -> !newKeys.contains(key)).toList();
+			incrKeys = newKeys.stream().filter(key -> !oldKeys.contains(key)).toList();
+		} else if (created) {
+			incrKeys = newKeys;
+		} else {
+			// 마커 없음 (마커 도입 전 상품 등) → 집계 여부를 몰라 증감 대신 개수 키 삭제
+			Set<String> unknownKeys = new LinkedHashSet<>(countKeys(categoryId));
+			staleCategoryIds.forEach(staleId -> unknownKeys.addAll(countKeys(staleId)));
+			deleteKeys = List.copyOf(unknownKeys);
+		}
+
+		String newMarker = product == null || product.isDeleted() ? "" : countMarker(product);
+		List<byte[]> keysAndArgs = new ArrayList<>();
+		keysAndArgs.add(bytes(ProductCacheKey.productCountMember()));
+		decrKeys.forEach(key -> keysAndArgs.add(bytes(key)));
+		incrKeys.forEach(key -> keysAndArgs.add(bytes(key)));
+		decrKeys.forEach(key -> keysAndArgs.add(bytes(ProductCacheKey.productCountRecount(key))));
+		incrKeys.forEach(key -> keysAndArgs.add(bytes(ProductCacheKey.productCountRecount(key))));
+		deleteKeys.forEach(key -> keysAndArgs.add(bytes(key)));
+		int numKeys = keysAndArgs.size();
+		keysAndArgs.add(bytes(productId.toString()));
+		keysAndArgs.add(bytes(marker != null ? marker : ""));
+		keysAndArgs.add(bytes(newMarker));
+		keysAndArgs.add(bytes(String.valueOf(decrKeys.size())));
+		keysAndArgs.add(bytes(String.valueOf(incrKeys.size())));
+
+		connection.scriptingCommands().evalSha(countTransitionScript.getSha1(), ReturnType.INTEGER,
+			numKeys, keysAndArgs.toArray(byte[][]::new));
+	}
+
+	/**
+	 * 개수 증감 스크립트 로드 명령을 파이프라인에 추가 (EVALSHA가 NOSCRIPT로 실패했을 때)
+	 */
+	public void appendScriptLoad(RedisConnection connection) {
+		connection.scriptingCommands().scriptLoad(bytes(countTransitionScript.getScriptAsString()));
+	}
+
+	/**
+	 * 판매중 개수 보정 (DB 기준 값과 다르거나 없는 키만 SET + 재계산 표시)
+	 * @param expected 카테고리 ID(null: 전체) → 하위 카테고리 포함 판매중 상품 수
+	 * @return 보정한 카테고리 ID (null: 전체)
+	 */
+	public List<UUID> correctCounts(Map<UUID, Long> expected) {
+		List<UUID> categoryIds = new ArrayList<>(expected.keySet());
+		List<String> keys = categoryIds.stream().map(ProductCacheKey::productCount).toList();
+		List<String> current = stringRedisTemplate.opsForValue().multiGet(keys);
+
+		Map<String, String> corrections = new HashMap<>();
+		List<UUID> corrected = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++) {
+			String value = String.valueOf(expected.get(categoryIds.get(i)));
+			String cached = current != null ? current.get(i) : null;
+			if (!value.equals(cached)) {
+				corrections.put(keys.get(i), value);
+				corrected.add(categoryIds.get(i));
+				if (cached != null) {
+					log.warn("Product count drift corrected: key={}, cached={}, actual={}", keys.get(i), cached, value);
+				}
+			}
+		}
+		if (!corrections.isEmpty()) {
+			writeRecounted(corrections);
+		}
+		return corrected;
+	}
+
+	/**
+	 * DB로 다시 센 개수 기록 + 재계산 표시 (파이프라인 한 번)
+	 * 재계산 직후 도착한 동기화는 이미 포함된 변경일 수 있어 증감 대신 개수 키를 삭제 (product_count_transition.lua)
+	 * 표시 유지 시간보다 늦게 도착한 동기화의 이중 반영은 판매중 개수 검증(ProductCategoryCountService)이 보정
+	 */
+	private void writeRecounted(Map<String, String> counts) {
+		Expiration guard = Expiration.milliseconds(recountGuardMs);
+		stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			counts.forEach((key, value) -> {
+				connection.stringCommands().set(bytes(ProductCacheKey.productCountRecount(key)), bytes("1"), guard,
+					SetOption.upsert());
+				connection.stringCommands().set(bytes(key), bytes(value));
+			});
+			return null;
+		});
+	}
+
+	/**
+	 * DB에 없거나 삭제된 상품의 집계 마커 정리 (동기화 유실로 남은 field - HSCAN으로 나눠 확인)
+	 * @param liveIds 주어진 상품 중 DB에 있고 삭제되지 않은 상품 ID
+	 * @return 삭제한 마커 수
 	 */
-	public void moveProduct(Product product, UUID oldCategoryId) {
+	public long pruneCountMarkers(Function<List<UUID>, Set<UUID>> liveIds) {
+		String memberKey = ProductCacheKey.productCountMember();
+		ScanOptions options = ScanOptions.scanOptions().count(MARKER_PRUNE_BATCH).build();
+		long pruned = 0;
+		try (Cursor<Map.Entry<Object, Object>> cursor = stringRedisTemplate.opsForHash().scan(memberKey, options)) {
+			List<UUID> batch = new ArrayList<>(MARKER_PRUNE_BATCH);
+			while (cursor.hasNext()) {
+				batch.add(UUID.fromString(cursor.next().getKey().toString()));
+				if (batch.size() >= MARKER_PRUNE_BATCH || !cursor.hasNext()) {
+					pruned += pruneMarkers(memberKey, batch, liveIds.apply(batch));
+					batch = new ArrayList<>(MARKER_PRUNE_BATCH);
+				}
+			}
+		}
+		return pruned;
+	}
+
+	private long pruneMarkers(String memberKey, List<UUID> productIds, Set<UUID> liveIds) {
+		Object[] stale = productIds.stream()
+			.filter(productId -> !liveIds.contains(productId))
+			.map(UUID::toString)
+			.toArray();
+		if (stale.length == 0) {
+			return 0;
+		}
+		Long deleted = stringRedisTemplate.opsForHash().delete(memberKey, stale);
+		return deleted != null ? deleted : 0;
+	}
+
+	/**
+	 * 판매중 상품 수 일괄 조회 (MGET, 캐시 미스는 -1)
+	 */
+	public Map<UUID, Long> getCachedCounts(List<UUID> categoryIds) {
+		Map<UUID, Long> counts = new HashMap<>();
 		try {
-			String productId = product.getId().toString();
-			double score = product.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+			List<String> values = stringRedisTemplate.opsForValue()
+				.multiGet(categoryIds.stream().map(ProductCacheKey::productCount).toList());
+			for (int i = 0; i < categoryIds.size(); i++) {
+				String value = values != null ? values.get(i) : null;
+				counts.put(categoryIds.get(i), value != null ? Long.parseLong(value) : -1L);
+			}
+		} catch (Exception e) {
+			log.error("Failed to get cached product counts: categories={}", categoryIds.size(), e);
+			categoryIds.forEach(categoryId -> counts.put(categoryId, -1L));
+		}
+		return counts;
+	}
 
-			// 이전 카테고리에서 제거
-			String oldKey = ProductCacheKey.productList(oldCategoryId);
-			stringRedisTemplate.opsForZSet().remove(oldKey, productId);
+	/**
+	 * 목록 노출 대상 (판매중 + 미삭제) - 목록/정렬 인덱스 기준, DB 구매자 조회(onSaleOnly)와 판매중 개수와 동일
+	 */
+	public static boolean isListable(Product product) {
+		return !product.isDeleted() && isListable(product.getStatus());
+	}
 
-			// 새 카테고리에 추가
-			String newKey = ProductCacheKey.productList(product.getCategory().getId());
-			stringRedisTemplate.opsForZSet().add(newKey, productId, score);
+	/**
+	 * 목록 노출 상태 (판매중)
+	 */
+	public static boolean isListable(ProductStatus status) {
+		return status == ProductStatus.ON_SALE;
+	}
+
+	private static String countMarker(Product product) {
+		return product.getStatus() == ProductStatus.ON_SALE ? product.getCategory().getId().toString() : NOT_COUNTED;
+	}
+
+	/**
+	 * 카테고리 + 조상 카테고리 + 전체의 판매중 개수 키 (카테고리가 null이면 전체만)
+	 */
+	private List<String> countKeys(UUID categoryId) {
+		List<String> keys = new ArrayList<>();
+		if (categoryId != null) {
+			categoryPathCache.lineage(categoryId).forEach(lineageId -> keys.add(ProductCacheKey.productCount(lineageId)));
+		}
+		keys.add(ProductCacheKey.productCount(null));
+		return keys;
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 동기화 전 상태
+	 * @param marker 집계 마커 (없으면 null)
+	 * @param rating 평점 score (없으면 0)
+	 */
+	public record SyncState(String marker, double rating) {
+
+		/**
+		 * 판매중으로 집계된 카테고리 (미집계/삭제/마커 없음은 null)
+		 */
+		public UUID countedCategoryId() {
+			return marker == null || marker.isEmpty() || NOT_COUNTED.equals(marker) ? null : UUID.fromString(marker);
+		}
+	}
 
-			log.debug("Product moved in list cache: productId={}, from={}, to={}",
-				productId, oldCategoryId, product.getCategory().getId());
+	/**
+	 * 상품 평점 갱신 (Hash 기록 + 평점 인덱스 score 갱신 - 인덱스에 있는 상품만)
+	 * @param productId 상품 ID
+	 * @param categoryId 카테고리 ID (모르면 null - 전체 인덱스만 갱신)
+	 * @param avgRating 평균 평점
+	 */
+	public void updateRating(UUID productId, UUID categoryId, double avgRating) {
+		try {
+			byte[] field = productId.toString().getBytes(StandardCharsets.UTF_8);
+			List<UUID> categoryIds = new ArrayList<>(
+				categoryId == null ? List.of() : categoryPathCache.lineage(categoryId));
+			categoryIds.add(null);
+			List<String> keys = categoryIds.stream().map(ProductCacheKey::productRatingIndex).toList();
+
+			stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				connection.hashCommands().hSet(ProductCacheKey.productRatingScores().getBytes(StandardCharsets.UTF_8),
+					field, String.valueOf(avgRating).getBytes(StandardCharsets.UTF_8));
+				keys.forEach(key -> connection.zSetCommands()
+					.zAdd(key.getBytes(StandardCharsets.UTF_8), avgRating, field, ZAddArgs.ifExists()));
+				return null;
+			});
+
+			log.debug("Product rating index updated: productId={}, avgRating={}", productId, avgRating);
 		} catch (Exception e) {
-			log.error("Failed to move product in list cache: productId={}", product.getId(), e);
+			log.error("Failed to update rating index: productId={}", productId, e);
+		}
+	}
+
+	/**
+	 * 상품 평점 일괄 기록 (Warm-up - 목록/인덱스 적재 전에 호출)
+	 * @param ratings productId → avgRating
+	 */
+	public void putRatings(Map<UUID, Double> ratings) {
+		if (ratings == null || ratings.isEmpty()) {
+			return;
 		}
+
+		Map<String, String> entries = new HashMap<>();
+		ratings.forEach((productId, avgRating) -> entries.put(productId.toString(), String.valueOf(avgRating)));
+		stringRedisTemplate.opsForHash().putAll(ProductCacheKey.productRatingScores(), entries);
+	}
+
+	/**
+	 * 카테고리 + 조상 카테고리 + 전체의 목록/정렬 인덱스 키
+	 */
+	private List<String> lineageIndexKeys(UUID categoryId) {
+		List<String> keys = new ArrayList<>();
+		if (categoryId != null) {
+			for (UUID lineageId : categoryPathCache.lineage(categoryId)) {
+				keys.addAll(indexKeys(lineageId));
+			}
+		}
+		keys.addAll(indexKeys(null));
+		return keys;
+	}
+
+	/**
+	 * 카테고리의 목록 + 정렬 인덱스 키
+	 */
+	private static List<String> indexKeys(UUID categoryId) {
+		List<String> keys = new ArrayList<>(3);
+		keys.add(ProductCacheKey.productList(categoryId));
+		keys.add(ProductCacheKey.productPriceIndex(categoryId));
+		keys.add(ProductCacheKey.productRatingIndex(categoryId));
+		return keys;
 	}
 
 	/**
@@ -132,6 +580,243 @@ public class ProductListCacheService {
 		}
 	}
 
+	/**
+	 * 카테고리별 상품 ID 목록 조회 (가격/평점 정렬 인덱스)
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 * @param sortType PRICE_ASC, PRICE_DESC, RATING (그 외는 최신순 목록)
+	 * @param offset 시작 위치 (0부터)
+	 * @param limit 조회 개수
+	 * @return 상품 ID 리스트
+	 */
+	public List<UUID> getSortedProductIds(UUID categoryId, ProductSortType sortType, long offset, long limit) {
+		if (sortType == null || sortType == ProductSortType.NEWEST) {
+			return getProductIds(categoryId, offset, limit);
+		}
+
+		try {
+			Set<String> productIds = switch (sortType) {
+				case PRICE_ASC -> stringRedisTemplate.opsForZSet()
+					.range(ProductCacheKey.productPriceIndex(categoryId), offset, offset + limit - 1);
+				case PRICE_DESC -> stringRedisTemplate.opsForZSet()
+					.reverseRange(ProductCacheKey.productPriceIndex(categoryId), offset, offset + limit - 1);
+				default -> stringRedisTemplate.opsForZSet()
+					.reverseRange(ProductCacheKey.productRatingIndex(categoryId), offset, offset + limit - 1);
+			};
+
+			if (productIds == null || productIds.isEmpty()) {
+				return Collections.emptyList();
+			}
+
+			return productIds.stream()
+				.map(UUID::fromString)
+				.toList();
+		} catch (Exception e) {
+			log.error("Failed to get sorted product IDs from cache: categoryId={}, sort={}", categoryId, sortType, e);
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * 정렬 인덱스가 판매중 상품 전체를 담고 있는지 확인 (완전성 표시 키)
+	 * Warm-up 상한/Lazy 적재로 일부만 있으면 정렬 결과가 틀리므로 DB 조회 필요
+	 * 표시는 상한 없이 끝난 전체 Warm-up이 기록하고, 이후 멤버십은 변경 동기화(appendSync)가 유지
+	 * (개수 캐시와 크기를 비교하면 대상 상태/갱신 시점이 달라 판단이 틀어질 수 있어 명시적 표시를 사용)
+	 */
+	public boolean isSortIndexComplete() {
+		try {
+			return Boolean.TRUE.equals(stringRedisTemplate.hasKey(ProductCacheKey.productSortIndexComplete()));
+		} catch (Exception e) {
+			log.error("Failed to check sort index completeness", e);
+			return false;
+		}
+	}
+
+	/**
+	 * 정렬 인덱스 완전성 표시 (상한 없이 끝난 전체 Warm-up 후)
+	 */
+	public void markSortIndexComplete() {
+		try {
+			stringRedisTemplate.opsForValue().set(ProductCacheKey.productSortIndexComplete(),
+				String.valueOf(System.currentTimeMillis()));
+		} catch (Exception e) {
+			log.error("Failed to mark sort index complete", e);
+		}
+	}
+
+	/**
+	 * 정렬 인덱스 상품 수 (ZCARD - 인덱스로 응답할 때의 전체 개수, 실패 시 -1)
+	 */
+	public long countSortIndex(UUID categoryId) {
+		try {
+			Long size = stringRedisTemplate.opsForZSet().zCard(ProductCacheKey.productPriceIndex(categoryId));
+			return size != null ? size : -1;
+		} catch (Exception e) {
+			log.error("Failed to count sort index: categoryId={}", categoryId, e);
+			return -1;
+		}
+	}
+
+	/**
+	 * 카테고리별 상품 ID 목록 커서 조회 (최신순, 커서 다음부터)
+	 * 삽입이 계속되어도 페이지가 밀리지 않음
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 * @param cursor 마지막으로 읽은 상품 (null이면 첫 페이지)
+	 * @param limit 조회 개수
+	 * @return 상품 ID 리스트
+	 */
+	public List<UUID> getProductIdsAfter(UUID categoryId, ProductCursor cursor, int limit) {
+		try {
+			return getIdsAfter(ProductCacheKey.productList(categoryId), cursor, limit);
+		} catch (Exception e) {
+			log.error("Failed to get product IDs after cursor from cache: categoryId={}", categoryId, e);
+			return Collections.emptyList();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<UUID> getIdsAfter(String key, ProductCursor cursor, int limit) {
+		List<String> productIds = stringRedisTemplate.execute(listAfterScript, List.of(key),
+			cursor == null ? "" : cursor.getProductId().toString(),
+			cursor == null ? "0" : String.valueOf((long)cursor.score()),
+			String.valueOf(limit));
+
+		if (productIds == null || productIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		return productIds.stream()
+			.map(UUID::fromString)
+			.toList();
+	}
+
+	/**
+	 * 가격 구간 상품 ID 목록 조회
+	 * - 가격순: 가격 인덱스 ZRANGEBYSCORE ... LIMIT (임시 집합 없음)
+	 * - 최신순/평점순: 가격 인덱스 ∩ 정렬 키 결과 집합(TTL)을 만들어 ZREVRANGE
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 * @param minPrice 최소 가격 (null이면 하한 없음)
+	 * @param maxPrice 최대 가격 (null이면 상한 없음)
+	 * @return 상품 ID 리스트
+	 */
+	public List<UUID> getPriceRangeProductIds(UUID categoryId, ProductSortType sortType, Long minPrice,
+		Long maxPrice, long offset, long limit) {
+		try {
+			String priceKey = ProductCacheKey.productPriceIndex(categoryId);
+			double min = minPrice == null ? Double.NEGATIVE_INFINITY : minPrice;
+			double max = maxPrice == null ? Double.POSITIVE_INFINITY : maxPrice;
+
+			Set<String> productIds;
+			if (sortType == ProductSortType.PRICE_ASC) {
+				productIds = stringRedisTemplate.opsForZSet().rangeByScore(priceKey, min, max, offset, limit);
+			} else if (sortType == ProductSortType.PRICE_DESC) {
+				productIds = stringRedisTemplate.opsForZSet().reverseRangeByScore(priceKey, min, max, offset, limit);
+			} else {
+				String resultKey = preparePriceFilter(categoryId, sortType, minPrice, maxPrice);
+				productIds = stringRedisTemplate.opsForZSet().reverseRange(resultKey, offset, offset + limit - 1);
+			}
+
+			if (productIds == null || productIds.isEmpty()) {
+				return Collections.emptyList();
+			}
+
+			return productIds.stream()
+				.map(UUID::fromString)
+				.toList();
+		} catch (Exception e) {
+			log.error("Failed to get price range product IDs from cache: categoryId={}, min={}, max={}",
+				categoryId, minPrice, maxPrice, e);
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * 가격 구간 상품 ID 커서 조회 (최신순, 커서 다음부터)
+	 */
+	public List<UUID> getPriceRangeProductIdsAfter(UUID categoryId, Long minPrice, Long maxPrice,
+		ProductCursor cursor, int limit) {
+		try {
+			String resultKey = preparePriceFilter(categoryId, ProductSortType.NEWEST, minPrice, maxPrice);
+			return getIdsAfter(resultKey, cursor, limit);
+		} catch (Exception e) {
+			log.error("Failed to get price range product IDs after cursor from cache: categoryId={}, min={}, max={}",
+				categoryId, minPrice, maxPrice, e);
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * 가격 구간 결과 집합 사용 가능 여부 (최신순/평점순 가격 필터)
+	 * product_price_filter.lua의 ZRANGESTORE는 Redis 6.2 이상에서만 동작하므로 서버 버전을 한 번 확인
+	 * (가격순은 ZRANGEBYSCORE만 사용하므로 버전과 무관)
+	 */
+	public boolean supportsPriceFilterSets() {
+		Boolean supported = priceFilterSetsSupported;
+		if (supported != null) {
+			return supported;
+		}
+		try {
+			Properties info = stringRedisTemplate.execute(
+				(RedisCallback<Properties>)connection -> connection.serverCommands().info("server"));
+			String version = info != null ? info.getProperty("redis_version") : null;
+			if (version == null) {
+				return false;
+			}
+			supported = isAtLeast(version, 6, 2);
+			if (!supported) {
+				log.warn("Redis {} does not support ZRANGESTORE (6.2+), price filters fall back to DB", version);
+			}
+			priceFilterSetsSupported = supported;
+			return supported;
+		} catch (Exception e) {
+			log.error("Failed to check Redis version", e);
+			return false;
+		}
+	}
+
+	private static boolean isAtLeast(String version, int major, int minor) {
+		String[] parts = version.split("\\.");
+		int actualMajor = Integer.parseInt(parts[0]);
+		int actualMinor = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+		return actualMajor > major || (actualMajor == major && actualMinor >= minor);
+	}
+
+	/**
+	 * 가격 구간 상품 수 (가격 인덱스 ZCOUNT)
+	 * @return -1 if 조회 실패
+	 */
+	public long countByPriceRange(UUID categoryId, Long minPrice, Long maxPrice) {
+		try {
+			Long count = stringRedisTemplate.opsForZSet().count(ProductCacheKey.productPriceIndex(categoryId),
+				minPrice == null ? Double.NEGATIVE_INFINITY : minPrice,
+				maxPrice == null ? Double.POSITIVE_INFINITY : maxPrice);
+			return count != null ? count : -1;
+		} catch (Exception e) {
+			log.error("Failed to count price range from cache: categoryId={}", categoryId, e);
+			return -1;
+		}
+	}
+
+	/**
+	 * 가격 인덱스 ∩ 정렬 키 결과 집합 생성 (이미 있으면 재사용)
+	 * @return 결과 키
+	 */
+	private String preparePriceFilter(UUID categoryId, ProductSortType sortType, Long minPrice, Long maxPrice) {
+		String sortKey = sortType == ProductSortType.RATING
+			? ProductCacheKey.productRatingIndex(categoryId)
+			: ProductCacheKey.productList(categoryId);
+		String resultKey = ProductCacheKey.productPriceFilter(categoryId,
+			sortType == ProductSortType.RATING ? ProductSortType.RATING.getValue() : ProductSortType.NEWEST.getValue(),
+			minPrice, maxPrice);
+
+		stringRedisTemplate.execute(priceFilterScript,
+			List.of(ProductCacheKey.productPriceIndex(categoryId), sortKey, resultKey,
+				ProductCacheKey.productPriceFilterTemp(resultKey)),
+			minPrice == null ? "-inf" : String.valueOf(minPrice),
+			maxPrice == null ? "+inf" : String.valueOf(maxPrice),
+			String.valueOf(filterResultTtlSeconds));
+		return resultKey;
+	}
+
 	/**
 	 * 카테고리별 전체 상품 수 조회 (ZSet 크기 반환)
 	 * @deprecated getCachedTotalCount 사용 권장
@@ -164,36 +849,24 @@ public class ProductListCacheService {
 	}
 
 	/**
-	 * 전체 상품 수 캐시 설정
+	 * 전체 상품 수 캐시 설정 (DB로 다시 센 값 - 재계산 표시 함께 기록)
 	 */
 	public void setTotalCount(UUID categoryId, long count) {
 		try {
-			String key = ProductCacheKey.productCount(categoryId);
-			stringRedisTemplate.opsForValue().set(key, String.valueOf(count));
+			writeRecounted(Map.of(ProductCacheKey.productCount(categoryId), String.valueOf(count)));
 		} catch (Exception e) {
 			log.error("Failed to set total count cache: categoryId={}", categoryId, e);
 		}
 	}
 
-	/**
-	 * 전체 상품 수 캐시 삭제 (CUD 발생 시 호출)
-	 */
-	public void deleteTotalCount(UUID categoryId) {
-		try {
-			String key = ProductCacheKey.productCount(categoryId);
-			stringRedisTemplate.delete(key);
-		} catch (Exception e) {
-			log.error("Failed to delete total count cache: categoryId={}", categoryId, e);
-		}
-	}
-
 	/**
 	 * 카테고리 목록 캐시 전체 삭제
 	 */
 	public void clearCategory(UUID categoryId) {
 		try {
-			String key = ProductCacheKey.productList(categoryId);
-			stringRedisTemplate.delete(key);
+			List<String> keys = new ArrayList<>(indexKeys(categoryId));
+			keys.add(ProductCacheKey.productHotPage(categoryId));
+			stringRedisTemplate.delete(keys);
 			log.debug("Category list cache cleared: categoryId={}", categoryId);
 		} catch (Exception e) {
 			log.error("Failed to clear category list cache: categoryId={}", categoryId, e);
@@ -205,8 +878,13 @@ public class ProductListCacheService {
 	 */
 	public void clearAll() {
 		try {
-			Set<String> keys = stringRedisTemplate.keys(ProductCacheKey.productListPattern());
-			if (keys != null && !keys.isEmpty()) {
+			Set<String> keys = new HashSet<>();
+			keys.addAll(stringRedisTemplate.keys(ProductCacheKey.productListPattern()));
+			keys.addAll(stringRedisTemplate.keys(ProductCacheKey.productSortIndexPattern()));
+			keys.addAll(stringRedisTemplate.keys(ProductCacheKey.productPriceFilterPattern()));
+			keys.addAll(stringRedisTemplate.keys(ProductCacheKey.productFilterCountPattern()));
+			keys.addAll(stringRedisTemplate.keys(ProductCacheKey.productHotPagePattern()));
+			if (!keys.isEmpty()) {
 				stringRedisTemplate.delete(keys);
 				log.debug("All list cache cleared: {} keys", keys.size());
 			}
@@ -0,0 +1,162 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 상품 API 응답 바이트 캐시 (JVM 내부, 상세 L1 앞단)
+ *
+ * - 상세: 상품별 응답 본문 (ETag는 상세 캐시의 cachedAt)
+ * - 목록: 최신순 앞쪽 페이지(hot-list-pages) 응답 본문 (ETag는 본문 해시)
+ *
+ * 무효화는 상세 L1과 같은 경로(ProductDetailLocalCache - 변경 동기화 + Pub/Sub)로 받습니다.
+ * 목록 페이지는 본문에 포함된 상품이 무효화되면 함께 제거하고, 새 상품 추가/전체 개수 변화는 list-ttl-seconds 동안 늦게 반영됩니다.
+ */
+@Component
+public class ProductResponseCache {
+
+	@Value("${product.cache.response.enabled:false}")
+	private boolean enabled;
+
+	@Value("${product.cache.response.max-weight-bytes:33554432}")
+	private long maxWeightBytes;
+
+	@Value("${product.cache.response.ttl-seconds:30}")
+	private long ttlSeconds;
+
+	@Value("${product.cache.response.list-ttl-seconds:5}")
+	private long listTtlSeconds;
+
+	// 캐시하는 목록 페이지 수 (0부터, 이 값 미만 페이지만)
+	@Value("${product.cache.response.hot-list-pages:3}")
+	private int hotListPages;
+
+	@Value("${product.cache.response.max-list-page-size:100}")
+	private int maxListPageSize;
+
+	private final AtomicLong invalidationSequence = new AtomicLong();
+	private final LongAdder notModified = new LongAdder();
+	private Cache<UUID, CachedProductResponse> details;
+	private Cache<String, CachedProductResponse> lists;
+
+	@PostConstruct
+	public void init() {
+		details = Caffeine.newBuilder()
+			.maximumWeight(maxWeightBytes)
+			.weigher((UUID productId, CachedProductResponse response) -> response.weight())
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.recordStats()
+			.build();
+		lists = Caffeine.newBuilder()
+			.maximumWeight(maxWeightBytes / 4)
+			.weigher((String key, CachedProductResponse response) -> response.weight())
+			.expireAfterWrite(Duration.ofSeconds(listTtlSeconds))
+			.recordStats()
+			.build();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 응답 바이트로 캐시할 목록 페이지인지 (0-based 페이지 번호)
+	 */
+	public boolean isHotListPage(int pageNumber, int pageSize) {
+		return enabled && pageNumber < hotListPages && pageSize <= maxListPageSize;
+	}
+
+	public CachedProductResponse getDetail(UUID productId) {
+		return enabled ? details.getIfPresent(productId) : null;
+	}
+
+	public CachedProductResponse getList(UUID categoryId, int pageNumber, int pageSize) {
+		return enabled ? lists.getIfPresent(listKey(categoryId, pageNumber, pageSize)) : null;
+	}
+
+	/**
+	 * 원본(상세 캐시/목록) 조회 직전에 호출하여 현재 무효화 시퀀스를 기록
+	 */
+	public long currentSequence() {
+		return invalidationSequence.get();
+	}
+
+	/**
+	 * 적재 (원본 조회 시작 이후 무효화가 없었을 때만 - 무효화 이전 값이 남는 경합 방지)
+	 */
+	public void putDetailIfNotInvalidated(UUID productId, CachedProductResponse response, long observedSequence) {
+		if (enabled && response.etag() != null && invalidationSequence.get() == observedSequence) {
+			details.put(productId, response);
+		}
+	}
+
+	public void putListIfNotInvalidated(UUID categoryId, int pageNumber, int pageSize,
+		CachedProductResponse response, long observedSequence) {
+		if (enabled && invalidationSequence.get() == observedSequence) {
+			lists.put(listKey(categoryId, pageNumber, pageSize), response);
+		}
+	}
+
+	/**
+	 * 상품 상세 + 해당 상품을 포함한 목록 페이지 무효화
+	 */
+	public void invalidateAll(Collection<UUID> productIds) {
+		invalidationSequence.incrementAndGet();
+		if (!enabled) {
+			return;
+		}
+		details.invalidateAll(productIds);
+		lists.asMap().values().removeIf(response -> productIds.stream().anyMatch(response.productIds()::contains));
+	}
+
+	public void clear() {
+		invalidationSequence.incrementAndGet();
+		if (enabled) {
+			details.invalidateAll();
+			lists.invalidateAll();
+		}
+	}
+
+	/**
+	 * If-None-Match 일치로 본문 없이 응답한 수
+	 */
+	public void recordNotModified() {
+		notModified.increment();
+	}
+
+	public long notModifiedCount() {
+		return notModified.sum();
+	}
+
+	public long size() {
+		return enabled ? details.estimatedSize() + lists.estimatedSize() : 0;
+	}
+
+	public long weightBytes() {
+		return enabled ? weightOf(details) + weightOf(lists) : 0;
+	}
+
+	public CacheStats stats() {
+		return enabled ? details.stats().plus(lists.stats()) : CacheStats.empty();
+	}
+
+	private static long weightOf(Cache<?, ?> cache) {
+		return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+	}
+
+	private static String listKey(UUID categoryId, int pageNumber, int pageSize) {
+		return (categoryId != null ? categoryId.toString() : "all") + ":" + pageNumber + ":" + pageSize;
+	}
+}
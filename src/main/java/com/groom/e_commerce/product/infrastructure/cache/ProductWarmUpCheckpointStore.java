@@ -0,0 +1,77 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.product.application.dto.ProductCursor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 Warm-up 재개 지점 저장소
+ *
+ * 키: product:warmup:checkpoint (Hash)
+ * - createdAt / productId: 연속으로 적재 완료된 마지막 상품의 Keyset 커서
+ * - processed: 해당 지점까지 적재된 상품 수
+ *
+ * Redis에 저장하므로 노드가 재시작되어도 다른 노드에서 이어서 실행할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductWarmUpCheckpointStore {
+
+	private static final String FIELD_CREATED_AT = "createdAt";
+	private static final String FIELD_PRODUCT_ID = "productId";
+	private static final String FIELD_PROCESSED = "processed";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public void save(ProductCursor cursor, long processed) {
+		try {
+			stringRedisTemplate.opsForHash().putAll(ProductCacheKey.warmUpCheckpoint(), Map.of(
+				FIELD_CREATED_AT, cursor.getCreatedAt().toString(),
+				FIELD_PRODUCT_ID, cursor.getProductId().toString(),
+				FIELD_PROCESSED, String.valueOf(processed)
+			));
+		} catch (Exception e) {
+			log.error("Failed to save warm-up checkpoint: productId={}", cursor.getProductId(), e);
+		}
+	}
+
+	/**
+	 * 재개 지점 조회
+	 * @return 재개 커서 (없으면 null)
+	 */
+	public ProductCursor getCursor() {
+		Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(ProductCacheKey.warmUpCheckpoint());
+		if (entries.isEmpty()) {
+			return null;
+		}
+		return ProductCursor.of(
+			LocalDateTime.parse((String) entries.get(FIELD_CREATED_AT)),
+			UUID.fromString((String) entries.get(FIELD_PRODUCT_ID))
+		);
+	}
+
+	/**
+	 * 재개 지점까지 적재된 상품 수 (없으면 0)
+	 */
+	public long getProcessed() {
+		Object processed = stringRedisTemplate.opsForHash().get(ProductCacheKey.warmUpCheckpoint(), FIELD_PROCESSED);
+		return processed != null ? Long.parseLong((String) processed) : 0L;
+	}
+
+	public void clear() {
+		try {
+			stringRedisTemplate.delete(ProductCacheKey.warmUpCheckpoint());
+		} catch (Exception e) {
+			log.error("Failed to clear warm-up checkpoint", e);
+		}
+	}
+}
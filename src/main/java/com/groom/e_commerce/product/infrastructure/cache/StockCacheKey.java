@@ -8,13 +8,24 @@ import java.util.UUID;
  * 키 구조:
  * - 옵션 없는 상품: stock:product:{productId}
  * - 옵션 있는 상품: stock:variant:{variantId}
- * - 예약 정보: stock:reservation:{reservationId}
+ * - 가점유 원장: stock:ledger:{orderId} (Hash, field: {productId}:{variantId}, value: 수량)
+ * - 가점유 만료: stock:reservations:deadlines (Sorted Set, member: orderId, score: 만료 시각)
+ * - SKU별 미확정 가점유 수량: stock:reservations:pending (Hash, field: {productId}:{variantId}, value: 수량)
+ * - 확정 준비된 주문: stock:reservations:held (Set, DB 확정 차감 중인 orderId)
+ * - SKU별 확정 중 수량: stock:reservations:confirming (Hash, field: {productId}:{variantId}, value: 수량)
+ * - 샤드 재고 (핫 SKU): {재고 키}:shard:{0..N-1}, 샤드 수: {재고 키}:shards
+ *   샤드 모드에서는 재고 키 자체가 없으며, 해시 태그로 한 SKU의 샤드가 같은 슬롯에 위치
  */
 public final class StockCacheKey {
 
 	private static final String STOCK_PRODUCT_PREFIX = "stock:product:";
 	private static final String STOCK_VARIANT_PREFIX = "stock:variant:";
 	private static final String RESERVATION_PREFIX = "stock:reservation:";
+	private static final String RESERVATION_LEDGER_PREFIX = "stock:ledger:";
+	private static final String RESERVATION_DEADLINES = "stock:reservations:deadlines";
+	private static final String RESERVATION_PENDING = "stock:reservations:pending";
+	private static final String RESERVATION_HELD = "stock:reservations:held";
+	private static final String RESERVATION_CONFIRMING = "stock:reservations:confirming";
 	private static final String ORDER_STOCK_ITEMS_PREFIX = "order:stock:items:";
 
 	private StockCacheKey() {
@@ -46,6 +57,20 @@ public final class StockCacheKey {
 		return productStock(productId);
 	}
 
+	/**
+	 * 샤드 재고 모드의 샤드 수 키 (없으면 단일 키 모드)
+	 */
+	public static String stockShardCount(String stockKey) {
+		return "{" + stockKey + "}:shards";
+	}
+
+	/**
+	 * 샤드 재고 모드의 index번째 샤드 키
+	 */
+	public static String stockShard(String stockKey, int index) {
+		return "{" + stockKey + "}:shard:" + index;
+	}
+
 	/**
 	 * 예약(가점유) 정보 키
 	 */
@@ -53,6 +78,62 @@ public final class StockCacheKey {
 		return RESERVATION_PREFIX + reservationId;
 	}
 
+	/**
+	 * 주문별 가점유 원장 키 (Hash)
+	 */
+	public static String reservationLedger(UUID orderId) {
+		return RESERVATION_LEDGER_PREFIX + orderId.toString();
+	}
+
+	/**
+	 * 가점유 만료 시각 인덱스 키 (Sorted Set)
+	 */
+	public static String reservationDeadlines() {
+		return RESERVATION_DEADLINES;
+	}
+
+	/**
+	 * SKU별 미확정 가점유 수량 키 (Hash) - 재고 정합성 기대값 계산용
+	 */
+	public static String reservationPending() {
+		return RESERVATION_PENDING;
+	}
+
+	/**
+	 * 확정 준비된(DB 확정 차감 중인) 주문 키 (Set)
+	 */
+	public static String reservationHeld() {
+		return RESERVATION_HELD;
+	}
+
+	/**
+	 * SKU별 확정 중 수량 키 (Hash) - 재고 보정 제외 판단용
+	 */
+	public static String reservationConfirming() {
+		return RESERVATION_CONFIRMING;
+	}
+
+	/**
+	 * 가점유 원장 field ({productId}:{variantId}, 옵션 없으면 variantId 자리는 빈 문자열)
+	 */
+	public static String reservationField(UUID productId, UUID variantId) {
+		return productId.toString() + ":" + (variantId != null ? variantId.toString() : "");
+	}
+
+	/**
+	 * 옵션 없는 상품 재고 키 prefix (SCAN 결과 키 파싱용)
+	 */
+	public static String productStockPrefix() {
+		return STOCK_PRODUCT_PREFIX;
+	}
+
+	/**
+	 * Variant 재고 키 prefix (SCAN 결과 키 파싱용)
+	 */
+	public static String variantStockPrefix() {
+		return STOCK_VARIANT_PREFIX;
+	}
+
 	/**
 	 * 모든 상품 재고 키 패턴 (동기화용)
 	 */
@@ -68,7 +149,8 @@ public final class StockCacheKey {
 	}
 
 	/**
-	 * 주문-상품 매핑 키 (가점유 시 저장, 이벤트 수신 시 조회)
+	 * 주문-상품 매핑 키 (JSON, 구 포맷)
+	 * 가점유 원장 도입 이전에 생성된 주문의 조회/정리용으로만 사용
 	 */
 	public static String orderStockItems(UUID orderId) {
 		return ORDER_STOCK_ITEMS_PREFIX + orderId.toString();
@@ -1,11 +1,23 @@
 package com.groom.e_commerce.product.infrastructure.cache;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scripting.support.ResourceScriptSource;
@@ -31,9 +43,35 @@ public class StockRedisService {
 	private final ObjectMapper objectMapper;
 
 	private DefaultRedisScript<Long> reserveScript;
+	private DefaultRedisScript<Long> reserveMultiScript;
+	private DefaultRedisScript<Long> recordScript;
+	private DefaultRedisScript<Long> holdScript;
+	private DefaultRedisScript<Long> commitScript;
+	private DefaultRedisScript<List> takeScript;
+	private DefaultRedisScript<Long> compareAndSetScript;
+	private DefaultRedisScript<List> restoreScript;
+	private DefaultRedisScript<Long> shardRebalanceScript;
+	private DefaultRedisScript<Long> leaseScript;
+	private DefaultRedisScript<Long> initIfAbsentScript;
 
-	// 주문-상품 매핑 TTL (결제 타임아웃 고려)
-	private static final Duration ORDER_STOCK_ITEMS_TTL = Duration.ofHours(1);
+	// 가점유 유지 시간 (결제 타임아웃 고려) - 경과 시 Reclaimer가 가용 재고로 반환
+	private static final Duration RESERVATION_HOLD = Duration.ofHours(1);
+
+	// 미확정 원장 안전 TTL (Reclaimer 장애 시 원장이 영구히 남지 않도록)
+	private static final Duration RESERVATION_LEDGER_TTL = RESERVATION_HOLD.plusDays(1);
+
+	// 결제 완료 후 DB 확정 차감이 끝날 때까지 회수를 미루는 시간
+	private static final Duration CONFIRM_HOLD = Duration.ofMinutes(10);
+
+	// 확정된 원장 보존 기간 (취소/환불 시 재고 복구에 사용)
+	private static final Duration COMMITTED_LEDGER_TTL = Duration.ofDays(7);
+
+	// 스크립트 실행 중 샤드 수(재고 반환은 원장 구성도)가 관측 이후 바뀌었을 때 다시 읽고 시도하는 횟수
+	private static final int RETRY_ATTEMPTS = 3;
+
+	// 스크립트 결과 상태 (재시도: 관측한 샤드 수/원장 구성이 바뀌어 아무것도 변경하지 않음)
+	private static final long RESTORE_DONE = 1L;
+	private static final long RETRY = -2L;
 
 	@PostConstruct
 	public void init() {
@@ -41,6 +79,24 @@ public class StockRedisService {
 		reserveScript.setScriptSource(new ResourceScriptSource(
 			new ClassPathResource("scripts/stock_reserve.lua")));
 		reserveScript.setResultType(Long.class);
+
+		reserveMultiScript = loadScript("scripts/stock_reserve_multi.lua", Long.class);
+		recordScript = loadScript("scripts/stock_reservation_record.lua", Long.class);
+		holdScript = loadScript("scripts/stock_reservation_hold.lua", Long.class);
+		commitScript = loadScript("scripts/stock_reservation_commit.lua", Long.class);
+		takeScript = loadScript("scripts/stock_reservation_take.lua", List.class);
+		compareAndSetScript = loadScript("scripts/stock_compare_and_set.lua", Long.class);
+		restoreScript = loadScript("scripts/stock_restore.lua", List.class);
+		shardRebalanceScript = loadScript("scripts/stock_shard_rebalance.lua", Long.class);
+		leaseScript = loadScript("scripts/stock_lease.lua", Long.class);
+		initIfAbsentScript = loadScript("scripts/stock_init_if_absent.lua", Long.class);
+	}
+
+	private <T> DefaultRedisScript<T> loadScript(String path, Class<T> resultType) {
+		DefaultRedisScript<T> script = new DefaultRedisScript<>();
+		script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+		script.setResultType(resultType);
+		return script;
 	}
 
 	/**
@@ -55,14 +111,16 @@ public class StockRedisService {
 	public boolean reserve(UUID productId, UUID variantId, int quantity) {
 		String key = StockCacheKey.stockKey(productId, variantId);
 
-		Long result = stringRedisTemplate.execute(
+		Long result = executeWithShardKeys(List.of(key), shardCounts -> stringRedisTemplate.execute(
 			reserveScript,
-			Collections.singletonList(key),
-			String.valueOf(quantity)
-		);
+			stockKeys(key, shardCounts.get(key)),
+			String.valueOf(quantity),
+			shardSeed(),
+			String.valueOf(shardCounts.get(key))
+		));
 
 		if (result == null || result == -1) {
-			log.warn("Stock key not found: {}", key);
+			log.warn("Stock key not found (or shard count kept changing): {}", key);
 			throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
 		}
 
@@ -76,7 +134,142 @@ public class StockRedisService {
 	}
 
 	/**
-	 * 재고 복원 (원자적 INCR)
+	 * 다건 재고 가점유 (Lua Script - All-or-Nothing)
+	 * 모든 재고 키를 검증한 뒤 전부 차감하거나 하나도 차감하지 않으며,
+	 * 가점유 원장 기록과 만료 시각 등록까지 한 번의 라운드 트립으로 처리합니다.
+	 * 같은 주문으로 다시 호출하면 원장에 수량이 누적됩니다. (단일 아이템 가점유)
+	 *
+	 * @param orderId 주문 ID
+	 * @param items 상품 목록 (productId, variantId, quantity)
+	 * @throws CustomException 재고 부족 또는 키 없음
+	 */
+	public void reserveAll(UUID orderId, List<StockManagement> items) {
+		reserveAll(orderId, items, List.of());
+	}
+
+	/**
+	 * 다건 재고 가점유 + 노드 로컬 임차분 원장 기록 (lease 전략 - 한 번의 Lua 호출로 All-or-Nothing)
+	 * items는 Redis 재고에서 차감하고, leasedItems는 임차분에서 이미 차감했으므로 원장에만 기록합니다.
+	 * items 중 하나라도 부족하면 leasedItems도 기록하지 않습니다.
+	 *
+	 * @param orderId 주문 ID
+	 * @param items Redis 재고에서 차감할 상품 목록
+	 * @param leasedItems 임차분에서 이미 차감한 상품 목록
+	 * @throws CustomException 재고 부족 또는 키 없음
+	 */
+	public void reserveAll(UUID orderId, List<StockManagement> items, List<StockManagement> leasedItems) {
+		if (items == null || items.isEmpty()) {
+			recordReservation(orderId, leasedItems);
+			return;
+		}
+
+		long deadline = System.currentTimeMillis() + RESERVATION_HOLD.toMillis();
+		List<String> stockKeys = items.stream()
+			.map(item -> StockCacheKey.stockKey(item.getProductId(), item.getVariantId()))
+			.toList();
+
+		Long result = executeWithShardKeys(stockKeys, shardCounts -> {
+			List<String> keys = new ArrayList<>(items.size() * 2 + 3);
+			List<String> args = new ArrayList<>(items.size() * 3 + leasedItems.size() * 2 + 5);
+			keys.add(StockCacheKey.reservationLedger(orderId));
+			keys.add(StockCacheKey.reservationDeadlines());
+			keys.add(StockCacheKey.reservationPending());
+			args.add(orderId.toString());
+			args.add(String.valueOf(deadline));
+			args.add(String.valueOf(RESERVATION_LEDGER_TTL.toSeconds()));
+			args.add(shardSeed());
+			args.add(String.valueOf(items.size()));
+
+			for (int i = 0; i < items.size(); i++) {
+				StockManagement item = items.get(i);
+				int shards = shardCounts.get(stockKeys.get(i));
+				keys.addAll(stockKeys(stockKeys.get(i), shards));
+				args.add(StockCacheKey.reservationField(item.getProductId(), item.getVariantId()));
+				args.add(String.valueOf(item.getQuantity()));
+				args.add(String.valueOf(shards));
+			}
+			for (StockManagement item : leasedItems) {
+				args.add(StockCacheKey.reservationField(item.getProductId(), item.getVariantId()));
+				args.add(String.valueOf(item.getQuantity()));
+			}
+			return stringRedisTemplate.execute(reserveMultiScript, keys, args.toArray());
+		});
+
+		if (result == null || result == -1) {
+			log.warn("Stock key not found (or shard count kept changing) for bulk reserve: orderId={}", orderId);
+			throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
+		}
+
+		if (result == 0) {
+			log.info("Stock not enough for bulk reserve: orderId={}, items={}", orderId, items.size());
+			throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
+		}
+
+		log.debug("Stock reserved (bulk): orderId={}, items={}, leased={}", orderId, items.size(), leasedItems.size());
+	}
+
+	/**
+	 * 임차분 가점유 원장 기록 (lease 전략 - 노드 로컬 임차분에서 이미 차감한 수량)
+	 * 재고 키는 변경하지 않으며, 해제/만료 회수 시 원장 수량만큼 Redis 재고로 반환됩니다.
+	 * 같은 주문으로 다시 호출하면 원장에 수량이 누적됩니다.
+	 *
+	 * @param orderId 주문 ID
+	 * @param items 상품 목록 (productId, variantId, quantity)
+	 */
+	public void recordReservation(UUID orderId, List<StockManagement> items) {
+		if (items == null || items.isEmpty()) {
+			return;
+		}
+
+		List<String> args = new ArrayList<>(items.size() * 2 + 3);
+		args.add(orderId.toString());
+		args.add(String.valueOf(System.currentTimeMillis() + RESERVATION_HOLD.toMillis()));
+		args.add(String.valueOf(RESERVATION_LEDGER_TTL.toSeconds()));
+		for (StockManagement item : items) {
+			args.add(StockCacheKey.reservationField(item.getProductId(), item.getVariantId()));
+			args.add(String.valueOf(item.getQuantity()));
+		}
+
+		stringRedisTemplate.execute(
+			recordScript,
+			List.of(StockCacheKey.reservationLedger(orderId), StockCacheKey.reservationDeadlines(),
+				StockCacheKey.reservationPending()),
+			args.toArray()
+		);
+		log.debug("Stock reservation recorded (leased): orderId={}, items={}", orderId, items.size());
+	}
+
+	/**
+	 * 재고 임차 (노드 로컬 할당용, 남은 재고가 부족하면 남은 만큼만 임차)
+	 *
+	 * @param productId 상품 ID
+	 * @param variantId Variant ID (옵션 없으면 null)
+	 * @param quantity 임차할 최대 수량
+	 * @return 실제 임차한 수량 (재고 소진 시 0)
+	 * @throws CustomException 키 없음
+	 */
+	public int lease(UUID productId, UUID variantId, int quantity) {
+		String key = StockCacheKey.stockKey(productId, variantId);
+
+		Long leased = executeWithShardKeys(List.of(key), shardCounts -> stringRedisTemplate.execute(
+			leaseScript,
+			stockKeys(key, shardCounts.get(key)),
+			String.valueOf(quantity),
+			shardSeed(),
+			String.valueOf(shardCounts.get(key))
+		));
+
+		if (leased == null || leased == -1) {
+			log.warn("Stock key not found (or shard count kept changing) for lease: {}", key);
+			throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
+		}
+
+		log.debug("Stock leased: key={}, requested={}, leased={}", key, quantity, leased);
+		return leased.intValue();
+	}
+
+	/**
+	 * 재고 복원 (원자적 INCR, 샤드 재고 모드면 잔량이 가장 적은 샤드로 반환)
 	 *
 	 * @param productId 상품 ID
 	 * @param variantId Variant ID (옵션 없으면 null)
@@ -86,7 +279,11 @@ public class StockRedisService {
 		String key = StockCacheKey.stockKey(productId, variantId);
 
 		try {
-			stringRedisTemplate.opsForValue().increment(key, quantity);
+			Map<String, Integer> quantities = Map.of(StockCacheKey.reservationField(productId, variantId), quantity);
+			if (executeRestore("stock", null, 0L, quantities) == null) {
+				log.error("Failed to release stock (shard count kept changing): key={}, quantity={}", key, quantity);
+				return;
+			}
 			log.debug("Stock released: key={}, quantity={}", key, quantity);
 		} catch (Exception e) {
 			log.error("Failed to release stock: key={}, quantity={}", key, quantity, e);
@@ -94,7 +291,7 @@ public class StockRedisService {
 	}
 
 	/**
-	 * 현재 가용 재고 조회
+	 * 현재 가용 재고 조회 (샤드 재고 모드면 샤드 합계)
 	 */
 	public Integer getAvailableStock(UUID productId, UUID variantId) {
 		String key = StockCacheKey.stockKey(productId, variantId);
@@ -102,7 +299,8 @@ public class StockRedisService {
 		try {
 			String value = stringRedisTemplate.opsForValue().get(key);
 			if (value == null) {
-				return null;
+				Long sharded = getShardedStock(key);
+				return sharded != null ? sharded.intValue() : null;
 			}
 			return Integer.parseInt(value);
 		} catch (Exception e) {
@@ -112,19 +310,126 @@ public class StockRedisService {
 	}
 
 	/**
-	 * 재고 동기화 (DB → Redis)
+	 * 가용 재고 일괄 조회 (MGET, 요청 순서 유지, 키가 없으면 null)
+	 */
+	public List<Integer> getAvailableStocks(List<StockManagement> items) {
+		if (items == null || items.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<String> keys = items.stream()
+			.map(item -> StockCacheKey.stockKey(item.getProductId(), item.getVariantId()))
+			.toList();
+
+		List<Integer> stocks = new ArrayList<>(keys.size());
+		try {
+			List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+			for (int i = 0; i < keys.size(); i++) {
+				String value = values != null ? values.get(i) : null;
+				if (value != null) {
+					stocks.add(Integer.parseInt(value));
+					continue;
+				}
+				Long sharded = getShardedStock(keys.get(i));
+				stocks.add(sharded != null ? sharded.intValue() : null);
+			}
+		} catch (Exception e) {
+			log.error("Failed to multi-get stock: keys={}", keys.size(), e);
+			keys.forEach(key -> stocks.add(null));
+		}
+		return stocks;
+	}
+
+	/**
+	 * 재고 키 원본 값 일괄 조회 (MGET, 요청 순서 유지, 키가 없으면 null)
+	 */
+	public List<String> multiGetRaw(List<String> keys) {
+		List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+		return values != null ? values : Collections.nCopies(keys.size(), null);
+	}
+
+	/**
+	 * 재고 키 점진 스캔 (SCAN - KEYS와 달리 Redis를 블로킹하지 않음)
+	 * 호출자가 Cursor를 반드시 close 해야 함
+	 */
+	public Cursor<String> scanStockKeys(String pattern, int count) {
+		return stringRedisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(count).build());
+	}
+
+	/**
+	 * 재고 보정 (관측 값이 그대로일 때만 DB 재고 - 미확정 가점유 수량으로 덮어씀)
+	 * 미확정 수량은 같은 Lua 호출 안에서 다시 읽으며, 샤드 재고 모드/DB 확정 중인 SKU는 보정하지 않음
+	 *
+	 * @param item 대상 SKU (productId, variantId)
+	 * @param observed 관측한 값 (키가 없었으면 null)
+	 * @param dbStock 보정 직전에 다시 읽은 DB 재고
+	 * @param maxCorrection 보정 허용 범위 (|관측 값 - 기대값| 이하만 보정, -1이면 제한 없음)
+	 * @return true: 보정됨, false: 그 사이 값이 변경되었거나 보정 대상이 아니어서 건너뜀
+	 */
+	public boolean compareAndSetStock(StockManagement item, String observed, long dbStock, long maxCorrection) {
+		String key = StockCacheKey.stockKey(item.getProductId(), item.getVariantId());
+		Long result = stringRedisTemplate.execute(
+			compareAndSetScript,
+			List.of(key, StockCacheKey.stockShardCount(key), StockCacheKey.reservationPending(),
+				StockCacheKey.reservationConfirming()),
+			observed != null ? observed : "",
+			StockCacheKey.reservationField(item.getProductId(), item.getVariantId()),
+			String.valueOf(dbStock),
+			String.valueOf(maxCorrection)
+		);
+		return result != null && result == 1;
+	}
+
+	/**
+	 * 재고 동기화 (DB → Redis, 샤드 재고 모드면 샤드 수를 유지한 채 재분배)
 	 */
 	public void syncStock(UUID productId, UUID variantId, int stockQuantity) {
 		String key = StockCacheKey.stockKey(productId, variantId);
 
 		try {
-			stringRedisTemplate.opsForValue().set(key, String.valueOf(stockQuantity));
+			if (rebalance(key, -1, String.valueOf(stockQuantity)) == null) {
+				log.error("Failed to sync stock (shard count kept changing): key={}, quantity={}", key, stockQuantity);
+				return;
+			}
 			log.debug("Stock synced: key={}, quantity={}", key, stockQuantity);
 		} catch (Exception e) {
 			log.error("Failed to sync stock: key={}, quantity={}", key, stockQuantity, e);
 		}
 	}
 
+	/**
+	 * 재고 키 일괄 초기화 (키가 없을 때만, 파이프라인으로 한 번에 전송)
+	 * 운영 중인 키는 가점유가 반영된 값이므로 덮어쓰지 않음 (Warm-up/장애 복구용)
+	 *
+	 * @param items 상품 목록 (productId, variantId, quantity = DB 재고)
+	 * @return 새로 초기화된 키 수
+	 */
+	public long initStocksIfAbsent(List<StockManagement> items) {
+		if (items == null || items.isEmpty()) {
+			return 0;
+		}
+
+		byte[] script = initIfAbsentScript.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+		byte[] sha = initIfAbsentScript.getSha1().getBytes(StandardCharsets.UTF_8);
+
+		List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			// 같은 파이프라인에서 먼저 로드하므로 EVALSHA가 NOSCRIPT로 실패하지 않음
+			connection.scriptingCommands().scriptLoad(script);
+			for (StockManagement item : items) {
+				String key = StockCacheKey.stockKey(item.getProductId(), item.getVariantId());
+				connection.scriptingCommands().evalSha(sha, ReturnType.INTEGER, 2,
+					key.getBytes(StandardCharsets.UTF_8),
+					StockCacheKey.stockShardCount(key).getBytes(StandardCharsets.UTF_8),
+					String.valueOf(item.getQuantity()).getBytes(StandardCharsets.UTF_8));
+			}
+			return null;
+		});
+
+		return results.stream()
+			.filter(result -> result instanceof Long initialized && initialized == 1L)
+			.count();
+	}
+
 	/**
 	 * 재고 키 삭제 (상품 삭제 시)
 	 */
@@ -132,32 +437,364 @@ public class StockRedisService {
 		String key = StockCacheKey.stockKey(productId, variantId);
 
 		try {
-			stringRedisTemplate.delete(key);
+			stringRedisTemplate.delete(stockKeys(key, getShardCount(key)));
 			log.debug("Stock deleted: key={}", key);
 		} catch (Exception e) {
 			log.error("Failed to delete stock: key={}", key, e);
 		}
 	}
 
-	// ==================== 주문-상품 매핑 관리 ====================
+	// ==================== 샤드 재고 (핫 SKU) ====================
+
+	/**
+	 * 샤드 재고 모드 전환 / 샤드 수 변경
+	 * 현재 수량 전체를 모아 목표 샤드 수로 재분배하므로 가점유가 진행 중이어도 수량이 유실되지 않음
+	 *
+	 * @param productId 상품 ID
+	 * @param variantId Variant ID (옵션 없으면 null)
+	 * @param shardCount 목표 샤드 수 (0이면 단일 키 모드로 복귀)
+	 * @return 재분배된 전체 수량
+	 * @throws CustomException 재고 키 없음 (NOT_FOUND)
+	 */
+	public long changeShardCount(UUID productId, UUID variantId, int shardCount) {
+		String key = StockCacheKey.stockKey(productId, variantId);
+
+		Long total = rebalance(key, shardCount, "");
+
+		if (total == null || total == -1) {
+			log.warn("Stock key not found (or shard count kept changing) for sharding: {}", key);
+			throw new CustomException(ErrorCode.NOT_FOUND);
+		}
+
+		log.info("Stock shard count changed: key={}, shards={}, total={}", key, shardCount, total);
+		return total;
+	}
+
+	/**
+	 * 샤드 재분배 스크립트 실행 (관측한 샤드 수와 목표 샤드 수 중 큰 쪽까지 샤드 키를 KEYS로 전달)
+	 *
+	 * @param shardCount 목표 샤드 수 (-1: 현재 모드 유지)
+	 * @param total 덮어쓸 전체 수량 (빈 문자열이면 현재 수량 유지)
+	 * @return 재분배된 전체 수량, -1(재고 키 없음), null(재시도 초과)
+	 */
+	private Long rebalance(String key, int shardCount, String total) {
+		return executeWithShardKeys(List.of(key), shardCounts -> {
+			int observed = shardCounts.get(key);
+			return stringRedisTemplate.execute(
+				shardRebalanceScript,
+				stockKeys(key, Math.max(observed, shardCount)),
+				String.valueOf(shardCount),
+				total,
+				String.valueOf(observed)
+			);
+		});
+	}
+
+	/**
+	 * 샤드 수 조회 (단일 키 모드면 0)
+	 */
+	public int getShardCount(String stockKey) {
+		String value = stringRedisTemplate.opsForValue().get(StockCacheKey.stockShardCount(stockKey));
+		return value != null ? Integer.parseInt(value) : 0;
+	}
+
+	/**
+	 * 샤드 재고 합계 (단일 키 모드면 null)
+	 */
+	public Long getShardedStock(String stockKey) {
+		int shards = getShardCount(stockKey);
+		if (shards == 0) {
+			return null;
+		}
+
+		List<String> shardKeys = new ArrayList<>(shards);
+		for (int i = 0; i < shards; i++) {
+			shardKeys.add(StockCacheKey.stockShard(stockKey, i));
+		}
+
+		long total = 0;
+		for (String value : multiGetRaw(shardKeys)) {
+			if (value != null) {
+				total += Long.parseLong(value);
+			}
+		}
+		return total;
+	}
 
 	/**
-	 * 주문-상품 매핑 저장 (가점유 시 호출)
-	 * 결제 완료/실패/취소 이벤트 수신 시 orderId로 상품 정보 조회에 사용
+	 * 샤드 키를 KEYS로 넘기는 스크립트 실행
+	 * 샤드 수를 먼저 읽어 샤드 키를 만들고, 스크립트가 그 사이 샤드 수 변경을 감지하면(-2) 다시 읽어 재시도
+	 *
+	 * @param stockKeys 대상 재고 키
+	 * @param call 재고 키 → 관측한 샤드 수를 받아 스크립트 실행
+	 * @return 스크립트 결과 (재시도 초과 시 null)
+	 */
+	private Long executeWithShardKeys(List<String> stockKeys, Function<Map<String, Integer>, Long> call) {
+		for (int attempt = 0; attempt < RETRY_ATTEMPTS; attempt++) {
+			Long result = call.apply(readShardCounts(stockKeys));
+			if (result == null || result != RETRY) {
+				return result;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 재고 키별 샤드 수 일괄 조회 (MGET, 단일 키 모드면 0)
+	 */
+	private Map<String, Integer> readShardCounts(List<String> stockKeys) {
+		Map<String, Integer> shardCounts = new HashMap<>();
+		if (stockKeys.isEmpty()) {
+			return shardCounts;
+		}
+		List<String> values = multiGetRaw(stockKeys.stream().map(StockCacheKey::stockShardCount).toList());
+		for (int i = 0; i < stockKeys.size(); i++) {
+			shardCounts.put(stockKeys.get(i), values.get(i) != null ? Integer.parseInt(values.get(i)) : 0);
+		}
+		return shardCounts;
+	}
+
+	/**
+	 * 재고 키 그룹 KEYS (재고 키, 샤드 수 키, 샤드 키 0 .. shards - 1)
+	 */
+	private static List<String> stockKeys(String stockKey, int shards) {
+		List<String> keys = new ArrayList<>(shards + 2);
+		keys.add(stockKey);
+		keys.add(StockCacheKey.stockShardCount(stockKey));
+		for (int shard = 0; shard < shards; shard++) {
+			keys.add(StockCacheKey.stockShard(stockKey, shard));
+		}
+		return keys;
+	}
+
+	/**
+	 * 샤드 선택 시드 (요청마다 시작 샤드를 분산)
+	 */
+	private String shardSeed() {
+		return String.valueOf(ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE));
+	}
+
+	// ==================== 가점유 원장 관리 ====================
+
+	/**
+	 * 가점유 확정 준비 (결제 완료 후 DB 확정 차감 전에 호출)
+	 * 만료 시각을 CONFIRM_HOLD 이후로 늦춰 DB 확정 중에는 회수되지 않게 하되, 만료 인덱스에는 남겨 둠
+	 * → DB 확정이 실패하면 가점유가 미확정으로 남아 해제/회수 경로로 정상 반환됨
 	 *
 	 * @param orderId 주문 ID
-	 * @param items 상품 목록 (productId, variantId, quantity)
+	 * @return true: 미확정 가점유 유지(또는 이미 확정됨), false: 이미 만료 회수/해제되어 원장 없음
 	 */
-	public void saveOrderStockItems(UUID orderId, List<StockManagement> items) {
-		String key = StockCacheKey.orderStockItems(orderId);
+	public boolean holdReservation(UUID orderId) {
+		Long result = stringRedisTemplate.execute(
+			holdScript,
+			List.of(StockCacheKey.reservationDeadlines(), StockCacheKey.reservationLedger(orderId),
+				StockCacheKey.reservationHeld(), StockCacheKey.reservationConfirming()),
+			orderId.toString(),
+			String.valueOf(System.currentTimeMillis() + CONFIRM_HOLD.toMillis())
+		);
 
-		try {
-			String json = objectMapper.writeValueAsString(items);
-			stringRedisTemplate.opsForValue().set(key, json, ORDER_STOCK_ITEMS_TTL);
-			log.debug("Order stock items saved: orderId={}, itemCount={}", orderId, items.size());
-		} catch (JsonProcessingException e) {
-			log.error("Failed to serialize order stock items: orderId={}", orderId, e);
+		if (result != null && result == 1) {
+			return true;
+		}
+
+		// 원장 도입 이전 포맷으로 저장된 주문
+		if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(StockCacheKey.orderStockItems(orderId)))) {
+			return true;
+		}
+
+		log.warn("Reservation not found on hold (expired or released): orderId={}", orderId);
+		return false;
+	}
+
+	/**
+	 * 가점유 확정 (DB 확정 차감 커밋 후 호출)
+	 * 만료 인덱스에서 제거하여 Reclaimer 회수 대상에서 제외하고, 원장은 취소/환불 대비로 보존
+	 *
+	 * @param orderId 주문 ID
+	 * @return true: 확정 성공(또는 이미 확정됨), false: 이미 만료 회수/해제되어 원장 없음
+	 */
+	public boolean commitReservation(UUID orderId) {
+		Long result = stringRedisTemplate.execute(
+			commitScript,
+			settlementKeys(orderId),
+			orderId.toString(),
+			String.valueOf(COMMITTED_LEDGER_TTL.toSeconds())
+		);
+
+		if (result != null && result == 1) {
+			log.debug("Reservation committed: orderId={}", orderId);
+			return true;
+		}
+
+		// 원장 도입 이전 포맷으로 저장된 주문
+		if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(StockCacheKey.orderStockItems(orderId)))) {
+			return true;
+		}
+
+		log.warn("Reservation not found on commit (expired or released): orderId={}", orderId);
+		return false;
+	}
+
+	/**
+	 * 미확정 가점유 해제 (결제 실패/결제 전 주문 취소 시 호출)
+	 * 원장의 수량을 가용 재고로 반환하고 원장을 삭제 (Reclaimer와 경쟁해도 한 번만 반환)
+	 * 확정된 가점유나 구 포맷 매핑은 건드리지 않음 → takeReservation 사용
+	 *
+	 * @param orderId 주문 ID
+	 * @return 반환된 상품 목록 (미확정 가점유가 없으면 빈 리스트)
+	 */
+	public List<StockManagement> releaseReservation(UUID orderId) {
+		List<?> result = executeRestore("release", orderId, 0L, null);
+		if (result == null) {
+			log.error("Failed to release reservation (ledger or shard count kept changing): orderId={}", orderId);
+			return Collections.emptyList();
+		}
+
+		List<StockManagement> released = toStockManagements(result.subList(1, result.size()));
+		if (!released.isEmpty()) {
+			log.debug("Reservation released: orderId={}, items={}", orderId, released.size());
+		}
+		return released;
+	}
+
+	/**
+	 * 가점유 원장 소비 (확정된 주문의 취소/환불 시 호출)
+	 * 재고 반환 없이 원장만 원자적으로 꺼내고 삭제하여 중복 복구를 방지
+	 *
+	 * @param orderId 주문 ID
+	 * @return 원장의 상품 목록 (없으면 빈 리스트)
+	 */
+	public List<StockManagement> takeReservation(UUID orderId) {
+		List<?> entries = stringRedisTemplate.execute(
+			takeScript,
+			settlementKeys(orderId),
+			orderId.toString()
+		);
+
+		List<StockManagement> items = toStockManagements(entries);
+		if (!items.isEmpty()) {
+			return items;
+		}
+
+		// 원장 도입 이전 포맷으로 저장된 주문
+		List<StockManagement> legacyItems = getLegacyOrderStockItems(orderId);
+		deleteOrderStockItems(orderId);
+		return legacyItems;
+	}
+
+	/**
+	 * 만료된 가점유 일괄 회수 (Reclaimer에서 호출)
+	 *
+	 * @param now 기준 시각 (epoch millis)
+	 * @param batchSize 한 번에 회수할 최대 주문 수
+	 * @return 회수된 주문 수
+	 */
+	public long reclaimExpired(long now, int batchSize) {
+		Set<String> expired = stringRedisTemplate.opsForZSet()
+			.rangeByScore(StockCacheKey.reservationDeadlines(), Double.NEGATIVE_INFINITY, now, 0, batchSize);
+		if (expired == null || expired.isEmpty()) {
+			return 0L;
+		}
+
+		long reclaimed = 0;
+		for (String orderId : expired) {
+			List<?> result = executeRestore("reclaim", UUID.fromString(orderId), now, null);
+			if (result == null) {
+				log.error("Failed to reclaim reservation (ledger or shard count kept changing): orderId={}", orderId);
+			} else if (status(result) == RESTORE_DONE) {
+				reclaimed++;
+			}
+		}
+		return reclaimed;
+	}
+
+	/**
+	 * SKU별 미확정 가점유 수량 일괄 조회 (HMGET, 요청 순서 유지, 없으면 0)
+	 * 가점유/확정/해제/회수 스크립트가 원장과 함께 원자적으로 갱신하는 값
+	 */
+	public List<Long> getPendingQuantities(List<StockManagement> items) {
+		if (items == null || items.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Object> fields = items.stream()
+			.map(item -> (Object)StockCacheKey.reservationField(item.getProductId(), item.getVariantId()))
+			.toList();
+		List<Object> values = stringRedisTemplate.opsForHash().multiGet(StockCacheKey.reservationPending(), fields);
+
+		List<Long> pending = new ArrayList<>(items.size());
+		for (int i = 0; i < items.size(); i++) {
+			Object value = values != null ? values.get(i) : null;
+			pending.add(value != null ? Long.parseLong(value.toString()) : 0L);
+		}
+		return pending;
+	}
+
+	/**
+	 * 재고 반환 스크립트 실행
+	 * 반환 대상 재고 키/샤드 키를 KEYS로 넘기기 위해 원장과 샤드 수를 먼저 읽고,
+	 * 스크립트가 그 사이 변경을 감지하면(-2) 다시 읽어 재시도
+	 *
+	 * @param mode stock(지정 수량 반환), release(미확정 가점유 해제), reclaim(만료된 가점유 회수)
+	 * @param quantities 원장 field → 반환 수량 (stock 모드), release/reclaim 모드는 null (원장에서 읽음)
+	 * @return 스크립트 결과 [상태, field1, qty1, ...] (재시도 초과 시 null)
+	 */
+	private List<?> executeRestore(String mode, UUID orderId, long now, Map<String, Integer> quantities) {
+		for (int attempt = 0; attempt < RETRY_ATTEMPTS; attempt++) {
+			Map<String, Integer> groups = quantities != null ? quantities : readLedger(orderId);
+			List<String> fields = new ArrayList<>(groups.keySet());
+			List<String> stockKeys = fields.stream()
+				.map(field -> {
+					StockManagement item = toStockManagement(field, "0");
+					return StockCacheKey.stockKey(item.getProductId(), item.getVariantId());
+				})
+				.toList();
+			Map<String, Integer> shardCounts = readShardCounts(stockKeys);
+
+			List<String> keys = new ArrayList<>(orderId != null ? settlementKeys(orderId) : List.of());
+			List<String> args = new ArrayList<>(fields.size() * 3 + 4);
+			args.add(mode);
+			args.add(orderId != null ? orderId.toString() : "");
+			args.add(String.valueOf(now));
+			args.add(String.valueOf(fields.size()));
+			for (int i = 0; i < fields.size(); i++) {
+				int shards = shardCounts.get(stockKeys.get(i));
+				keys.addAll(stockKeys(stockKeys.get(i), shards));
+				args.add(fields.get(i));
+				args.add(String.valueOf(groups.get(fields.get(i))));
+				args.add(String.valueOf(shards));
+			}
+
+			List<?> result = stringRedisTemplate.execute(restoreScript, keys, args.toArray());
+			if (result != null && !result.isEmpty() && status(result) != RETRY) {
+				return result;
+			}
 		}
+		return null;
+	}
+
+	private Map<String, Integer> readLedger(UUID orderId) {
+		Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(StockCacheKey.reservationLedger(orderId));
+		Map<String, Integer> ledger = new LinkedHashMap<>();
+		entries.forEach((field, quantity) -> ledger.put((String)field, Integer.parseInt((String)quantity)));
+		return ledger;
+	}
+
+	private static long status(List<?> result) {
+		return ((Number)result.get(0)).longValue();
+	}
+
+	/**
+	 * 가점유 확정/해제/회수 스크립트 공통 키 (만료 인덱스, 원장, SKU별 미확정 수량, 확정 준비 주문, SKU별 확정 중 수량)
+	 */
+	private List<String> settlementKeys(UUID orderId) {
+		return List.of(
+			StockCacheKey.reservationDeadlines(),
+			StockCacheKey.reservationLedger(orderId),
+			StockCacheKey.reservationPending(),
+			StockCacheKey.reservationHeld(),
+			StockCacheKey.reservationConfirming()
+		);
 	}
 
 	/**
@@ -167,6 +804,40 @@ public class StockRedisService {
 	 * @return 상품 목록 (없으면 빈 리스트)
 	 */
 	public List<StockManagement> getOrderStockItems(UUID orderId) {
+		Map<Object, Object> entries = stringRedisTemplate.opsForHash()
+			.entries(StockCacheKey.reservationLedger(orderId));
+
+		if (entries.isEmpty()) {
+			return getLegacyOrderStockItems(orderId);
+		}
+
+		List<StockManagement> items = new ArrayList<>(entries.size());
+		entries.forEach((field, quantity) -> items.add(toStockManagement((String) field, (String) quantity)));
+		return items;
+	}
+
+	/**
+	 * 주문-상품 매핑 삭제 (처리 완료 후 정리)
+	 *
+	 * @param orderId 주문 ID
+	 */
+	public void deleteOrderStockItems(UUID orderId) {
+		try {
+			stringRedisTemplate.opsForZSet().remove(StockCacheKey.reservationDeadlines(), orderId.toString());
+			stringRedisTemplate.delete(List.of(
+				StockCacheKey.reservationLedger(orderId),
+				StockCacheKey.orderStockItems(orderId)
+			));
+			log.debug("Order stock items deleted: orderId={}", orderId);
+		} catch (Exception e) {
+			log.error("Failed to delete order stock items: orderId={}", orderId, e);
+		}
+	}
+
+	/**
+	 * 구 포맷(JSON) 주문-상품 매핑 조회
+	 */
+	private List<StockManagement> getLegacyOrderStockItems(UUID orderId) {
 		String key = StockCacheKey.orderStockItems(orderId);
 
 		try {
@@ -183,18 +854,27 @@ public class StockRedisService {
 	}
 
 	/**
-	 * 주문-상품 매핑 삭제 (처리 완료 후 정리)
-	 *
-	 * @param orderId 주문 ID
+	 * Lua Script가 반환한 원장 항목 [field1, qty1, ...] → StockManagement 목록
 	 */
-	public void deleteOrderStockItems(UUID orderId) {
-		String key = StockCacheKey.orderStockItems(orderId);
+	private List<StockManagement> toStockManagements(List<?> entries) {
+		if (entries == null || entries.isEmpty()) {
+			return Collections.emptyList();
+		}
 
-		try {
-			stringRedisTemplate.delete(key);
-			log.debug("Order stock items deleted: orderId={}", orderId);
-		} catch (Exception e) {
-			log.error("Failed to delete order stock items: orderId={}", orderId, e);
+		List<StockManagement> items = new ArrayList<>(entries.size() / 2);
+		for (int i = 0; i + 1 < entries.size(); i += 2) {
+			items.add(toStockManagement(String.valueOf(entries.get(i)), String.valueOf(entries.get(i + 1))));
 		}
+		return items;
+	}
+
+	private StockManagement toStockManagement(String field, String quantity) {
+		int sep = field.indexOf(':');
+		String variantId = field.substring(sep + 1);
+		return StockManagement.of(
+			UUID.fromString(field.substring(0, sep)),
+			variantId.isEmpty() ? null : UUID.fromString(variantId),
+			Integer.parseInt(quantity)
+		);
 	}
 }
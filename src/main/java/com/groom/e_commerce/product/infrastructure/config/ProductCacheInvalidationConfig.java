@@ -0,0 +1,32 @@
+package com.groom.e_commerce.product.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.groom.e_commerce.product.infrastructure.cache.CategoryPathInvalidationBroadcaster;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCacheInvalidationBroadcaster;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCacheKey;
+
+/**
+ * 상품 상세 L1 / 카테고리 경로 로컬 캐시 무효화 채널 구독 설정
+ */
+@Configuration
+public class ProductCacheInvalidationConfig {
+
+	@Bean
+	public RedisMessageListenerContainer productCacheInvalidationListenerContainer(
+		RedisConnectionFactory connectionFactory,
+		ProductCacheInvalidationBroadcaster broadcaster,
+		CategoryPathInvalidationBroadcaster categoryPathBroadcaster
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(broadcaster, new ChannelTopic(ProductCacheKey.detailInvalidationChannel()));
+		container.addMessageListener(categoryPathBroadcaster,
+			new ChannelTopic(ProductCacheKey.categoryPathInvalidationChannel()));
+		return container;
+	}
+}
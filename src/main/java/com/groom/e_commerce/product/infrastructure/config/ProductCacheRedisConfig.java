@@ -0,0 +1,34 @@
+package com.groom.e_commerce.product.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * 상품 캐시 전용 RedisTemplate
+ *
+ * 값은 byte[] 그대로 주고받고, 인코딩은 ProductDetailSerializer/ProductCardCodec이 담당
+ * Hash(목록 앞쪽 페이지)는 필드 문자열 + 값 byte[]
+ */
+@Configuration
+public class ProductCacheRedisConfig {
+
+	@Bean
+	public RedisTemplate<String, byte[]> productCacheBytesRedisTemplate(
+		RedisConnectionFactory factory,
+		StringRedisSerializer stringRedisSerializer
+	) {
+		RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+		template.setConnectionFactory(factory);
+
+		template.setKeySerializer(stringRedisSerializer);
+		template.setValueSerializer(RedisSerializer.byteArray());
+		template.setHashKeySerializer(stringRedisSerializer);
+		template.setHashValueSerializer(RedisSerializer.byteArray());
+
+		return template;
+	}
+}
@@ -0,0 +1,82 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import static com.groom.e_commerce.product.domain.entity.QCategory.*;
+import static com.groom.e_commerce.product.domain.entity.QProduct.*;
+import static com.groom.e_commerce.product.domain.entity.QProductOption.*;
+import static com.groom.e_commerce.product.domain.entity.QProductVariant.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 상세 집합(카테고리/Variant/옵션/옵션 값) 적재
+ *
+ * 상품 수, 옵션/Variant 수와 관계없이 최대 3회 조회로 상세 캐시 변환에 필요한 연관을 모두 초기화합니다.
+ * 1. 상품 + 카테고리 + 상위 카테고리 + Variant
+ * 2. 상품 + 옵션 (1에서 읽은 상품의 옵션 컬렉션 초기화)
+ * 3. 옵션 + 옵션 값 (옵션이 하나도 없으면 생략)
+ *
+ * 컬렉션이 모두 List(bag)라 한 쿼리에서 둘 이상 fetch join 할 수 없어(MultipleBagFetchException) 나눠서 조회합니다.
+ * 반환된 엔티티의 연관은 같은 트랜잭션(영속성 컨텍스트) 안에서 읽어야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductAggregateLoader {
+
+	private final JPAQueryFactory queryFactory;
+
+	/**
+	 * 상품 일괄 적재 (삭제된 상품 포함, 없는 ID는 제외 - 순서 보장 없음)
+	 */
+	public List<Product> loadAll(Collection<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+
+		List<Product> products = queryFactory
+			.selectFrom(product)
+			.join(product.category, category).fetchJoin()
+			.leftJoin(category.parent).fetchJoin()
+			.leftJoin(product.variants, productVariant).fetchJoin()
+			.where(product.id.in(productIds))
+			.distinct()
+			.fetch();
+		if (products.isEmpty()) {
+			return products;
+		}
+
+		List<UUID> loadedIds = products.stream().map(Product::getId).toList();
+		queryFactory
+			.selectFrom(product)
+			.leftJoin(product.options, productOption).fetchJoin()
+			.where(product.id.in(loadedIds))
+			.distinct()
+			.fetch();
+
+		if (products.stream().anyMatch(loaded -> !loaded.getOptions().isEmpty())) {
+			queryFactory
+				.selectFrom(productOption)
+				.leftJoin(productOption.optionValues).fetchJoin()
+				.where(productOption.product.id.in(loadedIds))
+				.distinct()
+				.fetch();
+		}
+		return products;
+	}
+
+	/**
+	 * 단건 적재 (삭제된 상품 포함)
+	 */
+	public Optional<Product> load(UUID productId) {
+		return loadAll(List.of(productId)).stream().findFirst();
+	}
+}
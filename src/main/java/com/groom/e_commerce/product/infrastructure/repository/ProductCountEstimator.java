@@ -0,0 +1,114 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.product.infrastructure.cache.CategoryPathCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 결과 개수 추정 (PostgreSQL 실행 계획의 예상 행 수)
+ *
+ * - 목록 조회와 같은 조건의 COUNT 쿼리를 실행하지 않고 EXPLAIN만 수행 (통계 기반, 수 ms 이내)
+ * - 정확도는 테이블 통계(ANALYZE)에 의존 → 결과가 많아 정확한 값이 의미 없는 경우에만 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCountEstimator {
+
+	private static final Pattern ROWS = Pattern.compile("rows=(\\d+)");
+
+	// 목록 가격 (ProductQueryRepository.listingPrice와 같은 정의 - 옵션 상품은 Variant 최저가)
+	private static final String LISTING_PRICE = "COALESCE(CASE WHEN p.has_options THEN "
+		+ "(SELECT MIN(v.price) FROM p_product_variant v WHERE v.product_id = p.product_id) END, p.price)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final CategoryPathCache categoryPathCache;
+
+	/**
+	 * @return 예상 행 수 (추정 실패 시 -1)
+	 */
+	public long estimate(ProductCountFilter filter) {
+		StringBuilder sql = new StringBuilder("EXPLAIN SELECT 1 FROM p_product p");
+		List<Object> args = new ArrayList<>();
+
+		String subtreePath = filter.getCategoryId() != null && filter.isSubtree()
+			? categoryPathCache.subtreePath(filter.getCategoryId()) : null;
+		if (subtreePath != null) {
+			sql.append(" JOIN p_category c ON c.category_id = p.category_id");
+		}
+		sql.append(" WHERE p.deleted_at IS NULL");
+
+		if (filter.getOwnerId() != null) {
+			sql.append(" AND p.owner_id = ?");
+			args.add(filter.getOwnerId());
+		}
+		if (filter.getNormalizedKeyword() != null) {
+			appendKeyword(sql, args, filter.getNormalizedKeyword());
+		}
+		if (filter.getCategoryId() != null) {
+			if (subtreePath != null) {
+				sql.append(" AND (p.category_id = ? OR c.ancestor_path LIKE ? ESCAPE '!')");
+				args.add(filter.getCategoryId());
+				args.add(escapeLike(subtreePath) + "%");
+			} else {
+				sql.append(" AND p.category_id = ?");
+				args.add(filter.getCategoryId());
+			}
+		}
+		if (filter.getMinPrice() != null) {
+			sql.append(" AND ").append(LISTING_PRICE).append(" >= ?");
+			args.add(filter.getMinPrice());
+		}
+		if (filter.getMaxPrice() != null) {
+			sql.append(" AND ").append(LISTING_PRICE).append(" <= ?");
+			args.add(filter.getMaxPrice());
+		}
+		if (filter.getStatus() != null) {
+			sql.append(" AND p.status = ?");
+			args.add(filter.getStatus().name());
+		}
+
+		try {
+			// 첫 행이 최상위 노드 (필터가 적용된 예상 결과 행 수)
+			List<String> plan = jdbcTemplate.queryForList(sql.toString(), String.class, args.toArray());
+			Matcher matcher = plan.isEmpty() ? null : ROWS.matcher(plan.get(0));
+			return matcher != null && matcher.find() ? Long.parseLong(matcher.group(1)) : -1;
+		} catch (Exception e) {
+			log.warn("Failed to estimate product count", e);
+			return -1;
+		}
+	}
+
+	/**
+	 * 검색어 조건 (ProductQueryRepository.keywordContains와 같은 기준 - 3글자 미만은 단어 시작 일치)
+	 */
+	private void appendKeyword(StringBuilder sql, List<Object> args, String keyword) {
+		if (TrigramSearchSupport.isShortKeyword(keyword)) {
+			String word = escapeLike(keyword.strip());
+			sql.append(" AND (lower(p.title) LIKE ? ESCAPE '!' OR lower(p.title) LIKE ? ESCAPE '!'")
+				.append(" OR lower(p.description) LIKE ? ESCAPE '!' OR lower(p.description) LIKE ? ESCAPE '!')");
+			for (int i = 0; i < 2; i++) {
+				args.add(word + "%");
+				args.add("% " + word + "%");
+			}
+			return;
+		}
+		String pattern = "%" + escapeLike(keyword) + "%";
+		sql.append(" AND (lower(p.title) LIKE ? ESCAPE '!' OR lower(p.description) LIKE ? ESCAPE '!')");
+		args.add(pattern);
+		args.add(pattern);
+	}
+
+	private String escapeLike(String value) {
+		return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+	}
+}
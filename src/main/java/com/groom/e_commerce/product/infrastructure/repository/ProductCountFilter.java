@@ -0,0 +1,50 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.util.StringUtils;
+
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 개수 조회 조건 (목록 조회 where 조건과 같은 값)
+ * signature: 정규화한 조건 문자열 → 같은 조건이면 같은 개수 캐시 항목을 사용
+ */
+@Getter
+@Builder
+public class ProductCountFilter {
+
+	private final UUID ownerId;
+	private final String keyword;
+	private final UUID categoryId;
+	// true: 하위 카테고리 포함 (구매자 조회), false: 해당 카테고리만
+	private final boolean subtree;
+	private final Long minPrice;
+	private final Long maxPrice;
+	private final ProductStatus status;
+
+	/**
+	 * 검색어는 조회 조건과 같이 대소문자 무시
+	 */
+	public String getNormalizedKeyword() {
+		return StringUtils.hasText(keyword) ? keyword.toLowerCase(Locale.ROOT) : null;
+	}
+
+	public String signature() {
+		return String.join("|",
+			valueOf(ownerId),
+			valueOf(categoryId) + (subtree ? "/*" : ""),
+			valueOf(minPrice),
+			valueOf(maxPrice),
+			valueOf(status),
+			valueOf(getNormalizedKeyword()));
+	}
+
+	private static String valueOf(Object value) {
+		return value != null ? value.toString() : "";
+	}
+}
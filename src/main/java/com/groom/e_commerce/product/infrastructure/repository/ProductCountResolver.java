@@ -0,0 +1,52 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.groom.e_commerce.product.domain.enums.ProductCountMode;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCountCacheService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 목록 조회 전체 개수 결정
+ *
+ * - EXACT: 조건별 캐시 → 미스 시 COUNT 쿼리 후 캐시 (짧은 TTL, 상품 변경 시 삭제)
+ * - AUTO: 캐시 → 실행 계획 예상 행 수가 임계값 이상이면 추정치 (COUNT 생략, 캐시하지 않음) → 그 외 EXACT와 동일
+ * - NONE: 개수를 구하지 않음 (ProductQueryRepository에서 size+1 조회로 다음 페이지 여부만 판단)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCountResolver {
+
+	private final ProductCountCacheService countCacheService;
+	private final ProductCountEstimator countEstimator;
+
+	// 이 값 이상으로 예상되면 추정치로 응답 (0 이하면 추정 사용 안 함)
+	@Value("${product.count.estimate-threshold:10000}")
+	private long estimateThreshold;
+
+	public long count(ProductCountFilter filter, ProductCountMode countMode, LongSupplier exactCount) {
+		String signature = filter.signature();
+		long cached = countCacheService.get(filter.getOwnerId(), signature);
+		if (cached >= 0) {
+			return cached;
+		}
+
+		if (countMode == ProductCountMode.AUTO && estimateThreshold > 0) {
+			long estimated = countEstimator.estimate(filter);
+			if (estimated >= estimateThreshold) {
+				log.debug("Using estimated product count: estimated={}", estimated);
+				return estimated;
+			}
+		}
+
+		long count = exactCount.getAsLong();
+		countCacheService.put(filter.getOwnerId(), signature, count);
+		return count;
+	}
+}
@@ -3,21 +3,32 @@ package com.groom.e_commerce.product.infrastructure.repository;
 import static com.groom.e_commerce.product.domain.entity.QCategory.*;
 import static com.groom.e_commerce.product.domain.entity.QProduct.*;
 import static com.groom.e_commerce.product.domain.entity.QProductVariant.*;
+import static com.groom.e_commerce.review.domain.entity.QProductRatingEntity.*;
 
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import com.groom.e_commerce.product.application.dto.ProductCursor;
 import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.entity.QProductVariant;
+import com.groom.e_commerce.product.domain.enums.ProductCountMode;
 import com.groom.e_commerce.product.domain.enums.ProductSortType;
 import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.infrastructure.cache.CategoryPathCache;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -28,6 +39,9 @@ import lombok.RequiredArgsConstructor;
 public class ProductQueryRepository {
 
 	private final JPAQueryFactory queryFactory;
+	private final CategoryPathCache categoryPathCache;
+	private final ProductCountResolver countResolver;
+	private final TrigramSearchSupport trigramSearchSupport;
 
 	// 사용자/관리자 상품 검색 (키워드, 카테고리, 가격 범위, 상태)
 	public Page<Product> searchProducts(
@@ -36,37 +50,27 @@ public class ProductQueryRepository {
 		Long minPrice,
 		Long maxPrice,
 		ProductStatus status,
+		ProductCountMode countMode,
 		Pageable pageable
 	) {
-		List<Product> content = queryFactory
-			.selectFrom(product)
-			.leftJoin(product.category, category).fetchJoin()
-			.where(
-				keywordContains(keyword),
-				categoryIdEq(categoryId),
-				priceGoe(minPrice),
-				priceLoe(maxPrice),
-				statusEq(status),
-				notDeleted()
-			)
-			.orderBy(product.createdAt.desc())
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
-			.fetch();
-
-		JPAQuery<Long> countQuery = queryFactory
-			.select(product.count())
-			.from(product)
-			.where(
-				keywordContains(keyword),
-				categoryIdEq(categoryId),
-				priceGoe(minPrice),
-				priceLoe(maxPrice),
-				statusEq(status),
-				notDeleted()
-			);
+		Predicate[] conditions = {
+			keywordContains(keyword),
+			categoryIdEq(categoryId),
+			priceGoe(minPrice),
+			priceLoe(maxPrice),
+			statusEq(status),
+			notDeleted()
+		};
+		ProductCountFilter countFilter = ProductCountFilter.builder()
+			.keyword(keyword)
+			.categoryId(categoryId)
+			.minPrice(minPrice)
+			.maxPrice(maxPrice)
+			.status(status)
+			.build();
 
-		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+		return fetchPage(searchQuery(conditions).orderBy(product.createdAt.desc()),
+			conditions, countFilter, countMode, pageable);
 	}
 
 	/**
@@ -78,37 +82,32 @@ public class ProductQueryRepository {
 		Long minPrice,
 		Long maxPrice,
 		ProductSortType sortType,
+		ProductCountMode countMode,
 		Pageable pageable
 	) {
-		List<Product> content = queryFactory
-			.selectFrom(product)
-			.leftJoin(product.category, category).fetchJoin()
-			.where(
-				keywordContains(keyword),
-				categoryIdEq(categoryId),
-				priceGoe(minPrice),
-				priceLoe(maxPrice),
-				onSaleOnly(),
-				notDeleted()
-			)
-			.orderBy(getOrderSpecifier(sortType))
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
-			.fetch();
-
-		JPAQuery<Long> countQuery = queryFactory
-			.select(product.count())
-			.from(product)
-			.where(
-				keywordContains(keyword),
-				categoryIdEq(categoryId),
-				priceGoe(minPrice),
-				priceLoe(maxPrice),
-				onSaleOnly(),
-				notDeleted()
-			);
+		Predicate[] conditions = {
+			keywordContains(keyword),
+			categoryInSubtree(categoryId),
+			priceGoe(minPrice),
+			priceLoe(maxPrice),
+			onSaleOnly(),
+			notDeleted()
+		};
+		ProductCountFilter countFilter = ProductCountFilter.builder()
+			.keyword(keyword)
+			.categoryId(categoryId)
+			.subtree(true)
+			.minPrice(minPrice)
+			.maxPrice(maxPrice)
+			.status(ProductStatus.ON_SALE)
+			.build();
 
-		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+		JPAQuery<Product> query = searchQuery(conditions);
+		if (sortType == ProductSortType.RATING) {
+			query.leftJoin(productRatingEntity).on(productRatingEntity.productId.eq(product.id));
+		}
+		return fetchPage(query.orderBy(getOrderSpecifiers(sortType, keyword)),
+			conditions, countFilter, countMode, pageable);
 	}
 
 	// Owner가 자신의 상품 목록을 조회할 때 사용
@@ -116,64 +115,44 @@ public class ProductQueryRepository {
 		UUID ownerId,
 		ProductStatus status,
 		String keyword,
+		ProductCountMode countMode,
 		Pageable pageable
 	) {
-		List<Product> content = queryFactory
-			.selectFrom(product)
-			.leftJoin(product.category, category).fetchJoin()
-			.where(
-				ownerIdEq(ownerId),
-				statusEq(status),
-				keywordContains(keyword),
-				notDeleted()
-			)
-			.orderBy(product.createdAt.desc())
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
-			.fetch();
-
-		JPAQuery<Long> countQuery = queryFactory
-			.select(product.count())
-			.from(product)
-			.where(
-				ownerIdEq(ownerId),
-				statusEq(status),
-				keywordContains(keyword),
-				notDeleted()
-			);
+		Predicate[] conditions = {
+			ownerIdEq(ownerId),
+			statusEq(status),
+			keywordContains(keyword),
+			notDeleted()
+		};
+		ProductCountFilter countFilter = ProductCountFilter.builder()
+			.ownerId(ownerId)
+			.status(status)
+			.keyword(keyword)
+			.build();
 
-		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+		return fetchPage(searchQuery(conditions).orderBy(product.createdAt.desc()),
+			conditions, countFilter, countMode, pageable);
 	}
 
 	// manager 페이지에서 상품 전체를 관리할 때 사용
 	public Page<Product> findAllForManager(
 		String keyword,
 		ProductStatus status,
+		ProductCountMode countMode,
 		Pageable pageable
 	) {
-		List<Product> content = queryFactory
-			.selectFrom(product)
-			.leftJoin(product.category, category).fetchJoin()
-			.where(
-				keywordContains(keyword),
-				statusEq(status),
-				notDeleted()
-			)
-			.orderBy(product.createdAt.desc())
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
-			.fetch();
-
-		JPAQuery<Long> countQuery = queryFactory
-			.select(product.count())
-			.from(product)
-			.where(
-				keywordContains(keyword),
-				statusEq(status),
-				notDeleted()
-			);
+		Predicate[] conditions = {
+			keywordContains(keyword),
+			statusEq(status),
+			notDeleted()
+		};
+		ProductCountFilter countFilter = ProductCountFilter.builder()
+			.keyword(keyword)
+			.status(status)
+			.build();
 
-		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+		return fetchPage(searchQuery(conditions).orderBy(product.createdAt.desc()),
+			conditions, countFilter, countMode, pageable);
 	}
 
 	//여러 상품 ID들을 받아, 각 상품의 옵션까지 한 번에 가져옴 (장바구니/주문용 일괄 조회)
@@ -186,12 +165,51 @@ public class ProductQueryRepository {
 			.fetch();
 	}
 
+	// 최신순 Keyset 페이지 (캐시 Warm-up용, 커서가 null이면 처음부터)
+	public List<ProductCursor> findLatestCursorsAfter(ProductCursor cursor, int limit) {
+		return queryFactory
+			.select(product.createdAt, product.id)
+			.from(product)
+			.where(
+				notDeleted(),
+				cursorAfter(cursor)
+			)
+			.orderBy(product.createdAt.desc(), product.id.desc())
+			.limit(limit)
+			.fetch()
+			.stream()
+			.map(tuple -> ProductCursor.of(tuple.get(product.createdAt), tuple.get(product.id)))
+			.toList();
+	}
+
+	// 구매자 최신순 Keyset 페이지 (커서 목록 조회의 DB 경로, OFFSET 없이 깊은 페이지도 인덱스 범위 스캔, 가격 구간 선택)
+	public List<ProductCursor> findBuyerCursorsAfter(UUID categoryId, Long minPrice, Long maxPrice,
+		ProductCursor cursor, int limit) {
+		return queryFactory
+			.select(product.createdAt, product.id)
+			.from(product)
+			.where(
+				categoryInSubtree(categoryId),
+				priceGoe(minPrice),
+				priceLoe(maxPrice),
+				onSaleOnly(),
+				notDeleted(),
+				cursorAfter(cursor)
+			)
+			.orderBy(product.createdAt.desc(), product.id.desc())
+			.limit(limit)
+			.fetch()
+			.stream()
+			.map(tuple -> ProductCursor.of(tuple.get(product.createdAt), tuple.get(product.id)))
+			.toList();
+	}
+
 	public long countProductsForBuyer(UUID categoryId) {
 		Long count = queryFactory
 			.select(product.count())
 			.from(product)
 			.where(
-				categoryIdEq(categoryId),
+				categoryInSubtree(categoryId),
 				onSaleOnly(),
 				notDeleted()
 			)
@@ -199,23 +217,100 @@ public class ProductQueryRepository {
 		return count != null ? count : 0L;
 	}
 
+	private JPAQuery<Product> searchQuery(Predicate[] conditions) {
+		return queryFactory
+			.selectFrom(product)
+			.leftJoin(product.category, category).fetchJoin()
+			.where(conditions);
+	}
+
+	/**
+	 * 페이지 조회 + 개수 전략 (ProductCountResolver)
+	 * NONE: size+1건 조회로 다음 페이지 여부만 판단 (totalElements = 지금까지 본 건수 + 다음 페이지가 있으면 1)
+	 */
+	private Page<Product> fetchPage(JPAQuery<Product> query, Predicate[] conditions, ProductCountFilter countFilter,
+		ProductCountMode countMode, Pageable pageable) {
+		if (countMode == ProductCountMode.NONE) {
+			List<Product> rows = query
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize() + 1L)
+				.fetch();
+			boolean hasNext = rows.size() > pageable.getPageSize();
+			List<Product> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+			return new PageImpl<>(content, pageable, pageable.getOffset() + content.size() + (hasNext ? 1 : 0));
+		}
+
+		List<Product> content = query
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.fetch();
+
+		// 캐시/추정 개수가 이미 조회한 건수보다 작으면 조회한 건수로 보정
+		long seen = pageable.getOffset() + content.size();
+		return PageableExecutionUtils.getPage(content, pageable, () -> Math.max(seen,
+			countResolver.count(countFilter, countMode == null ? ProductCountMode.AUTO : countMode, () -> {
+				Long count = queryFactory
+					.select(product.count())
+					.from(product)
+					.where(conditions)
+					.fetchOne();
+				return count != null ? count : 0L;
+			})));
+	}
+
+	// lower(title|description) LIKE → idx_product_*_trgm (ProductSearchIndexInitializer)
+	// 3글자 미만 검색어는 단어 시작 일치 (TrigramSearchSupport - 부분 일치 패턴은 trigram 인덱스로 걸러낼 수 없음)
 	private BooleanExpression keywordContains(String keyword) {
-		return StringUtils.hasText(keyword)
-			? product.title.containsIgnoreCase(keyword)
-			.or(product.description.containsIgnoreCase(keyword))
-			: null;
+		if (!StringUtils.hasText(keyword)) {
+			return null;
+		}
+		if (TrigramSearchSupport.isShortKeyword(keyword)) {
+			String word = keyword.strip().toLowerCase();
+			return wordStartsWith(product.title, word).or(wordStartsWith(product.description, word));
+		}
+		return product.title.containsIgnoreCase(keyword)
+			.or(product.description.containsIgnoreCase(keyword));
+	}
+
+	// lower(col) LIKE 'word%' OR lower(col) LIKE '% word%'
+	private BooleanExpression wordStartsWith(StringPath path, String word) {
+		return path.lower().startsWith(word).or(path.lower().contains(" " + word));
 	}
 
 	private BooleanExpression categoryIdEq(UUID categoryId) {
 		return categoryId != null ? product.category.id.eq(categoryId) : null;
 	}
 
+	// 구매자 카테고리 조회는 하위 카테고리 상품 포함 (ancestor_path 접두사 조회)
+	private BooleanExpression categoryInSubtree(UUID categoryId) {
+		if (categoryId == null) {
+			return null;
+		}
+		String subtreePath = categoryPathCache.subtreePath(categoryId);
+		if (subtreePath == null) {
+			return product.category.id.eq(categoryId);
+		}
+		return product.category.id.eq(categoryId).or(product.category.ancestorPath.startsWith(subtreePath));
+	}
+
 	private BooleanExpression priceGoe(Long minPrice) {
-		return minPrice != null ? product.price.goe(minPrice) : null;
+		return minPrice != null ? listingPrice().goe(minPrice) : null;
 	}
 
 	private BooleanExpression priceLoe(Long maxPrice) {
-		return maxPrice != null ? product.price.loe(maxPrice) : null;
+		return maxPrice != null ? listingPrice().loe(maxPrice) : null;
+	}
+
+	/**
+	 * 목록 가격 - 옵션 상품은 Variant 최저가, 그 외(또는 Variant 없음)는 상품 가격
+	 * 목록에 표시하는 최저가 및 Redis 가격 인덱스 score(CachedProductDetail.minPriceOf)와 같은 정의
+	 */
+	private NumberExpression<Long> listingPrice() {
+		QProductVariant variant = new QProductVariant("listingVariant");
+		return Expressions.numberTemplate(Long.class, "coalesce(case when {0} = true then ({1}) end, {2})",
+			product.hasOptions,
+			JPAExpressions.select(variant.price.min()).from(variant).where(variant.product.eq(product)),
+			product.price);
 	}
 
 	private BooleanExpression statusEq(ProductStatus status) {
@@ -230,19 +325,45 @@ public class ProductQueryRepository {
 		return product.deletedAt.isNull();
 	}
 
+	private BooleanExpression cursorAfter(ProductCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		return product.createdAt.lt(cursor.getCreatedAt())
+			.or(product.createdAt.eq(cursor.getCreatedAt()).and(product.id.lt(cursor.getProductId())));
+	}
+
 	private BooleanExpression onSaleOnly() {
 		return product.status.eq(ProductStatus.ON_SALE);
 	}
 
+	// 관련도순: 제목 trigram 유사도 (설명만 일치하면 낮은 점수) → 최신순 (pg_trgm이 없으면 최신순만)
+	// 동점은 id로 정렬 - Redis 정렬 인덱스의 동점 순서(member 문자열 = uuid 바이트 순서)와 일치
+	//   (ZRANGE 오름차순은 id 오름차순, ZREVRANGE 내림차순은 id 내림차순)
+	private OrderSpecifier<?>[] getOrderSpecifiers(ProductSortType sortType, String keyword) {
+		if (sortType == ProductSortType.RELEVANCE && StringUtils.hasText(keyword)
+			&& trigramSearchSupport.isAvailable()) {
+			NumberExpression<Double> similarity = Expressions.numberTemplate(Double.class,
+				"function('similarity', {0}, {1})", product.title.lower(), keyword.toLowerCase());
+			return new OrderSpecifier<?>[] {similarity.desc(), product.createdAt.desc(), product.id.desc()};
+		}
+		if (sortType == ProductSortType.PRICE_ASC) {
+			return new OrderSpecifier<?>[] {listingPrice().asc(), product.id.asc()};
+		}
+		return new OrderSpecifier<?>[] {getOrderSpecifier(sortType), product.id.desc()};
+	}
+
 	private OrderSpecifier<?> getOrderSpecifier(ProductSortType sortType) {
 		if (sortType == null) {
 			return product.createdAt.desc();
 		}
 		return switch (sortType) {
-			case PRICE_ASC -> product.price.asc();
-			case PRICE_DESC -> product.price.desc();
+			case PRICE_ASC -> listingPrice().asc();
+			case PRICE_DESC -> listingPrice().desc();
 			case NEWEST -> product.createdAt.desc();
-			case RATING -> product.createdAt.desc(); // TODO: Review 도메인 연동 후 평점순 구현
+			// 평점 없는 상품은 0점 (Redis 평점 인덱스 기본 score와 동일), 평점 조인은 searchProductsForBuyer에서 추가
+			case RATING -> productRatingEntity.avgRating.coalesce(0.0).desc();
+			case RELEVANCE -> product.createdAt.desc(); // 검색어 없으면 최신순
 		};
 	}
 }
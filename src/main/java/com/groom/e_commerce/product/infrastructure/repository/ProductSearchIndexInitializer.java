@@ -0,0 +1,81 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검색 인덱스 (pg_trgm GIN) 생성
+ *
+ * - 검색 조건 lower(title|description) LIKE '%키워드%'를 trigram GIN 인덱스로 처리 (순차 스캔 제거)
+ * - 형태소 분석 없이 3글자 단위로 색인 → 한글도 띄어쓰기/조사와 무관하게 부분 일치
+ *   (3글자 미만 검색어는 단어 시작 일치로 같은 인덱스 사용 - TrigramSearchSupport)
+ * - ddl-auto로는 확장/함수 인덱스를 만들 수 없어 기동 시 IF NOT EXISTS로 생성
+ * - CONCURRENTLY: 운영 중 테이블 쓰기를 막지 않음 (실패 시 INVALID 인덱스가 남으면 수동 삭제 후 재기동)
+ * - 생성 여부와 무관하게 마지막에 확장 설치 여부를 확인해 관련도순 정렬 사용 여부로 기록 (TrigramSearchSupport)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexInitializer {
+
+	private static final List<String> STATEMENTS = List.of(
+		"CREATE EXTENSION IF NOT EXISTS pg_trgm",
+		"""
+			CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_title_trgm
+			ON p_product USING gin (lower(title) gin_trgm_ops)
+			""",
+		"""
+			CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_description_trgm
+			ON p_product USING gin (lower(description) gin_trgm_ops)
+			"""
+	);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TrigramSearchSupport trigramSearchSupport;
+
+	@Value("${product.search.trgm-index.enabled:true}")
+	private boolean enabled;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void createIndexes() {
+		if (enabled) {
+			createAll();
+		}
+		trigramSearchSupport.setAvailable(isExtensionInstalled());
+		if (!trigramSearchSupport.isAvailable()) {
+			log.warn("pg_trgm is not available, relevance sort falls back to newest");
+		}
+	}
+
+	private void createAll() {
+		for (String statement : STATEMENTS) {
+			try {
+				jdbcTemplate.execute(statement);
+			} catch (Exception e) {
+				// 확장 권한이 없거나 DB가 PostgreSQL이 아니면 기존 LIKE 순차 스캔으로 동작
+				log.warn("Failed to create product search index: {}", statement.strip(), e);
+				return;
+			}
+		}
+		log.info("Product search trigram indexes ready");
+	}
+
+	private boolean isExtensionInstalled() {
+		try {
+			Integer count = jdbcTemplate.queryForObject(
+				"SELECT count(*) FROM pg_extension WHERE extname = 'pg_trgm'", Integer.class);
+			return count != null && count > 0;
+		} catch (Exception e) {
+			log.warn("Failed to check pg_trgm extension", e);
+			return false;
+		}
+	}
+}
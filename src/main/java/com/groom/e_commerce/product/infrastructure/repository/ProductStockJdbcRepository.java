@@ -0,0 +1,237 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.product.application.dto.StockManagement;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 전용 JDBC 리포지토리
+ *
+ * [확정 차감]
+ * 엔티티 조회 없이 조건부 UPDATE(stock >= ?)를 JDBC 배치로 실행하여
+ * 결제 완료 폭주 시 N+1 SELECT와 행 잠금 유지 시간을 줄입니다.
+ * 재고가 0이 되면 같은 UPDATE 문에서 상태를 SOLD_OUT으로 변경합니다.
+ *
+ * [정합성 검증용 조회]
+ * 엔티티를 만들지 않고 (ID, 재고)만 Keyset 페이지 단위로 읽어 힙 사용량을 일정하게 유지합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockJdbcRepository {
+
+	private static final String DECREASE_PRODUCT_STOCK = """
+		UPDATE p_product
+		SET stock_quantity = stock_quantity - ?,
+		    status = CASE WHEN stock_quantity - ? = 0 AND status = 'ON_SALE' THEN 'SOLD_OUT' ELSE status END,
+		    updated_at = now()
+		WHERE product_id = ?
+		  AND has_options = false
+		  AND deleted_at IS NULL
+		  AND stock_quantity >= ?
+		""";
+
+	private static final String DECREASE_VARIANT_STOCK = """
+		UPDATE p_product_variant
+		SET stock_quantity = stock_quantity - ?,
+		    status = CASE WHEN stock_quantity - ? = 0 AND status = 'ON_SALE' THEN 'SOLD_OUT' ELSE status END,
+		    updated_at = now()
+		WHERE variant_id = ?
+		  AND product_id = ?
+		  AND stock_quantity >= ?
+		""";
+
+	private static final String FIND_PRODUCT_STOCKS_AFTER = """
+		SELECT product_id, stock_quantity
+		FROM p_product
+		WHERE has_options = false
+		  AND deleted_at IS NULL
+		  AND product_id > ?
+		ORDER BY product_id
+		LIMIT ?
+		""";
+
+	private static final String FIND_VARIANT_STOCKS_AFTER = """
+		SELECT v.variant_id, v.product_id, v.stock_quantity
+		FROM p_product_variant v
+		JOIN p_product p ON p.product_id = v.product_id
+		WHERE p.deleted_at IS NULL
+		  AND v.variant_id > ?
+		ORDER BY v.variant_id
+		LIMIT ?
+		""";
+
+	private static final String FIND_PRODUCT_STOCK = """
+		SELECT stock_quantity
+		FROM p_product
+		WHERE product_id = ?
+		  AND has_options = false
+		  AND deleted_at IS NULL
+		""";
+
+	private static final String FIND_VARIANT_STOCK = """
+		SELECT v.stock_quantity
+		FROM p_product_variant v
+		JOIN p_product p ON p.product_id = v.product_id
+		WHERE v.variant_id = ?
+		  AND v.product_id = ?
+		  AND p.deleted_at IS NULL
+		""";
+
+	// Keyset 첫 페이지 시작점 (UUID 최솟값)
+	public static final UUID FIRST_KEY = new UUID(0L, 0L);
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 주문 단위 재고 일괄 차감
+	 * 하나라도 조건(재고 충분, 상품/Variant 일치)을 만족하지 못하면 예외 → 트랜잭션 전체 롤백
+	 *
+	 * @param items 차감할 상품 목록 (같은 상품/Variant는 수량 합산)
+	 * @throws CustomException 재고 부족 또는 대상 없음
+	 */
+	public void decreaseStocks(List<StockManagement> items) {
+		List<StockManagement> merged = mergeAndSort(items);
+
+		List<StockManagement> products = merged.stream()
+			.filter(item -> item.getVariantId() == null)
+			.toList();
+		List<StockManagement> variants = merged.stream()
+			.filter(item -> item.getVariantId() != null)
+			.toList();
+
+		if (!products.isEmpty()) {
+			int[] updated = jdbcTemplate.batchUpdate(DECREASE_PRODUCT_STOCK, products, products.size(),
+				(ps, item) -> {
+					ps.setInt(1, item.getQuantity());
+					ps.setInt(2, item.getQuantity());
+					ps.setObject(3, item.getProductId());
+					ps.setInt(4, item.getQuantity());
+				})[0];
+			validateUpdated(products, updated);
+		}
+
+		if (!variants.isEmpty()) {
+			int[] updated = jdbcTemplate.batchUpdate(DECREASE_VARIANT_STOCK, variants, variants.size(),
+				(ps, item) -> {
+					ps.setInt(1, item.getQuantity());
+					ps.setInt(2, item.getQuantity());
+					ps.setObject(3, item.getVariantId());
+					ps.setObject(4, item.getProductId());
+					ps.setInt(5, item.getQuantity());
+				})[0];
+			validateUpdated(variants, updated);
+		}
+	}
+
+	/**
+	 * 옵션 없는 상품 재고 Keyset 조회 (product_id 오름차순)
+	 *
+	 * @param lastProductId 이전 페이지의 마지막 상품 ID (첫 페이지는 FIRST_KEY)
+	 * @param limit 페이지 크기
+	 * @return (productId, variantId=null, 재고) 목록
+	 */
+	public List<StockManagement> findProductStocksAfter(UUID lastProductId, int limit) {
+		return jdbcTemplate.query(FIND_PRODUCT_STOCKS_AFTER,
+			(rs, rowNum) -> StockManagement.of(
+				rs.getObject("product_id", UUID.class),
+				null,
+				rs.getInt("stock_quantity")),
+			lastProductId, limit);
+	}
+
+	/**
+	 * Variant 재고 Keyset 조회 (variant_id 오름차순)
+	 *
+	 * @param lastVariantId 이전 페이지의 마지막 Variant ID (첫 페이지는 FIRST_KEY)
+	 * @param limit 페이지 크기
+	 * @return (productId, variantId, 재고) 목록
+	 */
+	public List<StockManagement> findVariantStocksAfter(UUID lastVariantId, int limit) {
+		return jdbcTemplate.query(FIND_VARIANT_STOCKS_AFTER,
+			(rs, rowNum) -> StockManagement.of(
+				rs.getObject("product_id", UUID.class),
+				rs.getObject("variant_id", UUID.class),
+				rs.getInt("stock_quantity")),
+			lastVariantId, limit);
+	}
+
+	/**
+	 * 단일 SKU 현재 재고 (재고 보정 직전 재확인용)
+	 *
+	 * @return 재고 (상품/Variant가 없거나 삭제되었으면 null)
+	 */
+	public Integer findStock(UUID productId, UUID variantId) {
+		List<Integer> stocks = variantId != null
+			? jdbcTemplate.queryForList(FIND_VARIANT_STOCK, Integer.class, variantId, productId)
+			: jdbcTemplate.queryForList(FIND_PRODUCT_STOCK, Integer.class, productId);
+		return stocks.isEmpty() ? null : stocks.get(0);
+	}
+
+	/**
+	 * 재고 키 대상이 실제로 존재하는 상품 ID 조회 (옵션 없음 + 미삭제)
+	 */
+	public List<UUID> findExistingStockProductIds(List<UUID> productIds) {
+		if (productIds.isEmpty()) {
+			return List.of();
+		}
+		String sql = "SELECT product_id FROM p_product WHERE has_options = false AND deleted_at IS NULL"
+			+ " AND product_id IN (" + placeholders(productIds.size()) + ")";
+		return jdbcTemplate.queryForList(sql, UUID.class, productIds.toArray());
+	}
+
+	/**
+	 * 재고 키 대상이 실제로 존재하는 Variant ID 조회 (상품 미삭제)
+	 */
+	public List<UUID> findExistingStockVariantIds(List<UUID> variantIds) {
+		if (variantIds.isEmpty()) {
+			return List.of();
+		}
+		String sql = "SELECT v.variant_id FROM p_product_variant v JOIN p_product p ON p.product_id = v.product_id"
+			+ " WHERE p.deleted_at IS NULL AND v.variant_id IN (" + placeholders(variantIds.size()) + ")";
+		return jdbcTemplate.queryForList(sql, UUID.class, variantIds.toArray());
+	}
+
+	private String placeholders(int count) {
+		return String.join(",", Collections.nCopies(count, "?"));
+	}
+
+	/**
+	 * 같은 상품/Variant 수량 합산 + ID 순 정렬 (동시 트랜잭션 간 잠금 순서 고정 → 데드락 방지)
+	 */
+	private List<StockManagement> mergeAndSort(List<StockManagement> items) {
+		Map<String, StockManagement> merged = new LinkedHashMap<>();
+		for (StockManagement item : items) {
+			String key = item.getProductId() + ":" + item.getVariantId();
+			merged.merge(key, item, (a, b) ->
+				StockManagement.of(a.getProductId(), a.getVariantId(), a.getQuantity() + b.getQuantity()));
+		}
+
+		List<StockManagement> sorted = new ArrayList<>(merged.values());
+		sorted.sort(Comparator
+			.comparing((StockManagement item) -> item.getVariantId() != null ? item.getVariantId() : item.getProductId()));
+		return sorted;
+	}
+
+	private void validateUpdated(List<StockManagement> items, int[] updated) {
+		for (int i = 0; i < updated.length; i++) {
+			if (updated[i] == 0) {
+				StockManagement item = items.get(i);
+				throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH,
+					"재고가 부족합니다. productId=" + item.getProductId() + ", variantId=" + item.getVariantId());
+			}
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * pg_trgm 사용 가능 여부 (관련도순 similarity 정렬) + 짧은 검색어 판단
+ *
+ * 기동 시 ProductSearchIndexInitializer가 확장 설치 여부를 확인해 기록하며, 확인 전/실패 시 사용 불가로 간주
+ * → 관련도순은 최신순으로 대체 (확장이 없는 DB에서 function('similarity')가 쿼리 오류를 내지 않도록)
+ *
+ * [짧은 검색어]
+ * '%가방%'처럼 3글자 미만 패턴에서는 trigram을 뽑을 수 없어 GIN 인덱스가 행을 걸러내지 못함 (인덱스 전체 스캔)
+ * → 3글자 미만 검색어는 단어 시작 일치(lower(col) LIKE '가방%' OR LIKE '% 가방%')로 검색
+ *   pg_trgm은 공백 뒤/문자열 시작의 단어 앞에 여백 trigram("  가", " 가방")을 만들므로 같은 GIN 인덱스로 처리됨
+ *   단어 중간 일치("핸드가방"의 "가방")는 찾지 않음 (명시적 제한)
+ */
+@Component
+public class TrigramSearchSupport {
+
+	// trigram 단위 글자 수 (이보다 짧은 검색어는 단어 시작 일치)
+	public static final int MIN_TRIGRAM_LENGTH = 3;
+
+	private volatile boolean available;
+
+	/**
+	 * 단어 시작 일치로 검색할 짧은 검색어 (앞뒤 공백 제외 3글자 미만)
+	 */
+	public static boolean isShortKeyword(String keyword) {
+		String stripped = keyword.strip();
+		return stripped.codePointCount(0, stripped.length()) < MIN_TRIGRAM_LENGTH;
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	void setAvailable(boolean available) {
+		this.available = available;
+	}
+}
@@ -0,0 +1,150 @@
+package com.groom.e_commerce.product.infrastructure.suggest;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 자동완성 키 정규화 (한글 자모 분해 + 초성 추출)
+ *
+ * - 음절을 호환 자모로 분해하고 겹모음/겹받침도 나눔 → 입력 중인 글자("나잌")가 완성된 글자("나이키")의 접두사가 됨
+ * - 초성 키: 음절은 초성만, 나머지 문자는 그대로 ("나이키 에어" → "ㄴㅇㅋ ㅇㅇ")
+ * - 영문은 소문자, 문자/숫자 외에는 단어 구분자(공백 1개)로 처리
+ */
+public final class HangulNormalizer {
+
+	private static final char SYLLABLE_BEGIN = 0xAC00;
+	private static final char SYLLABLE_END = 0xD7A3;
+	private static final int JUNGSEONG_COUNT = 21;
+	private static final int JONGSEONG_COUNT = 28;
+
+	private static final char[] CHOSEONG = {
+		'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+		'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+
+	private static final String[] JUNGSEONG = {
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+		"ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+	};
+
+	private static final String[] JONGSEONG = {
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+		"ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+		"ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+
+	// 직접 입력된 겹자모 (호환 자모)
+	private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+		Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+		Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+		Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+		Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+		Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+		Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+		Map.entry('ㅢ', "ㅡㅣ")
+	);
+
+	private HangulNormalizer() {
+	}
+
+	/**
+	 * 단어 목록 (NFC 정규화 + 소문자, 문자/숫자 외 기준 분리)
+	 */
+	public static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null) {
+			return tokens;
+		}
+
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+		StringBuilder token = new StringBuilder();
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				token.append(c);
+			} else if (!token.isEmpty()) {
+				tokens.add(token.toString());
+				token.setLength(0);
+			}
+		}
+		if (!token.isEmpty()) {
+			tokens.add(token.toString());
+		}
+		return tokens;
+	}
+
+	/**
+	 * 자모 분해 키 ("나이키 에어" → "ㄴㅏㅇㅣㅋㅣ ㅇㅔㅇㅓ")
+	 */
+	public static String decompose(List<String> tokens) {
+		StringBuilder key = new StringBuilder();
+		for (String token : tokens) {
+			if (!key.isEmpty()) {
+				key.append(' ');
+			}
+			for (int i = 0; i < token.length(); i++) {
+				appendJamo(key, token.charAt(i));
+			}
+		}
+		return key.toString();
+	}
+
+	/**
+	 * 초성 키 ("나이키 에어" → "ㄴㅇㅋ ㅇㅇ")
+	 */
+	public static String choseong(List<String> tokens) {
+		StringBuilder key = new StringBuilder();
+		for (String token : tokens) {
+			if (!key.isEmpty()) {
+				key.append(' ');
+			}
+			for (int i = 0; i < token.length(); i++) {
+				char c = token.charAt(i);
+				key.append(isSyllable(c) ? CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)] : c);
+			}
+		}
+		return key.toString();
+	}
+
+	/**
+	 * 자음만으로 된 입력인지 ("ㄴㅇㅋ") - 초성 검색 대상
+	 */
+	public static boolean isChoseongQuery(List<String> tokens) {
+		if (tokens.isEmpty()) {
+			return false;
+		}
+		for (String token : tokens) {
+			for (int i = 0; i < token.length(); i++) {
+				char c = token.charAt(i);
+				if (c < 'ㄱ' || c > 'ㅎ') {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static void appendJamo(StringBuilder key, char c) {
+		if (isSyllable(c)) {
+			int offset = c - SYLLABLE_BEGIN;
+			key.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+			key.append(JUNGSEONG[(offset % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT]);
+			key.append(JONGSEONG[offset % JONGSEONG_COUNT]);
+			return;
+		}
+
+		String compound = COMPOUND_JAMO.get(c);
+		if (compound != null) {
+			key.append(compound);
+		} else {
+			key.append(c);
+		}
+	}
+
+	private static boolean isSyllable(char c) {
+		return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+	}
+}
@@ -0,0 +1,327 @@
+package com.groom.e_commerce.product.infrastructure.suggest;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 자동완성 접두사 인덱스 (노드별 JVM 메모리)
+ *
+ * - keys: 정렬된 정규화 키 → 항목 (키 + 구분자 + ID로 유일), 접두사 범위는 subMap으로 조회
+ * - heads: 접두사별 인기 상위 목록 (topK의 2배까지 보관해 상위 항목이 빠져도 바로 다시 훑지 않음)
+ *   - headDepth 이하 접두사는 쓰기 시 항상 유지
+ *   - 더 긴 접두사는 처음 조회될 때 범위를 한 번 훑어 만들고, 이후 쓰기에서 함께 유지 (최대 maxDeepHeads개)
+ *
+ * 쓰기는 단일 락으로 직렬화하고 읽기는 락 없이 수행합니다. (Head는 교체만 하는 불변 값)
+ * 긴 접두사 목록은 계산 중 쓰기가 없었을 때만 저장합니다. (version 비교)
+ */
+public class PrefixSuggestIndex {
+
+	// 초성 키 네임스페이스 (정규화 키에는 문자/숫자/공백만 있어 겹치지 않음)
+	private static final char CHOSEONG_MARK = '#';
+	private static final char KEY_SEPARATOR = '\u0000';
+	private static final String RANGE_END = "\uffff";
+
+	// 인기 내림차순 → 짧은 문구 → 사전순
+	private static final Comparator<Entry> RANK = (a, b) -> {
+		int result = Long.compare(b.weight(), a.weight());
+		if (result == 0) {
+			result = Integer.compare(a.text().length(), b.text().length());
+		}
+		if (result == 0) {
+			result = a.text().compareTo(b.text());
+		}
+		return result != 0 ? result : a.id().compareTo(b.id());
+	};
+
+	private final int headDepth;
+	private final int topK;
+	private final int capacity;
+	private final int maxDeepHeads;
+	private final int maxWords;
+	private final int maxKeyLength;
+
+	private final ConcurrentHashMap<UUID, Indexed> entries = new ConcurrentHashMap<>();
+	private final ConcurrentSkipListMap<String, Entry> keys = new ConcurrentSkipListMap<>();
+	private final ConcurrentHashMap<String, Head> heads = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Head> deepHeads = new ConcurrentHashMap<>();
+
+	// 쓰기 완료마다 증가 (락 안에서만 변경)
+	private volatile long version;
+
+	public PrefixSuggestIndex(int headDepth, int topK, int maxDeepHeads, int maxWords, int maxKeyLength) {
+		this.headDepth = headDepth;
+		this.topK = topK;
+		this.capacity = topK * 2;
+		this.maxDeepHeads = maxDeepHeads;
+		this.maxWords = maxWords;
+		this.maxKeyLength = maxKeyLength;
+	}
+
+	/**
+	 * 항목 추가/교체 (문구가 바뀌면 키도 다시 생성)
+	 */
+	public synchronized void put(UUID id, String text, long weight) {
+		Indexed old = entries.get(id);
+		if (old != null) {
+			if (old.entry().text().equals(text) && old.entry().weight() == weight) {
+				return;
+			}
+			removeIndexed(old);
+		}
+
+		Entry entry = new Entry(id, text, weight);
+		List<String> entryKeys = keysOf(text);
+		for (String key : entryKeys) {
+			keys.put(key + KEY_SEPARATOR + id, entry);
+		}
+		for (String prefix : prefixesOf(entryKeys, !deepHeads.isEmpty())) {
+			if (prefix.length() <= headDepth) {
+				Head head = heads.get(prefix);
+				// 없으면 이 접두사의 첫 항목
+				Head next = head == null ? new Head(new Entry[] {entry}, true) : head.offer(entry, capacity);
+				if (next != head) {
+					heads.put(prefix, next);
+				}
+			} else {
+				deepHeads.computeIfPresent(prefix, (p, head) -> head.offer(entry, capacity));
+			}
+		}
+		entries.put(id, new Indexed(entry, entryKeys));
+		version++;
+	}
+
+	/**
+	 * 인기 가중치만 변경 (미색인 항목이면 false)
+	 */
+	public boolean updateWeight(UUID id, long weight) {
+		Indexed old = entries.get(id);
+		if (old == null) {
+			return false;
+		}
+		put(id, old.entry().text(), weight);
+		return true;
+	}
+
+	public synchronized void remove(UUID id) {
+		Indexed old = entries.get(id);
+		if (old != null) {
+			removeIndexed(old);
+			version++;
+		}
+	}
+
+	public Long weightOf(UUID id) {
+		Indexed indexed = entries.get(id);
+		return indexed != null ? indexed.entry().weight() : null;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * 입력 접두사로 인기순 항목 조회
+	 * 자음만 입력하면 초성 키, 그 외에는 자모 분해 키로 검색
+	 */
+	public List<Entry> suggest(String input, int limit) {
+		List<String> tokens = HangulNormalizer.tokenize(input);
+		if (tokens.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+
+		String prefix = truncate(HangulNormalizer.isChoseongQuery(tokens)
+			? CHOSEONG_MARK + HangulNormalizer.choseong(tokens)
+			: HangulNormalizer.decompose(tokens));
+
+		Head head = prefix.length() <= headDepth ? heads.get(prefix) : deepHead(prefix);
+		if (head == null) {
+			return List.of();
+		}
+		return List.of(Arrays.copyOf(head.items(), Math.min(Math.min(limit, topK), head.items().length)));
+	}
+
+	/**
+	 * 긴 접두사 목록 (없으면 범위를 훑어 계산 후 저장)
+	 */
+	private Head deepHead(String prefix) {
+		Head cached = deepHeads.get(prefix);
+		if (cached != null) {
+			return cached;
+		}
+
+		long readVersion = version;
+		Head computed = scan(prefix);
+		if (computed == null) {
+			return null;
+		}
+
+		synchronized (this) {
+			if (version == readVersion) {
+				if (deepHeads.size() >= maxDeepHeads) {
+					deepHeads.clear();
+				}
+				deepHeads.put(prefix, computed);
+			}
+		}
+		return computed;
+	}
+
+	/**
+	 * 색인 키: 단어 시작 위치(최대 maxWords개)부터의 자모 분해 키 + 초성 키
+	 * "빈티지 가죽 백팩" → "빈티지 가죽 백팩", "가죽 백팩", "백팩" 각각의 자모/초성 키
+	 */
+	private List<String> keysOf(String text) {
+		List<String> tokens = HangulNormalizer.tokenize(text);
+		Set<String> result = new LinkedHashSet<>();
+		for (int i = 0; i < Math.min(maxWords, tokens.size()); i++) {
+			List<String> words = tokens.subList(i, tokens.size());
+			result.add(truncate(HangulNormalizer.decompose(words)));
+			result.add(truncate(CHOSEONG_MARK + HangulNormalizer.choseong(words)));
+		}
+		return List.copyOf(result);
+	}
+
+	private String truncate(String key) {
+		return key.length() > maxKeyLength ? key.substring(0, maxKeyLength) : key;
+	}
+
+	/**
+	 * @param includeDeep 긴 접두사 포함 여부 (만들어진 긴 접두사 목록이 없으면 생략)
+	 */
+	private Set<String> prefixesOf(List<String> entryKeys, boolean includeDeep) {
+		Set<String> prefixes = new HashSet<>();
+		for (String key : entryKeys) {
+			int maxLength = includeDeep ? key.length() : Math.min(headDepth, key.length());
+			for (int length = 1; length <= maxLength; length++) {
+				prefixes.add(key.substring(0, length));
+			}
+		}
+		return prefixes;
+	}
+
+	private void removeIndexed(Indexed old) {
+		UUID id = old.entry().id();
+		for (String key : old.keys()) {
+			keys.remove(key + KEY_SEPARATOR + id);
+		}
+		entries.remove(id);
+
+		for (String prefix : prefixesOf(old.keys(), !deepHeads.isEmpty())) {
+			boolean shallow = prefix.length() <= headDepth;
+			Head head = shallow ? heads.get(prefix) : deepHeads.get(prefix);
+			if (head == null || head.indexOf(id) < 0) {
+				continue;
+			}
+
+			Head next = head.without(id);
+			if (next.items().length == 0 && next.complete()) {
+				(shallow ? heads : deepHeads).remove(prefix);
+			} else if (next.items().length < topK && !next.complete()) {
+				// 보관분이 topK 아래로 줄고 범위에 다른 항목이 남아있음 → 다시 훑기 (긴 접두사는 다음 조회 때)
+				if (shallow) {
+					Head rescanned = scan(prefix);
+					if (rescanned == null) {
+						heads.remove(prefix);
+					} else {
+						heads.put(prefix, rescanned);
+					}
+				} else {
+					deepHeads.remove(prefix);
+				}
+			} else {
+				(shallow ? heads : deepHeads).put(prefix, next);
+			}
+		}
+	}
+
+	/**
+	 * 접두사 범위 전체를 훑어 상위 capacity개 계산 (항목이 없으면 null)
+	 */
+	private Head scan(String prefix) {
+		PriorityQueue<Entry> best = new PriorityQueue<>(capacity + 1, RANK.reversed());
+		Set<UUID> seen = new HashSet<>();
+		boolean complete = true;
+		for (Entry entry : keys.subMap(prefix, prefix + RANGE_END).values()) {
+			if (!seen.add(entry.id())) {
+				continue;
+			}
+			best.offer(entry);
+			if (best.size() > capacity) {
+				best.poll();
+				complete = false;
+			}
+		}
+
+		if (best.isEmpty()) {
+			return null;
+		}
+		Entry[] items = best.toArray(new Entry[0]);
+		Arrays.sort(items, RANK);
+		return new Head(items, complete);
+	}
+
+	public record Entry(UUID id, String text, long weight) {
+	}
+
+	private record Indexed(Entry entry, List<String> keys) {
+	}
+
+	/**
+	 * 접두사별 인기순 목록
+	 * @param complete 접두사 범위의 모든 항목을 담고 있는지 (false면 잘린 목록)
+	 */
+	private record Head(Entry[] items, boolean complete) {
+
+		/**
+		 * 항목 추가 (capacity 초과분은 잘라내고 잘린 목록으로 표시)
+		 * 잘린 목록의 마지막보다 낮은 항목은 보관 범위 밖의 항목과 순위를 비교할 수 없어 넣지 않음
+		 */
+		Head offer(Entry entry, int capacity) {
+			if (indexOf(entry.id()) >= 0) {
+				return this;
+			}
+			boolean belowLast = items.length > 0 && RANK.compare(entry, items[items.length - 1]) >= 0;
+			if (belowLast && (!complete || items.length >= capacity)) {
+				return complete ? new Head(items, false) : this;
+			}
+
+			int position = 0;
+			while (position < items.length && RANK.compare(items[position], entry) < 0) {
+				position++;
+			}
+			Entry[] next = new Entry[items.length + 1];
+			System.arraycopy(items, 0, next, 0, position);
+			next[position] = entry;
+			System.arraycopy(items, position, next, position + 1, items.length - position);
+			if (next.length > capacity) {
+				return new Head(Arrays.copyOf(next, capacity), false);
+			}
+			return new Head(next, complete);
+		}
+
+		Head without(UUID id) {
+			int index = indexOf(id);
+			Entry[] next = new Entry[items.length - 1];
+			System.arraycopy(items, 0, next, 0, index);
+			System.arraycopy(items, index + 1, next, index, items.length - index - 1);
+			return new Head(next, complete);
+		}
+
+		int indexOf(UUID id) {
+			for (int i = 0; i < items.length; i++) {
+				if (items[i].id().equals(id)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+}
@@ -11,7 +11,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.groom.e_commerce.product.application.service.CategoryServiceV1;
+import com.groom.e_commerce.product.application.service.ProductCategoryCountService;
 import com.groom.e_commerce.product.presentation.dto.response.ResCategoryDtoV1;
+import com.groom.e_commerce.product.presentation.dto.response.ResCategoryProductCountDtoV1;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -24,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 public class CategoryControllerV1 {
 
 	private final CategoryServiceV1 categoryService;
+	private final ProductCategoryCountService categoryCountService;
 
 	@Operation(summary = "카테고리 목록 조회")
 	@GetMapping
@@ -39,6 +42,12 @@ public class CategoryControllerV1 {
 		return ResponseEntity.ok(categories);
 	}
 
+	@Operation(summary = "카테고리별 상품 수 조회", description = "활성 카테고리별 판매중 상품 수(하위 카테고리 포함)와 전체 상품 수를 조회합니다.")
+	@GetMapping("/product-counts")
+	public ResponseEntity<ResCategoryProductCountDtoV1> getCategoryProductCounts() {
+		return ResponseEntity.ok(categoryCountService.getCategoryCounts());
+	}
+
 	@Operation(summary = "카테고리 상세 조회")
 	@GetMapping("/{categoryId}")
 	public ResponseEntity<ResCategoryDtoV1> getCategory(
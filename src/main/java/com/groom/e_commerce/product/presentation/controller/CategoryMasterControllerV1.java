@@ -60,6 +60,13 @@ public class CategoryMasterControllerV1 {
 		return ResponseEntity.ok().build();
 	}
 
+	@Operation(summary = "카테고리 경로 재구성", description = "모든 카테고리의 조상 경로/이름 경로를 다시 계산합니다. (경로 컬럼 도입 전 데이터 채우기, 이후 상품 Warm-up 필요)")
+	@PostMapping("/rebuild-paths")
+	public ResponseEntity<String> rebuildPaths() {
+		int count = categoryService.rebuildPaths();
+		return ResponseEntity.ok("Category paths rebuilt: " + count);
+	}
+
 	@Operation(summary = "카테고리 삭제", description = "카테고리를 삭제합니다. (하위 카테고리나 상품이 없어야 함)")
 	@DeleteMapping("/{categoryId}")
 	public ResponseEntity<Void> deleteCategory(
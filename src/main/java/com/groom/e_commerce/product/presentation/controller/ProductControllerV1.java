@@ -26,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.groom.e_commerce.product.application.service.ProductOptionServiceV1;
 import com.groom.e_commerce.product.application.service.ProductServiceV1;
 import com.groom.e_commerce.product.application.service.ProductVariantServiceV1;
+import com.groom.e_commerce.product.domain.enums.ProductCountMode;
 import com.groom.e_commerce.product.domain.enums.ProductStatus;
 import com.groom.e_commerce.product.presentation.dto.request.ReqOptionUpdateDtoV1;
 import com.groom.e_commerce.product.presentation.dto.request.ReqProductCreateDtoV1;
@@ -68,9 +69,11 @@ public class ProductControllerV1 {
 	public ResponseEntity<Page<ResProductListDtoV1>> getSellerProducts(
 		@RequestParam(required = false) ProductStatus status,
 		@RequestParam(required = false) String keyword,
+		@RequestParam(required = false) String count,
 		@PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
 	) {
-		Page<ResProductListDtoV1> response = productService.getSellerProducts(status, keyword, pageable);
+		Page<ResProductListDtoV1> response = productService.getSellerProducts(status, keyword,
+			ProductCountMode.fromValue(count), pageable);
 		return ResponseEntity.ok(response);
 	}
 
@@ -15,7 +15,6 @@ import org.springframework.web.bind.annotation.RestController;
 import com.groom.e_commerce.product.application.dto.ProductCartInfo;
 import com.groom.e_commerce.product.application.dto.StockManagement;
 import com.groom.e_commerce.product.application.service.ProductServiceV1;
-import com.groom.e_commerce.product.infrastructure.cache.StockRedisService;
 import com.groom.e_commerce.product.presentation.dto.response.ResProductBulkInfoDto;
 import com.groom.e_commerce.product.presentation.dto.response.ResStockAvailabilityDto;
 import com.groom.e_commerce.product.presentation.dto.response.ResStockOperationDto;
@@ -42,14 +41,14 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductInternalController {
 
 	private final ProductServiceV1 productService;
-	private final StockRedisService stockRedisService;
 
 	// ==================== 재고 관리 API ====================
 
 	/**
 	 * 재고 가점유 (Reserve)
 	 * - 호출 시점: 주문서 생성 시 (Order 서비스)
-	 * - 동작: Redis에서 원자적으로 재고 검증 + 차감 + 주문-상품 매핑 저장
+	 * - 동작: Redis에서 원자적으로 전체 아이템 재고 검증 + 차감 + 가점유 원장 기록
+	 *   (하나라도 부족하면 어떤 아이템도 차감되지 않음, 결제 없이 만료되면 자동 회수)
 	 *
 	 * Request Body:
 	 * {
@@ -76,11 +75,8 @@ public class ProductInternalController {
 			))
 			.toList();
 
-		// 1. 재고 가점유
-		productService.reserveStockBulk(stockManagements);
-
-		// 2. 주문-상품 매핑 저장 (이벤트 수신 시 사용)
-		stockRedisService.saveOrderStockItems(orderId, stockManagements);
+		// 재고 가점유 + 주문-상품 매핑 저장 (단일 Lua 호출, All-or-Nothing)
+		productService.reserveStockBulk(orderId, stockManagements);
 
 		log.info("[Internal API] 재고 가점유 완료 - orderId: {}", orderId);
 		return ResponseEntity.ok(ResStockOperationDto.success("재고 가점유가 완료되었습니다."));
@@ -89,7 +85,7 @@ public class ProductInternalController {
 	/**
 	 * 단일 아이템 재고 가점유 (Reserve)
 	 * - 호출 시점: 주문서 생성 시 개별 아이템 (Order 서비스)
-	 * - 동작: Redis에서 원자적으로 재고 검증 + 차감 + 주문-상품 매핑 저장
+	 * - 동작: Redis에서 원자적으로 재고 검증 + 차감 + 가점유 원장에 아이템 추가
 	 */
 	@Operation(summary = "단일 아이템 재고 가점유", description = "개별 상품의 재고를 가점유합니다.")
 	@PostMapping("/stock/reserve-single")
@@ -105,13 +101,8 @@ public class ProductInternalController {
 
 		StockManagement stockManagement = StockManagement.of(productId, variantId, quantity);
 
-		// 1. 재고 가점유
-		productService.reserveStockBulk(List.of(stockManagement));
-
-		// 2. 주문-상품 매핑 저장 (기존 매핑이 있으면 추가)
-		List<StockManagement> existingItems = new java.util.ArrayList<>(stockRedisService.getOrderStockItems(orderId));
-		existingItems.add(stockManagement);
-		stockRedisService.saveOrderStockItems(orderId, existingItems);
+		// 재고 가점유 + 가점유 원장 누적 (field 단위 HINCRBY, 기존 아이템 유지)
+		productService.reserveStockBulk(orderId, List.of(stockManagement));
 
 		log.info("[Internal API] 단일 재고 가점유 완료 - orderId: {}, productId: {}", orderId, productId);
 		return ResponseEntity.ok(ResStockOperationDto.success("재고 가점유가 완료되었습니다."));
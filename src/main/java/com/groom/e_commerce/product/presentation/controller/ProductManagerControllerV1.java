@@ -1,26 +1,44 @@
 package com.groom.e_commerce.product.presentation.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.groom.e_commerce.product.application.service.ProductCategoryCountService;
+import com.groom.e_commerce.product.application.service.ProductHotPageService;
+import com.groom.e_commerce.product.application.service.ProductListPrefetcher;
+import com.groom.e_commerce.product.application.service.ProductReadService;
 import com.groom.e_commerce.product.application.service.ProductServiceV1;
+import com.groom.e_commerce.product.application.service.ProductSuggestService;
+import com.groom.e_commerce.product.application.service.ProductWarmUpLoader;
+import com.groom.e_commerce.product.application.service.StockReconciliationService;
+import com.groom.e_commerce.product.domain.enums.ProductCountMode;
 import com.groom.e_commerce.product.domain.enums.ProductStatus;
 import com.groom.e_commerce.product.presentation.dto.request.ReqProductSuspendDtoV1;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductCacheStatsDto;
 import com.groom.e_commerce.product.presentation.dto.response.ResProductDtoV1;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductHotPageStatsDto;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductPrefetchStatsDto;
 import com.groom.e_commerce.product.presentation.dto.response.ResProductListDtoV1;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductWarmUpDto;
+import com.groom.e_commerce.product.presentation.dto.response.ResStockLeaseDto;
+import com.groom.e_commerce.product.presentation.dto.response.ResStockReconciliationDto;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -35,15 +53,24 @@ import lombok.RequiredArgsConstructor;
 public class ProductManagerControllerV1 {
 
 	private final ProductServiceV1 productService;
+	private final ProductReadService productReadService;
+	private final StockReconciliationService stockReconciliationService;
+	private final ProductWarmUpLoader warmUpLoader;
+	private final ProductSuggestService suggestService;
+	private final ProductCategoryCountService categoryCountService;
+	private final ProductHotPageService hotPageService;
+	private final ProductListPrefetcher listPrefetcher;
 
 	@Operation(summary = "전체 상품 조회", description = "관리자가 전체 상품 목록을 조회합니다.")
 	@GetMapping
 	public ResponseEntity<Page<ResProductListDtoV1>> getAllProducts(
 		@RequestParam(required = false) String keyword,
 		@RequestParam(required = false) ProductStatus status,
+		@RequestParam(required = false) String count,
 		@PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
 	) {
-		Page<ResProductListDtoV1> response = productService.getAllProductsForManager(keyword, status, pageable);
+		Page<ResProductListDtoV1> response = productService.getAllProductsForManager(keyword, status,
+			ProductCountMode.fromValue(count), pageable);
 		return ResponseEntity.ok(response);
 	}
 
@@ -65,4 +92,103 @@ public class ProductManagerControllerV1 {
 		ResProductDtoV1 response = productService.restoreProduct(productId);
 		return ResponseEntity.ok(response);
 	}
+
+	@Operation(summary = "상품 캐시 통계", description = "현재 노드의 L1(JVM)/L2(Redis) 상품 상세 캐시 적중률을 조회합니다.")
+	@GetMapping("/cache/stats")
+	public ResponseEntity<ResProductCacheStatsDto> getCacheStats() {
+		return ResponseEntity.ok(productReadService.getCacheStats());
+	}
+
+	@Operation(summary = "상품 캐시 Warm-up 실행", description = "최신 상품을 Redis 캐시에 적재합니다. (resume=true면 마지막 체크포인트부터 재개)")
+	@PostMapping("/cache/warm-up")
+	public ResponseEntity<ResProductWarmUpDto> startWarmUp(
+		@RequestParam(defaultValue = "false") boolean resume
+	) {
+		if (!warmUpLoader.start(resume)) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(warmUpLoader.getProgress());
+		}
+		return ResponseEntity.accepted().body(warmUpLoader.getProgress());
+	}
+
+	@Operation(summary = "상품 캐시 Warm-up 진행 현황", description = "적재 수, 처리 속도, 재개 지점을 조회합니다.")
+	@GetMapping("/cache/warm-up")
+	public ResponseEntity<ResProductWarmUpDto> getWarmUpProgress() {
+		return ResponseEntity.ok(warmUpLoader.getProgress());
+	}
+
+	@Operation(summary = "상품 캐시 Warm-up 취소", description = "진행 중인 배치만 마무리하고 중단합니다.")
+	@DeleteMapping("/cache/warm-up")
+	public ResponseEntity<ResProductWarmUpDto> cancelWarmUp() {
+		warmUpLoader.cancel();
+		return ResponseEntity.ok(warmUpLoader.getProgress());
+	}
+
+	@Operation(summary = "자동완성 인덱스 재적재", description = "현재 노드의 자동완성 인덱스를 DB 기준으로 다시 만듭니다. (색인한 상품 수 반환)")
+	@PostMapping("/suggest/rebuild")
+	public ResponseEntity<Integer> rebuildSuggestIndex() {
+		int indexed = suggestService.rebuild();
+		if (indexed < 0) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).build();
+		}
+		return ResponseEntity.ok(indexed);
+	}
+
+	@Operation(summary = "카테고리 상품 수 검증", description = "카테고리별 판매중 상품 수 캐시를 DB 기준으로 검증하고 다른 값을 보정합니다. (보정한 키 수 반환)")
+	@PostMapping("/counts/verify")
+	public ResponseEntity<Integer> verifyCategoryCounts() {
+		return ResponseEntity.ok(categoryCountService.verify());
+	}
+
+	@Operation(summary = "상품 목록 앞쪽 페이지 통계", description = "현재 노드의 미리 계산한 최신순 앞쪽 페이지 적중률을 페이지별로 조회합니다.")
+	@GetMapping("/cache/hot-pages")
+	public ResponseEntity<ResProductHotPageStatsDto> getHotPageStats() {
+		return ResponseEntity.ok(hotPageService.getStats());
+	}
+
+	@Operation(summary = "상품 목록 앞쪽 페이지 재계산", description = "활성 카테고리 전체의 최신순 앞쪽 페이지 재계산을 요청합니다. (백그라운드 처리)")
+	@PostMapping("/cache/hot-pages/refresh")
+	public ResponseEntity<Void> refreshHotPages() {
+		hotPageService.refreshAll();
+		return ResponseEntity.accepted().build();
+	}
+
+	@Operation(summary = "상품 목록 선조회 통계", description = "현재 노드의 다음 페이지 선조회 적중률과 선조회가 중단된 카테고리 수를 조회합니다.")
+	@GetMapping("/cache/prefetch")
+	public ResponseEntity<ResProductPrefetchStatsDto> getPrefetchStats() {
+		return ResponseEntity.ok(listPrefetcher.getStats());
+	}
+
+	@Operation(summary = "재고 샤드 수 변경", description = "핫 상품의 재고를 N개 샤드로 분산합니다. (0이면 단일 키로 복귀)")
+	@PatchMapping("/{productId}/stock/shards")
+	public ResponseEntity<Void> changeStockShardCount(
+		@PathVariable UUID productId,
+		@RequestParam int count
+	) {
+		productService.changeStockShardCount(productId, count);
+		return ResponseEntity.noContent().build();
+	}
+
+	@Operation(summary = "재고 임차 현황 조회", description = "현재 노드가 Redis에서 임차한 재고 블록의 활용 현황을 조회합니다.")
+	@GetMapping("/stock/leases")
+	public ResponseEntity<List<ResStockLeaseDto>> getStockLeaseStats() {
+		return ResponseEntity.ok(productService.getStockLeaseStats());
+	}
+
+	@Operation(summary = "재고 정합성 리포트 조회", description = "마지막 Redis ↔ DB 재고 정합성 검증 결과를 조회합니다.")
+	@GetMapping("/stock/reconciliation")
+	public ResponseEntity<ResStockReconciliationDto> getStockReconciliationReport() {
+		return ResponseEntity.ok(stockReconciliationService.getLastReport());
+	}
+
+	@Operation(summary = "재고 정합성 검증 실행", description = "Redis ↔ DB 재고 정합성 검증을 비동기로 실행합니다.")
+	@PostMapping("/stock/reconciliation")
+	public ResponseEntity<ResStockReconciliationDto> runStockReconciliation(
+		@RequestParam(defaultValue = "false") boolean autoCorrect
+	) {
+		if (stockReconciliationService.isRunning()) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(stockReconciliationService.getLastReport());
+		}
+		stockReconciliationService.reconcileAsync(autoCorrect);
+		return ResponseEntity.accepted().body(stockReconciliationService.getLastReport());
+	}
 }
@@ -1,10 +1,15 @@
 package com.groom.e_commerce.product.presentation.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,18 +17,29 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.groom.e_commerce.global.presentation.advice.CustomException;
 import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.product.application.dto.ProductCursor;
 import com.groom.e_commerce.product.application.service.ProductReadService;
 import com.groom.e_commerce.product.application.service.ProductServiceV1;
+import com.groom.e_commerce.product.application.service.ProductSuggestService;
 import com.groom.e_commerce.product.application.service.ProductWarmUpLoader;
+import com.groom.e_commerce.product.domain.enums.ProductCountMode;
 import com.groom.e_commerce.product.domain.enums.ProductSortType;
+import com.groom.e_commerce.product.infrastructure.cache.CachedProductResponse;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductCursorPageDto;
 import com.groom.e_commerce.product.presentation.dto.response.ResProductDetailDtoV1;
 import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductSuggestDtoV1;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
@@ -36,54 +52,114 @@ public class ProductPublicControllerV1 {
 	private final ProductReadService productReadService;
 	private final ProductServiceV1 productService;
 	private final ProductWarmUpLoader warmUpLoader;
+	private final ProductSuggestService suggestService;
+
+	private static final int MAX_SCROLL_SIZE = 100;
 
 	@Operation(summary = "상품 캐시 웜업 (테스트용)", description = "최신 상품 10만 개를 Redis 캐시에 적재합니다.")
 	@PostMapping("/warm-up")
 	public ResponseEntity<String> warmUp() {
-		new Thread(warmUpLoader::loadTopProducts).start();
+		if (!warmUpLoader.start(false)) {
+			return ResponseEntity.ok("Warm-up already running");
+		}
 		return ResponseEntity.ok("Warm-up started in background (Limit: 100,000)");
 	}
 
 	@Operation(summary = "상품 목록 조회", description = "구매자가 상품 목록을 조회합니다. (검색, 필터, 정렬 지원)")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "조회 성공",
+			content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+				schema = @Schema(implementation = ProductSearchPage.class))),
+		@ApiResponse(responseCode = "304", description = "If-None-Match 일치 (응답 바이트 캐시 대상 페이지, 본문 없음)",
+			content = @Content)
+	})
 	@GetMapping
-	public ResponseEntity<Page<ResProductSearchDtoV1>> searchProducts(
+	public ResponseEntity<?> searchProducts(
 		@Parameter(description = "카테고리 ID") @RequestParam(required = false) UUID categoryId,
-		@Parameter(description = "검색어 (상품명)") @RequestParam(required = false) String keyword,
+		@Parameter(description = "검색어 (상품명/설명 부분 일치)") @RequestParam(required = false) String keyword,
 		@Parameter(description = "최소 가격") @RequestParam(required = false) Long minPrice,
 		@Parameter(description = "최대 가격") @RequestParam(required = false) Long maxPrice,
-		@Parameter(description = "정렬 (price_asc, price_desc, newest, rating)") @RequestParam(required = false, defaultValue = "newest") String sort,
+		@Parameter(description = "정렬 (price_asc, price_desc, newest, rating, relevance) - 검색어가 있으면 기본 relevance, 없으면 newest") @RequestParam(required = false) String sort,
 		@Parameter(description = "페이지 번호 (1부터 시작)") @RequestParam(required = false, defaultValue = "1") Integer page,
-		@Parameter(description = "페이지 크기") @RequestParam(required = false, defaultValue = "20") Integer size
+		@Parameter(description = "페이지 크기") @RequestParam(required = false, defaultValue = "20") Integer size,
+		@Parameter(description = "전체 개수 (auto, exact, none) - auto는 결과가 많으면 추정치, none은 다음 페이지 여부만 (검색어 조회)") @RequestParam(required = false) String count,
+		WebRequest webRequest
 	) {
-		ProductSortType sortType = ProductSortType.fromValue(sort);
+		boolean hasKeyword = keyword != null && !keyword.isBlank();
+		ProductSortType sortType = sort == null && hasKeyword
+			? ProductSortType.RELEVANCE
+			: ProductSortType.fromValue(sort);
+		if (sortType == ProductSortType.RELEVANCE && !hasKeyword) {
+			sortType = ProductSortType.NEWEST;
+		}
 		// 명세에서는 page가 1부터 시작하므로, 0-based로 변환
 		Pageable pageable = PageRequest.of(Math.max(0, page - 1), size);
 
 		Page<ResProductSearchDtoV1> response;
 
-		// 단순 카테고리 조회 (필터 없음, 최신순) → Redis 캐시 사용
-		boolean isSimpleQuery = (keyword == null || keyword.isBlank())
-			&& minPrice == null
-			&& maxPrice == null
-			&& (sortType == null || sortType == ProductSortType.NEWEST);
+		// 최신순 앞쪽 페이지 → 응답 바이트 캐시 (사용 설정 시, If-None-Match 일치 시 304)
+		if (!hasKeyword && productReadService.isResponseCacheable(minPrice, maxPrice, sortType, pageable)) {
+			return cachedResponse(productReadService.getProductListResponse(categoryId, pageable), webRequest);
+		}
 
-		if (isSimpleQuery) {
-			response = productReadService.getProductList(categoryId, pageable);
+		// 검색어 없는 카테고리 조회 → Redis 캐시 사용 (최신순 목록, 가격/평점 정렬 인덱스, 가격 구간 필터)
+		if (!hasKeyword) {
+			response = productReadService.getSortedProductList(categoryId, minPrice, maxPrice, sortType, pageable);
 		} else {
-			// 복잡한 검색 (필터/정렬) → DB 직접 조회
+			// 검색어 조회 → DB 직접 조회 (pg_trgm 인덱스, 관련도순 지원)
 			response = productService.searchProducts(
-				categoryId, keyword, minPrice, maxPrice, sortType, pageable
+				categoryId, keyword, minPrice, maxPrice, sortType, ProductCountMode.fromValue(count), pageable
 			);
 		}
 
 		return ResponseEntity.ok(response);
 	}
 
+	@Operation(summary = "상품 목록 커서 조회", description = "무한 스크롤용 최신순 상품 목록을 커서 기반으로 조회합니다. (가격 구간 필터 지원) 다음 페이지는 응답의 nextCursor를 전달합니다.")
+	@GetMapping("/scroll")
+	public ResponseEntity<ResProductCursorPageDto> scrollProducts(
+		@Parameter(description = "카테고리 ID") @RequestParam(required = false) UUID categoryId,
+		@Parameter(description = "최소 가격") @RequestParam(required = false) Long minPrice,
+		@Parameter(description = "최대 가격") @RequestParam(required = false) Long maxPrice,
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기 (최대 100)") @RequestParam(required = false, defaultValue = "20") Integer size
+	) {
+		int pageSize = Math.min(Math.max(1, size), MAX_SCROLL_SIZE);
+		return ResponseEntity.ok(productReadService.getProductListByCursor(
+			categoryId, minPrice, maxPrice, ProductCursor.decode(cursor), pageSize));
+	}
+
+	@Operation(summary = "상품 자동완성", description = "입력 중인 검색어로 시작하는 상품명/카테고리를 인기순으로 조회합니다. (단어 시작 일치, 초성 검색 지원)")
+	@GetMapping("/suggest")
+	public ResponseEntity<ResProductSuggestDtoV1> suggest(
+		@Parameter(description = "입력 중인 검색어 (예: 나이키, 나잌, ㄴㅇㅋ)") @RequestParam String keyword,
+		@Parameter(description = "카테고리/상품별 최대 개수 (최대 10)") @RequestParam(required = false, defaultValue = "10") Integer limit
+	) {
+		return ResponseEntity.ok(suggestService.suggest(keyword, limit));
+	}
+
 	@Operation(summary = "상품 상세 조회", description = "구매자가 상품 상세 정보를 조회합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "조회 성공",
+			content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+				schema = @Schema(implementation = ResProductDetailDtoV1.class))),
+		@ApiResponse(responseCode = "304", description = "If-None-Match 일치 (응답 바이트 캐시 사용 시, 본문 없음)",
+			content = @Content)
+	})
 	@GetMapping("/{productId}")
-	public ResponseEntity<ResProductDetailDtoV1> getProductDetail(
-		@Parameter(description = "상품 ID") @PathVariable UUID productId
+	public ResponseEntity<?> getProductDetail(
+		@Parameter(description = "상품 ID") @PathVariable UUID productId,
+		WebRequest webRequest
 	) {
+		// 응답 바이트 캐시 → 상세 캐시 → DB Fallback (사용 설정 시, If-None-Match 일치 시 304)
+		if (productReadService.isResponseCacheEnabled()) {
+			CachedProductResponse cached = productReadService.getProductDetailResponse(productId);
+			if (cached == null) {
+				throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+			}
+			return cachedResponse(cached, webRequest);
+		}
+
 		// Redis 캐시 조회 → 캐시 미스 시 DB Fallback (내부 처리)
 		ResProductDetailDtoV1 response = productReadService.getProductDetail(productId);
 
@@ -93,4 +169,40 @@ public class ProductPublicControllerV1 {
 
 		return ResponseEntity.ok(response);
 	}
+
+	/**
+	 * 직렬화된 응답 본문 (byte[] - 메시지 컨버터가 JSON 재직렬화 없이 그대로 기록)
+	 * ETag 일치 시 본문 없이 304, no-cache: 클라이언트는 저장하되 매번 ETag로 재검증
+	 */
+	private ResponseEntity<byte[]> cachedResponse(CachedProductResponse cached, WebRequest webRequest) {
+		if (cached.etag() == null) {
+			return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(cached.body());
+		}
+
+		if (webRequest.checkNotModified(cached.etag())) {
+			productReadService.recordNotModified();
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(cached.etag())
+				.cacheControl(CacheControl.noCache())
+				.build();
+		}
+
+		return ResponseEntity.ok()
+			.eTag(cached.etag())
+			.cacheControl(CacheControl.noCache())
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(cached.body());
+	}
+
+	/**
+	 * 상품 목록 응답 스키마 (OpenAPI 문서용 - 캐시 응답은 byte[]로 기록하므로 반환 타입에서 추론되지 않음)
+	 */
+	@Schema(name = "ProductSearchPage")
+	private abstract static class ProductSearchPage extends PageImpl<ResProductSearchDtoV1> {
+		private ProductSearchPage() {
+			super(List.of());
+		}
+	}
 }
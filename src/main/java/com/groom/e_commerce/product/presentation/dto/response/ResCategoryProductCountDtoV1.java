@@ -0,0 +1,32 @@
+package com.groom.e_commerce.product.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리별 판매중 상품 수 (하위 카테고리 포함)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ResCategoryProductCountDtoV1 {
+
+	private long totalCount;
+	private List<CategoryCount> categories;
+
+	@Getter
+	@Builder
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@AllArgsConstructor
+	public static class CategoryCount {
+		private UUID categoryId;
+		private long productCount;
+	}
+}
@@ -0,0 +1,67 @@
+package com.groom.e_commerce.product.presentation.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Manager API - 상품 상세 캐시 계층별 통계 DTO (노드 기준)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ResProductCacheStatsDto {
+
+	private TierStats l1;
+	private TierStats l2;
+
+	// 응답 바이트 캐시 (상세 + 목록 앞쪽 페이지) / If-None-Match 일치로 304 응답한 수
+	private TierStats response;
+	private long responseNotModified;
+
+	// L1 무효화 메시지 발신/수신 수
+	private long invalidationsSent;
+	private long invalidationsReceived;
+
+	// L2 값 쓰기 포맷 / 쓰기 포맷이 아닌 값을 읽은 수 (포맷 전환 진행 확인용)
+	private String codecWriteFormat;
+	private long codecForeignFormatReads;
+
+	// 조회 불가 표시로 DB 조회를 생략한 수 / 표시 기록 수 (조회 시 기록분만, 변경 동기화 기록분 제외)
+	private long negativeHits;
+	private long negativeStores;
+
+	@Getter
+	@Builder
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@AllArgsConstructor
+	public static class TierStats {
+
+		private boolean enabled;
+		private long hits;
+		private long misses;
+		private double hitRate;
+
+		// L1/응답 캐시 전용 (L2는 0)
+		private long size;
+		private long weightBytes;
+		private long evictions;
+
+		public static TierStats of(boolean enabled, long hits, long misses, long size, long weightBytes,
+			long evictions) {
+			long total = hits + misses;
+			return TierStats.builder()
+				.enabled(enabled)
+				.hits(hits)
+				.misses(misses)
+				.hitRate(total > 0 ? (double)hits / total : 0.0)
+				.size(size)
+				.weightBytes(weightBytes)
+				.evictions(evictions)
+				.build();
+		}
+	}
+}
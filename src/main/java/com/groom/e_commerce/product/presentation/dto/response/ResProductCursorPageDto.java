@@ -0,0 +1,25 @@
+package com.groom.e_commerce.product.presentation.dto.response;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 목록 커서 페이지 응답 DTO (무한 스크롤)
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 전달 (hasNext가 false면 null)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ResProductCursorPageDto {
+
+	private List<ResProductSearchDtoV1> content;
+	private String nextCursor;
+	private boolean hasNext;
+	private int size;
+}
@@ -0,0 +1,58 @@
+package com.groom.e_commerce.product.presentation.dto.response;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Manager API - 최신순 앞쪽 페이지(미리 계산) 적중률 DTO (노드 기준)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ResProductHotPageStatsDto {
+
+	private boolean enabled;
+	private int pages;
+	private int pageSize;
+
+	// 전체 페이지 합계
+	private long hits;
+	private long misses;
+	private double hitRate;
+
+	// 재계산 기록 / 생략(목록 미적재, 카드 누락, 재계산 중 변경) / 재계산 대기 카테고리 수
+	private long rebuilds;
+	private long rebuildSkips;
+	private int pendingCategories;
+
+	private List<PageStats> byPage;
+
+	@Getter
+	@Builder
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@AllArgsConstructor
+	public static class PageStats {
+
+		// 1부터 시작 (요청 파라미터 기준)
+		private int page;
+		private long hits;
+		private long misses;
+		private double hitRate;
+
+		public static PageStats of(int page, long hits, long misses) {
+			long total = hits + misses;
+			return PageStats.builder()
+				.page(page)
+				.hits(hits)
+				.misses(misses)
+				.hitRate(total > 0 ? (double)hits / total : 0.0)
+				.build();
+		}
+	}
+}
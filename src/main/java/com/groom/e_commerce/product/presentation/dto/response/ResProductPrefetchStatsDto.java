@@ -0,0 +1,34 @@
+package com.groom.e_commerce.product.presentation.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Manager API - 상품 목록 다음 페이지 선조회 통계 DTO (노드 기준)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ResProductPrefetchStatsDto {
+
+	private boolean enabled;
+
+	// 선조회 실행 수 / 적중(보관 페이지로 응답) / 낭비(요청 없이 만료) / 적중률 = 적중 / (적중 + 낭비)
+	private long issued;
+	private long hits;
+	private long wasted;
+	private double hitRate;
+
+	// 큐가 차서 생략 / 조회 실패 / 적중률이 낮아 중단된 카테고리라 생략
+	private long rejected;
+	private long failed;
+	private long skippedByPolicy;
+
+	// 보관 중인 페이지 수 / 선조회가 중단된 카테고리 수
+	private long pending;
+	private long disabledCategories;
+}
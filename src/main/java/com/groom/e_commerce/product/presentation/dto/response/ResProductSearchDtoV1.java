@@ -25,6 +25,10 @@ public class ResProductSearchDtoV1 {
 	private Integer reviewCount;
 	private String categoryName;
 	private String ownerStoreName;
+	private String snippet;  // 검색 시 설명 중 검색어 주변 발췌 (강조 표시 없는 일반 텍스트)
+
+	private static final int SNIPPET_LENGTH = 120;
+	private static final int SNIPPET_LEAD = 40;
 
 	public static ResProductSearchDtoV1 from(Product product) {
 		// 옵션이 있는 경우 variant 가격 범위 계산
@@ -56,6 +60,33 @@ public class ResProductSearchDtoV1 {
 			.build();
 	}
 
+	/**
+	 * 검색 결과 변환 (설명 발췌 포함)
+	 */
+	public static ResProductSearchDtoV1 from(Product product, String keyword) {
+		ResProductSearchDtoV1 dto = from(product);
+		dto.snippet = snippet(product.getDescription(), keyword);
+		return dto;
+	}
+
+	/**
+	 * 설명에서 검색어 앞 일부 ~ 뒤까지 잘라낸 발췌 (공백 정리, 잘린 쪽에 말줄임표)
+	 * 설명에 검색어가 없으면 (제목 일치) 설명 앞부분
+	 */
+	static String snippet(String description, String keyword) {
+		if (description == null || description.isBlank()) {
+			return null;
+		}
+
+		String text = description.replaceAll("\\s+", " ").strip();
+		int match = keyword == null || keyword.isBlank() ? -1
+			: text.toLowerCase().indexOf(keyword.strip().toLowerCase());
+		int start = match <= SNIPPET_LEAD ? 0 : match - SNIPPET_LEAD;
+		int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+
+		return (start > 0 ? "…" : "") + text.substring(start, end) + (end < text.length() ? "…" : "");
+	}
+
 	public static ResProductSearchDtoV1 from(Product product, Double avgRating, Integer reviewCount, String ownerStoreName) {
 		Long minPrice = product.getPrice();
 		Long maxPrice = product.getPrice();
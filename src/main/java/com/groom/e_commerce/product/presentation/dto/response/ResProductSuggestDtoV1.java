@@ -0,0 +1,52 @@
+package com.groom.e_commerce.product.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.groom.e_commerce.product.infrastructure.suggest.PrefixSuggestIndex;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자동완성 응답 DTO (카테고리/상품 각각 인기순)
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ResProductSuggestDtoV1 {
+
+	private String keyword;
+	private List<Suggestion> categories;
+	private List<Suggestion> products;
+
+	public static ResProductSuggestDtoV1 of(String keyword, List<PrefixSuggestIndex.Entry> categories,
+		List<PrefixSuggestIndex.Entry> products) {
+		return ResProductSuggestDtoV1.builder()
+			.keyword(keyword)
+			.categories(categories.stream().map(Suggestion::from).toList())
+			.products(products.stream().map(Suggestion::from).toList())
+			.build();
+	}
+
+	@Getter
+	@Builder
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@AllArgsConstructor
+	public static class Suggestion {
+
+		private UUID id;
+		private String text;
+
+		public static Suggestion from(PrefixSuggestIndex.Entry entry) {
+			return Suggestion.builder()
+				.id(entry.id())
+				.text(entry.text())
+				.build();
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.groom.e_commerce.product.presentation.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 캐시 Warm-up 진행 현황 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ResProductWarmUpDto {
+
+	private WarmUpStatus status;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+
+	// 적재 대상 상한 / 적재 완료 상품 수 (재개 시 이전 실행분 포함)
+	private long limit;
+	private long processed;
+	private long resumedFrom;
+	private long stockKeysInitialized;
+	private int inFlightBatches;
+	private int failedBatches;
+
+	private long elapsedMs;
+	private double productsPerSecond;
+
+	// 재개 지점 (연속으로 적재 완료된 마지막 상품)
+	private LocalDateTime checkpointCreatedAt;
+	private UUID checkpointProductId;
+
+	public enum WarmUpStatus {
+		IDLE,
+		RUNNING,
+		CANCELLING,
+		COMPLETED,
+		CANCELLED,
+		FAILED
+	}
+}
@@ -0,0 +1,34 @@
+package com.groom.e_commerce.product.presentation.dto.response;
+
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Manager API - 노드 로컬 재고 임차 현황 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ResStockLeaseDto {
+
+	private String stockKey;
+	private UUID productId;
+	private UUID variantId;
+
+	// 현재 노드가 보유 중인 임차 잔량
+	private int remaining;
+
+	// 누적 임차 / 가점유 처리 / 반환 수량
+	private long leased;
+	private long served;
+	private long returned;
+
+	// 임차 활용률 (served / leased)
+	private double utilization;
+}
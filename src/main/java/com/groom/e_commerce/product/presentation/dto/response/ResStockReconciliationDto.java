@@ -0,0 +1,60 @@
+package com.groom.e_commerce.product.presentation.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Manager API - Redis ↔ DB 재고 정합성 검증 리포트 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ResStockReconciliationDto {
+
+	private boolean running;
+	private boolean autoCorrect;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+
+	private long scannedSkus;
+	private long scannedRedisKeys;
+	private long driftCount;
+	private long missingCount;
+	private long orphanCount;
+	private long correctedCount;
+	private long totalAbsoluteDrift;
+
+	// 상위 N건만 포함 (전체 SKU를 힙에 올리지 않음)
+	private List<DriftEntry> drifts;
+
+	public enum DriftType {
+		DRIFT,    // Redis 값 ≠ DB 재고 - 미확정 가점유
+		MISSING,  // DB에는 있으나 Redis 재고 키 없음
+		ORPHAN    // Redis 재고 키는 있으나 대응하는 상품/Variant 없음
+	}
+
+	@Getter
+	@Builder
+	@NoArgsConstructor(access = AccessLevel.PROTECTED)
+	@AllArgsConstructor
+	public static class DriftEntry {
+		private DriftType type;
+		private String stockKey;
+		private UUID productId;
+		private UUID variantId;
+		private Long dbStock;
+		private Long pendingReserved;
+		private Long expectedStock;
+		private Long redisStock;
+		private Long drift;
+		private boolean corrected;
+	}
+}
@@ -0,0 +1,18 @@
+package com.groom.e_commerce.review.application.event;
+
+import java.util.UUID;
+
+import com.groom.e_commerce.review.domain.entity.ProductRatingEntity;
+
+/**
+ * 상품 평균 평점 변경 이벤트 (상품 평점 정렬 인덱스 갱신용)
+ */
+public record ProductRatingChangedEvent(
+	UUID productId,
+	double avgRating,
+	int reviewCount
+) {
+	public static ProductRatingChangedEvent from(ProductRatingEntity rating) {
+		return new ProductRatingChangedEvent(rating.getProductId(), rating.getAvgRating(), rating.getReviewCount());
+	}
+}
@@ -8,11 +8,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.groom.e_commerce.global.infrastructure.redis.SingleFlightLoader;
 import com.groom.e_commerce.review.domain.entity.ProductRatingEntity;
 import com.groom.e_commerce.review.domain.entity.ReviewEntity;
 import com.groom.e_commerce.review.domain.repository.ProductRatingRepository;
 import com.groom.e_commerce.review.domain.repository.ReviewRepository;
 import com.groom.e_commerce.review.infrastructure.redis.ReviewReadModel;
+import com.groom.e_commerce.review.infrastructure.redis.ReviewRedisKey;
 import com.groom.e_commerce.review.infrastructure.redis.ReviewRedisRepository;
 import com.groom.e_commerce.review.presentation.dto.response.PaginationResponse;
 import com.groom.e_commerce.review.presentation.dto.response.ProductReviewResponse;
@@ -27,6 +29,7 @@ public class ReviewQueryService {
     private final ReviewRedisRepository reviewRedisRepository;
     private final ReviewRepository reviewRepository;
     private final ProductRatingRepository productRatingRepository;
+    private final SingleFlightLoader singleFlightLoader;
 
     public ProductReviewResponse getProductReviews(
         UUID productId,
@@ -34,21 +37,37 @@ public class ReviewQueryService {
         int size
     ) {
         // 1️⃣ Redis 조회
+        ProductReviewResponse cached = readFromCache(productId, page, size);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        // 2️⃣ Redis miss → 노드 전체에서 한 번만 DB 조회 + Redis 저장
+        return singleFlightLoader.load(
+            ReviewRedisKey.productReviewIndex(productId) + ":" + page + ":" + size,
+            () -> readFromCache(productId, page, size),
+            () -> loadFromDbAndCache(productId, page, size)
+        );
+    }
+
+    private ProductReviewResponse readFromCache(UUID productId, int page, int size) {
         List<ReviewReadModel> cached =
             reviewRedisRepository.findByProductId(productId, page, size);
 
-        if (!cached.isEmpty()) {
-            return buildResponseFromCache(productId, cached);
+        if (cached.isEmpty()) {
+            return null;
         }
+        return buildResponseFromCache(productId, cached);
+    }
 
-        // 2️⃣ Redis miss → DB 조회
+    private ProductReviewResponse loadFromDbAndCache(UUID productId, int page, int size) {
         Page<ReviewEntity> pageResult =
             reviewRepository.findAllByProductId(
                 productId,
                 PageRequest.of(page, size, Sort.by("createdAt").descending())
             );
 
-        // 3️⃣ Redis 저장
         pageResult.forEach(this::saveToRedis);
 
         return buildResponseFromDb(productId, pageResult);
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.groom.e_commerce.global.infrastructure.client.Classification.AiClient;
+import com.groom.e_commerce.review.application.event.ProductRatingChangedEvent;
 import com.groom.e_commerce.review.application.event.ReviewCreatedEvent;
 import com.groom.e_commerce.review.application.validator.OrderReviewValidator;
 import com.groom.e_commerce.review.domain.entity.ProductRatingEntity;
@@ -123,6 +124,8 @@ public class ReviewService {
 			ratingEntity.updateRating(request.getRating());
 
 			review.updateRating(request.getRating());
+
+			applicationEventPublisher.publishEvent(ProductRatingChangedEvent.from(ratingEntity));
 		}
 
 		// 내용 변경 시 AI 재분류
@@ -167,6 +170,8 @@ public class ReviewService {
 		ratingEntity.removeRating(review.getRating());
 
 		review.softDelete(currentUserId.toString());
+
+		applicationEventPublisher.publishEvent(ProductRatingChangedEvent.from(ratingEntity));
 	}
 
 	/**
@@ -1,5 +1,7 @@
 package com.groom.e_commerce.review.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,5 +14,7 @@ import com.groom.e_commerce.review.domain.entity.ProductRatingEntity;
 public interface ProductRatingRepository extends JpaRepository<ProductRatingEntity, UUID> {
 
 	Optional<ProductRatingEntity> findByProductId(UUID productId);
+
+	List<ProductRatingEntity> findAllByProductIdIn(Collection<UUID> productIds);
 }
 
@@ -0,0 +1,44 @@
+-- 판매중 상품 수 증감 (상품별 집계 마커 CAS)
+-- KEYS[1]: 집계 마커 Hash (product:count:member - productId → 집계된 categoryId, 미집계는 "-")
+-- KEYS[2 .. 1+D]: 감소할 개수 키 (이전 카테고리 계보에만 있는 키, D = ARGV[4])
+-- KEYS[2+D .. 1+D+I]: 증가할 개수 키 (새 카테고리 계보에만 있는 키, I = ARGV[5])
+-- KEYS[2+D+I .. 1+2(D+I)]: 증감할 개수 키별 DB 재계산 표시 키 (같은 순서)
+-- 나머지 KEYS: 삭제할 개수 키 (이전 집계 상태를 모를 때 - 다음 조회에서 DB로 다시 계산)
+-- ARGV[1]: productId
+-- ARGV[2]: 읽어 둔 마커 ("" = 없음)
+-- ARGV[3]: 새 마커 ("" = 마커 삭제)
+-- ARGV[4]: 감소 키 수, ARGV[5]: 증가 키 수
+-- 반환: 1 반영, -1 마커가 그 사이 바뀜 (호출자가 다시 읽고 재시도)
+-- 없는 개수 키는 만들지 않음 (캐시 미스 상태 유지)
+-- 재계산 표시가 있는 개수 키는 증감 대신 삭제 (커밋 후 동기화 전에 DB로 다시 센 값에 이 변경이 이미 포함되었을 수 있음)
+
+local current = redis.call('HGET', KEYS[1], ARGV[1]) or ''
+if current ~= ARGV[2] then
+    return -1
+end
+
+local decrCount = tonumber(ARGV[4])
+local changeCount = decrCount + tonumber(ARGV[5])
+
+for i = 1, changeCount do
+    local countKey = KEYS[1 + i]
+    if redis.call('EXISTS', KEYS[1 + changeCount + i]) == 1 then
+        redis.call('DEL', countKey)
+    elseif redis.call('EXISTS', countKey) == 1 then
+        if i <= decrCount then
+            redis.call('DECR', countKey)
+        else
+            redis.call('INCR', countKey)
+        end
+    end
+end
+for i = 2 + 2 * changeCount, #KEYS do
+    redis.call('DEL', KEYS[i])
+end
+
+if ARGV[3] == '' then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+else
+    redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+end
+return 1
@@ -0,0 +1,32 @@
+-- 상품 상세 + 카드 기록/삭제 (상품별 세대 CAS)
+-- 호출자는 DB를 읽기 전에 세대를 읽어 두고, 기록 시점에 세대가 그대로일 때만 반영 (반영하면 세대 증가)
+-- → DB를 먼저 읽은 쪽(조회 중 적재, 앞선 동기화)이 더 새로운 값을 나중에 덮어쓰지 않음
+-- (updated_at은 JPA(노드 시계)와 JDBC 재고 반영(DB 시계)이 섞이고 Variant 삭제 시 줄어들 수 있어 세대 키 사용)
+-- KEYS[4(i-1)+1 .. 4i]: i번째 상품의 세대 키, 상세 키, 카드 키, 조회 불가 표시 키
+-- ARGV[1]: 세대 키 TTL (초 - 읽기~기록 사이 시간보다 충분히 길게)
+-- ARGV[2]: 조회 불가 표시 TTL (초, 0이면 표시하지 않음)
+-- ARGV[3(i-1)+3 .. 3(i-1)+5]: i번째 상품의 읽어 둔 세대, 상세 값, 카드 값 (상세 값이 빈 값이면 삭제)
+-- 반환: 반영한 상품 수 (세대가 바뀐 상품은 건너뜀)
+
+local written = 0
+for i = 1, #KEYS / 4 do
+    local k = 4 * (i - 1)
+    local a = 3 * (i - 1) + 2
+    local current = tonumber(redis.call('GET', KEYS[k + 1]) or '0')
+    if current == tonumber(ARGV[a + 1]) then
+        redis.call('INCR', KEYS[k + 1])
+        redis.call('EXPIRE', KEYS[k + 1], tonumber(ARGV[1]))
+        if ARGV[a + 2] == '' then
+            redis.call('DEL', KEYS[k + 2], KEYS[k + 3])
+            if tonumber(ARGV[2]) > 0 then
+                redis.call('SET', KEYS[k + 4], '1', 'EX', tonumber(ARGV[2]))
+            end
+        else
+            redis.call('SET', KEYS[k + 2], ARGV[a + 2])
+            redis.call('SET', KEYS[k + 3], ARGV[a + 3])
+            redis.call('DEL', KEYS[k + 4])
+        end
+        written = written + 1
+    end
+end
+return written
@@ -0,0 +1,18 @@
+-- 목록 앞쪽 페이지 기록 (재계산을 시작할 때 읽은 버전이 그대로일 때만)
+-- 변경 동기화가 그 사이 버전을 올렸으면 이전 상태로 계산한 페이지이므로 버림
+-- KEYS[1]: 페이지 Hash
+-- KEYS[2]: 버전 키
+-- ARGV[1]: 재계산 시작 시 버전 (키가 없으면 "0")
+-- ARGV[2..]: 필드, 값 반복
+-- 반환: 1(기록) / 0(버전 변경으로 생략)
+
+local version = redis.call('GET', KEYS[2]) or '0'
+if version ~= ARGV[1] then
+    return 0
+end
+
+redis.call('DEL', KEYS[1])
+for i = 2, #ARGV, 2 do
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+return 1
@@ -0,0 +1,35 @@
+-- 커서 다음 상품 ID 조회 (최신순: score DESC, member DESC - DB Keyset createdAt DESC, id DESC와 같은 순서)
+-- KEYS[1]: 목록 키 (product:list:v2:category:{id} 또는 product:list:v2:all)
+-- ARGV[1]: 커서 productId ("" 이면 첫 페이지)
+-- ARGV[2]: 커서 score (createdAt epoch micros)
+-- ARGV[3]: 조회 개수
+-- 반환: productId 리스트
+
+local limit = tonumber(ARGV[3])
+if ARGV[1] == '' then
+    return redis.call('ZREVRANGE', KEYS[1], 0, limit - 1)
+end
+
+-- 커서 상품이 목록에 있으면 순위 기준 (O(log N))
+local rank = redis.call('ZREVRANK', KEYS[1], ARGV[1])
+if rank then
+    return redis.call('ZREVRANGE', KEYS[1], rank + 1, rank + limit)
+end
+
+-- 커서 상품이 목록에서 빠진 경우: 같은 score 중 커서보다 뒤 + 더 작은 score
+local result = {}
+local ties = redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[2], ARGV[2])
+for _, member in ipairs(ties) do
+    if member < ARGV[1] then
+        result[#result + 1] = member
+        if #result >= limit then
+            return result
+        end
+    end
+end
+
+local rest = redis.call('ZREVRANGEBYSCORE', KEYS[1], '(' .. ARGV[2], '-inf', 'LIMIT', 0, limit - #result)
+for _, member in ipairs(rest) do
+    result[#result + 1] = member
+end
+return result
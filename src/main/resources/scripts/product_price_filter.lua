@@ -0,0 +1,24 @@
+-- 가격 구간 필터 결과 집합 생성 (정렬 score 유지, 짧은 TTL)
+-- ZRANGESTORE를 사용하므로 Redis 6.2 이상 필요 (ProductListCacheService.supportsPriceFilterSets에서 확인)
+-- KEYS[1]: 가격 인덱스 (product:sort:price:...)
+-- KEYS[2]: 정렬 기준 키 (최신순 목록 또는 평점 인덱스)
+-- KEYS[3]: 결과 키 (product:filter:...)
+-- KEYS[4]: 임시 키 (결과 키 + ':tmp', 스크립트 안에서 생성 후 삭제 - 클러스터 슬롯 검사를 위해 KEYS로 전달)
+-- ARGV[1]: 최소 가격 ("-inf" 가능)
+-- ARGV[2]: 최대 가격 ("+inf" 가능)
+-- ARGV[3]: 결과 TTL (초)
+-- 반환: 결과 집합 크기
+
+if redis.call('EXISTS', KEYS[3]) == 1 then
+    return redis.call('ZCARD', KEYS[3])
+end
+
+-- 가격 구간 멤버만 임시 집합으로 복사 후 정렬 키와 교집합 (score는 정렬 키 값만 사용)
+redis.call('ZRANGESTORE', KEYS[4], KEYS[1], ARGV[1], ARGV[2], 'BYSCORE')
+local size = redis.call('ZINTERSTORE', KEYS[3], 2, KEYS[2], KEYS[4], 'WEIGHTS', 1, 0)
+redis.call('DEL', KEYS[4])
+
+if size > 0 then
+    redis.call('EXPIRE', KEYS[3], tonumber(ARGV[3]))
+end
+return size
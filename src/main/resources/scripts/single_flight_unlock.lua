@@ -0,0 +1,9 @@
+-- Single-flight 적재 락 해제 (본인이 잡은 락만 삭제)
+-- KEYS[1]: 락 키
+-- ARGV[1]: 락 토큰
+-- 반환: 1(해제) / 0(만료되어 다른 노드가 보유 중이거나 이미 없음)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,42 @@
+-- 재고 보정 (Compare-And-Set)
+-- 미확정 가점유 수량을 같은 호출 안에서 다시 읽어 기대값(DB 재고 - 미확정 수량)을 계산하고,
+-- 정합성 검증 시점에 관측한 값이 그대로일 때만 보정하여 그 사이의 가점유/해제를 덮어쓰지 않음
+-- KEYS[1]: 재고 키
+-- KEYS[2]: 샤드 수 키 ({재고 키}:shards) - 샤드 재고 모드면 보정하지 않음
+-- KEYS[3]: SKU별 미확정 가점유 수량 Hash (stock:reservations:pending)
+-- KEYS[4]: SKU별 확정 중 수량 Hash (stock:reservations:confirming) - DB 확정 중인 SKU는 보정하지 않음
+-- ARGV[1]: 관측한 현재 값 (키가 없었으면 빈 문자열)
+-- ARGV[2]: 원장 field ({productId}:{variantId})
+-- ARGV[3]: 보정 직전에 다시 읽은 DB 재고
+-- ARGV[4]: 보정 허용 범위 (|현재 값 - 기대값| 이하만 보정, -1이면 제한 없음)
+-- 반환: 1(보정됨), 0(값이 변경되었거나 DB 확정 중이거나 허용 범위 밖이라 보정하지 않음)
+
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    return 0
+end
+
+if tonumber(redis.call('HGET', KEYS[4], ARGV[2]) or '0') > 0 then
+    return 0
+end
+
+local current = redis.call('GET', KEYS[1])
+if current == false then
+    current = ''
+end
+
+if current ~= ARGV[1] then
+    return 0
+end
+
+local expected = tonumber(ARGV[3]) - tonumber(redis.call('HGET', KEYS[3], ARGV[2]) or '0')
+if expected < 0 then
+    return 0
+end
+
+local maxCorrection = tonumber(ARGV[4])
+if current ~= '' and maxCorrection >= 0 and math.abs(tonumber(current) - expected) > maxCorrection then
+    return 0
+end
+
+redis.call('SET', KEYS[1], expected)
+return 1
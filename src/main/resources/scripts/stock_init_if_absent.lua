@@ -0,0 +1,13 @@
+-- 재고 키 초기화 (키가 없을 때만, Warm-up/장애 복구용)
+-- 운영 중인 재고 키(단일 키 또는 샤드 모드)는 가점유가 반영된 값이므로 덮어쓰지 않음
+-- KEYS[1]: 재고 키 (stock:product:{id} 또는 stock:variant:{id})
+-- KEYS[2]: 샤드 수 키 ({재고 키}:shards)
+-- ARGV[1]: 초기 재고 (DB 재고)
+-- 반환: 1(초기화), 0(이미 존재)
+
+if redis.call('EXISTS', KEYS[1]) == 1 or redis.call('EXISTS', KEYS[2]) == 1 then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[1])
+return 1
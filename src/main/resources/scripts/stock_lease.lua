@@ -0,0 +1,46 @@
+-- 재고 임차 (노드 로컬 할당용 블록 확보)
+-- 요청 수량보다 재고가 적으면 남은 만큼만 가져가므로, 임차 총량은 항상 Redis 재고 이하
+-- KEYS[1]: 재고 키 (stock:product:{id} 또는 stock:variant:{id})
+-- KEYS[2]: 샤드 수 키 ({재고 키}:shards)
+-- KEYS[3..]: 샤드 키 {재고 키}:shard:0 .. (관측한 샤드 수 - 1)
+-- ARGV[1]: 임차할 최대 수량
+-- ARGV[2]: 샤드 선택 시드 (샤드 재고 모드 상품의 시작 샤드 결정)
+-- ARGV[3]: 호출자가 관측한 샤드 수
+-- 반환: 임차한 수량 (0 이상), -1(키 없음), -2(샤드 수가 관측 이후 바뀜 → 호출자가 다시 읽고 재시도)
+
+local requested = tonumber(ARGV[1])
+local stock = redis.call('GET', KEYS[1])
+
+if stock ~= false then
+    local take = math.min(math.max(tonumber(stock), 0), requested)
+    if take > 0 then
+        redis.call('DECRBY', KEYS[1], take)
+    end
+    return take
+end
+
+-- 샤드 재고 모드: 시작 샤드부터 인접 샤드로 넘어가며 확보
+local shards = tonumber(redis.call('GET', KEYS[2]) or '0')
+if shards == 0 then
+    return -1
+end
+if shards ~= tonumber(ARGV[3]) then
+    return -2
+end
+
+local remaining = requested
+local start = tonumber(ARGV[2]) % shards
+for step = 0, shards - 1 do
+    local shardKey = KEYS[3 + (start + step) % shards]
+    local available = tonumber(redis.call('GET', shardKey) or '0')
+    if available > 0 then
+        local take = math.min(available, remaining)
+        redis.call('DECRBY', shardKey, take)
+        remaining = remaining - take
+        if remaining == 0 then
+            break
+        end
+    end
+end
+
+return requested - remaining
@@ -0,0 +1,32 @@
+-- 가점유 확정 (결제 완료 시 회수 대상에서 제외)
+-- KEYS[1]: 가점유 만료 Sorted Set (stock:reservations:deadlines)
+-- KEYS[2]: 가점유 원장 Hash (stock:ledger:{orderId})
+-- KEYS[3]: SKU별 미확정 가점유 수량 Hash (stock:reservations:pending)
+-- KEYS[4]: 확정 준비된 주문 Set (stock:reservations:held)
+-- KEYS[5]: SKU별 확정 중 수량 Hash (stock:reservations:confirming)
+-- ARGV[1]: 주문 ID
+-- ARGV[2]: 확정 후 원장 보존 TTL (초) - 취소/환불 시 재고 복구에 사용
+-- 반환: 1(확정 성공 또는 이미 확정됨), 0(원장 없음 - 이미 회수/해제됨)
+
+-- SKU별 수량 Hash에서 차감 (0 이하가 되면 field 삭제)
+local function decrease(hashKey, field, quantity)
+    if redis.call('HINCRBY', hashKey, field, -quantity) <= 0 then
+        redis.call('HDEL', hashKey, field)
+    end
+end
+
+if redis.call('ZREM', KEYS[1], ARGV[1]) == 1 then
+    local held = redis.call('SREM', KEYS[4], ARGV[1]) == 1
+    local entries = redis.call('HGETALL', KEYS[2])
+    for i = 1, #entries, 2 do
+        local quantity = tonumber(entries[i + 1])
+        decrease(KEYS[3], entries[i], quantity)
+        if held then
+            decrease(KEYS[5], entries[i], quantity)
+        end
+    end
+    redis.call('EXPIRE', KEYS[2], tonumber(ARGV[2]))
+    return 1
+end
+
+return redis.call('EXISTS', KEYS[2])
@@ -0,0 +1,27 @@
+-- 가점유 확정 준비 (DB 확정 차감 동안 Reclaimer가 회수하지 않도록 만료 시각을 늦춤)
+-- 확정(ZREM)은 DB 커밋 이후에 수행하므로, DB 확정이 실패하면 가점유는 미확정으로 남아 만료 시 회수됨
+-- DB 확정 중인 수량은 SKU별 확정 중 Hash에 기록 → 재고 보정은 확정 중인 SKU를 건너뜀
+--   (DB는 이미 차감되었지만 미확정 수량은 아직 줄지 않은 구간에서 기대값이 틀어지므로)
+-- KEYS[1]: 가점유 만료 Sorted Set (stock:reservations:deadlines)
+-- KEYS[2]: 가점유 원장 Hash (stock:ledger:{orderId})
+-- KEYS[3]: 확정 준비된 주문 Set (stock:reservations:held)
+-- KEYS[4]: SKU별 확정 중 수량 Hash (stock:reservations:confirming)
+-- ARGV[1]: 주문 ID
+-- ARGV[2]: 최소 만료 시각 (epoch millis) - 현재 만료 시각이 이보다 이르면 늦춤
+-- 반환: 1(미확정 가점유 유지 또는 이미 확정됨), 0(원장 없음 - 이미 회수/해제됨)
+
+local deadline = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if deadline then
+    if tonumber(deadline) < tonumber(ARGV[2]) then
+        redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+    end
+    if redis.call('SADD', KEYS[3], ARGV[1]) == 1 then
+        local entries = redis.call('HGETALL', KEYS[2])
+        for i = 1, #entries, 2 do
+            redis.call('HINCRBY', KEYS[4], entries[i], tonumber(entries[i + 1]))
+        end
+    end
+    return 1
+end
+
+return redis.call('EXISTS', KEYS[2])
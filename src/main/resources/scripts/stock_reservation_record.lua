@@ -0,0 +1,21 @@
+-- 임차분 가점유 원장 기록 (lease 전략)
+-- 재고는 노드가 임차할 때 이미 Redis에서 빠졌으므로 재고 키는 건드리지 않고 원장/미확정 수량/만료 시각만 기록
+-- 이후 해제/만료 회수/확정은 reserve_multi로 기록한 가점유와 같은 경로로 처리됨 (해제 시 Redis 재고로 반환)
+-- KEYS[1]: 가점유 원장 Hash (stock:ledger:{orderId})
+-- KEYS[2]: 가점유 만료 Sorted Set (stock:reservations:deadlines)
+-- KEYS[3]: SKU별 미확정 가점유 수량 Hash (stock:reservations:pending)
+-- ARGV[1]: 주문 ID
+-- ARGV[2]: 가점유 만료 시각 (epoch millis)
+-- ARGV[3]: 원장 Hash 안전 TTL (초)
+-- ARGV[2i+2], ARGV[2i+3]: i번째 아이템의 원장 field, 수량
+-- 반환: 1
+
+for i = 4, #ARGV, 2 do
+    local quantity = tonumber(ARGV[i + 1])
+    redis.call('HINCRBY', KEYS[1], ARGV[i], quantity)
+    redis.call('HINCRBY', KEYS[3], ARGV[i], quantity)
+end
+redis.call('EXPIRE', KEYS[1], tonumber(ARGV[3]))
+redis.call('ZADD', KEYS[2], tonumber(ARGV[2]), ARGV[1])
+
+return 1
@@ -0,0 +1,32 @@
+-- 가점유 원장 회수 (재고 반환 없이 원장만 가져오고 삭제)
+-- 확정된 주문의 취소/환불 처리 시 원장을 한 번만 소비하도록 보장
+-- KEYS[1]: 가점유 만료 Sorted Set (stock:reservations:deadlines)
+-- KEYS[2]: 가점유 원장 Hash (stock:ledger:{orderId})
+-- KEYS[3]: SKU별 미확정 가점유 수량 Hash (stock:reservations:pending)
+-- KEYS[4]: 확정 준비된 주문 Set (stock:reservations:held)
+-- KEYS[5]: SKU별 확정 중 수량 Hash (stock:reservations:confirming)
+-- ARGV[1]: 주문 ID
+-- 반환: 원장 항목 [field1, qty1, field2, qty2, ...] (없으면 빈 배열)
+
+-- SKU별 수량 Hash에서 차감 (0 이하가 되면 field 삭제)
+local function decrease(hashKey, field, quantity)
+    if redis.call('HINCRBY', hashKey, field, -quantity) <= 0 then
+        redis.call('HDEL', hashKey, field)
+    end
+end
+
+local pending = redis.call('ZREM', KEYS[1], ARGV[1]) == 1
+local held = redis.call('SREM', KEYS[4], ARGV[1]) == 1
+local entries = redis.call('HGETALL', KEYS[2])
+for i = 1, #entries, 2 do
+    local quantity = tonumber(entries[i + 1])
+    if pending then
+        decrease(KEYS[3], entries[i], quantity)
+    end
+    if held then
+        decrease(KEYS[5], entries[i], quantity)
+    end
+end
+redis.call('DEL', KEYS[2])
+
+return entries
@@ -1,20 +1,53 @@
 -- 재고 가점유 (Soft Reservation)
 -- KEYS[1]: 재고 키 (stock:product:{id} 또는 stock:variant:{id})
+-- KEYS[2]: 샤드 수 키 ({재고 키}:shards)
+-- KEYS[3..]: 샤드 키 {재고 키}:shard:0 .. (관측한 샤드 수 - 1)
 -- ARGV[1]: 차감할 수량
--- 반환: 1(성공), 0(재고 부족), -1(키 없음)
+-- ARGV[2]: 샤드 선택 시드 (샤드 재고 모드 상품의 시작 샤드 결정)
+-- ARGV[3]: 호출자가 관측한 샤드 수
+-- 반환: 1(성공), 0(재고 부족), -1(키 없음), -2(샤드 수가 관측 이후 바뀜 → 호출자가 다시 읽고 재시도)
 
+local quantity = tonumber(ARGV[1])
 local stock = redis.call('GET', KEYS[1])
 
-if stock == false then
+if stock ~= false then
+    if tonumber(stock) >= quantity then
+        redis.call('DECRBY', KEYS[1], quantity)
+        return 1
+    end
+    return 0
+end
+
+-- 샤드 재고 모드: 시작 샤드부터 인접 샤드로 넘어가며 필요한 수량 확보
+local shards = tonumber(redis.call('GET', KEYS[2]) or '0')
+if shards == 0 then
     return -1
 end
+if shards ~= tonumber(ARGV[3]) then
+    return -2
+end
 
-local current = tonumber(stock)
-local quantity = tonumber(ARGV[1])
+local plan = {}
+local remaining = quantity
+local start = tonumber(ARGV[2]) % shards
+for step = 0, shards - 1 do
+    local shardKey = KEYS[3 + (start + step) % shards]
+    local available = tonumber(redis.call('GET', shardKey) or '0')
+    if available > 0 then
+        local take = math.min(available, remaining)
+        table.insert(plan, { shardKey, take })
+        remaining = remaining - take
+        if remaining == 0 then
+            break
+        end
+    end
+end
 
-if current >= quantity then
-    redis.call('DECRBY', KEYS[1], quantity)
-    return 1
-else
+if remaining > 0 then
     return 0
 end
+
+for _, step in ipairs(plan) do
+    redis.call('DECRBY', step[1], step[2])
+end
+return 1
@@ -0,0 +1,101 @@
+-- 다건 재고 가점유 (All-or-Nothing) + 가점유 원장 기록
+-- 노드 로컬 임차분에서 이미 차감한 아이템(lease 전략)은 재고 키 없이 원장에만 함께 기록
+-- KEYS[1]: 가점유 원장 Hash (stock:ledger:{orderId}) → field: {productId}:{variantId}, value: 수량
+-- KEYS[2]: 가점유 만료 Sorted Set (stock:reservations:deadlines) → member: orderId, score: 만료 시각(ms)
+-- KEYS[3]: SKU별 미확정 가점유 수량 Hash (stock:reservations:pending) → field: 원장 field, value: 수량
+-- 이어서 아이템마다: 재고 키, 샤드 수 키({재고 키}:shards), 샤드 키 {재고 키}:shard:0 .. (관측한 샤드 수 - 1)
+-- ARGV[1]: 주문 ID
+-- ARGV[2]: 가점유 만료 시각 (epoch millis)
+-- ARGV[3]: 원장 Hash 안전 TTL (초)
+-- ARGV[4]: 샤드 선택 시드 (샤드 재고 모드 상품의 시작 샤드 결정)
+-- ARGV[5]: 재고를 차감할 아이템 수 N
+-- ARGV[6 + 3(i-1) .. 8 + 3(i-1)]: i번째 아이템의 원장 field, 차감 수량, 관측한 샤드 수 (i = 1..N)
+-- 이어서 임차분 아이템마다: 원장 field, 수량 (재고 키 검증/차감 없이 원장만 기록)
+-- 반환: 1(성공), 0(재고 부족), -1(키 없음), -2(샤드 수가 관측 이후 바뀜 → 호출자가 다시 읽고 재시도)
+-- 샤드 재고 모드: 재고 키 대신 {재고 키}:shard:{0..N-1} 에 분산 저장 ({재고 키}:shards = N)
+--   시작 샤드부터 필요한 만큼만 읽고, 비어 있으면 인접 샤드로 넘어가며 차감
+
+-- 1. 아이템 KEYS 해석 + 같은 키가 여러 번 들어올 수 있으므로 키별 요청 수량 합산
+local items = tonumber(ARGV[5])
+local required = {}
+local groups = {}
+local order = {}
+local nextKey = 4
+for i = 1, items do
+    local a = 6 + 3 * (i - 1)
+    local key = KEYS[nextKey]
+    local shards = tonumber(ARGV[a + 2])
+    if required[key] == nil then
+        required[key] = 0
+        groups[key] = { countKey = KEYS[nextKey + 1], firstShard = nextKey + 2, shards = shards }
+        table.insert(order, key)
+    end
+    required[key] = required[key] + tonumber(ARGV[a + 1])
+    nextKey = nextKey + 2 + shards
+end
+
+-- 2. 전체 검증 및 차감 계획 수립 (하나라도 실패하면 아무것도 차감하지 않음)
+local seed = tonumber(ARGV[4])
+local plans = {}
+for _, key in ipairs(order) do
+    local stock = redis.call('GET', key)
+    if stock ~= false then
+        if tonumber(stock) < required[key] then
+            return 0
+        end
+        plans[key] = { { key, required[key] } }
+    else
+        local group = groups[key]
+        local shards = tonumber(redis.call('GET', group.countKey) or '0')
+        if shards == 0 then
+            return -1
+        end
+        if shards ~= group.shards then
+            return -2
+        end
+
+        local plan = {}
+        local remaining = required[key]
+        local start = seed % shards
+        for step = 0, shards - 1 do
+            local shardKey = KEYS[group.firstShard + (start + step) % shards]
+            local available = tonumber(redis.call('GET', shardKey) or '0')
+            if available > 0 then
+                local take = math.min(available, remaining)
+                table.insert(plan, { shardKey, take })
+                remaining = remaining - take
+                if remaining == 0 then
+                    break
+                end
+            end
+        end
+        if remaining > 0 then
+            return 0
+        end
+        plans[key] = plan
+    end
+end
+
+-- 3. 일괄 차감
+for _, key in ipairs(order) do
+    for _, step in ipairs(plans[key]) do
+        redis.call('DECRBY', step[1], step[2])
+    end
+end
+
+-- 4. 원장 기록 (field 단위 원자적 누적) + SKU별 미확정 수량 + 만료 시각 등록
+local function record(field, quantity)
+    redis.call('HINCRBY', KEYS[1], field, quantity)
+    redis.call('HINCRBY', KEYS[3], field, quantity)
+end
+for i = 1, items do
+    local a = 6 + 3 * (i - 1)
+    record(ARGV[a], tonumber(ARGV[a + 1]))
+end
+for a = 6 + 3 * items, #ARGV, 2 do
+    record(ARGV[a], tonumber(ARGV[a + 1]))
+end
+redis.call('EXPIRE', KEYS[1], tonumber(ARGV[3]))
+redis.call('ZADD', KEYS[2], tonumber(ARGV[2]), ARGV[1])
+
+return 1
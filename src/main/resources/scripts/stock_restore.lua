@@ -0,0 +1,120 @@
+-- 재고 반환 (가점유 해제 / 만료 회수 / 주문 취소 공통)
+-- 반환 대상 재고 키와 샤드 키를 모두 KEYS로 받으며, 호출자가 관측한 샤드 수/원장 구성이 바뀌었으면
+-- 아무것도 변경하지 않고 -2를 반환 → 호출자가 다시 읽고 재시도
+--
+-- ARGV[1]: 모드
+--   stock   : 지정 수량 반환 (원장 없음)
+--   release : 미확정 가점유 해제 (결제 실패/결제 전 취소)
+--   reclaim : 만료된 미확정 가점유 회수 (만료 시각이 ARGV[3] 이하일 때만)
+-- ARGV[2]: 주문 ID (stock 모드는 빈 문자열)
+-- ARGV[3]: 기준 시각 (epoch millis, reclaim 모드)
+-- ARGV[4]: SKU 그룹 수 N
+-- ARGV[5 + 3(g-1) .. 7 + 3(g-1)]: g번째 SKU의 원장 field, 반환 수량(stock 모드), 관측한 샤드 수
+--
+-- KEYS (release/reclaim 모드만 앞의 5개 사용)
+--   [1] 가점유 만료 Sorted Set (stock:reservations:deadlines)
+--   [2] 가점유 원장 Hash (stock:ledger:{orderId})
+--   [3] SKU별 미확정 가점유 수량 Hash (stock:reservations:pending)
+--   [4] 확정 준비된 주문 Set (stock:reservations:held)
+--   [5] SKU별 확정 중 수량 Hash (stock:reservations:confirming)
+-- 이어서 SKU 그룹마다: 재고 키, 샤드 수 키({재고 키}:shards), 샤드 키 {재고 키}:shard:0 .. (관측한 샤드 수 - 1)
+--
+-- 반환: { 상태, field1, qty1, field2, qty2, ... }
+--   상태 1(반환함, release/reclaim은 반환한 원장 항목 포함), 0(미확정 가점유 없음/만료 전), -2(재시도)
+
+local mode = ARGV[1]
+local orderId = ARGV[2]
+local base = 0
+if mode ~= 'stock' then
+    base = 5
+end
+
+-- 1. SKU 그룹 해석 + 관측한 샤드 수 검증
+local groups = {}
+local order = {}
+local nextKey = base + 1
+for g = 1, tonumber(ARGV[4]) do
+    local a = 5 + 3 * (g - 1)
+    local shards = tonumber(ARGV[a + 2])
+    local group = {
+        quantity = tonumber(ARGV[a + 1]),
+        stockKey = KEYS[nextKey],
+        shards = shards,
+        firstShard = nextKey + 2
+    }
+    if tonumber(redis.call('GET', KEYS[nextKey + 1]) or '0') ~= shards then
+        return { -2 }
+    end
+    groups[ARGV[a]] = group
+    table.insert(order, ARGV[a])
+    nextKey = nextKey + 2 + shards
+end
+
+-- 재고 반환 (샤드 재고 모드면 잔량이 가장 적은 샤드에 반환하여 샤드 간 편차를 줄임)
+local function restore(group, quantity)
+    if group.shards == 0 then
+        redis.call('INCRBY', group.stockKey, quantity)
+        return
+    end
+
+    local target = group.firstShard
+    local lowest = nil
+    for k = group.firstShard, group.firstShard + group.shards - 1 do
+        local available = tonumber(redis.call('GET', KEYS[k]) or '0')
+        if lowest == nil or available < lowest then
+            lowest = available
+            target = k
+        end
+    end
+    redis.call('INCRBY', KEYS[target], quantity)
+end
+
+-- SKU별 수량 Hash에서 차감 (0 이하가 되면 field 삭제)
+local function decrease(hashKey, field, quantity)
+    if redis.call('HINCRBY', hashKey, field, -quantity) <= 0 then
+        redis.call('HDEL', hashKey, field)
+    end
+end
+
+if mode == 'stock' then
+    for _, field in ipairs(order) do
+        restore(groups[field], groups[field].quantity)
+    end
+    return { 1 }
+end
+
+-- 2. 미확정 가점유 확인 (확정/다른 해제와 경쟁 시 만료 인덱스에 남은 쪽만 진행)
+local deadline = redis.call('ZSCORE', KEYS[1], orderId)
+if not deadline then
+    return { 0 }
+end
+if mode == 'reclaim' and tonumber(deadline) > tonumber(ARGV[3]) then
+    return { 0 }
+end
+
+-- 3. 원장의 모든 SKU가 KEYS로 전달되었는지 확인 (그 사이 같은 주문에 가점유가 누적되었으면 재시도)
+local entries = redis.call('HGETALL', KEYS[2])
+for i = 1, #entries, 2 do
+    if groups[entries[i]] == nil then
+        return { -2 }
+    end
+end
+
+-- 4. 반환 + 원장/수량 정리
+redis.call('ZREM', KEYS[1], orderId)
+local held = redis.call('SREM', KEYS[4], orderId) == 1
+local result = { 1 }
+for i = 1, #entries, 2 do
+    local field = entries[i]
+    local quantity = tonumber(entries[i + 1])
+    restore(groups[field], quantity)
+    decrease(KEYS[3], field, quantity)
+    if held then
+        decrease(KEYS[5], field, quantity)
+    end
+    table.insert(result, field)
+    table.insert(result, entries[i + 1])
+end
+redis.call('DEL', KEYS[2])
+
+return result
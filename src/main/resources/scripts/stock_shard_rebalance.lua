@@ -0,0 +1,62 @@
+-- 재고 샤드 재분배 (샤드 모드 전환 / 샤드 수 변경 / DB 동기화)
+-- 현재 모드의 전체 수량을 모아 목표 모드로 다시 나누므로 전환 중 수량이 유실되지 않음
+-- KEYS[1]: 재고 키 (stock:product:{id} 또는 stock:variant:{id})
+-- KEYS[2]: 샤드 수 키 ({재고 키}:shards)
+-- KEYS[3..]: 샤드 키 {재고 키}:shard:0 .. (max(관측한 샤드 수, 목표 샤드 수) - 1)
+-- ARGV[1]: 목표 샤드 수 (0: 단일 키 모드, -1: 현재 모드 유지)
+-- ARGV[2]: 덮어쓸 전체 수량 (빈 문자열이면 현재 수량 유지)
+-- ARGV[3]: 호출자가 관측한 샤드 수
+-- 반환: 재분배된 전체 수량, -1(재고 키 없음), -2(샤드 수가 관측 이후 바뀜 → 호출자가 다시 읽고 재시도)
+-- 샤드 키는 {재고 키} 해시 태그를 공유하므로 클러스터에서도 KEYS[2]와 같은 슬롯에 위치
+
+local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+if current ~= tonumber(ARGV[3]) then
+    return -2
+end
+
+local total = nil
+if current > 0 then
+    total = 0
+    for s = 0, current - 1 do
+        total = total + tonumber(redis.call('GET', KEYS[3 + s]) or '0')
+        redis.call('DEL', KEYS[3 + s])
+    end
+else
+    local stock = redis.call('GET', KEYS[1])
+    if stock ~= false then
+        total = tonumber(stock)
+    end
+end
+
+if ARGV[2] ~= '' then
+    total = tonumber(ARGV[2])
+end
+if total == nil then
+    return -1
+end
+
+local target = tonumber(ARGV[1])
+if target < 0 then
+    target = current
+end
+
+if target == 0 then
+    redis.call('SET', KEYS[1], total)
+    redis.call('DEL', KEYS[2])
+    return total
+end
+
+-- 균등 분배 (나머지는 앞쪽 샤드부터 1개씩)
+local base = math.floor(total / target)
+local extra = total - base * target
+for s = 0, target - 1 do
+    local quantity = base
+    if s < extra then
+        quantity = quantity + 1
+    end
+    redis.call('SET', KEYS[3 + s], quantity)
+end
+redis.call('SET', KEYS[2], target)
+redis.call('DEL', KEYS[1])
+
+return total
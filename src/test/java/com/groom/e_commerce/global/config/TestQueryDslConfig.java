@@ -3,7 +3,11 @@ package com.groom.e_commerce.global.config;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 
+import com.groom.e_commerce.product.domain.repository.CategoryRepository;
+import com.groom.e_commerce.product.infrastructure.cache.CategoryPathCache;
+import com.groom.e_commerce.product.infrastructure.repository.ProductCountResolver;
 import com.groom.e_commerce.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.e_commerce.product.infrastructure.repository.TrigramSearchSupport;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import jakarta.persistence.EntityManager;
@@ -21,9 +25,11 @@ public class TestQueryDslConfig {
 	}
 
 	@Bean
-	public ProductQueryRepository productQueryRepository() {
+	public ProductQueryRepository productQueryRepository(CategoryRepository categoryRepository,
+		ProductCountResolver productCountResolver) {
 		// 우리가 만든 QueryDSL 전용 리포지토리를 빈으로 등록합니다.
 		// 이걸 등록 안 하면 테스트 코드에서 @Autowired로 주입받을 수 없습니다.
-		return new ProductQueryRepository(jpaQueryFactory());
+		return new ProductQueryRepository(jpaQueryFactory(), new CategoryPathCache(categoryRepository),
+			productCountResolver, new TrigramSearchSupport());
 	}
 }
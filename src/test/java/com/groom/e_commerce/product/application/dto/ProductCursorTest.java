@@ -0,0 +1,49 @@
+package com.groom.e_commerce.product.application.dto;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductCursorTest {
+
+	@Test
+	@DisplayName("같은 초 안에서 마이크로초만 다른 createdAt은 서로 다른 score가 된다")
+	void score_keeps_microsecond_precision() {
+		LocalDateTime earlier = LocalDateTime.of(2026, 10, 17, 12, 0, 0, 123_456_000);
+		LocalDateTime later = earlier.plusNanos(1_000);
+
+		double earlierScore = ProductCursor.scoreOf(earlier);
+		double laterScore = ProductCursor.scoreOf(later);
+
+		assertThat(laterScore - earlierScore).isEqualTo(1.0);
+		assertThat((long)earlierScore % 1_000_000).isEqualTo(123_456);
+	}
+
+	@Test
+	@DisplayName("커서 토큰은 나노초까지 그대로 복원된다")
+	void encode_and_decode_round_trip() {
+		LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 12, 0, 0, 987_654_000);
+		UUID productId = UUID.randomUUID();
+
+		ProductCursor decoded = ProductCursor.decode(ProductCursor.of(createdAt, productId).encode());
+
+		assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+		assertThat(decoded.getProductId()).isEqualTo(productId);
+		assertThat(decoded.score()).isEqualTo(ProductCursor.scoreOf(createdAt));
+	}
+
+	@Test
+	@DisplayName("같은 score의 member 문자열 순서는 UUID 바이트 순서(PostgreSQL uuid 정렬)와 같다")
+	void member_order_matches_uuid_byte_order() {
+		UUID low = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+		UUID high = UUID.fromString("80000000-0000-0000-0000-000000000000");
+
+		// Java UUID.compareTo는 부호 있는 비교라 반대로 나오지만, 바이트(부호 없는) 순서와 문자열 순서는 일치
+		assertThat(low.toString().compareTo(high.toString())).isNegative();
+		assertThat(Long.compareUnsigned(low.getMostSignificantBits(), high.getMostSignificantBits())).isNegative();
+	}
+}
@@ -0,0 +1,263 @@
+package com.groom.e_commerce.product.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.product.application.dto.StockManagement;
+import com.groom.e_commerce.product.infrastructure.cache.StockCacheKey;
+import com.groom.e_commerce.product.infrastructure.cache.StockRedisService;
+import com.groom.e_commerce.product.presentation.dto.response.ResStockLeaseDto;
+
+/**
+ * 노드 로컬 임차 전략 (Redis 재고는 메모리 대역)
+ * 핫 SKU 선별, All-or-Nothing 되돌림, 보충, 유휴 반환과 정리 중 차감 경합 확인
+ */
+class LeasedStockReservationStrategyTest {
+
+	private static final int BLOCK_SIZE = 10;
+
+	// Redis 재고 (상품 ID → 재고, 옵션 없는 상품만)
+	private final Map<UUID, Integer> redisStocks = new ConcurrentHashMap<>();
+	// 다음 임차 호출 중에 유휴 정리를 끼워 넣음
+	private final AtomicBoolean sweepDuringLease = new AtomicBoolean();
+	private final Set<UUID> hotSkus = new HashSet<>();
+
+	private StockRedisService stockRedisService;
+	private LeasedStockReservationStrategy strategy;
+
+	@BeforeEach
+	void setUp() {
+		stockRedisService = mock(StockRedisService.class);
+		when(stockRedisService.lease(any(), isNull(), anyInt())).thenAnswer(invocation -> {
+			if (sweepDuringLease.getAndSet(false)) {
+				sweepAllAsIdle();
+			}
+			return leaseFromRedis(invocation.getArgument(0), invocation.getArgument(2));
+		});
+		doAnswer(invocation -> redisStocks.merge(invocation.getArgument(0), invocation.<Integer>getArgument(2), Integer::sum))
+			.when(stockRedisService).release(any(), isNull(), anyInt());
+		doAnswer(invocation -> {
+			reserveFromRedis(invocation.getArgument(1));
+			return null;
+		}).when(stockRedisService).reserveAll(any(), anyList(), anyList());
+
+		// 보충/반환을 호출 스레드에서 바로 실행
+		strategy = new LeasedStockReservationStrategy(stockRedisService, Runnable::run);
+		ReflectionTestUtils.setField(strategy, "blockSize", BLOCK_SIZE);
+		ReflectionTestUtils.setField(strategy, "refillThreshold", 0.5);
+		ReflectionTestUtils.setField(strategy, "idleTimeoutMs", 30_000L);
+		ReflectionTestUtils.setField(strategy, "hotThreshold", 3L);
+		ReflectionTestUtils.setField(strategy, "configuredHotSkus", hotSkus);
+	}
+
+	@Test
+	@DisplayName("핫 SKU가 아니면 임차하지 않고 Redis 재고에서 바로 차감한다")
+	void cold_sku_is_reserved_directly_in_redis() {
+		UUID productId = product(5);
+		UUID orderId = UUID.randomUUID();
+		StockManagement item = StockManagement.of(productId, null, 2);
+
+		strategy.reserve(orderId, List.of(item));
+
+		verify(stockRedisService).reserveAll(orderId, List.of(item), List.of());
+		verify(stockRedisService, never()).lease(any(), any(), anyInt());
+		assertThat(redisStocks.get(productId)).isEqualTo(3);
+		assertThat(strategy.getLeaseStats()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("설정한 핫 SKU는 블록을 임차해 로컬에서 차감하고 원장에만 기록한다")
+	void configured_hot_sku_is_served_from_lease() {
+		UUID productId = hotProduct(100);
+		UUID orderId = UUID.randomUUID();
+		StockManagement item = StockManagement.of(productId, null, 2);
+
+		strategy.reserve(orderId, List.of(item));
+		strategy.reserve(UUID.randomUUID(), List.of(item));
+
+		verify(stockRedisService).reserveAll(orderId, List.of(), List.of(item));
+		verify(stockRedisService, times(1)).lease(productId, null, BLOCK_SIZE);
+		assertThat(redisStocks.get(productId)).isEqualTo(90);
+		assertThat(stats(productId).getRemaining()).isEqualTo(6);
+		assertThat(stats(productId).getServed()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("뒤 아이템의 재고가 부족하면 앞서 차감한 임차분을 되돌리고 원장에 기록하지 않는다")
+	void puts_back_when_later_hot_item_is_short() {
+		UUID enough = hotProduct(100);
+		UUID scarce = hotProduct(1);
+
+		assertThatThrownBy(() -> strategy.reserve(UUID.randomUUID(), List.of(
+			StockManagement.of(enough, null, 2),
+			StockManagement.of(scarce, null, 3))))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.STOCK_NOT_ENOUGH);
+
+		assertThat(stats(enough).getRemaining()).isEqualTo(BLOCK_SIZE);
+		assertThat(stats(enough).getServed()).isZero();
+		assertThat(stats(scarce).getRemaining()).isEqualTo(1);
+		verify(stockRedisService, never()).reserveAll(any(), anyList(), anyList());
+	}
+
+	@Test
+	@DisplayName("나머지 아이템이 부족하거나 원장 기록이 실패하면 임차분을 되돌린다")
+	void puts_back_when_redis_reservation_or_ledger_fails() {
+		UUID hot = hotProduct(100);
+		UUID cold = product(1);
+
+		assertThatThrownBy(() -> strategy.reserve(UUID.randomUUID(), List.of(
+			StockManagement.of(hot, null, 2),
+			StockManagement.of(cold, null, 2))))
+			.isInstanceOf(CustomException.class);
+		assertThat(stats(hot).getRemaining()).isEqualTo(BLOCK_SIZE);
+		assertThat(redisStocks.get(cold)).isEqualTo(1);
+
+		doThrow(new IllegalStateException("ledger write failed"))
+			.when(stockRedisService).reserveAll(any(), anyList(), anyList());
+
+		assertThatThrownBy(() -> strategy.reserve(UUID.randomUUID(), List.of(StockManagement.of(hot, null, 2))))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(stats(hot).getRemaining()).isEqualTo(BLOCK_SIZE);
+		assertThat(stats(hot).getServed()).isZero();
+	}
+
+	@Test
+	@DisplayName("잔량이 보충 기준 아래로 내려가면 블록을 추가로 임차한다")
+	void refills_below_threshold() {
+		UUID productId = hotProduct(100);
+
+		strategy.reserve(UUID.randomUUID(), List.of(StockManagement.of(productId, null, 6)));
+
+		verify(stockRedisService, times(2)).lease(productId, null, BLOCK_SIZE);
+		assertThat(stats(productId).getRemaining()).isEqualTo(14);
+		assertThat(stats(productId).getLeased()).isEqualTo(20);
+		assertThat(redisStocks.get(productId)).isEqualTo(80);
+	}
+
+	@Test
+	@DisplayName("유휴 SKU의 임차 잔량은 Redis로 반환되고 항목이 제거된다")
+	void returns_idle_leases() {
+		UUID productId = hotProduct(100);
+		strategy.reserve(UUID.randomUUID(), List.of(StockManagement.of(productId, null, 2)));
+
+		strategy.returnIdleLeases();
+		assertThat(stats(productId)).isNotNull();
+
+		sweepAllAsIdle();
+
+		assertThat(strategy.getLeaseStats()).isEmpty();
+		assertThat(redisStocks.get(productId)).isEqualTo(98);
+		verify(stockRedisService).release(productId, null, 8);
+	}
+
+	@Test
+	@DisplayName("정리 주기 동안 요청이 기준 이상인 SKU는 핫 SKU로 감지되고, 유휴 반환되면 해제된다")
+	void detects_hot_sku_by_request_count() {
+		UUID productId = product(100);
+		StockManagement item = StockManagement.of(productId, null, 1);
+		for (int i = 0; i < 3; i++) {
+			strategy.reserve(UUID.randomUUID(), List.of(item));
+		}
+		verify(stockRedisService, never()).lease(any(), any(), anyInt());
+
+		strategy.returnIdleLeases();
+		strategy.reserve(UUID.randomUUID(), List.of(item));
+
+		verify(stockRedisService).lease(productId, null, BLOCK_SIZE);
+		assertThat(stats(productId).getServed()).isEqualTo(1);
+
+		// 유휴 반환 → 다시 Redis에서 바로 차감
+		sweepAllAsIdle();
+		strategy.reserve(UUID.randomUUID(), List.of(item));
+
+		verify(stockRedisService, times(1)).lease(any(), any(), anyInt());
+		assertThat(strategy.getLeaseStats()).isEmpty();
+		assertThat(redisStocks.get(productId)).isEqualTo(95);
+	}
+
+	@Test
+	@DisplayName("동기 임차 중에 항목이 정리되면 늦게 받은 임차분은 Redis로 반환하고 새 항목에서 다시 차감한다")
+	void take_racing_idle_sweep_does_not_lose_stock() {
+		UUID productId = hotProduct(100);
+		// 보충 없이 동기 임차 경로만 확인
+		ReflectionTestUtils.setField(strategy, "refillThreshold", 0.05);
+		strategy.reserve(UUID.randomUUID(), List.of(StockManagement.of(productId, null, 2)));
+
+		// 잔량 8 < 9 → 동기 임차, 그 사이 정리가 항목을 retired로 표시하고 잔량 8을 반환
+		sweepDuringLease.set(true);
+		strategy.reserve(UUID.randomUUID(), List.of(StockManagement.of(productId, null, 9)));
+
+		// 정리된 항목에 들어온 블록(10)은 바로 반환, 새 항목이 다시 임차해 9 차감
+		verify(stockRedisService).release(productId, null, 8);
+		verify(stockRedisService).release(productId, null, BLOCK_SIZE);
+		verify(stockRedisService, times(3)).lease(productId, null, BLOCK_SIZE);
+		assertThat(stats(productId).getRemaining()).isEqualTo(1);
+		assertThat(stats(productId).getServed()).isEqualTo(9);
+		// Redis 재고 + 로컬 잔량 + 가점유 = 초기 재고
+		assertThat(redisStocks.get(productId) + 1 + 2 + 9).isEqualTo(100);
+	}
+
+	private UUID product(int stock) {
+		UUID productId = UUID.randomUUID();
+		redisStocks.put(productId, stock);
+		return productId;
+	}
+
+	private UUID hotProduct(int stock) {
+		UUID productId = product(stock);
+		hotSkus.add(productId);
+		return productId;
+	}
+
+	/**
+	 * 모든 항목을 유휴로 보고 정리
+	 */
+	private void sweepAllAsIdle() {
+		ReflectionTestUtils.setField(strategy, "idleTimeoutMs", -60_000L);
+		strategy.returnIdleLeases();
+		ReflectionTestUtils.setField(strategy, "idleTimeoutMs", 30_000L);
+	}
+
+	private ResStockLeaseDto stats(UUID productId) {
+		String stockKey = StockCacheKey.stockKey(productId, null);
+		return strategy.getLeaseStats().stream()
+			.filter(lease -> lease.getStockKey().equals(stockKey))
+			.findFirst()
+			.orElse(null);
+	}
+
+	private int leaseFromRedis(UUID productId, int quantity) {
+		int[] leased = new int[1];
+		redisStocks.computeIfPresent(productId, (key, stock) -> {
+			leased[0] = Math.min(stock, quantity);
+			return stock - leased[0];
+		});
+		return leased[0];
+	}
+
+	private void reserveFromRedis(List<StockManagement> items) {
+		for (StockManagement item : items) {
+			if (redisStocks.getOrDefault(item.getProductId(), 0) < item.getQuantity()) {
+				throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
+			}
+		}
+		items.forEach(item -> redisStocks.merge(item.getProductId(), -item.getQuantity(), Integer::sum));
+	}
+}
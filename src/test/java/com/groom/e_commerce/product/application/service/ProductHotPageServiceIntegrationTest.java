@@ -0,0 +1,383 @@
+package com.groom.e_commerce.product.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.e_commerce.global.infrastructure.redis.SingleFlightLoader;
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.repository.CategoryRepository;
+import com.groom.e_commerce.product.domain.repository.ProductRepository;
+import com.groom.e_commerce.product.domain.repository.ProductRepository.CategoryCountView;
+import com.groom.e_commerce.product.infrastructure.cache.CachedProductCard;
+import com.groom.e_commerce.product.infrastructure.cache.CachedProductDetail;
+import com.groom.e_commerce.product.infrastructure.cache.CategoryPathCache;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCacheKey;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCardCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCardCodec;
+import com.groom.e_commerce.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductHotPageCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductResponseCache;
+import com.groom.e_commerce.product.infrastructure.repository.ProductAggregateLoader;
+import com.groom.e_commerce.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
+
+/**
+ * 최신순 앞쪽 페이지 재계산 (실제 Redis - 버전 CAS 기록 스크립트)
+ * 동기화 무효화와 겹친 재계산 폐기, 카드/개수 누락 시 기록 생략, 주기 재계산 임차,
+ * 누락 카드 보충 중 제거/개수 재계산/개수 검증 보정 후 재계산 요청 확인
+ */
+@Tag("integration")
+@Testcontainers
+class ProductHotPageServiceIntegrationTest {
+
+	private static final int PAGE_SIZE = 20;
+	private static final int PRODUCTS = 25;
+
+	@Container
+	static final GenericContainer<?> REDIS_CONTAINER =
+		new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private RedisTemplate<String, byte[]> bytesRedisTemplate;
+	private final ProductCardCodec cardCodec = new ProductCardCodec();
+	private ProductListCacheService listCacheService;
+	private ProductCardCacheService cardCacheService;
+	private ProductHotPageCacheService hotPageCacheService;
+	private CategoryRepository categoryRepository;
+	private ProductHotPageService hotPageService;
+
+	// 의류 > 상의
+	private Category clothing;
+	private Category tops;
+	// 상의 상품 (최신순)
+	private final List<Product> products = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory(REDIS_CONTAINER.getHost(), REDIS_CONTAINER.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.execute(connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		}, true);
+
+		bytesRedisTemplate = new RedisTemplate<>();
+		bytesRedisTemplate.setConnectionFactory(connectionFactory);
+		bytesRedisTemplate.setKeySerializer(new StringRedisSerializer());
+		bytesRedisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		bytesRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		bytesRedisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+		bytesRedisTemplate.afterPropertiesSet();
+
+		clothing = category("의류", null);
+		tops = category("상의", clothing);
+		CategoryPathCache categoryPathCache = mock(CategoryPathCache.class);
+		when(categoryPathCache.lineage(clothing.getId())).thenReturn(List.of(clothing.getId()));
+		when(categoryPathCache.lineage(tops.getId())).thenReturn(List.of(tops.getId(), clothing.getId()));
+
+		listCacheService = new ProductListCacheService(redisTemplate, categoryPathCache);
+		ReflectionTestUtils.setField(listCacheService, "filterResultTtlSeconds", 30L);
+		ReflectionTestUtils.setField(listCacheService, "recountGuardMs", 5_000L);
+		listCacheService.init();
+
+		// 카드 미스는 상세 캐시로 보충하지 않음 (상세 캐시 비어 있음)
+		cardCacheService = spy(new ProductCardCacheService(bytesRedisTemplate, cardCodec,
+			mock(ProductDetailCacheService.class)));
+
+		hotPageCacheService = new ProductHotPageCacheService(bytesRedisTemplate, cardCodec, cardCacheService,
+			listCacheService, categoryPathCache);
+		ReflectionTestUtils.setField(hotPageCacheService, "enabled", true);
+		ReflectionTestUtils.setField(hotPageCacheService, "pages", 3);
+		ReflectionTestUtils.setField(hotPageCacheService, "pageSize", PAGE_SIZE);
+		hotPageCacheService.init();
+
+		categoryRepository = mock(CategoryRepository.class);
+		when(categoryRepository.findAllActiveOrderByDepthAndSortOrder()).thenReturn(List.of(clothing, tops));
+		when(categoryRepository.findAllByOrderByDepthAsc()).thenReturn(List.of(clothing, tops));
+		hotPageService = node();
+
+		// 상의 상품 25개 (목록 ZSET + 카드) + 계보 개수
+		LocalDateTime now = LocalDateTime.now().withNano(0);
+		for (int i = 0; i < PRODUCTS; i++) {
+			products.add(product(tops, now.minusMinutes(i)));
+		}
+		listCacheService.addProducts(products);
+		products.forEach(this::putCard);
+		setCount(tops.getId(), PRODUCTS);
+		setCount(clothing.getId(), PRODUCTS);
+		setCount(null, PRODUCTS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	@DisplayName("재계산은 목록 ZSET/카드/개수로 앞쪽 페이지를 만들고, 조회는 그 페이지를 그대로 응답한다")
+	void rebuilds_pages_from_list_cards_and_count() {
+		hotPageService.markDirty(List.of(tops.getId()));
+		hotPageService.rebuildPending();
+
+		Page<ResProductSearchDtoV1> first = hotPageService.getPage(tops.getId(), PageRequest.of(0, PAGE_SIZE));
+		Page<ResProductSearchDtoV1> second = hotPageService.getPage(tops.getId(), PageRequest.of(1, PAGE_SIZE));
+		Page<ResProductSearchDtoV1> third = hotPageService.getPage(tops.getId(), PageRequest.of(2, PAGE_SIZE));
+
+		assertThat(productIds(first)).isEqualTo(productIds(0, PAGE_SIZE));
+		assertThat(productIds(second)).isEqualTo(productIds(PAGE_SIZE, PRODUCTS));
+		assertThat(third.getContent()).isEmpty();
+		assertThat(first.getTotalElements()).isEqualTo(PRODUCTS);
+		assertThat(hotPageService.getStats().getRebuilds()).isEqualTo(1);
+		assertThat(hotPageService.getStats().getHits()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("재계산 도중 변경 동기화가 버전을 올리면 이전 상태로 계산한 페이지는 버린다")
+	void discards_rebuild_overlapping_sync_invalidation() {
+		// 이전 재계산으로 기록된 페이지
+		assertThat(hotPageCacheService.rebuild(tops.getId())).isTrue();
+
+		// 버전을 읽고 카드를 읽는 사이 변경 동기화가 페이지 삭제 + 버전 증가
+		AtomicBoolean invalidateOnce = new AtomicBoolean(true);
+		doAnswer(invocation -> {
+			if (invalidateOnce.getAndSet(false)) {
+				hotPageCacheService.invalidate(hotPageCacheService.affectedCategories(List.of(tops.getId())));
+			}
+			return invocation.callRealMethod();
+		}).when(cardCacheService).multiGetAsList(anyList());
+
+		assertThat(hotPageCacheService.rebuild(tops.getId())).isFalse();
+		assertThat(bytesRedisTemplate.hasKey(ProductCacheKey.productHotPage(tops.getId()))).isFalse();
+		assertThat(hotPageVersion(tops.getId())).isEqualTo(1);
+
+		// 다음 재계산은 새 버전 기준으로 기록
+		assertThat(hotPageCacheService.rebuild(tops.getId())).isTrue();
+		assertThat(hotPageCacheService.get(tops.getId(), 0).cards()).hasSize(PAGE_SIZE);
+	}
+
+	@Test
+	@DisplayName("카드나 개수가 없거나 목록이 적재되지 않았으면 기록하지 않는다")
+	void skips_write_when_cards_or_count_missing() {
+		// 카드 누락
+		redisTemplate.delete(ProductCacheKey.productCard(products.get(3).getId()));
+		assertThat(hotPageCacheService.rebuild(tops.getId())).isFalse();
+		assertThat(bytesRedisTemplate.hasKey(ProductCacheKey.productHotPage(tops.getId()))).isFalse();
+		putCard(products.get(3));
+
+		// 개수 누락
+		redisTemplate.delete(ProductCacheKey.productCount(tops.getId()));
+		assertThat(hotPageCacheService.rebuild(tops.getId())).isFalse();
+		assertThat(bytesRedisTemplate.hasKey(ProductCacheKey.productHotPage(tops.getId()))).isFalse();
+		setCount(tops.getId(), PRODUCTS);
+
+		// 개수는 있지만 목록 ZSET 미적재
+		UUID bagsId = UUID.randomUUID();
+		setCount(bagsId, 3);
+		assertThat(hotPageCacheService.rebuild(bagsId)).isFalse();
+
+		// 판매중 상품이 없는 카테고리는 빈 페이지 기록
+		setCount(bagsId, 0);
+		assertThat(hotPageCacheService.rebuild(bagsId)).isTrue();
+		assertThat(hotPageCacheService.get(bagsId, 0).cards()).isEmpty();
+
+		hotPageService.markDirty(List.of(tops.getId()));
+		hotPageService.rebuildPending();
+		assertThat(hotPageService.getStats().getRebuilds()).isEqualTo(1);
+		assertThat(hotPageCacheService.get(tops.getId(), 0).totalCount()).isEqualTo(PRODUCTS);
+	}
+
+	@Test
+	@DisplayName("주기 재계산은 임차한 한 노드만 요청하고, 임차 시간은 주기의 90%다")
+	void periodic_refresh_is_lease_gated() {
+		ProductHotPageService otherNode = node();
+
+		hotPageService.refreshPeriodically();
+		otherNode.refreshPeriodically();
+
+		// 활성 카테고리 2개 + 전체
+		assertThat(hotPageService.getStats().getPendingCategories()).isEqualTo(3);
+		assertThat(otherNode.getStats().getPendingCategories()).isZero();
+		Long ttl = redisTemplate.getExpire(ProductCacheKey.productHotPageRefreshLease(), TimeUnit.MILLISECONDS);
+		assertThat(ttl).isPositive().isLessThanOrEqualTo(270_000L);
+
+		// 임차가 끝나면 다음 주기는 다른 노드가 수행
+		redisTemplate.delete(ProductCacheKey.productHotPageRefreshLease());
+		otherNode.refreshPeriodically();
+		assertThat(otherNode.getStats().getPendingCategories()).isEqualTo(3);
+
+		otherNode.rebuildPending();
+		assertThat(hotPageCacheService.get(clothing.getId(), 0)).isNotNull();
+		assertThat(hotPageCacheService.get(null, 0)).isNotNull();
+
+		// 비활성이면 임차하지 않음
+		redisTemplate.delete(ProductCacheKey.productHotPageRefreshLease());
+		ReflectionTestUtils.setField(hotPageCacheService, "enabled", false);
+		node().refreshPeriodically();
+		assertThat(redisTemplate.hasKey(ProductCacheKey.productHotPageRefreshLease())).isFalse();
+	}
+
+	@Test
+	@DisplayName("개수 검증이 보정한 카테고리는 재계산 대기열에 들어가 보정한 개수로 다시 기록된다")
+	void verifier_correction_marks_pages_dirty() {
+		hotPageCacheService.rebuild(tops.getId());
+		// 유실된 동기화로 상의 개수만 틀림
+		setCount(tops.getId(), PRODUCTS - 1);
+		assertThat(hotPageCacheService.rebuild(tops.getId())).isTrue();
+		assertThat(hotPageCacheService.get(tops.getId(), 0).totalCount()).isEqualTo(PRODUCTS - 1);
+
+		CategoryCountView row = mock(CategoryCountView.class);
+		when(row.getCategoryId()).thenReturn(tops.getId());
+		when(row.getProductCount()).thenReturn((long)PRODUCTS);
+		ProductRepository productRepository = mock(ProductRepository.class);
+		when(productRepository.countOnSaleGroupByCategory()).thenReturn(List.of(row));
+		ProductCategoryCountService countService = new ProductCategoryCountService(productRepository,
+			categoryRepository, listCacheService, mock(SingleFlightLoader.class), hotPageService);
+
+		assertThat(countService.verify()).isEqualTo(1);
+		assertThat(hotPageService.getStats().getPendingCategories()).isEqualTo(1);
+
+		hotPageService.rebuildPending();
+		assertThat(hotPageCacheService.get(tops.getId(), 0).totalCount()).isEqualTo(PRODUCTS);
+	}
+
+	@Test
+	@DisplayName("누락 카드 보충 중 제거한 상품의 계보 페이지는 무효화되고, 개수를 다시 센 카테고리는 재계산된다")
+	void backfill_removal_and_recount_mark_pages_dirty() {
+		for (UUID categoryId : new UUID[] {tops.getId(), clothing.getId(), null}) {
+			assertThat(hotPageCacheService.rebuild(categoryId)).isTrue();
+		}
+
+		// 가장 최근 상품이 DB에서 사라졌고 카드도 없음
+		Product removed = products.get(0);
+		redisTemplate.delete(ProductCacheKey.productCard(removed.getId()));
+		ProductQueryRepository productQueryRepository = mock(ProductQueryRepository.class);
+		when(productQueryRepository.countProductsForBuyer(tops.getId())).thenReturn((long)PRODUCTS - 1);
+		ProductReadService productReadService = readService(productQueryRepository);
+
+		// 앞쪽 페이지 대상이 아닌 크기로 조회 (기존 경로)
+		Page<ResProductSearchDtoV1> page = productReadService.getProductList(tops.getId(), PageRequest.of(0, 10));
+
+		assertThat(productIds(page)).doesNotContain(removed.getId()).hasSize(9);
+		assertThat(page.getTotalElements()).isEqualTo(PRODUCTS - 1);
+		// 제거 → 상의/의류/전체 페이지 삭제 + 버전 증가, 개수 키 삭제 → 상의만 다시 셈
+		for (UUID categoryId : new UUID[] {tops.getId(), clothing.getId(), null}) {
+			assertThat(bytesRedisTemplate.hasKey(ProductCacheKey.productHotPage(categoryId))).isFalse();
+			assertThat(hotPageVersion(categoryId)).isEqualTo(1);
+		}
+		assertThat(hotPageService.getStats().getPendingCategories()).isEqualTo(3);
+
+		hotPageService.rebuildPending();
+
+		// 개수가 있는 상의만 기록, 개수 키가 지워진 의류/전체는 다음 재계산(개수를 다시 센 뒤)으로
+		assertThat(hotPageService.getStats().getRebuilds()).isEqualTo(1);
+		assertThat(hotPageService.getStats().getRebuildSkips()).isEqualTo(2);
+		assertThat(hotPageCacheService.get(tops.getId(), 0).cards()).extracting(CachedProductCard::getProductId)
+			.isEqualTo(productIds(1, PAGE_SIZE + 1));
+		assertThat(hotPageCacheService.get(tops.getId(), 0).totalCount()).isEqualTo(PRODUCTS - 1);
+		assertThat(hotPageCacheService.get(clothing.getId(), 0)).isNull();
+	}
+
+	private ProductHotPageService node() {
+		ProductHotPageService node = new ProductHotPageService(hotPageCacheService, categoryRepository);
+		ReflectionTestUtils.setField(node, "refreshIntervalMs", 300_000L);
+		node.init();
+		return node;
+	}
+
+	private ProductReadService readService(ProductQueryRepository productQueryRepository) {
+		ProductDetailCacheService detailCacheService = mock(ProductDetailCacheService.class);
+		when(detailCacheService.readGenerations(anyList())).thenReturn(Map.of());
+		// DB에 없는 상품
+		ProductAggregateLoader aggregateLoader = mock(ProductAggregateLoader.class);
+		when(aggregateLoader.loadAll(anyList())).thenReturn(List.of());
+		SingleFlightLoader singleFlightLoader = mock(SingleFlightLoader.class);
+		when(singleFlightLoader.load(anyString(), any(), any()))
+			.thenAnswer(invocation -> invocation.<Supplier<Object>>getArgument(2).get());
+
+		return new ProductReadService(listCacheService, detailCacheService, cardCacheService, productQueryRepository,
+			aggregateLoader, singleFlightLoader, mock(ProductResponseCache.class), hotPageService,
+			mock(ProductListPrefetcher.class), new ObjectMapper());
+	}
+
+	private Category category(String name, Category parent) {
+		Category category = Category.builder()
+			.parent(parent)
+			.name(name)
+			.depth(parent == null ? 1 : 2)
+			.sortOrder(1)
+			.build();
+		ReflectionTestUtils.setField(category, "id", UUID.randomUUID());
+		return category;
+	}
+
+	private Product product(Category category, LocalDateTime createdAt) {
+		Product product = Product.builder()
+			.ownerId(UUID.randomUUID())
+			.category(category)
+			.title("상품")
+			.price(10_000L)
+			.stockQuantity(5)
+			.build();
+		ReflectionTestUtils.setField(product, "id", UUID.randomUUID());
+		ReflectionTestUtils.setField(product, "createdAt", createdAt);
+		return product;
+	}
+
+	private void putCard(Product product) {
+		CachedProductCard card = CachedProductCard.from(CachedProductDetail.from(product));
+		bytesRedisTemplate.opsForValue().set(ProductCacheKey.productCard(product.getId()), cardCodec.encode(card));
+	}
+
+	private void setCount(UUID categoryId, long count) {
+		redisTemplate.opsForValue().set(ProductCacheKey.productCount(categoryId), String.valueOf(count));
+	}
+
+	private long hotPageVersion(UUID categoryId) {
+		byte[] version = bytesRedisTemplate.opsForValue().get(ProductCacheKey.productHotPageVersion(categoryId));
+		return version != null ? Long.parseLong(new String(version, StandardCharsets.UTF_8)) : 0;
+	}
+
+	private List<UUID> productIds(int from, int to) {
+		return products.subList(from, to).stream().map(Product::getId).toList();
+	}
+
+	private static List<UUID> productIds(Page<ResProductSearchDtoV1> page) {
+		return page.map(ResProductSearchDtoV1::getProductId).getContent();
+	}
+}
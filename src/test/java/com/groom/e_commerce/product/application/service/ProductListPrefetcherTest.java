@@ -0,0 +1,253 @@
+package com.groom.e_commerce.product.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
+
+class ProductListPrefetcherTest {
+
+	private static final long TTL_SECONDS = 5;
+	private static final int WINDOW = 4;
+	private static final long COOLDOWN_SECONDS = 60;
+
+	// 실행 요청을 호출 스레드에서 바로 실행 (rejecting이면 큐가 찬 것처럼 거절)
+	private final AtomicBoolean rejecting = new AtomicBoolean();
+	private final Executor executor = command -> {
+		if (rejecting.get()) {
+			throw new TaskRejectedException("prefetch queue full");
+		}
+		command.run();
+	};
+	private final AtomicLong nanos = new AtomicLong();
+
+	private final UUID categoryId = UUID.randomUUID();
+	private ProductListPrefetcher prefetcher;
+
+	@BeforeEach
+	void setUp() {
+		prefetcher = new ProductListPrefetcher(executor, mock(PlatformTransactionManager.class), nanos::get);
+		ReflectionTestUtils.setField(prefetcher, "enabled", true);
+		ReflectionTestUtils.setField(prefetcher, "ttlSeconds", TTL_SECONDS);
+		ReflectionTestUtils.setField(prefetcher, "maxEntries", 100L);
+		ReflectionTestUtils.setField(prefetcher, "window", WINDOW);
+		ReflectionTestUtils.setField(prefetcher, "minHitRate", 0.5);
+		ReflectionTestUtils.setField(prefetcher, "cooldownSeconds", COOLDOWN_SECONDS);
+		prefetcher.init();
+	}
+
+	@Test
+	@DisplayName("선조회한 페이지로 한 번 응답하면 적중으로 집계되고 보관에서 제거된다")
+	void take_counts_hit_once() {
+		Page<ResProductSearchDtoV1> page = page(1);
+		prefetcher.prefetch(categoryId, page.getPageable(), () -> page);
+
+		assertThat(prefetcher.take(categoryId, page.getPageable())).isSameAs(page);
+		assertThat(prefetcher.take(categoryId, page.getPageable())).isNull();
+		assertThat(prefetcher.getStats().getIssued()).isEqualTo(1);
+		assertThat(prefetcher.getStats().getHits()).isEqualTo(1);
+		assertThat(prefetcher.getStats().getWasted()).isZero();
+		assertThat(prefetcher.getStats().getPending()).isZero();
+	}
+
+	@Test
+	@DisplayName("요청 없이 TTL이 지난 페이지는 낭비로 집계된다")
+	void expired_page_counts_as_waste() {
+		Page<ResProductSearchDtoV1> page = page(1);
+		prefetcher.prefetch(categoryId, page.getPageable(), () -> page);
+
+		advanceSeconds(TTL_SECONDS + 1);
+		prefetcher.cleanUp();
+
+		assertThat(prefetcher.take(categoryId, page.getPageable())).isNull();
+		assertThat(prefetcher.getStats().getWasted()).isEqualTo(1);
+		assertThat(prefetcher.getStats().getHits()).isZero();
+		assertThat(prefetcher.getStats().getHitRate()).isZero();
+	}
+
+	@Test
+	@DisplayName("창이 차기 전에는 적중률이 낮아도 선조회를 계속한다")
+	void keeps_prefetching_until_window_is_full() {
+		wastePages(WINDOW - 1);
+
+		AtomicInteger loads = new AtomicInteger();
+		prefetcher.prefetch(categoryId, PageRequest.of(10, 2), () -> countingPage(loads, 10));
+
+		assertThat(loads).hasValue(1);
+		assertThat(prefetcher.getStats().getSkippedByPolicy()).isZero();
+		assertThat(prefetcher.getStats().getDisabledCategories()).isZero();
+	}
+
+	@Test
+	@DisplayName("창의 적중률이 기준 미만이면 cooldown 동안 선조회를 중단하고 이후 다시 시작한다")
+	void pauses_category_for_cooldown_after_low_hit_window() {
+		wastePages(WINDOW);
+
+		AtomicInteger loads = new AtomicInteger();
+		prefetcher.prefetch(categoryId, PageRequest.of(10, 2), () -> countingPage(loads, 10));
+		assertThat(loads).hasValue(0);
+		assertThat(prefetcher.getStats().getSkippedByPolicy()).isEqualTo(1);
+		assertThat(prefetcher.getStats().getDisabledCategories()).isEqualTo(1);
+
+		// 다른 카테고리는 영향 없음
+		prefetcher.prefetch(UUID.randomUUID(), PageRequest.of(10, 2), () -> countingPage(loads, 10));
+		assertThat(loads).hasValue(1);
+
+		advanceSeconds(COOLDOWN_SECONDS);
+		prefetcher.prefetch(categoryId, PageRequest.of(10, 2), () -> countingPage(loads, 10));
+		assertThat(loads).hasValue(2);
+		assertThat(prefetcher.getStats().getDisabledCategories()).isZero();
+	}
+
+	@Test
+	@DisplayName("적중률이 기준 이상이면 창이 차도 선조회를 계속하고 창은 비워진다")
+	void keeps_category_active_after_high_hit_window() {
+		for (int i = 0; i < WINDOW; i++) {
+			Page<ResProductSearchDtoV1> page = page(i);
+			prefetcher.prefetch(categoryId, page.getPageable(), () -> page);
+			if (i % 2 == 0) {
+				prefetcher.take(categoryId, page.getPageable());
+			}
+		}
+		advanceSeconds(TTL_SECONDS + 1);
+		prefetcher.cleanUp();
+
+		assertThat(prefetcher.getStats().getHits()).isEqualTo(WINDOW / 2);
+		assertThat(prefetcher.getStats().getWasted()).isEqualTo(WINDOW / 2);
+		assertThat(prefetcher.getStats().getDisabledCategories()).isZero();
+	}
+
+	@Test
+	@DisplayName("창이 찬 두 스레드 중 한 스레드만 판단하고, 판단 전에 기록된 결과도 잃지 않는다")
+	void judges_window_once_under_lock() throws InterruptedException {
+		ProductListPrefetcher.CategoryPolicy policy = new ProductListPrefetcher.CategoryPolicy();
+		long now = 1_000L;
+		long cooldownMillis = 10_000L;
+		policy.record(false, 2, 0.5, cooldownMillis, now, "category");
+
+		Thread miss;
+		Thread hit;
+		synchronized (policy) {
+			// 두 스레드 모두 창이 찬 것을 보고 판단 블록 앞에서 대기
+			miss = new Thread(() -> policy.record(false, 2, 0.5, cooldownMillis, now, "category"));
+			hit = new Thread(() -> policy.record(true, 2, 0.5, cooldownMillis, now, "category"));
+			miss.start();
+			hit.start();
+			awaitBlocked(miss);
+			awaitBlocked(hit);
+			assertThat(policy.pendingResults()).isEqualTo(3);
+		}
+		miss.join(5_000);
+		hit.join(5_000);
+
+		// 먼저 들어간 스레드가 세 결과(적중률 1/3)로 판단, 뒤 스레드는 다시 확인 후 생략
+		assertThat(policy.pendingResults()).isZero();
+		assertThat(policy.isActive(now + cooldownMillis - 1)).isFalse();
+		assertThat(policy.isActive(now + cooldownMillis)).isTrue();
+	}
+
+	@Test
+	@DisplayName("큐가 차서 거절되면 rejected로 집계되고 같은 페이지를 다시 선조회할 수 있다")
+	void rejected_prefetch_releases_in_flight_key() {
+		Page<ResProductSearchDtoV1> page = page(1);
+		rejecting.set(true);
+
+		prefetcher.prefetch(categoryId, page.getPageable(), () -> page);
+
+		assertThat(prefetcher.getStats().getRejected()).isEqualTo(1);
+		assertThat(prefetcher.getStats().getIssued()).isZero();
+		assertThat(prefetcher.take(categoryId, page.getPageable())).isNull();
+
+		rejecting.set(false);
+		prefetcher.prefetch(categoryId, page.getPageable(), () -> page);
+
+		assertThat(prefetcher.getStats().getIssued()).isEqualTo(1);
+		assertThat(prefetcher.take(categoryId, page.getPageable())).isSameAs(page);
+	}
+
+	@Test
+	@DisplayName("무효화한 카테고리의 보관 페이지만 폐기되고 적중/낭비로 집계되지 않는다")
+	void invalidate_drops_category_pages() {
+		UUID otherCategoryId = UUID.randomUUID();
+		Page<ResProductSearchDtoV1> page = page(1);
+		Page<ResProductSearchDtoV1> otherPage = page(1);
+		prefetcher.prefetch(categoryId, page.getPageable(), () -> page);
+		prefetcher.prefetch(otherCategoryId, otherPage.getPageable(), () -> otherPage);
+
+		prefetcher.invalidate(List.of(categoryId));
+
+		assertThat(prefetcher.take(categoryId, page.getPageable())).isNull();
+		assertThat(prefetcher.take(otherCategoryId, otherPage.getPageable())).isSameAs(otherPage);
+		assertThat(prefetcher.getStats().getHits()).isEqualTo(1);
+		assertThat(prefetcher.getStats().getWasted()).isZero();
+	}
+
+	@Test
+	@DisplayName("읽는 중 카테고리가 무효화되면 선조회 결과를 보관하지 않는다")
+	void invalidate_during_load_discards_result() {
+		Page<ResProductSearchDtoV1> page = page(1);
+
+		prefetcher.prefetch(categoryId, page.getPageable(), () -> {
+			prefetcher.invalidate(List.of(categoryId));
+			return page;
+		});
+
+		assertThat(prefetcher.take(categoryId, page.getPageable())).isNull();
+		assertThat(prefetcher.getStats().getPending()).isZero();
+	}
+
+	private void wastePages(int count) {
+		for (int i = 0; i < count; i++) {
+			Page<ResProductSearchDtoV1> page = page(i);
+			prefetcher.prefetch(categoryId, page.getPageable(), () -> page);
+		}
+		advanceSeconds(TTL_SECONDS + 1);
+		prefetcher.cleanUp();
+		assertThat(prefetcher.getStats().getWasted()).isEqualTo(count);
+	}
+
+	private void advanceSeconds(long seconds) {
+		nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+	}
+
+	private static void awaitBlocked(Thread thread) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (thread.getState() != Thread.State.BLOCKED) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(1);
+		}
+	}
+
+	private static Page<ResProductSearchDtoV1> countingPage(AtomicInteger loads, int pageNumber) {
+		loads.incrementAndGet();
+		return page(pageNumber);
+	}
+
+	private static Page<ResProductSearchDtoV1> page(int pageNumber) {
+		Pageable pageable = PageRequest.of(pageNumber, 2);
+		ResProductSearchDtoV1 product = ResProductSearchDtoV1.builder()
+			.productId(UUID.randomUUID())
+			.title("상품")
+			.build();
+		return new PageImpl<>(List.of(product), pageable, 100);
+	}
+}
@@ -0,0 +1,153 @@
+package com.groom.e_commerce.product.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.e_commerce.global.infrastructure.redis.SingleFlightLoader;
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCardCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductResponseCache;
+import com.groom.e_commerce.product.infrastructure.repository.ProductAggregateLoader;
+import com.groom.e_commerce.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductDetailDtoV1;
+
+/**
+ * 상세 캐시 미스 → DB 조회 (조회 불가 표시 확인/기록, 캐시 대상 기준 - 품절 상품은 상세만 적재)
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductReadServiceDetailMissTest {
+
+	@Mock
+	private ProductListCacheService listCacheService;
+
+	@Mock
+	private ProductDetailCacheService detailCacheService;
+
+	@Mock
+	private ProductAggregateLoader aggregateLoader;
+
+	@Mock
+	private SingleFlightLoader singleFlightLoader;
+
+	private final UUID productId = UUID.randomUUID();
+	private ProductReadService productReadService;
+
+	@BeforeEach
+	void setUp() {
+		productReadService = new ProductReadService(listCacheService, detailCacheService,
+			mock(ProductCardCacheService.class), mock(ProductQueryRepository.class), aggregateLoader,
+			singleFlightLoader, mock(ProductResponseCache.class), mock(ProductHotPageService.class),
+			mock(ProductListPrefetcher.class), new ObjectMapper());
+	}
+
+	@Test
+	@DisplayName("조회 불가 표시가 있으면 DB를 조회하지 않고 null")
+	void known_missing_skips_db() {
+		when(detailCacheService.isKnownMissing(productId)).thenReturn(true);
+
+		assertThat(productReadService.getProductDetail(productId)).isNull();
+
+		verifyNoInteractions(singleFlightLoader, aggregateLoader);
+	}
+
+	@Test
+	@DisplayName("DB에도 없는 상품은 조회 불가로 표시한다")
+	void missing_product_is_marked() {
+		stubColdMiss(Optional.empty());
+
+		assertThat(productReadService.getProductDetail(productId)).isNull();
+
+		verify(detailCacheService).markMissing(productId);
+		verify(detailCacheService, never()).put(any(), anyLong());
+	}
+
+	@Test
+	@DisplayName("숨김/정지 상품은 조회 불가로 표시하고 캐시에 적재하지 않는다")
+	void not_cacheable_status_is_marked() {
+		for (ProductStatus status : List.of(ProductStatus.HIDDEN, ProductStatus.SUSPENDED)) {
+			clearInvocations(detailCacheService);
+			stubColdMiss(Optional.of(product(status)));
+
+			assertThat(productReadService.getProductDetail(productId)).isNull();
+
+			verify(detailCacheService).markMissing(productId);
+			verify(detailCacheService, never()).put(any(), anyLong());
+		}
+		verifyNoInteractions(listCacheService);
+	}
+
+	@Test
+	@DisplayName("품절 상품은 캐시 미스에서도 상세를 응답하고 상세만 적재한다 (변경 동기화와 같은 기준, 목록 제외)")
+	void sold_out_is_served_and_cached_without_list() {
+		Product product = product(ProductStatus.SOLD_OUT);
+		stubColdMiss(Optional.of(product));
+
+		ResProductDetailDtoV1 response = productReadService.getProductDetail(productId);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getStatus()).isEqualTo(ProductStatus.SOLD_OUT);
+		verify(detailCacheService).put(product, 0L);
+		verify(detailCacheService, never()).markMissing(any());
+		verify(listCacheService, never()).addProduct(any());
+	}
+
+	@Test
+	@DisplayName("판매중 상품은 상세와 목록에 적재한다")
+	void on_sale_is_cached_with_list() {
+		Product product = product(ProductStatus.ON_SALE);
+		stubColdMiss(Optional.of(product));
+
+		assertThat(productReadService.getProductDetail(productId).getStatus()).isEqualTo(ProductStatus.ON_SALE);
+
+		verify(detailCacheService).put(product, 0L);
+		verify(listCacheService).addProduct(product);
+		verify(detailCacheService, never()).markMissing(any());
+	}
+
+	/**
+	 * 상세 캐시 미스 + 표시 없음 → 단일 조회로 DB 적재 경로 실행
+	 */
+	private void stubColdMiss(Optional<Product> product) {
+		when(singleFlightLoader.load(anyString(), any(), any()))
+			.thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+		when(detailCacheService.readGenerations(List.of(productId))).thenReturn(Map.of(productId, 0L));
+		when(aggregateLoader.load(productId)).thenReturn(product);
+	}
+
+	private Product product(ProductStatus status) {
+		Category category = Category.builder().name("의류").depth(1).sortOrder(1).build();
+		ReflectionTestUtils.setField(category, "id", UUID.randomUUID());
+		Product product = Product.builder()
+			.ownerId(UUID.randomUUID())
+			.category(category)
+			.title("상품")
+			.price(10_000L)
+			.stockQuantity(5)
+			.build();
+		product.updateStatus(status);
+		ReflectionTestUtils.setField(product, "id", productId);
+		ReflectionTestUtils.setField(product, "createdAt", LocalDateTime.now());
+		return product;
+	}
+}
@@ -0,0 +1,156 @@
+package com.groom.e_commerce.product.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.e_commerce.global.infrastructure.redis.SingleFlightLoader;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.infrastructure.cache.CachedProductCard;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCardCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductResponseCache;
+import com.groom.e_commerce.product.infrastructure.repository.ProductAggregateLoader;
+import com.groom.e_commerce.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
+
+@ExtendWith(MockitoExtension.class)
+class ProductReadServicePrefetchTest {
+
+	private static final int SIZE = 2;
+
+	@Mock
+	private ProductListCacheService listCacheService;
+
+	@Mock
+	private ProductDetailCacheService detailCacheService;
+
+	@Mock
+	private ProductCardCacheService cardCacheService;
+
+	@Mock
+	private ProductQueryRepository productQueryRepository;
+
+	@Mock
+	private ProductAggregateLoader aggregateLoader;
+
+	@Mock
+	private SingleFlightLoader singleFlightLoader;
+
+	@Mock
+	private ProductResponseCache responseCache;
+
+	@Mock
+	private ProductHotPageService hotPageService;
+
+	private final UUID categoryId = UUID.randomUUID();
+	private ProductListPrefetcher listPrefetcher;
+	private ProductReadService productReadService;
+
+	@BeforeEach
+	void setUp() {
+		// 선조회를 호출 스레드에서 바로 실행
+		listPrefetcher = new ProductListPrefetcher(Runnable::run, mock(PlatformTransactionManager.class), () -> 0L);
+		ReflectionTestUtils.setField(listPrefetcher, "enabled", true);
+		ReflectionTestUtils.setField(listPrefetcher, "ttlSeconds", 5L);
+		ReflectionTestUtils.setField(listPrefetcher, "maxEntries", 100L);
+		ReflectionTestUtils.setField(listPrefetcher, "window", 50);
+		ReflectionTestUtils.setField(listPrefetcher, "minHitRate", 0.3);
+		ReflectionTestUtils.setField(listPrefetcher, "cooldownSeconds", 300L);
+		listPrefetcher.init();
+
+		productReadService = new ProductReadService(listCacheService, detailCacheService, cardCacheService,
+			productQueryRepository, aggregateLoader, singleFlightLoader, responseCache, hotPageService, listPrefetcher,
+			new ObjectMapper());
+	}
+
+	@Test
+	@DisplayName("다음 페이지를 선조회해 두고, 다음 요청은 목록 캐시를 다시 읽지 않고 선조회 결과로 응답한다")
+	void next_page_is_served_from_prefetch() {
+		when(listCacheService.getCachedTotalCount(categoryId)).thenReturn(6L);
+		List<UUID> firstIds = stubCachedPage(0);
+		List<UUID> secondIds = stubCachedPage(1);
+		stubCachedPage(2);
+
+		Page<ResProductSearchDtoV1> first = productReadService.getProductList(categoryId, PageRequest.of(0, SIZE));
+
+		assertThat(productIds(first)).isEqualTo(firstIds);
+		verify(listCacheService).getProductIds(categoryId, 2L, SIZE);
+		// 다음 페이지 상품의 상세를 L1에 적재
+		verify(detailCacheService).multiGetAsList(secondIds);
+
+		Page<ResProductSearchDtoV1> second = productReadService.getProductList(categoryId, PageRequest.of(1, SIZE));
+
+		assertThat(productIds(second)).isEqualTo(secondIds);
+		verify(listCacheService, times(1)).getProductIds(categoryId, 2L, SIZE);
+		assertThat(listPrefetcher.getStats().getHits()).isEqualTo(1);
+		// 응답한 페이지에서 이어서 마지막 페이지를 선조회
+		verify(listCacheService).getProductIds(categoryId, 4L, SIZE);
+		assertThat(listPrefetcher.getStats().getIssued()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("다음 페이지가 앞쪽 페이지 캐시 범위면 선조회하지 않는다")
+	void skips_prefetch_when_hot_pages_cover_next() {
+		when(listCacheService.getCachedTotalCount(categoryId)).thenReturn(6L);
+		stubCachedPage(0);
+		when(hotPageService.covers(PageRequest.of(1, SIZE))).thenReturn(true);
+
+		productReadService.getProductList(categoryId, PageRequest.of(0, SIZE));
+
+		verify(listCacheService, never()).getProductIds(eq(categoryId), eq(2L), anyLong());
+		assertThat(listPrefetcher.getStats().getIssued()).isZero();
+	}
+
+	@Test
+	@DisplayName("마지막 페이지에서는 선조회하지 않는다")
+	void skips_prefetch_on_last_page() {
+		when(listCacheService.getCachedTotalCount(categoryId)).thenReturn(2L);
+		stubCachedPage(0);
+
+		productReadService.getProductList(categoryId, PageRequest.of(0, SIZE));
+
+		verify(hotPageService, never()).covers(any());
+		verify(listCacheService, never()).getProductIds(eq(categoryId), eq(2L), anyLong());
+		assertThat(listPrefetcher.getStats().getIssued()).isZero();
+	}
+
+	/**
+	 * 목록 ID + 판매중 카드가 모두 캐시에 있는 페이지
+	 */
+	private List<UUID> stubCachedPage(int pageNumber) {
+		List<UUID> productIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+		when(listCacheService.getProductIds(categoryId, (long)pageNumber * SIZE, SIZE)).thenReturn(productIds);
+		when(cardCacheService.multiGetAsList(productIds)).thenReturn(productIds.stream()
+			.map(productId -> CachedProductCard.builder()
+				.productId(productId)
+				.categoryId(categoryId)
+				.title("상품")
+				.status(ProductStatus.ON_SALE)
+				.minPrice(1_000L)
+				.maxPrice(1_000L)
+				.build())
+			.toList());
+		return productIds;
+	}
+
+	private static List<UUID> productIds(Page<ResProductSearchDtoV1> page) {
+		return page.map(ResProductSearchDtoV1::getProductId).getContent();
+	}
+}
@@ -0,0 +1,410 @@
+package com.groom.e_commerce.product.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.e_commerce.global.infrastructure.redis.SingleFlightLoader;
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.entity.ProductOption;
+import com.groom.e_commerce.product.domain.entity.ProductOptionValue;
+import com.groom.e_commerce.product.domain.entity.ProductVariant;
+import com.groom.e_commerce.product.domain.enums.ProductSortType;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.domain.repository.CategoryRepository;
+import com.groom.e_commerce.product.infrastructure.cache.CategoryPathCache;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCacheKey;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCardCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductResponseCache;
+import com.groom.e_commerce.product.infrastructure.repository.ProductAggregateLoader;
+import com.groom.e_commerce.product.infrastructure.repository.ProductCountResolver;
+import com.groom.e_commerce.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.e_commerce.product.infrastructure.repository.TrigramSearchSupport;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
+import com.groom.e_commerce.review.domain.entity.ProductRatingEntity;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+/**
+ * 정렬/가격 구간 목록의 Redis 경로와 DB 경로 결과 비교 (PostgreSQL + Redis)
+ * 같은 데이터에 대해 페이지 내용/전체 개수가 같은지 확인
+ * - 정렬 인덱스 완전성 표시가 있을 때만 Redis 경로
+ * - 평점/가격 동점 순서 (Redis member 순서 = DB id 순서)
+ * - 가격 구간 결과 집합(ZRANGESTORE)과 DB listingPrice(옵션 상품은 Variant 최저가) 기준 일치
+ */
+@Tag("integration")
+class ProductSortedListParityTest {
+
+	private static final int PAGE_SIZE = 2;
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+	private static final List<ProductSortType> SORT_TYPES =
+		List.of(ProductSortType.PRICE_ASC, ProductSortType.PRICE_DESC, ProductSortType.RATING, ProductSortType.NEWEST);
+
+	private static PostgreSQLContainer<?> postgres;
+	private static GenericContainer<?> redis;
+	private static SessionFactory sessionFactory;
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+
+	private static CategoryPathCache categoryPathCache;
+	private static ProductListCacheService listCacheService;
+	private static ProductCountResolver countResolver;
+
+	private static Category clothing;
+	private static Category tops;
+	private static Category bags;
+	// 상품 제목 → ID
+	private static final Map<String, UUID> products = new HashMap<>();
+	// 상품 ID → 평점 (없으면 0)
+	private static final Map<UUID, Double> ratings = new HashMap<>();
+
+	// 마지막 조회에 사용한 리포지토리 (DB 경로 사용 여부 확인)
+	private ProductQueryRepository lastRepository;
+
+	@BeforeAll
+	static void setUp() {
+		postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+		postgres.start();
+		redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+		redis.start();
+
+		sessionFactory = new Configuration()
+			.addAnnotatedClass(Category.class)
+			.addAnnotatedClass(Product.class)
+			.addAnnotatedClass(ProductOption.class)
+			.addAnnotatedClass(ProductOptionValue.class)
+			.addAnnotatedClass(ProductVariant.class)
+			.addAnnotatedClass(ProductRatingEntity.class)
+			.setProperty("hibernate.connection.url", postgres.getJdbcUrl())
+			.setProperty("hibernate.connection.username", postgres.getUsername())
+			.setProperty("hibernate.connection.password", postgres.getPassword())
+			.setProperty("hibernate.hbm2ddl.auto", "create-drop")
+			.buildSessionFactory();
+
+		connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+
+		CategoryRepository categoryRepository = mock(CategoryRepository.class);
+		when(categoryRepository.findById(any())).thenAnswer(invocation -> sessionFactory.fromSession(
+			session -> Optional.ofNullable(session.get(Category.class, invocation.getArgument(0)))));
+		categoryPathCache = new CategoryPathCache(categoryRepository);
+		ReflectionTestUtils.setField(categoryPathCache, "ttlSeconds", 600L);
+
+		listCacheService = new ProductListCacheService(redisTemplate, categoryPathCache);
+		ReflectionTestUtils.setField(listCacheService, "filterResultTtlSeconds", 30L);
+		ReflectionTestUtils.setField(listCacheService, "recountGuardMs", 5_000L);
+		listCacheService.init();
+
+		countResolver = mock(ProductCountResolver.class);
+		when(countResolver.count(any(), any(), any()))
+			.thenAnswer(invocation -> invocation.<LongSupplier>getArgument(2).getAsLong());
+
+		sessionFactory.inTransaction(session -> {
+			clothing = Category.builder().name("의류").depth(1).sortOrder(1).build();
+			session.persist(clothing);
+			tops = Category.builder().parent(clothing).name("상의").depth(2).sortOrder(1).build();
+			session.persist(tops);
+			bags = Category.builder().name("가방").depth(1).sortOrder(2).build();
+			session.persist(bags);
+
+			// 가격 동점(A, B), 평점 동점(A, B, H), 등록 시각 동점(C, D / J, K), 평점 없음(0점)
+			save(session, tops, "A", 10_000L, 1, ProductStatus.ON_SALE, 4.5);
+			save(session, tops, "B", 10_000L, 2, ProductStatus.ON_SALE, 4.5);
+			save(session, tops, "C", 5_000L, 3, ProductStatus.ON_SALE, null);
+			// 옵션 상품: 목록 가격 = Variant 최저가 7,000 (상품 가격 30,000이 아님)
+			save(session, tops, "D", 30_000L, 3, ProductStatus.ON_SALE, 3.0, 7_000L, 15_000L);
+			// 옵션 상품이지만 Variant 없음: 목록 가격 = 상품 가격
+			saveOptionProductWithoutVariants(session, "E", 12_000L, 4);
+			save(session, tops, "F", 8_000L, 5, ProductStatus.SOLD_OUT, 5.0);
+			save(session, clothing, "H", 20_000L, 6, ProductStatus.ON_SALE, 4.5);
+			save(session, clothing, "I", 10_000L, 7, ProductStatus.ON_SALE, null);
+			save(session, bags, "J", 9_000L, 8, ProductStatus.ON_SALE, 2.0);
+			save(session, bags, "K", 10_000L, 8, ProductStatus.ON_SALE, null);
+		});
+
+		warmUp();
+	}
+
+	@AfterAll
+	static void tearDown() {
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+		if (redis != null) {
+			redis.stop();
+		}
+		if (postgres != null) {
+			postgres.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("정렬 인덱스 완전성 표시가 없으면 DB로, 있으면 Redis 정렬 인덱스로 응답한다")
+	void routes_by_sort_index_marker() {
+		Page<ResProductSearchDtoV1> fromDb = readFromDb(null, null, null, ProductSortType.PRICE_ASC, 0);
+		verify(lastRepository).searchProductsForBuyer(any(), any(), any(), any(), any(), any(), any());
+
+		Page<ResProductSearchDtoV1> fromRedis = readFromRedis(null, null, null, ProductSortType.PRICE_ASC, 0);
+		verify(lastRepository, never()).searchProductsForBuyer(any(), any(), any(), any(), any(), any(), any());
+
+		assertThat(productIds(fromRedis)).isEqualTo(productIds(fromDb));
+	}
+
+	@Test
+	@DisplayName("가격/평점 정렬은 전체/상위/하위/다른 카테고리에서 모든 페이지가 DB와 같다")
+	void sorted_pages_match_db() {
+		for (UUID categoryId : categoryIds()) {
+			for (ProductSortType sortType : List.of(
+				ProductSortType.PRICE_ASC, ProductSortType.PRICE_DESC, ProductSortType.RATING)) {
+				assertSamePages(categoryId, null, null, sortType);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("가격 구간은 모든 정렬에서 DB listingPrice 기준과 같은 결과/개수를 낸다")
+	void price_filtered_pages_match_db() {
+		List<Long[]> ranges = List.of(
+			new Long[] {7_000L, 10_000L},
+			new Long[] {null, 9_000L},
+			new Long[] {10_000L, null},
+			new Long[] {7_000L, 7_000L},
+			new Long[] {30_000L, null});
+		for (UUID categoryId : categoryIds()) {
+			for (Long[] range : ranges) {
+				for (ProductSortType sortType : SORT_TYPES) {
+					assertSamePages(categoryId, range[0], range[1], sortType);
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("옵션 상품은 Variant 최저가로 가격 구간에 포함되고 상품 가격으로는 포함되지 않는다")
+	void option_product_is_filtered_by_lowest_variant_price() {
+		for (ProductSortType sortType : SORT_TYPES) {
+			assertThat(productIds(readFromRedis(null, 7_000L, 7_000L, sortType, 0)))
+				.as("sort=%s", sortType)
+				.containsExactly(products.get("D"));
+			assertThat(readFromRedis(null, 30_000L, null, sortType, 0).getTotalElements()).isZero();
+		}
+		// Variant 없는 옵션 상품은 상품 가격
+		assertThat(productIds(readFromRedis(tops.getId(), 12_000L, 12_000L, ProductSortType.RATING, 0)))
+			.containsExactly(products.get("E"));
+	}
+
+	@Test
+	@DisplayName("평점 동점과 평점 없는(0점) 상품은 id 내림차순, 가격 동점은 오름차순이면 id 오름차순이다")
+	void ties_follow_id_order() {
+		List<UUID> expected = ids("A", "B", "C", "D", "E", "H", "I").stream()
+			.sorted(Comparator.<UUID>comparingDouble(id -> ratings.getOrDefault(id, 0.0))
+				.thenComparing(UUID::toString)
+				.reversed())
+			.toList();
+
+		assertThat(allPages(clothing.getId(), null, null, ProductSortType.RATING)).isEqualTo(expected);
+
+		Comparator<UUID> byId = Comparator.comparing(UUID::toString);
+		assertThat(allPages(clothing.getId(), 10_000L, 10_000L, ProductSortType.PRICE_ASC))
+			.isEqualTo(ids("A", "B", "I").stream().sorted(byId).toList());
+		assertThat(allPages(clothing.getId(), 10_000L, 10_000L, ProductSortType.PRICE_DESC))
+			.isEqualTo(ids("A", "B", "I").stream().sorted(byId.reversed()).toList());
+	}
+
+	/**
+	 * 첫 페이지부터 마지막 페이지(+ 빈 다음 페이지)까지 Redis 경로와 DB 경로 비교
+	 */
+	private void assertSamePages(UUID categoryId, Long minPrice, Long maxPrice, ProductSortType sortType) {
+		String description = String.format("category=%s, price=[%s, %s], sort=%s",
+			categoryName(categoryId), minPrice, maxPrice, sortType);
+		int totalPages = readFromDb(categoryId, minPrice, maxPrice, sortType, 0).getTotalPages();
+		for (int page = 0; page <= totalPages; page++) {
+			Page<ResProductSearchDtoV1> fromDb = readFromDb(categoryId, minPrice, maxPrice, sortType, page);
+			Page<ResProductSearchDtoV1> fromRedis = readFromRedis(categoryId, minPrice, maxPrice, sortType, page);
+
+			assertThat(productIds(fromRedis)).as("%s, page=%d", description, page).isEqualTo(productIds(fromDb));
+			assertThat(fromRedis.getTotalElements()).as("%s, total", description)
+				.isEqualTo(fromDb.getTotalElements());
+		}
+	}
+
+	private List<UUID> allPages(UUID categoryId, Long minPrice, Long maxPrice, ProductSortType sortType) {
+		List<UUID> productIds = new ArrayList<>();
+		Page<ResProductSearchDtoV1> page = readFromRedis(categoryId, minPrice, maxPrice, sortType, 0);
+		productIds.addAll(productIds(page));
+		while (page.hasNext()) {
+			page = readFromRedis(categoryId, minPrice, maxPrice, sortType, page.getNumber() + 1);
+			productIds.addAll(productIds(page));
+		}
+		assertThat(productIds).isEqualTo(allPagesFromDb(categoryId, minPrice, maxPrice, sortType));
+		return productIds;
+	}
+
+	private List<UUID> allPagesFromDb(UUID categoryId, Long minPrice, Long maxPrice, ProductSortType sortType) {
+		List<UUID> productIds = new ArrayList<>();
+		Page<ResProductSearchDtoV1> page;
+		int number = 0;
+		do {
+			page = readFromDb(categoryId, minPrice, maxPrice, sortType, number++);
+			productIds.addAll(productIds(page));
+		} while (page.hasNext());
+		return productIds;
+	}
+
+	private Page<ResProductSearchDtoV1> readFromRedis(UUID categoryId, Long minPrice, Long maxPrice,
+		ProductSortType sortType, int page) {
+		Page<ResProductSearchDtoV1> result = read(categoryId, minPrice, maxPrice, sortType, page);
+		verify(lastRepository, never()).searchProductsForBuyer(any(), any(), any(), any(), any(), any(), any());
+		return result;
+	}
+
+	/**
+	 * 완전성 표시를 잠시 지우고 조회 (DB 경로)
+	 */
+	private Page<ResProductSearchDtoV1> readFromDb(UUID categoryId, Long minPrice, Long maxPrice,
+		ProductSortType sortType, int page) {
+		redisTemplate.delete(ProductCacheKey.productSortIndexComplete());
+		try {
+			return read(categoryId, minPrice, maxPrice, sortType, page);
+		} finally {
+			listCacheService.markSortIndexComplete();
+		}
+	}
+
+	private Page<ResProductSearchDtoV1> read(UUID categoryId, Long minPrice, Long maxPrice,
+		ProductSortType sortType, int page) {
+		return sessionFactory.fromTransaction(session -> {
+			JPAQueryFactory queryFactory = new JPAQueryFactory(session);
+			lastRepository = spy(new ProductQueryRepository(queryFactory, categoryPathCache, countResolver,
+				new TrigramSearchSupport()));
+			// 카드 캐시는 비워 두어 Redis 경로도 DB 상세로 카드를 채움 (순서/개수만 비교)
+			ProductReadService productReadService = new ProductReadService(listCacheService,
+				mock(ProductDetailCacheService.class), mock(ProductCardCacheService.class), lastRepository,
+				new ProductAggregateLoader(queryFactory), mock(SingleFlightLoader.class),
+				mock(ProductResponseCache.class), mock(ProductHotPageService.class), mock(ProductListPrefetcher.class),
+				new ObjectMapper());
+			return productReadService.getSortedProductList(categoryId, minPrice, maxPrice, sortType,
+				PageRequest.of(page, PAGE_SIZE));
+		});
+	}
+
+	/**
+	 * Warm-up과 같은 순서로 적재 (평점 Hash → 판매중 상품 목록/정렬 인덱스 → 완전성 표시)
+	 */
+	private static void warmUp() {
+		redisTemplate.execute(connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		}, true);
+		sessionFactory.inTransaction(session -> {
+			List<Product> loaded = new ProductAggregateLoader(new JPAQueryFactory(session))
+				.loadAll(List.copyOf(products.values()));
+			listCacheService.putRatings(ratings);
+			listCacheService.addProducts(loaded.stream().filter(ProductListCacheService::isListable).toList());
+		});
+		listCacheService.markSortIndexComplete();
+	}
+
+	private static void save(Session session, Category category, String title, long price, int createdSecond,
+		ProductStatus status, Double rating, Long... variantPrices) {
+		Product product = Product.builder()
+			.ownerId(UUID.randomUUID())
+			.category(session.getReference(Category.class, category.getId()))
+			.title(title)
+			.price(price)
+			.hasOptions(variantPrices.length > 0)
+			.stockQuantity(variantPrices.length > 0 ? null : 10)
+			.build();
+		Arrays.stream(variantPrices).forEach(variantPrice -> product.addVariant(ProductVariant.builder()
+			.product(product)
+			.skuCode(UUID.randomUUID().toString().substring(0, 20))
+			.optionName(title + " " + variantPrice)
+			.price(variantPrice)
+			.stockQuantity(5)
+			.build()));
+		persist(session, product, title, createdSecond, status, rating);
+	}
+
+	private static void saveOptionProductWithoutVariants(Session session, String title, long price,
+		int createdSecond) {
+		Product product = Product.builder()
+			.ownerId(UUID.randomUUID())
+			.category(session.getReference(Category.class, tops.getId()))
+			.title(title)
+			.price(price)
+			.hasOptions(true)
+			.build();
+		persist(session, product, title, createdSecond, ProductStatus.ON_SALE, null);
+	}
+
+	private static void persist(Session session, Product product, String title, int createdSecond,
+		ProductStatus status, Double rating) {
+		// 감사 리스너 없이 저장하므로 등록 시각을 직접 지정
+		ReflectionTestUtils.setField(product, "createdAt", BASE_TIME.plusSeconds(createdSecond));
+		product.updateStatus(status);
+		session.persist(product);
+		products.put(title, product.getId());
+
+		if (rating != null) {
+			ProductRatingEntity ratingEntity = new ProductRatingEntity(product.getId());
+			ReflectionTestUtils.setField(ratingEntity, "avgRating", rating);
+			session.persist(ratingEntity);
+			ratings.put(product.getId(), rating);
+		}
+	}
+
+	private static List<UUID> categoryIds() {
+		return Arrays.asList(null, clothing.getId(), tops.getId(), bags.getId());
+	}
+
+	private static String categoryName(UUID categoryId) {
+		if (categoryId == null) {
+			return "전체";
+		}
+		return categoryId.equals(clothing.getId()) ? "의류" : categoryId.equals(tops.getId()) ? "상의" : "가방";
+	}
+
+	private static List<UUID> ids(String... titles) {
+		return Arrays.stream(titles).map(products::get).toList();
+	}
+
+	private static List<UUID> productIds(Page<ResProductSearchDtoV1> page) {
+		return page.map(ResProductSearchDtoV1::getProductId).getContent();
+	}
+}
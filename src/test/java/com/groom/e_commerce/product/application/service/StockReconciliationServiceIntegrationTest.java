@@ -0,0 +1,248 @@
+package com.groom.e_commerce.product.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.e_commerce.product.application.dto.StockManagement;
+import com.groom.e_commerce.product.infrastructure.cache.StockCacheKey;
+import com.groom.e_commerce.product.infrastructure.cache.StockRedisService;
+import com.groom.e_commerce.product.infrastructure.repository.ProductStockJdbcRepository;
+import com.groom.e_commerce.product.presentation.dto.response.ResStockReconciliationDto;
+import com.groom.e_commerce.product.presentation.dto.response.ResStockReconciliationDto.DriftEntry;
+import com.groom.e_commerce.product.presentation.dto.response.ResStockReconciliationDto.DriftType;
+
+/**
+ * 재고 정합성 검증 서비스 (실제 Redis + DB 재고는 리포지토리 대역)
+ * Drift 리포트, 보정 허용 범위, DB 확정 중인 SKU 건너뜀, lease 전략 보정 금지 확인
+ */
+@Tag("integration")
+@Testcontainers
+class StockReconciliationServiceIntegrationTest {
+
+	private static final long MAX_CORRECTION = 5;
+
+	@Container
+	static final GenericContainer<?> REDIS_CONTAINER =
+		new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private StockRedisService stockRedisService;
+	private ProductStockJdbcRepository productStockJdbcRepository;
+	private StockReconciliationService reconciliationService;
+
+	// DB 재고 (상품 ID → 재고, 옵션 없는 상품만)
+	private final Map<UUID, Integer> dbStocks = new LinkedHashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory(REDIS_CONTAINER.getHost(), REDIS_CONTAINER.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.execute(connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		}, true);
+
+		stockRedisService = new StockRedisService(redisTemplate, new ObjectMapper());
+		stockRedisService.init();
+
+		productStockJdbcRepository = mock(ProductStockJdbcRepository.class);
+		when(productStockJdbcRepository.findProductStocksAfter(eq(ProductStockJdbcRepository.FIRST_KEY), anyInt()))
+			.thenAnswer(invocation -> dbStocks.entrySet().stream()
+				.map(entry -> StockManagement.of(entry.getKey(), null, entry.getValue()))
+				.toList());
+		when(productStockJdbcRepository.findStock(any(), isNull()))
+			.thenAnswer(invocation -> dbStocks.get(invocation.<UUID>getArgument(0)));
+		when(productStockJdbcRepository.findExistingStockProductIds(anyList()))
+			.thenAnswer(invocation -> invocation.<List<UUID>>getArgument(0).stream()
+				.filter(dbStocks::containsKey)
+				.toList());
+
+		reconciliationService = new StockReconciliationService(productStockJdbcRepository, stockRedisService);
+		ReflectionTestUtils.setField(reconciliationService, "pageSize", 100);
+		ReflectionTestUtils.setField(reconciliationService, "autoCorrect", false);
+		ReflectionTestUtils.setField(reconciliationService, "maxCorrection", MAX_CORRECTION);
+		ReflectionTestUtils.setField(reconciliationService, "maxReportEntries", 10);
+		ReflectionTestUtils.setField(reconciliationService, "reservationStrategy", "redis");
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	@DisplayName("Drift/누락/고아 키를 리포트하고 Drift가 큰 순으로 정렬한다")
+	void reports_drift_missing_and_orphan_keys() {
+		UUID small = product(10, 8);
+		UUID large = product(10, 30);
+		UUID missing = product(10, null);
+		UUID matched = product(10, 10);
+		UUID orphan = UUID.randomUUID();
+		redisTemplate.opsForValue().set(StockCacheKey.productStock(orphan), "3");
+
+		ResStockReconciliationDto report = reconcile(false);
+
+		assertThat(report.getScannedSkus()).isEqualTo(4);
+		assertThat(report.getScannedRedisKeys()).isEqualTo(4);
+		assertThat(report.getDriftCount()).isEqualTo(2);
+		assertThat(report.getMissingCount()).isEqualTo(1);
+		assertThat(report.getOrphanCount()).isEqualTo(1);
+		assertThat(report.getCorrectedCount()).isZero();
+		assertThat(report.getTotalAbsoluteDrift()).isEqualTo(2 + 20);
+
+		// 누락/고아가 먼저, 그다음 Drift 크기 순
+		List<DriftEntry> drifts = report.getDrifts();
+		assertThat(drifts).hasSize(4);
+		assertThat(drifts.subList(0, 2)).extracting(DriftEntry::getType)
+			.containsExactlyInAnyOrder(DriftType.MISSING, DriftType.ORPHAN);
+		assertThat(drifts.get(2).getProductId()).isEqualTo(large);
+		assertThat(drifts.get(2).getDrift()).isEqualTo(20L);
+		assertThat(drifts.get(3).getProductId()).isEqualTo(small);
+		assertThat(drifts.get(3).getDrift()).isEqualTo(-2L);
+		assertThat(drifts).extracting(DriftEntry::getProductId).doesNotContain(matched);
+
+		// 리포트만 하고 값은 그대로
+		assertThat(redisStock(small)).isEqualTo("8");
+		assertThat(redisStock(missing)).isNull();
+	}
+
+	@Test
+	@DisplayName("미확정 가점유 수량만큼 줄어든 Redis 재고는 Drift가 아니다")
+	void pending_reservations_are_expected() {
+		UUID productId = product(10, 10);
+		stockRedisService.reserveAll(UUID.randomUUID(), List.of(StockManagement.of(productId, null, 4)));
+
+		ResStockReconciliationDto report = reconcile(true);
+
+		assertThat(report.getDriftCount()).isZero();
+		assertThat(redisStock(productId)).isEqualTo("6");
+	}
+
+	@Test
+	@DisplayName("허용 범위 이하 Drift만 보정하고, 범위를 넘으면 리포트만 한다")
+	void corrects_only_within_tolerance() {
+		UUID within = product(10, 10 + MAX_CORRECTION);
+		UUID beyond = product(10, 10 + MAX_CORRECTION + 1);
+		UUID missing = product(7, null);
+
+		ResStockReconciliationDto report = reconcile(true);
+
+		assertThat(report.isAutoCorrect()).isTrue();
+		assertThat(report.getCorrectedCount()).isEqualTo(2);
+		assertThat(redisStock(within)).isEqualTo("10");
+		assertThat(redisStock(beyond)).isEqualTo(String.valueOf(10 + MAX_CORRECTION + 1));
+		// 키 누락은 범위와 무관하게 생성
+		assertThat(redisStock(missing)).isEqualTo("7");
+		assertThat(report.getDrifts())
+			.filteredOn(entry -> entry.getProductId().equals(beyond))
+			.singleElement()
+			.satisfies(entry -> assertThat(entry.isCorrected()).isFalse());
+	}
+
+	@Test
+	@DisplayName("보정 직전에 DB 재고를 다시 읽어 페이지 이후의 확정 차감을 반영한다")
+	void correction_uses_reread_db_stock() {
+		UUID productId = product(10, 12);
+		when(productStockJdbcRepository.findStock(productId, null)).thenReturn(9);
+
+		reconcile(true);
+
+		assertThat(redisStock(productId)).isEqualTo("9");
+	}
+
+	@Test
+	@DisplayName("DB 확정 중인 SKU는 Drift가 있어도 보정하지 않는다")
+	void skips_skus_being_confirmed() {
+		UUID productId = product(10, 10);
+		UUID orderId = UUID.randomUUID();
+		stockRedisService.reserveAll(orderId, List.of(StockManagement.of(productId, null, 3)));
+		assertThat(stockRedisService.holdReservation(orderId)).isTrue();
+		// DB 확정 차감은 커밋됐지만 가점유 확정(미확정 수량 감소)은 아직인 구간
+		dbStocks.put(productId, 7);
+
+		ResStockReconciliationDto report = reconcile(true);
+
+		assertThat(report.getDriftCount()).isEqualTo(1);
+		assertThat(report.getCorrectedCount()).isZero();
+		assertThat(redisStock(productId)).isEqualTo("7");
+
+		// 확정이 끝나면 기대값과 일치
+		assertThat(stockRedisService.commitReservation(orderId)).isTrue();
+		assertThat(reconcile(true).getDriftCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("샤드 재고 모드 SKU는 샤드 합계로 비교하고 보정하지 않는다")
+	void sharded_skus_are_report_only() {
+		UUID productId = product(10, 12);
+		stockRedisService.changeShardCount(productId, null, 4);
+
+		ResStockReconciliationDto report = reconcile(true);
+
+		assertThat(report.getDriftCount()).isEqualTo(1);
+		assertThat(report.getCorrectedCount()).isZero();
+		assertThat(stockRedisService.getShardedStock(StockCacheKey.productStock(productId))).isEqualTo(12L);
+	}
+
+	@Test
+	@DisplayName("lease 전략에서는 보정을 요청해도 리포트만 한다")
+	void lease_strategy_never_corrects() {
+		ReflectionTestUtils.setField(reconciliationService, "reservationStrategy", "lease");
+		UUID productId = product(10, 12);
+		UUID missing = product(10, null);
+
+		ResStockReconciliationDto report = reconcile(true);
+
+		assertThat(report.isAutoCorrect()).isFalse();
+		assertThat(report.getDriftCount()).isEqualTo(1);
+		assertThat(report.getMissingCount()).isEqualTo(1);
+		assertThat(report.getCorrectedCount()).isZero();
+		assertThat(redisStock(productId)).isEqualTo("12");
+		assertThat(redisStock(missing)).isNull();
+	}
+
+	private ResStockReconciliationDto reconcile(boolean correct) {
+		assertThat(reconciliationService.reconcile(correct)).isTrue();
+		return reconciliationService.getLastReport();
+	}
+
+	/**
+	 * @param redisStock Redis 재고 (null이면 키 없음)
+	 */
+	private UUID product(int dbStock, Integer redisStock) {
+		UUID productId = UUID.randomUUID();
+		dbStocks.put(productId, dbStock);
+		if (redisStock != null) {
+			redisTemplate.opsForValue().set(StockCacheKey.productStock(productId), String.valueOf(redisStock));
+		}
+		return productId;
+	}
+
+	private String redisStock(UUID productId) {
+		return redisTemplate.opsForValue().get(StockCacheKey.productStock(productId));
+	}
+}
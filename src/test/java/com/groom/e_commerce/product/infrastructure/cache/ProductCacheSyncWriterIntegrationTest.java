@@ -0,0 +1,406 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService.SyncState;
+
+/**
+ * 상품 변경 동기화 쓰기 (실제 Redis - 상세 기록/개수 증감 스크립트 + 목록 인덱스 + 앞쪽 페이지 무효화)
+ * 판매중/품절 전환, 카테고리 이동, 삭제, 마커 없는 상품, 재계산 직후 동기화, NOSCRIPT 재로드,
+ * 개수 스크립트 결과 위치(앞쪽 페이지 명령 직전) 확인
+ */
+@Tag("integration")
+@Testcontainers
+class ProductCacheSyncWriterIntegrationTest {
+
+	@Container
+	static final GenericContainer<?> REDIS_CONTAINER =
+		new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private RedisTemplate<String, byte[]> bytesRedisTemplate;
+	private ProductListCacheService listCacheService;
+	private ProductDetailCacheService detailCacheService;
+	private ProductHotPageCacheService hotPageCacheService;
+	private ProductCacheSyncWriter syncWriter;
+
+	// 의류 > 상의, 가방
+	private Category clothing;
+	private Category tops;
+	private Category bags;
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory(REDIS_CONTAINER.getHost(), REDIS_CONTAINER.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.execute(connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		}, true);
+
+		bytesRedisTemplate = new RedisTemplate<>();
+		bytesRedisTemplate.setConnectionFactory(connectionFactory);
+		bytesRedisTemplate.setKeySerializer(new StringRedisSerializer());
+		bytesRedisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		bytesRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		bytesRedisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+		bytesRedisTemplate.afterPropertiesSet();
+
+		clothing = category("의류", null);
+		tops = category("상의", clothing);
+		bags = category("가방", null);
+		CategoryPathCache categoryPathCache = mock(CategoryPathCache.class);
+		when(categoryPathCache.lineage(clothing.getId())).thenReturn(List.of(clothing.getId()));
+		when(categoryPathCache.lineage(tops.getId())).thenReturn(List.of(tops.getId(), clothing.getId()));
+		when(categoryPathCache.lineage(bags.getId())).thenReturn(List.of(bags.getId()));
+
+		listCacheService = new ProductListCacheService(redisTemplate, categoryPathCache);
+		ReflectionTestUtils.setField(listCacheService, "filterResultTtlSeconds", 30L);
+		ReflectionTestUtils.setField(listCacheService, "recountGuardMs", 5_000L);
+		listCacheService.init();
+
+		BinaryProductDetailCodec codec = new BinaryProductDetailCodec(1024);
+		ProductDetailSerializer serializer = new ProductDetailSerializer(List.of(codec));
+		ReflectionTestUtils.setField(serializer, "writeFormat", codec.format());
+		serializer.init();
+		detailCacheService = new ProductDetailCacheService(bytesRedisTemplate, serializer, new ProductCardCodec(),
+			mock(ProductDetailLocalCache.class), mock(ProductResponseCache.class),
+			mock(ProductCacheInvalidationBroadcaster.class));
+		ReflectionTestUtils.setField(detailCacheService, "negativeEnabled", true);
+		ReflectionTestUtils.setField(detailCacheService, "negativeTtlSeconds", 30L);
+		ReflectionTestUtils.setField(detailCacheService, "generationTtlSeconds", 3_600L);
+		detailCacheService.init();
+
+		hotPageCacheService = new ProductHotPageCacheService(bytesRedisTemplate, new ProductCardCodec(),
+			mock(ProductCardCacheService.class), listCacheService, categoryPathCache);
+		ReflectionTestUtils.setField(hotPageCacheService, "enabled", true);
+		ReflectionTestUtils.setField(hotPageCacheService, "pages", 3);
+		ReflectionTestUtils.setField(hotPageCacheService, "pageSize", 20);
+		hotPageCacheService.init();
+
+		syncWriter = new ProductCacheSyncWriter(redisTemplate, listCacheService, detailCacheService,
+			hotPageCacheService);
+
+		// 적재된 판매중 개수 (상의 5, 의류 7, 가방 3, 전체 10)
+		setCount(tops.getId(), 5);
+		setCount(clothing.getId(), 7);
+		setCount(bags.getId(), 3);
+		setCount(null, 10);
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	@DisplayName("등록 → 품절 → 판매 재개: 계보 개수를 증감하고 목록에서 빠졌다 다시 들어가며 상세는 유지된다")
+	void on_sale_to_sold_out_and_back() {
+		Product product = product(tops, ProductStatus.ON_SALE);
+
+		assertThat(sync(product, Set.of(), true)).isTrue();
+		assertCounts(6, 8, 3, 11);
+		assertThat(marker(product)).isEqualTo(tops.getId().toString());
+		assertListed(product, tops, clothing, null);
+
+		product.updateStatus(ProductStatus.SOLD_OUT);
+		assertThat(sync(product, Set.of(), false)).isTrue();
+		assertCounts(5, 7, 3, 10);
+		assertThat(marker(product)).isEqualTo("-");
+		assertNotListed(product, tops, clothing, null);
+		// 품절 상품도 상세/카드는 조회 가능
+		assertThat(detail(product).getStatus()).isEqualTo(ProductStatus.SOLD_OUT);
+		assertThat(redisTemplate.hasKey(ProductCacheKey.productCard(product.getId()))).isTrue();
+
+		product.updateStatus(ProductStatus.ON_SALE);
+		assertThat(sync(product, Set.of(), false)).isTrue();
+		assertCounts(6, 8, 3, 11);
+		assertListed(product, tops, clothing, null);
+	}
+
+	@Test
+	@DisplayName("카테고리 이동: 이전 계보에만 있는 키는 감소, 새 계보에만 있는 키는 증가, 전체는 그대로")
+	void category_move_shifts_only_non_shared_counts() {
+		Product product = product(tops, ProductStatus.ON_SALE);
+		sync(product, Set.of(), true);
+
+		product.update(bags, null, null, null, null, null, null);
+		assertThat(sync(product, Set.of(tops.getId()), false)).isTrue();
+
+		assertCounts(5, 7, 4, 11);
+		assertThat(marker(product)).isEqualTo(bags.getId().toString());
+		assertNotListed(product, tops, clothing);
+		assertListed(product, bags, null);
+		assertThat(detail(product).getCategoryId()).isEqualTo(bags.getId());
+	}
+
+	@Test
+	@DisplayName("삭제: 개수 감소, 마커/평점 field 삭제, 상세/카드 삭제 + 조회 불가 표시")
+	void delete_removes_marker_detail_and_count() {
+		Product product = product(tops, ProductStatus.ON_SALE);
+		sync(product, Set.of(), true);
+		redisTemplate.opsForHash().put(ProductCacheKey.productRatingScores(), product.getId().toString(), "4.5");
+
+		product.softDelete(UUID.randomUUID());
+		assertThat(sync(product, Set.of(), false)).isTrue();
+
+		assertCounts(5, 7, 3, 10);
+		assertThat(marker(product)).isNull();
+		assertThat(redisTemplate.opsForHash().hasKey(ProductCacheKey.productRatingScores(), product.getId().toString()))
+			.isFalse();
+		assertNotListed(product, tops, clothing, null);
+		assertThat(detail(product)).isNull();
+		assertThat(redisTemplate.hasKey(ProductCacheKey.productCard(product.getId()))).isFalse();
+		assertThat(redisTemplate.hasKey(ProductCacheKey.productDetailMissing(product.getId()))).isTrue();
+	}
+
+	@Test
+	@DisplayName("마커 없는 상품: 신규 등록이면 증가, 기존 상품이면 집계 여부를 몰라 계보 개수 키를 삭제")
+	void product_without_marker() {
+		Product created = product(tops, ProductStatus.ON_SALE);
+		assertThat(sync(created, Set.of(), true)).isTrue();
+		assertCounts(6, 8, 3, 11);
+
+		// 신규 등록이지만 판매중이 아니면 미집계 마커만 기록
+		Product hidden = product(bags, ProductStatus.HIDDEN);
+		assertThat(sync(hidden, Set.of(), true)).isTrue();
+		assertCounts(6, 8, 3, 11);
+		assertThat(marker(hidden)).isEqualTo("-");
+
+		// 마커 도입 전 상품 (기존 상품 + 마커 없음)
+		Product legacy = product(tops, ProductStatus.ON_SALE);
+		assertThat(sync(legacy, Set.of(), false)).isTrue();
+		assertThat(count(tops.getId())).isNull();
+		assertThat(count(clothing.getId())).isNull();
+		assertThat(count(null)).isNull();
+		assertThat(count(bags.getId())).isEqualTo("3");
+		assertThat(marker(legacy)).isEqualTo(tops.getId().toString());
+	}
+
+	@Test
+	@DisplayName("재계산 표시가 있는 개수 키는 증감 대신 삭제한다 (재계산 값에 이미 포함되었을 수 있는 변경)")
+	void recount_guard_deletes_instead_of_adjusting() {
+		Product product = product(tops, ProductStatus.ON_SALE);
+		sync(product, Set.of(), true);
+
+		// 커밋 후 동기화 전에 상의 개수를 DB로 다시 셈 (품절 반영 후 값)
+		listCacheService.setTotalCount(tops.getId(), 5);
+		product.updateStatus(ProductStatus.SOLD_OUT);
+		assertThat(sync(product, Set.of(), false)).isTrue();
+
+		assertThat(count(tops.getId())).isNull();
+		assertThat(count(clothing.getId())).isEqualTo("7");
+		assertThat(count(null)).isEqualTo("10");
+		assertThat(marker(product)).isEqualTo("-");
+	}
+
+	@Test
+	@DisplayName("마커를 읽은 뒤 다른 동기화가 먼저 반영되면 false를 반환하고 개수/마커를 건드리지 않는다")
+	void concurrent_sync_fails_marker_cas() {
+		Product product = product(tops, ProductStatus.ON_SALE);
+		SyncState before = listCacheService.readSyncStates(List.of(product.getId())).get(0);
+		long generation = generation(product);
+
+		// 먼저 도착한 동기화
+		sync(product, Set.of(), true);
+		assertCounts(6, 8, 3, 11);
+
+		// 늦은 동기화: 세대는 새로 읽어 상세 기록은 통과, 마커 CAS만 실패
+		product.updateStatus(ProductStatus.SOLD_OUT);
+		assertThat(write(product, Set.of(), before, generation(product), true)).isFalse();
+		assertCounts(6, 8, 3, 11);
+		assertThat(marker(product)).isEqualTo(tops.getId().toString());
+
+		// 상세 세대가 바뀐 경우도 false (개수는 반영 - 재시도는 새 마커 기준이라 다시 증감하지 않음)
+		assertThat(write(product, Set.of(), state(product), generation, false)).isFalse();
+		assertThat(sync(product, Set.of(), false)).isTrue();
+		assertCounts(5, 7, 3, 10);
+		assertThat(detail(product).getStatus()).isEqualTo(ProductStatus.SOLD_OUT);
+	}
+
+	@Test
+	@DisplayName("스크립트가 없으면(NOSCRIPT) 로드 후 다시 보내고, 개수는 한 번만 반영된다")
+	void reloads_scripts_on_noscript() {
+		Product product = product(tops, ProductStatus.ON_SALE);
+		redisTemplate.execute(connection -> {
+			connection.scriptingCommands().scriptFlush();
+			return null;
+		}, true);
+
+		assertThat(sync(product, Set.of(), true)).isTrue();
+
+		assertCounts(6, 8, 3, 11);
+		assertThat(detail(product)).isNotNull();
+		assertThat(marker(product)).isEqualTo(tops.getId().toString());
+
+		// 로드된 스크립트로 다음 동기화는 바로 반영
+		product.updateStatus(ProductStatus.SOLD_OUT);
+		assertThat(sync(product, Set.of(), false)).isTrue();
+		assertCounts(5, 7, 3, 10);
+	}
+
+	@Test
+	@DisplayName("개수 스크립트 결과는 앞쪽 페이지 명령 바로 앞에서 읽는다 (무효화 명령 수와 무관)")
+	void count_result_is_read_before_hot_page_commands() {
+		Product product = product(tops, ProductStatus.ON_SALE);
+		SyncState stale = state(product);
+		sync(product, Set.of(), true);
+		bytesRedisTemplate.opsForHash().put(ProductCacheKey.productHotPage(tops.getId()), "0:20", bytes("page"));
+		long version = hotPageVersion(tops.getId());
+
+		// 앞쪽 페이지 명령(DEL + INCR × 3 카테고리)의 결과는 양수 → 위치가 어긋나면 실패를 성공으로 읽음
+		product.updateStatus(ProductStatus.SOLD_OUT);
+		Set<UUID> affected = hotPageCacheService.affectedCategories(List.of(tops.getId()));
+		assertThat(affected).hasSize(3);
+		assertThat(syncWriter.write(product.getId(), product, CachedProductDetail.from(product), generation(product),
+			Set.of(), stale, false, affected)).isFalse();
+
+		// 개수 스크립트 뒤에 보낸 무효화는 CAS 실패와 관계없이 실행됨
+		assertThat(bytesRedisTemplate.hasKey(ProductCacheKey.productHotPage(tops.getId()))).isFalse();
+		assertThat(hotPageVersion(tops.getId())).isEqualTo(version + 1);
+		assertCounts(6, 8, 3, 11);
+
+		// 앞쪽 페이지 비활성(무효화 명령 0개)이어도 같은 위치
+		ReflectionTestUtils.setField(hotPageCacheService, "enabled", false);
+		assertThat(syncWriter.write(product.getId(), product, CachedProductDetail.from(product), generation(product),
+			Set.of(), stale, false, affected)).isFalse();
+		assertThat(syncWriter.write(product.getId(), product, CachedProductDetail.from(product), generation(product),
+			Set.of(), state(product), false, affected)).isTrue();
+		assertCounts(5, 7, 3, 10);
+	}
+
+	/**
+	 * 변경 동기화(ProductCacheSyncService.sync)와 같은 순서: 세대 → (DB 조회) → 마커 → 기록
+	 */
+	private boolean sync(Product product, Set<UUID> staleCategoryIds, boolean created) {
+		long generation = generation(product);
+		return write(product, staleCategoryIds, state(product), generation, created);
+	}
+
+	private boolean write(Product product, Set<UUID> staleCategoryIds, SyncState state, long generation,
+		boolean created) {
+		CachedProductDetail detail = ProductDetailCacheService.isCacheable(product)
+			? CachedProductDetail.from(product) : null;
+		List<UUID> categoryIds = new ArrayList<>(staleCategoryIds);
+		categoryIds.add(product.getCategory().getId());
+		categoryIds.add(state.countedCategoryId());
+		return syncWriter.write(product.getId(), product, detail, generation, staleCategoryIds, state, created,
+			hotPageCacheService.affectedCategories(categoryIds));
+	}
+
+	private SyncState state(Product product) {
+		return listCacheService.readSyncStates(List.of(product.getId())).get(0);
+	}
+
+	private long generation(Product product) {
+		return detailCacheService.readGenerations(List.of(product.getId())).get(product.getId());
+	}
+
+	private Category category(String name, Category parent) {
+		Category category = Category.builder()
+			.parent(parent)
+			.name(name)
+			.depth(parent == null ? 1 : 2)
+			.sortOrder(1)
+			.build();
+		ReflectionTestUtils.setField(category, "id", UUID.randomUUID());
+		return category;
+	}
+
+	private Product product(Category category, ProductStatus status) {
+		Product product = Product.builder()
+			.ownerId(UUID.randomUUID())
+			.category(category)
+			.title("상품")
+			.price(10_000L)
+			.stockQuantity(5)
+			.build();
+		product.updateStatus(status);
+		ReflectionTestUtils.setField(product, "id", UUID.randomUUID());
+		ReflectionTestUtils.setField(product, "createdAt", LocalDateTime.now());
+		return product;
+	}
+
+	private void setCount(UUID categoryId, long count) {
+		redisTemplate.opsForValue().set(ProductCacheKey.productCount(categoryId), String.valueOf(count));
+	}
+
+	private String count(UUID categoryId) {
+		return redisTemplate.opsForValue().get(ProductCacheKey.productCount(categoryId));
+	}
+
+	private void assertCounts(long topsCount, long clothingCount, long bagsCount, long allCount) {
+		assertThat(List.of(count(tops.getId()), count(clothing.getId()), count(bags.getId()), count(null)))
+			.containsExactly(String.valueOf(topsCount), String.valueOf(clothingCount), String.valueOf(bagsCount),
+				String.valueOf(allCount));
+	}
+
+	private String marker(Product product) {
+		Object marker = redisTemplate.opsForHash().get(ProductCacheKey.productCountMember(), product.getId().toString());
+		return marker != null ? marker.toString() : null;
+	}
+
+	private CachedProductDetail detail(Product product) {
+		return detailCacheService.get(product.getId());
+	}
+
+	private long hotPageVersion(UUID categoryId) {
+		String version = redisTemplate.opsForValue().get(ProductCacheKey.productHotPageVersion(categoryId));
+		return version != null ? Long.parseLong(version) : 0;
+	}
+
+	private void assertListed(Product product, Category... categories) {
+		for (Category category : categories) {
+			UUID categoryId = category != null ? category.getId() : null;
+			assertThat(redisTemplate.opsForZSet().score(ProductCacheKey.productList(categoryId),
+				product.getId().toString())).isNotNull();
+			assertThat(redisTemplate.opsForZSet().score(ProductCacheKey.productPriceIndex(categoryId),
+				product.getId().toString())).isEqualTo(10_000d);
+		}
+	}
+
+	private void assertNotListed(Product product, Category... categories) {
+		for (Category category : categories) {
+			UUID categoryId = category != null ? category.getId() : null;
+			assertThat(redisTemplate.opsForZSet().score(ProductCacheKey.productList(categoryId),
+				product.getId().toString())).isNull();
+			assertThat(redisTemplate.opsForZSet().score(ProductCacheKey.productRatingIndex(categoryId),
+				product.getId().toString())).isNull();
+		}
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,81 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.groom.e_commerce.global.infrastructure.redis.RedisSerializerConfig;
+
+/**
+ * 상품 상세 캐시 포맷 비교 (항목당 바이트, 인코딩/디코딩 시간)
+ *
+ * 기본 test 태스크에서는 제외 — ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+class ProductDetailCodecBenchmarkTest {
+
+	private static final int WARM_UP_ROUNDS = 20_000;
+	private static final int MEASURE_ROUNDS = 50_000;
+
+	@Test
+	@DisplayName("json vs binary vs binary+deflate")
+	void compare_codecs() {
+		List<ProductDetailCodec> codecs = List.of(
+			new JsonProductDetailCodec(new RedisSerializerConfig().jsonRedisSerializer()),
+			new BinaryProductDetailCodec(0),
+			new BinaryProductDetailCodec(1024)
+		);
+		List<String> names = List.of("json", "binary", "binary+deflate(>=1KiB)");
+
+		// 옵션 없음 / 일반 / 옵션 많고 설명 긴 상품
+		List<CachedProductDetail> samples = List.of(
+			ProductDetailCodecTest.sampleDetail(0, 0, 300),
+			ProductDetailCodecTest.sampleDetail(2, 4, 1000),
+			ProductDetailCodecTest.sampleDetail(3, 6, 6000)
+		);
+
+		System.out.printf("%-24s %-8s %10s %12s %12s%n", "codec", "sample", "bytes", "encode(ns)", "decode(ns)");
+		for (int s = 0; s < samples.size(); s++) {
+			CachedProductDetail sample = samples.get(s);
+			long jsonBytes = 0;
+			for (int c = 0; c < codecs.size(); c++) {
+				ProductDetailCodec codec = codecs.get(c);
+				byte[] encoded = codec.encode(sample);
+				assertThat(codec.decode(encoded)).usingRecursiveComparison().isEqualTo(sample);
+
+				run(codec, sample, encoded, WARM_UP_ROUNDS);
+				long[] nanos = run(codec, sample, encoded, MEASURE_ROUNDS);
+
+				if (c == 0) {
+					jsonBytes = encoded.length;
+				} else {
+					assertThat(encoded.length).isLessThan((int)jsonBytes);
+				}
+				System.out.printf("%-24s %-8s %10d %12d %12d%n", names.get(c), "#" + s, encoded.length,
+					nanos[0] / MEASURE_ROUNDS, nanos[1] / MEASURE_ROUNDS);
+			}
+		}
+	}
+
+	private long[] run(ProductDetailCodec codec, CachedProductDetail sample, byte[] encoded, int rounds) {
+		long sink = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < rounds; i++) {
+			sink += codec.encode(sample).length;
+		}
+		long encodeNanos = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		for (int i = 0; i < rounds; i++) {
+			sink += codec.decode(encoded).getCachedAt();
+		}
+		long decodeNanos = System.nanoTime() - start;
+
+		assertThat(sink).isNotZero();
+		return new long[] {encodeNanos, decodeNanos};
+	}
+}
@@ -0,0 +1,199 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.groom.e_commerce.global.infrastructure.redis.RedisSerializerConfig;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.domain.enums.VariantStatus;
+
+class ProductDetailCodecTest {
+
+	private JsonProductDetailCodec jsonCodec;
+	private BinaryProductDetailCodec binaryCodec;
+
+	@BeforeEach
+	void setUp() {
+		jsonCodec = new JsonProductDetailCodec(new RedisSerializerConfig().jsonRedisSerializer());
+		binaryCodec = new BinaryProductDetailCodec(1024);
+	}
+
+	@Test
+	@DisplayName("바이너리 포맷은 옵션/변형을 포함한 상품 상세를 손실 없이 복원한다")
+	void binary_round_trip() {
+		CachedProductDetail detail = sampleDetail(3, 4, 200);
+
+		byte[] encoded = binaryCodec.encode(detail);
+
+		assertThat(encoded[0]).isEqualTo(BinaryProductDetailCodec.MAGIC);
+		assertThat(binaryCodec.decode(encoded)).usingRecursiveComparison().isEqualTo(detail);
+	}
+
+	@Test
+	@DisplayName("임계값 이상 본문은 압축되고, 압축 여부와 무관하게 동일하게 복원된다")
+	void binary_compresses_large_values() {
+		CachedProductDetail detail = sampleDetail(2, 3, 8000);
+		BinaryProductDetailCodec uncompressed = new BinaryProductDetailCodec(0);
+
+		byte[] compressed = binaryCodec.encode(detail);
+		byte[] plain = uncompressed.encode(detail);
+
+		assertThat(compressed.length).isLessThan(plain.length);
+		assertThat(binaryCodec.decode(compressed)).usingRecursiveComparison().isEqualTo(detail);
+		assertThat(binaryCodec.decode(plain)).usingRecursiveComparison().isEqualTo(detail);
+	}
+
+	@Test
+	@DisplayName("null 필드와 null 컬렉션도 그대로 복원된다")
+	void binary_preserves_nulls() {
+		CachedProductDetail detail = CachedProductDetail.builder()
+			.productId(UUID.randomUUID())
+			.title("제목만 있는 상품")
+			.cachedAt(-1L)
+			.build();
+
+		assertThat(binaryCodec.decode(binaryCodec.encode(detail))).usingRecursiveComparison().isEqualTo(detail);
+	}
+
+	@Test
+	@DisplayName("기존 JSON 값과 바이너리 값이 섞여 있어도 모두 읽는다")
+	void serializer_reads_both_formats() {
+		ProductDetailSerializer serializer = serializer("binary");
+		CachedProductDetail detail = sampleDetail(1, 2, 100);
+
+		byte[] legacy = jsonCodec.encode(detail);
+		byte[] current = serializer.serialize(detail);
+
+		assertThat(current[0]).isEqualTo(BinaryProductDetailCodec.MAGIC);
+		assertThat(serializer.deserialize(legacy)).usingRecursiveComparison().isEqualTo(detail);
+		assertThat(serializer.deserialize(current)).usingRecursiveComparison().isEqualTo(detail);
+		assertThat(serializer.foreignFormatReads()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("json 쓰기 모드는 기존 포맷과 동일한 바이트를 기록한다 (롤링 배포 1단계)")
+	void serializer_json_mode_writes_legacy_format() {
+		ProductDetailSerializer serializer = serializer("json");
+		CachedProductDetail detail = sampleDetail(1, 1, 10);
+
+		assertThat(serializer.serialize(detail)).isEqualTo(jsonCodec.encode(detail));
+	}
+
+	@Test
+	@DisplayName("알 수 없는 버전이나 손상된 값은 SerializationException")
+	void corrupted_value_is_rejected() {
+		byte[] encoded = binaryCodec.encode(sampleDetail(1, 1, 10));
+
+		byte[] unknownVersion = encoded.clone();
+		unknownVersion[1] = 99;
+		byte[] truncated = java.util.Arrays.copyOf(encoded, encoded.length / 2);
+
+		assertThatThrownBy(() -> binaryCodec.decode(unknownVersion)).isInstanceOf(SerializationException.class);
+		assertThatThrownBy(() -> binaryCodec.decode(truncated)).isInstanceOf(SerializationException.class);
+	}
+
+	@Test
+	@DisplayName("카드는 목록 필드만 담아 상세보다 훨씬 작고 손실 없이 복원된다")
+	void card_round_trip() {
+		ProductCardCodec cardCodec = new ProductCardCodec();
+		CachedProductDetail detail = sampleDetail(3, 4, 1000);
+		CachedProductCard card = CachedProductCard.from(detail);
+
+		byte[] encoded = cardCodec.encode(card);
+
+		assertThat(encoded.length * 5).isLessThan(new BinaryProductDetailCodec(0).encode(detail).length);
+		assertThat(cardCodec.decode(encoded)).usingRecursiveComparison().isEqualTo(card);
+	}
+
+	@Test
+	@DisplayName("목록 페이지는 카드 순서와 전체 개수를 유지하고 카드 값과 섞이지 않는다")
+	void page_round_trip() {
+		ProductCardCodec cardCodec = new ProductCardCodec();
+		List<CachedProductCard> cards = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			cards.add(CachedProductCard.from(sampleDetail(i % 2, 2, 100)));
+		}
+		CachedProductPage page = new CachedProductPage(cards, 1234L);
+
+		byte[] encoded = cardCodec.encodePage(page);
+
+		assertThat(cardCodec.decodePage(encoded)).usingRecursiveComparison().isEqualTo(page);
+		assertThat(cardCodec.decodePage(cardCodec.encodePage(new CachedProductPage(List.of(), 0L))).cards()).isEmpty();
+		assertThatThrownBy(() -> cardCodec.decode(encoded)).isInstanceOf(SerializationException.class);
+		assertThatThrownBy(() -> cardCodec.decodePage(cardCodec.encode(cards.get(0))))
+			.isInstanceOf(SerializationException.class);
+	}
+
+	private ProductDetailSerializer serializer(String writeFormat) {
+		ProductDetailSerializer serializer = new ProductDetailSerializer(List.of(binaryCodec, jsonCodec));
+		ReflectionTestUtils.setField(serializer, "writeFormat", writeFormat);
+		serializer.init();
+		return serializer;
+	}
+
+	static CachedProductDetail sampleDetail(int optionCount, int valuesPerOption, int descriptionLength) {
+		List<CachedProductDetail.CachedOption> options = new ArrayList<>();
+		List<UUID> valueIds = new ArrayList<>();
+		for (int i = 0; i < optionCount; i++) {
+			List<CachedProductDetail.CachedOptionValue> values = new ArrayList<>();
+			for (int j = 0; j < valuesPerOption; j++) {
+				UUID valueId = UUID.randomUUID();
+				valueIds.add(valueId);
+				values.add(CachedProductDetail.CachedOptionValue.builder()
+					.optionValueId(valueId)
+					.value("값-" + i + "-" + j)
+					.build());
+			}
+			options.add(CachedProductDetail.CachedOption.builder()
+				.optionId(UUID.randomUUID())
+				.name("옵션" + i)
+				.sortOrder(i)
+				.values(values)
+				.build());
+		}
+
+		List<CachedProductDetail.CachedVariant> variants = new ArrayList<>();
+		for (int i = 0; i < valueIds.size(); i++) {
+			variants.add(CachedProductDetail.CachedVariant.builder()
+				.variantId(UUID.randomUUID())
+				.skuCode("SKU-" + i)
+				.optionValueIds(List.of(valueIds.get(i)))
+				.optionName("변형 " + i)
+				.price(10_000L + i * 500L)
+				.stockQuantity(i * 3)
+				.status(i % 2 == 0 ? VariantStatus.ON_SALE : VariantStatus.SOLD_OUT)
+				.build());
+		}
+
+		return CachedProductDetail.builder()
+			.productId(UUID.randomUUID())
+			.ownerId(UUID.randomUUID())
+			.categoryId(UUID.randomUUID())
+			.categoryName("티셔츠")
+			.categoryFullPath("의류 > 상의 > 티셔츠")
+			.title("오버핏 코튼 티셔츠")
+			.description("설명".repeat(descriptionLength / 2))
+			.thumbnailUrl("https://cdn.example.com/products/thumbnail.jpg")
+			.price(10_000L)
+			.minPrice(10_000L)
+			.maxPrice(20_000L)
+			.stockQuantity(120)
+			.status(ProductStatus.ON_SALE)
+			.hasOptions(optionCount > 0)
+			.options(options)
+			.variants(variants)
+			.createdAt(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000))
+			.cachedAt(System.currentTimeMillis())
+			.build();
+	}
+}
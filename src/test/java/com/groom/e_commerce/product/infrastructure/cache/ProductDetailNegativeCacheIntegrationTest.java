@@ -0,0 +1,219 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+
+/**
+ * 상세 조회 불가 표시 (실제 Redis - 표시/확인, 기록 스크립트의 삭제 시 표시 + 적재 시 제거, TTL)
+ */
+@Tag("integration")
+@Testcontainers
+class ProductDetailNegativeCacheIntegrationTest {
+
+	@Container
+	static final GenericContainer<?> REDIS_CONTAINER =
+		new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+	private static final long NEGATIVE_TTL_SECONDS = 30L;
+
+	private LettuceConnectionFactory connectionFactory;
+	private RedisTemplate<String, byte[]> bytesRedisTemplate;
+	private ProductDetailCacheService detailCacheService;
+	private Category category;
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory(REDIS_CONTAINER.getHost(), REDIS_CONTAINER.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+
+		bytesRedisTemplate = new RedisTemplate<>();
+		bytesRedisTemplate.setConnectionFactory(connectionFactory);
+		bytesRedisTemplate.setKeySerializer(new StringRedisSerializer());
+		bytesRedisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		bytesRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
+		bytesRedisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+		bytesRedisTemplate.afterPropertiesSet();
+		bytesRedisTemplate.execute((RedisCallback<Void>)connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		});
+
+		BinaryProductDetailCodec codec = new BinaryProductDetailCodec(1024);
+		ProductDetailSerializer serializer = new ProductDetailSerializer(List.of(codec));
+		ReflectionTestUtils.setField(serializer, "writeFormat", codec.format());
+		serializer.init();
+
+		ProductDetailLocalCache localCache = mock(ProductDetailLocalCache.class);
+		when(localCache.stats()).thenReturn(CacheStats.empty());
+		ProductResponseCache responseCache = mock(ProductResponseCache.class);
+		when(responseCache.stats()).thenReturn(CacheStats.empty());
+		detailCacheService = new ProductDetailCacheService(bytesRedisTemplate, serializer, new ProductCardCodec(),
+			localCache, responseCache, mock(ProductCacheInvalidationBroadcaster.class));
+		ReflectionTestUtils.setField(detailCacheService, "negativeEnabled", true);
+		ReflectionTestUtils.setField(detailCacheService, "negativeTtlSeconds", NEGATIVE_TTL_SECONDS);
+		ReflectionTestUtils.setField(detailCacheService, "generationTtlSeconds", 3_600L);
+		detailCacheService.init();
+
+		category = Category.builder().name("의류").depth(1).sortOrder(1).build();
+		ReflectionTestUtils.setField(category, "id", UUID.randomUUID());
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	@DisplayName("표시하면 TTL과 함께 저장되고, 확인할 때마다 DB 조회 생략 수가 늘어난다")
+	void mark_then_hit() {
+		UUID productId = UUID.randomUUID();
+		assertThat(detailCacheService.isKnownMissing(productId)).isFalse();
+
+		detailCacheService.markMissing(productId);
+
+		assertThat(detailCacheService.isKnownMissing(productId)).isTrue();
+		assertThat(detailCacheService.isKnownMissing(productId)).isTrue();
+		assertThat(missingTtl(productId)).isPositive().isLessThanOrEqualTo(NEGATIVE_TTL_SECONDS);
+		assertThat(detailCacheService.getStats().getNegativeStores()).isEqualTo(1);
+		assertThat(detailCacheService.getStats().getNegativeHits()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("TTL이 지나면 표시가 사라져 다시 DB 조회 대상이 된다")
+	void marker_expires_after_ttl() throws InterruptedException {
+		ReflectionTestUtils.setField(detailCacheService, "negativeTtlSeconds", 1L);
+		UUID productId = UUID.randomUUID();
+
+		detailCacheService.markMissing(productId);
+		assertThat(detailCacheService.isKnownMissing(productId)).isTrue();
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+		while (detailCacheService.isKnownMissing(productId) && System.nanoTime() < deadline) {
+			Thread.sleep(100);
+		}
+		assertThat(detailCacheService.isKnownMissing(productId)).isFalse();
+	}
+
+	@Test
+	@DisplayName("조회 중 적재(정지 해제/재등록 후 DB 조회)가 표시를 지운다")
+	void read_path_put_clears_marker() {
+		Product product = product(ProductStatus.ON_SALE);
+		detailCacheService.markMissing(product.getId());
+
+		detailCacheService.put(product, generation(product));
+
+		assertThat(detailCacheService.isKnownMissing(product.getId())).isFalse();
+		assertThat(bytesRedisTemplate.hasKey(ProductCacheKey.productDetail(product.getId()))).isTrue();
+	}
+
+	@Test
+	@DisplayName("변경 동기화: 삭제는 TTL과 함께 표시하고, 이후 복구/등록 기록이 표시를 지운다")
+	void sync_delete_marks_and_restore_clears() {
+		Product product = product(ProductStatus.ON_SALE);
+		long generation = generation(product);
+		pipeline(connection -> detailCacheService.appendPut(connection, CachedProductDetail.from(product),
+			generation));
+
+		long deleteGeneration = generation(product);
+		pipeline(connection -> detailCacheService.appendDelete(connection, product.getId(), deleteGeneration));
+
+		assertThat(detailCacheService.isKnownMissing(product.getId())).isTrue();
+		assertThat(missingTtl(product.getId())).isPositive().isLessThanOrEqualTo(NEGATIVE_TTL_SECONDS);
+		assertThat(bytesRedisTemplate.hasKey(ProductCacheKey.productDetail(product.getId()))).isFalse();
+
+		long restoreGeneration = generation(product);
+		pipeline(connection -> detailCacheService.appendPut(connection, CachedProductDetail.from(product),
+			restoreGeneration));
+
+		assertThat(detailCacheService.isKnownMissing(product.getId())).isFalse();
+		assertThat(bytesRedisTemplate.hasKey(ProductCacheKey.productDetail(product.getId()))).isTrue();
+	}
+
+	@Test
+	@DisplayName("세대가 바뀐 뒤의 기록은 반영되지 않아 표시도 지우지 않는다")
+	void stale_put_keeps_marker() {
+		Product product = product(ProductStatus.ON_SALE);
+		long stale = generation(product);
+		pipeline(connection -> detailCacheService.appendDelete(connection, product.getId(), stale));
+
+		detailCacheService.put(product, stale);
+
+		assertThat(detailCacheService.isKnownMissing(product.getId())).isTrue();
+		assertThat(bytesRedisTemplate.hasKey(ProductCacheKey.productDetail(product.getId()))).isFalse();
+	}
+
+	@Test
+	@DisplayName("사용하지 않으면 표시도 확인도 하지 않고, 삭제 기록도 표시를 남기지 않는다")
+	void disabled_skips_marker() {
+		ReflectionTestUtils.setField(detailCacheService, "negativeEnabled", false);
+		UUID productId = UUID.randomUUID();
+
+		detailCacheService.markMissing(productId);
+		pipeline(connection -> detailCacheService.appendDelete(connection, productId, 0L));
+
+		assertThat(bytesRedisTemplate.hasKey(ProductCacheKey.productDetailMissing(productId))).isFalse();
+		assertThat(detailCacheService.isKnownMissing(productId)).isFalse();
+	}
+
+	/**
+	 * 변경 동기화 파이프라인과 같이 EVALSHA로 실행 (스크립트를 먼저 로드)
+	 */
+	private void pipeline(Consumer<RedisConnection> commands) {
+		bytesRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			detailCacheService.appendScriptLoad(connection);
+			commands.accept(connection);
+			return null;
+		});
+	}
+
+	private long missingTtl(UUID productId) {
+		return bytesRedisTemplate.getExpire(ProductCacheKey.productDetailMissing(productId), TimeUnit.SECONDS);
+	}
+
+	private long generation(Product product) {
+		return detailCacheService.readGenerations(List.of(product.getId())).get(product.getId());
+	}
+
+	private Product product(ProductStatus status) {
+		Product product = Product.builder()
+			.ownerId(UUID.randomUUID())
+			.category(category)
+			.title("상품")
+			.price(10_000L)
+			.stockQuantity(5)
+			.build();
+		product.updateStatus(status);
+		ReflectionTestUtils.setField(product, "id", UUID.randomUUID());
+		ReflectionTestUtils.setField(product, "createdAt", LocalDateTime.now());
+		return product;
+	}
+}
@@ -0,0 +1,378 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.product.application.dto.StockManagement;
+
+@Tag("integration")
+@Testcontainers
+class StockRedisServiceReservationIntegrationTest {
+
+	@Container
+	static final GenericContainer<?> REDIS_CONTAINER =
+		new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private StockRedisService stockRedisService;
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory(REDIS_CONTAINER.getHost(), REDIS_CONTAINER.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.execute(connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		}, true);
+
+		stockRedisService = new StockRedisService(redisTemplate, new ObjectMapper());
+		stockRedisService.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	@DisplayName("주문 단위 가점유는 모든 아이템을 차감하고 원장과 만료 시각을 기록한다")
+	void reserve_all_deducts_every_item_and_records_ledger() {
+		// given
+		UUID orderId = UUID.randomUUID();
+		UUID productId = UUID.randomUUID();
+		UUID optionProductId = UUID.randomUUID();
+		UUID variantId = UUID.randomUUID();
+		stockRedisService.syncStock(productId, null, 10);
+		stockRedisService.syncStock(optionProductId, variantId, 5);
+
+		// when
+		stockRedisService.reserveAll(orderId, List.of(
+			StockManagement.of(productId, null, 3),
+			StockManagement.of(optionProductId, variantId, 2)));
+
+		// then
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(7);
+		assertThat(stockRedisService.getAvailableStock(optionProductId, variantId)).isEqualTo(3);
+		assertThat(stockRedisService.getOrderStockItems(orderId))
+			.extracting(StockManagement::getProductId, StockManagement::getVariantId, StockManagement::getQuantity)
+			.containsExactlyInAnyOrder(tuple(productId, null, 3), tuple(optionProductId, variantId, 2));
+		assertThat(redisTemplate.opsForZSet().score(StockCacheKey.reservationDeadlines(), orderId.toString()))
+			.isGreaterThan((double)System.currentTimeMillis());
+	}
+
+	@Test
+	@DisplayName("한 아이템이라도 재고가 부족하면 어떤 아이템도 차감하지 않는다")
+	void reserve_all_is_all_or_nothing_when_one_item_is_short() {
+		// given
+		UUID orderId = UUID.randomUUID();
+		UUID enough = UUID.randomUUID();
+		UUID scarce = UUID.randomUUID();
+		stockRedisService.syncStock(enough, null, 10);
+		stockRedisService.syncStock(scarce, null, 1);
+
+		// when & then
+		assertThatThrownBy(() -> stockRedisService.reserveAll(orderId, List.of(
+			StockManagement.of(enough, null, 3),
+			StockManagement.of(scarce, null, 2))))
+			.isInstanceOf(CustomException.class);
+
+		assertThat(stockRedisService.getAvailableStock(enough, null)).isEqualTo(10);
+		assertThat(stockRedisService.getAvailableStock(scarce, null)).isEqualTo(1);
+		assertThat(redisTemplate.hasKey(StockCacheKey.reservationLedger(orderId))).isFalse();
+		assertThat(redisTemplate.opsForZSet().score(StockCacheKey.reservationDeadlines(), orderId.toString())).isNull();
+	}
+
+	@Test
+	@DisplayName("재고 키가 없는 아이템이 있으면 어떤 아이템도 차감하지 않는다")
+	void reserve_all_rejects_order_with_missing_stock_key() {
+		// given
+		UUID orderId = UUID.randomUUID();
+		UUID cached = UUID.randomUUID();
+		stockRedisService.syncStock(cached, null, 10);
+
+		// when & then
+		assertThatThrownBy(() -> stockRedisService.reserveAll(orderId, List.of(
+			StockManagement.of(cached, null, 1),
+			StockManagement.of(UUID.randomUUID(), null, 1))))
+			.isInstanceOf(CustomException.class);
+
+		assertThat(stockRedisService.getAvailableStock(cached, null)).isEqualTo(10);
+		assertThat(redisTemplate.hasKey(StockCacheKey.reservationLedger(orderId))).isFalse();
+	}
+
+	@Test
+	@DisplayName("같은 재고 키가 여러 번 들어오면 합산한 수량으로 검증한다")
+	void reserve_all_sums_duplicate_items_before_checking() {
+		// given
+		UUID productId = UUID.randomUUID();
+		stockRedisService.syncStock(productId, null, 5);
+
+		// when & then
+		assertThatThrownBy(() -> stockRedisService.reserveAll(UUID.randomUUID(), List.of(
+			StockManagement.of(productId, null, 3),
+			StockManagement.of(productId, null, 3))))
+			.isInstanceOf(CustomException.class);
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(5);
+
+		UUID orderId = UUID.randomUUID();
+		stockRedisService.reserveAll(orderId, List.of(
+			StockManagement.of(productId, null, 2),
+			StockManagement.of(productId, null, 3)));
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isZero();
+		assertThat(stockRedisService.getOrderStockItems(orderId))
+			.extracting(StockManagement::getQuantity)
+			.containsExactly(5);
+	}
+
+	@Test
+	@DisplayName("미확정 가점유를 해제하면 재고가 반환되고 두 번째 해제는 아무것도 반환하지 않는다")
+	void release_returns_units_once() {
+		// given
+		UUID orderId = UUID.randomUUID();
+		UUID productId = UUID.randomUUID();
+		stockRedisService.syncStock(productId, null, 10);
+		stockRedisService.reserveAll(orderId, List.of(StockManagement.of(productId, null, 4)));
+
+		// when
+		List<StockManagement> first = stockRedisService.releaseReservation(orderId);
+		List<StockManagement> second = stockRedisService.releaseReservation(orderId);
+
+		// then
+		assertThat(first).extracting(StockManagement::getQuantity).containsExactly(4);
+		assertThat(second).isEmpty();
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(10);
+		assertThat(redisTemplate.hasKey(StockCacheKey.reservationLedger(orderId))).isFalse();
+	}
+
+	@Test
+	@DisplayName("확정된 가점유는 해제/회수 대상이 아니며 원장은 취소 대비로 보존된다")
+	void committed_reservation_is_not_released_or_reclaimed() {
+		// given
+		UUID orderId = UUID.randomUUID();
+		UUID productId = UUID.randomUUID();
+		stockRedisService.syncStock(productId, null, 10);
+		stockRedisService.reserveAll(orderId, List.of(StockManagement.of(productId, null, 4)));
+
+		// when
+		assertThat(stockRedisService.holdReservation(orderId)).isTrue();
+		assertThat(stockRedisService.commitReservation(orderId)).isTrue();
+
+		// then
+		assertThat(stockRedisService.releaseReservation(orderId)).isEmpty();
+		assertThat(stockRedisService.reclaimExpired(Long.MAX_VALUE, 100)).isZero();
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(6);
+		assertThat(stockRedisService.commitReservation(orderId)).isTrue();
+
+		// 확정 후 취소: 원장은 한 번만 소비되고 재고 반환은 호출자가 수행
+		assertThat(stockRedisService.takeReservation(orderId))
+			.extracting(StockManagement::getQuantity).containsExactly(4);
+		assertThat(stockRedisService.takeReservation(orderId)).isEmpty();
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(6);
+	}
+
+	@Test
+	@DisplayName("확정 준비(hold)만 하고 확정하지 않은 가점유는 미확정으로 남아 해제할 수 있다")
+	void held_reservation_stays_pending_until_commit() {
+		// given
+		UUID orderId = UUID.randomUUID();
+		UUID productId = UUID.randomUUID();
+		stockRedisService.syncStock(productId, null, 10);
+		stockRedisService.reserveAll(orderId, List.of(StockManagement.of(productId, null, 4)));
+		Double deadline = redisTemplate.opsForZSet().score(StockCacheKey.reservationDeadlines(), orderId.toString());
+
+		// when
+		assertThat(stockRedisService.holdReservation(orderId)).isTrue();
+
+		// then
+		assertThat(redisTemplate.opsForZSet().score(StockCacheKey.reservationDeadlines(), orderId.toString()))
+			.isEqualTo(deadline);
+		assertThat(stockRedisService.releaseReservation(orderId)).hasSize(1);
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(10);
+		assertThat(stockRedisService.holdReservation(orderId)).isFalse();
+		assertThat(stockRedisService.commitReservation(orderId)).isFalse();
+	}
+
+	@Test
+	@DisplayName("확정 준비는 만료가 임박한 가점유의 만료 시각을 늦춘다")
+	void hold_postpones_an_imminent_deadline() {
+		// given
+		UUID orderId = UUID.randomUUID();
+		UUID productId = UUID.randomUUID();
+		stockRedisService.syncStock(productId, null, 10);
+		stockRedisService.reserveAll(orderId, List.of(StockManagement.of(productId, null, 4)));
+		long now = System.currentTimeMillis();
+		redisTemplate.opsForZSet().add(StockCacheKey.reservationDeadlines(), orderId.toString(), now);
+
+		// when
+		stockRedisService.holdReservation(orderId);
+
+		// then
+		assertThat(stockRedisService.reclaimExpired(now + 1000, 100)).isZero();
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(6);
+	}
+
+	@Test
+	@DisplayName("만료된 가점유만 회수하고 회수된 주문은 확정할 수 없다")
+	void reclaim_returns_only_expired_reservations() {
+		// given
+		UUID productId = UUID.randomUUID();
+		UUID expiredOrder = UUID.randomUUID();
+		UUID liveOrder = UUID.randomUUID();
+		stockRedisService.syncStock(productId, null, 10);
+		stockRedisService.reserveAll(expiredOrder, List.of(StockManagement.of(productId, null, 3)));
+		stockRedisService.reserveAll(liveOrder, List.of(StockManagement.of(productId, null, 2)));
+		long now = System.currentTimeMillis();
+		redisTemplate.opsForZSet().add(StockCacheKey.reservationDeadlines(), expiredOrder.toString(), now - 1);
+
+		// when
+		long reclaimed = stockRedisService.reclaimExpired(now, 100);
+
+		// then
+		assertThat(reclaimed).isEqualTo(1);
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(8);
+		assertThat(stockRedisService.holdReservation(expiredOrder)).isFalse();
+		assertThat(stockRedisService.getPendingQuantities(List.of(StockManagement.of(productId, null, 0))))
+			.containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("임차분에서 가점유한 수량은 재고 키를 건드리지 않고 원장에 기록되며 해제 시 Redis 재고로 반환된다")
+	void leased_reservation_is_recorded_and_released_through_the_ledger() {
+		// given
+		UUID orderId = UUID.randomUUID();
+		UUID productId = UUID.randomUUID();
+		List<StockManagement> items = List.of(StockManagement.of(productId, null, 3));
+		stockRedisService.syncStock(productId, null, 10);
+		assertThat(stockRedisService.lease(productId, null, 5)).isEqualTo(5);
+
+		// when
+		stockRedisService.recordReservation(orderId, items);
+
+		// then
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(5);
+		assertThat(stockRedisService.getPendingQuantities(items)).containsExactly(3L);
+		assertThat(redisTemplate.opsForZSet().score(StockCacheKey.reservationDeadlines(), orderId.toString()))
+			.isGreaterThan((double)System.currentTimeMillis());
+
+		assertThat(stockRedisService.releaseReservation(orderId))
+			.extracting(StockManagement::getQuantity).containsExactly(3);
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(8);
+		assertThat(stockRedisService.getPendingQuantities(items)).containsExactly(0L);
+	}
+
+	@Test
+	@DisplayName("임차분 아이템은 나머지 아이템의 재고 차감과 한 번에 원장에 기록되고, 나머지가 부족하면 함께 기록되지 않는다")
+	void leased_items_are_recorded_with_reserved_items_all_or_nothing() {
+		// given
+		UUID orderId = UUID.randomUUID();
+		UUID hot = UUID.randomUUID();
+		UUID cold = UUID.randomUUID();
+		stockRedisService.syncStock(hot, null, 10);
+		stockRedisService.syncStock(cold, null, 2);
+		assertThat(stockRedisService.lease(hot, null, 5)).isEqualTo(5);
+		List<StockManagement> leased = List.of(StockManagement.of(hot, null, 3));
+
+		// when & then: 나머지 아이템 부족 → 임차분 아이템도 원장에 남지 않음
+		assertThatThrownBy(() -> stockRedisService.reserveAll(orderId,
+			List.of(StockManagement.of(cold, null, 3)), leased))
+			.isInstanceOf(CustomException.class);
+		assertThat(redisTemplate.hasKey(StockCacheKey.reservationLedger(orderId))).isFalse();
+		assertThat(stockRedisService.getPendingQuantities(leased)).containsExactly(0L);
+
+		stockRedisService.reserveAll(orderId, List.of(StockManagement.of(cold, null, 2)), leased);
+
+		// then: 임차분 아이템은 재고 키를 건드리지 않음
+		assertThat(stockRedisService.getAvailableStock(hot, null)).isEqualTo(5);
+		assertThat(stockRedisService.getAvailableStock(cold, null)).isZero();
+		assertThat(stockRedisService.getOrderStockItems(orderId))
+			.extracting(StockManagement::getProductId, StockManagement::getQuantity)
+			.containsExactlyInAnyOrder(tuple(hot, 3), tuple(cold, 2));
+	}
+
+	@Test
+	@DisplayName("SKU별 미확정 수량은 가점유/확정/해제마다 원장과 함께 갱신된다")
+	void pending_quantities_follow_the_ledger() {
+		// given
+		UUID productId = UUID.randomUUID();
+		UUID committedOrder = UUID.randomUUID();
+		UUID releasedOrder = UUID.randomUUID();
+		List<StockManagement> sku = List.of(StockManagement.of(productId, null, 0));
+		stockRedisService.syncStock(productId, null, 10);
+
+		// when & then
+		stockRedisService.reserveAll(committedOrder, List.of(StockManagement.of(productId, null, 3)));
+		stockRedisService.reserveAll(releasedOrder, List.of(StockManagement.of(productId, null, 2)));
+		assertThat(stockRedisService.getPendingQuantities(sku)).containsExactly(5L);
+
+		stockRedisService.holdReservation(committedOrder);
+		stockRedisService.commitReservation(committedOrder);
+		assertThat(stockRedisService.getPendingQuantities(sku)).containsExactly(2L);
+
+		stockRedisService.releaseReservation(releasedOrder);
+		assertThat(stockRedisService.getPendingQuantities(sku)).containsExactly(0L);
+		assertThat(redisTemplate.opsForHash().size(StockCacheKey.reservationPending())).isZero();
+		assertThat(redisTemplate.opsForHash().size(StockCacheKey.reservationConfirming())).isZero();
+	}
+
+	@Test
+	@DisplayName("재고 보정은 미확정 수량을 다시 읽어 기대값을 계산하고 관측 이후 값이 바뀌었으면 건너뛴다")
+	void compare_and_set_uses_current_pending_quantity() {
+		// given
+		UUID productId = UUID.randomUUID();
+		StockManagement sku = StockManagement.of(productId, null, 0);
+		stockRedisService.syncStock(productId, null, 10);
+		stockRedisService.reserveAll(UUID.randomUUID(), List.of(StockManagement.of(productId, null, 3)));
+		redisTemplate.opsForValue().set(StockCacheKey.productStock(productId), "9");
+
+		// when & then: 관측 값 불일치
+		assertThat(stockRedisService.compareAndSetStock(sku, "8", 10, 10)).isFalse();
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(9);
+
+		// 허용 범위 밖
+		assertThat(stockRedisService.compareAndSetStock(sku, "9", 10, 1)).isFalse();
+
+		// 기대값 = DB 10 - 미확정 3
+		assertThat(stockRedisService.compareAndSetStock(sku, "9", 10, 10)).isTrue();
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("DB 확정 중인 SKU는 재고 보정 대상에서 제외된다")
+	void compare_and_set_skips_skus_being_confirmed() {
+		// given
+		UUID productId = UUID.randomUUID();
+		UUID orderId = UUID.randomUUID();
+		StockManagement sku = StockManagement.of(productId, null, 0);
+		stockRedisService.syncStock(productId, null, 10);
+		stockRedisService.reserveAll(orderId, List.of(StockManagement.of(productId, null, 3)));
+		stockRedisService.holdReservation(orderId);
+
+		// when & then: DB는 이미 7로 차감되었지만 원장 확정 전 → 기대값 4로 잘못 보정하지 않음
+		assertThat(stockRedisService.compareAndSetStock(sku, "7", 7, 10)).isFalse();
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(7);
+
+		stockRedisService.commitReservation(orderId);
+		assertThat(stockRedisService.compareAndSetStock(sku, "7", 7, 10)).isTrue();
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(7);
+	}
+}
@@ -0,0 +1,301 @@
+package com.groom.e_commerce.product.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.product.application.dto.StockManagement;
+
+@Tag("integration")
+@Testcontainers
+class StockRedisServiceShardingIntegrationTest {
+
+	@Container
+	static final GenericContainer<?> REDIS_CONTAINER =
+		new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private StockRedisService stockRedisService;
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory(REDIS_CONTAINER.getHost(), REDIS_CONTAINER.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.execute(connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		}, true);
+
+		stockRedisService = new StockRedisService(redisTemplate, new ObjectMapper());
+		stockRedisService.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	@DisplayName("샤드 재고에 동시 가점유가 몰려도 초기 재고를 초과해 판매되지 않는다")
+	void concurrent_reserve_on_sharded_stock_never_oversells() throws InterruptedException {
+		// given
+		UUID productId = UUID.randomUUID();
+		int initialStock = 100;
+		stockRedisService.syncStock(productId, null, initialStock);
+		stockRedisService.changeShardCount(productId, null, 8);
+
+		int attempts = 300;
+		AtomicInteger reserved = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+
+		// when
+		runConcurrently(attempts, () -> {
+			int quantity = ThreadLocalRandom.current().nextInt(1, 4);
+			try {
+				stockRedisService.reserveAll(UUID.randomUUID(), List.of(StockManagement.of(productId, null, quantity)));
+				reserved.addAndGet(quantity);
+			} catch (CustomException e) {
+				rejected.incrementAndGet();
+			}
+		});
+
+		// then
+		String stockKey = StockCacheKey.productStock(productId);
+		assertThat(reserved.get()).isLessThanOrEqualTo(initialStock);
+		assertThat(rejected.get()).isPositive();
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(initialStock - reserved.get());
+		for (int i = 0; i < 8; i++) {
+			assertThat(Long.parseLong(redisTemplate.opsForValue().get(StockCacheKey.stockShard(stockKey, i))))
+				.isGreaterThanOrEqualTo(0L);
+		}
+	}
+
+	@Test
+	@DisplayName("샤드에 남은 재고가 흩어져 있어도 인접 샤드로 넘어가 마지막 단위까지 판매된다")
+	void reserve_spills_over_to_neighbour_shards() {
+		// given
+		UUID productId = UUID.randomUUID();
+		stockRedisService.syncStock(productId, null, 7);
+		stockRedisService.changeShardCount(productId, null, 4);
+
+		// when
+		stockRedisService.reserveAll(UUID.randomUUID(), List.of(StockManagement.of(productId, null, 7)));
+
+		// then
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isZero();
+		assertThatThrownBy(() ->
+			stockRedisService.reserveAll(UUID.randomUUID(), List.of(StockManagement.of(productId, null, 1))))
+			.isInstanceOf(CustomException.class);
+	}
+
+	@Test
+	@DisplayName("가점유 도중 샤드 모드를 전환해도 재고 단위가 유실되거나 초과 판매되지 않는다")
+	void switching_shard_mode_during_reservations_conserves_units() throws InterruptedException {
+		// given
+		UUID productId = UUID.randomUUID();
+		int initialStock = 500;
+		stockRedisService.syncStock(productId, null, initialStock);
+
+		AtomicInteger reserved = new AtomicInteger();
+		AtomicBoolean switching = new AtomicBoolean(true);
+		Thread switcher = new Thread(() -> {
+			int[] shardCounts = {4, 0, 16, 2, 0, 8};
+			int i = 0;
+			while (switching.get()) {
+				stockRedisService.changeShardCount(productId, null, shardCounts[i++ % shardCounts.length]);
+			}
+		});
+		switcher.start();
+
+		// when
+		try {
+			runConcurrently(800, () -> {
+				try {
+					stockRedisService.reserveAll(UUID.randomUUID(), List.of(StockManagement.of(productId, null, 1)));
+					reserved.incrementAndGet();
+				} catch (CustomException e) {
+					// 재고 소진
+				}
+			});
+		} finally {
+			switching.set(false);
+			switcher.join();
+		}
+
+		// then
+		assertThat(reserved.get()).isEqualTo(initialStock);
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isZero();
+	}
+
+	@Test
+	@DisplayName("샤드 재고의 가점유를 해제하면 샤드로 반환되고 단일 키로 복귀해도 수량이 유지된다")
+	void release_returns_units_to_shards() {
+		// given
+		UUID productId = UUID.randomUUID();
+		UUID orderId = UUID.randomUUID();
+		stockRedisService.syncStock(productId, null, 10);
+		stockRedisService.changeShardCount(productId, null, 4);
+		stockRedisService.reserveAll(orderId, List.of(StockManagement.of(productId, null, 6)));
+
+		// when
+		List<StockManagement> released = stockRedisService.releaseReservation(orderId);
+
+		// then
+		assertThat(released).hasSize(1);
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(10);
+		assertThat(redisTemplate.hasKey(StockCacheKey.productStock(productId))).isFalse();
+
+		stockRedisService.changeShardCount(productId, null, 0);
+		assertThat(redisTemplate.opsForValue().get(StockCacheKey.productStock(productId))).isEqualTo("10");
+		assertThat(redisTemplate.hasKey(StockCacheKey.stockShardCount(StockCacheKey.productStock(productId)))).isFalse();
+	}
+
+	@Test
+	@DisplayName("가점유 이후 샤드 수가 바뀌어도 해제/회수/복원은 현재 샤드로 반환한다")
+	void restore_uses_current_shard_layout() {
+		// given
+		UUID productId = UUID.randomUUID();
+		UUID releasedOrder = UUID.randomUUID();
+		UUID expiredOrder = UUID.randomUUID();
+		stockRedisService.syncStock(productId, null, 20);
+		stockRedisService.changeShardCount(productId, null, 2);
+		stockRedisService.reserveAll(releasedOrder, List.of(StockManagement.of(productId, null, 5)));
+		stockRedisService.reserveAll(expiredOrder, List.of(StockManagement.of(productId, null, 4)));
+		redisTemplate.opsForZSet().add(StockCacheKey.reservationDeadlines(), expiredOrder.toString(), 0);
+
+		// when
+		stockRedisService.changeShardCount(productId, null, 6);
+		stockRedisService.releaseReservation(releasedOrder);
+		stockRedisService.changeShardCount(productId, null, 0);
+		long reclaimed = stockRedisService.reclaimExpired(System.currentTimeMillis(), 100);
+		stockRedisService.changeShardCount(productId, null, 3);
+		stockRedisService.release(productId, null, 1);
+
+		// then
+		assertThat(reclaimed).isEqualTo(1);
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(21);
+		assertThat(redisTemplate.hasKey(StockCacheKey.stockShard(StockCacheKey.productStock(productId), 3))).isFalse();
+	}
+
+	@Test
+	@DisplayName("관측한 샤드 수가 실행 시점과 다르면 가점유/임차/재분배 스크립트는 아무것도 바꾸지 않고 -2를 반환한다")
+	void scripts_reject_stale_shard_count() {
+		// given
+		UUID productId = UUID.randomUUID();
+		String stockKey = StockCacheKey.productStock(productId);
+		stockRedisService.syncStock(productId, null, 12);
+		stockRedisService.changeShardCount(productId, null, 4);
+
+		// 2개 샤드로 관측한 호출 (실제는 4개)
+		List<String> staleKeys = List.of(stockKey, StockCacheKey.stockShardCount(stockKey),
+			StockCacheKey.stockShard(stockKey, 0), StockCacheKey.stockShard(stockKey, 1));
+
+		// when
+		Long reserved = redisTemplate.execute(script("scripts/stock_reserve.lua"), staleKeys, "3", "0", "2");
+		Long leased = redisTemplate.execute(script("scripts/stock_lease.lua"), staleKeys, "3", "0", "2");
+		Long rebalanced = redisTemplate.execute(script("scripts/stock_shard_rebalance.lua"), staleKeys, "2", "", "2");
+		Long reservedMulti = redisTemplate.execute(script("scripts/stock_reserve_multi.lua"),
+			concat(List.of(StockCacheKey.reservationLedger(UUID.randomUUID()), StockCacheKey.reservationDeadlines(),
+				StockCacheKey.reservationPending()), staleKeys),
+			UUID.randomUUID().toString(), "0", "60", "0", "1", StockCacheKey.reservationField(productId, null), "3", "2");
+
+		// then
+		assertThat(List.of(reserved, leased, rebalanced, reservedMulti)).containsOnly(-2L);
+		assertThat(stockRedisService.getShardCount(stockKey)).isEqualTo(4);
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(12);
+		assertThat(redisTemplate.opsForHash().size(StockCacheKey.reservationPending())).isZero();
+	}
+
+	@Test
+	@DisplayName("샤드 수가 바뀐 뒤의 가점유/임차는 샤드 수를 다시 읽어 현재 샤드에서 차감한다")
+	void reserve_and_lease_follow_shard_count_changes() {
+		// given
+		UUID productId = UUID.randomUUID();
+		String stockKey = StockCacheKey.productStock(productId);
+		stockRedisService.syncStock(productId, null, 12);
+		stockRedisService.changeShardCount(productId, null, 6);
+		stockRedisService.reserve(productId, null, 2);
+
+		// when
+		stockRedisService.changeShardCount(productId, null, 3);
+		stockRedisService.reserve(productId, null, 2);
+		int leased = stockRedisService.lease(productId, null, 5);
+		stockRedisService.syncStock(productId, null, 9);
+
+		// then
+		assertThat(leased).isEqualTo(5);
+		assertThat(stockRedisService.getShardCount(stockKey)).isEqualTo(3);
+		assertThat(stockRedisService.getAvailableStock(productId, null)).isEqualTo(9);
+		assertThat(redisTemplate.hasKey(StockCacheKey.stockShard(stockKey, 3))).isFalse();
+	}
+
+	private static DefaultRedisScript<Long> script(String path) {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+		script.setResultType(Long.class);
+		return script;
+	}
+
+	private static List<String> concat(List<String> first, List<String> second) {
+		List<String> keys = new ArrayList<>(first);
+		keys.addAll(second);
+		return keys;
+	}
+
+	private void runConcurrently(int tasks, Runnable task) throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(32);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(tasks);
+		List<Throwable> errors = new ArrayList<>();
+
+		for (int i = 0; i < tasks; i++) {
+			executor.submit(() -> {
+				try {
+					start.await();
+					task.run();
+				} catch (Throwable t) {
+					synchronized (errors) {
+						errors.add(t);
+					}
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		start.countDown();
+		assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+		assertThat(errors).isEmpty();
+	}
+}
@@ -0,0 +1,183 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.entity.ProductOption;
+import com.groom.e_commerce.product.domain.entity.ProductOptionValue;
+import com.groom.e_commerce.product.domain.entity.ProductVariant;
+import com.groom.e_commerce.product.infrastructure.cache.CachedProductDetail;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+/**
+ * 상품 상세 집합 적재 쿼리 수 회귀 테스트
+ * 상품/옵션/Variant 수와 관계없이 적재 + 상세 캐시 변환까지 고정 쿼리 수로 끝나는지 확인 (지연 로딩 추가 조회 없음)
+ */
+@Tag("integration")
+class ProductAggregateLoaderTest {
+
+	private static final int OPTIONS_PER_PRODUCT = 3;
+	private static final int VALUES_PER_OPTION = 4;
+	private static final int VARIANTS_PER_PRODUCT = 6;
+
+	private static PostgreSQLContainer<?> postgres;
+	private static SessionFactory sessionFactory;
+	private static Category category;
+
+	@BeforeAll
+	static void setUp() {
+		postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+		postgres.start();
+
+		sessionFactory = new Configuration()
+			.addAnnotatedClass(Category.class)
+			.addAnnotatedClass(Product.class)
+			.addAnnotatedClass(ProductOption.class)
+			.addAnnotatedClass(ProductOptionValue.class)
+			.addAnnotatedClass(ProductVariant.class)
+			.setProperty("hibernate.connection.url", postgres.getJdbcUrl())
+			.setProperty("hibernate.connection.username", postgres.getUsername())
+			.setProperty("hibernate.connection.password", postgres.getPassword())
+			.setProperty("hibernate.hbm2ddl.auto", "create-drop")
+			.setProperty("hibernate.generate_statistics", "true")
+			.buildSessionFactory();
+
+		sessionFactory.inTransaction(session -> {
+			Category root = Category.builder().name("의류").depth(1).sortOrder(1).build();
+			session.persist(root);
+			category = Category.builder().parent(root).name("상의").depth(2).sortOrder(1).build();
+			session.persist(category);
+		});
+	}
+
+	@AfterAll
+	static void tearDown() {
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+		if (postgres != null) {
+			postgres.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("옵션 상품 1건과 20건 모두 적재 + 상세 변환이 3회 조회로 끝난다")
+	void loads_option_products_in_fixed_queries() {
+		List<UUID> single = saveProducts(1, true);
+		List<UUID> many = saveProducts(20, true);
+
+		List<CachedProductDetail> singleDetails = new ArrayList<>();
+		long singleQueries = countQueries(loader -> singleDetails.addAll(toDetails(loader.loadAll(single))));
+
+		List<CachedProductDetail> manyDetails = new ArrayList<>();
+		long manyQueries = countQueries(loader -> manyDetails.addAll(toDetails(loader.loadAll(many))));
+
+		assertThat(singleQueries).isEqualTo(3);
+		assertThat(manyQueries).isEqualTo(3);
+
+		assertThat(manyDetails).hasSize(20).allSatisfy(detail -> {
+			assertThat(detail.getCategoryFullPath()).isEqualTo("의류 > 상의");
+			assertThat(detail.getOptions()).hasSize(OPTIONS_PER_PRODUCT)
+				.allSatisfy(option -> assertThat(option.getValues()).hasSize(VALUES_PER_OPTION));
+			assertThat(detail.getVariants()).hasSize(VARIANTS_PER_PRODUCT);
+		});
+	}
+
+	@Test
+	@DisplayName("옵션이 없는 상품만 있으면 옵션 값 조회를 생략한다")
+	void skips_option_values_without_options() {
+		List<UUID> productIds = saveProducts(5, false);
+
+		List<CachedProductDetail> details = new ArrayList<>();
+		long queries = countQueries(loader -> details.addAll(toDetails(loader.loadAll(productIds))));
+
+		assertThat(queries).isEqualTo(2);
+		assertThat(details).hasSize(5)
+			.allSatisfy(detail -> assertThat(detail.getOptions()).isEmpty());
+	}
+
+	@Test
+	@DisplayName("없는 상품 ID는 상품 조회 1회로 끝나고 빈 결과를 반환한다")
+	void returns_empty_for_unknown_ids() {
+		List<Product> loaded = new ArrayList<>();
+		long queries = countQueries(loader -> loaded.addAll(loader.loadAll(List.of(UUID.randomUUID()))));
+
+		assertThat(queries).isEqualTo(1);
+		assertThat(loaded).isEmpty();
+	}
+
+	/**
+	 * 새 영속성 컨텍스트에서 실행한 쿼리 수
+	 */
+	private long countQueries(Consumer<ProductAggregateLoader> action) {
+		Statistics statistics = sessionFactory.getStatistics();
+		return sessionFactory.fromTransaction(session -> {
+			ProductAggregateLoader loader = new ProductAggregateLoader(new JPAQueryFactory(session));
+			statistics.clear();
+			action.accept(loader);
+			return statistics.getPrepareStatementCount();
+		});
+	}
+
+	private List<CachedProductDetail> toDetails(List<Product> products) {
+		return products.stream().map(CachedProductDetail::from).toList();
+	}
+
+	private List<UUID> saveProducts(int count, boolean withOptions) {
+		return sessionFactory.fromTransaction(session -> {
+			Category managed = session.getReference(Category.class, category.getId());
+			List<UUID> productIds = new ArrayList<>();
+			for (int i = 0; i < count; i++) {
+				Product product = Product.builder()
+					.ownerId(UUID.randomUUID())
+					.category(managed)
+					.title("상품 " + i)
+					.price(10_000L)
+					.stockQuantity(withOptions ? null : 10)
+					.build();
+				if (withOptions) {
+					addOptions(product);
+				}
+				session.persist(product);
+				productIds.add(product.getId());
+			}
+			return productIds;
+		});
+	}
+
+	private void addOptions(Product product) {
+		for (int o = 0; o < OPTIONS_PER_PRODUCT; o++) {
+			ProductOption option = ProductOption.builder().product(product).name("옵션 " + o).sortOrder(o).build();
+			for (int v = 0; v < VALUES_PER_OPTION; v++) {
+				option.addOptionValue(
+					ProductOptionValue.builder().option(option).value("값 " + v).sortOrder(v).build());
+			}
+			product.addOption(option);
+		}
+		for (int v = 0; v < VARIANTS_PER_PRODUCT; v++) {
+			product.addVariant(ProductVariant.builder()
+				.product(product)
+				.skuCode(UUID.randomUUID().toString().substring(0, 20))
+				.optionName("조합 " + v)
+				.price(10_000L + v * 1_000L)
+				.stockQuantity(5)
+				.build());
+		}
+	}
+}
@@ -0,0 +1,240 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.entity.ProductOption;
+import com.groom.e_commerce.product.domain.entity.ProductOptionValue;
+import com.groom.e_commerce.product.domain.entity.ProductVariant;
+import com.groom.e_commerce.product.domain.enums.ProductCountMode;
+import com.groom.e_commerce.product.domain.enums.ProductSortType;
+import com.groom.e_commerce.product.infrastructure.cache.CategoryPathCache;
+import com.groom.e_commerce.review.domain.entity.ProductRatingEntity;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+/**
+ * 구매자 상품 검색 (ProductQueryRepository.searchProductsForBuyer) - LIKE 순차 스캔 vs pg_trgm GIN 인덱스 (기본 100만 건)
+ *
+ * 기본 test 태스크에서는 제외 — ./gradlew benchmark 로 실행
+ * 건수 조정: -Dbenchmark.products=200000
+ */
+@Tag("benchmark")
+class ProductSearchBenchmarkTest {
+
+	private static final int PRODUCTS = Integer.getInteger("benchmark.products", 1_000_000);
+	private static final int PAGE_SIZE = 20;
+	private static final int WARM_UP_ROUNDS = 2;
+	private static final int MEASURE_ROUNDS = 5;
+
+	// 흔한 단어 / 두 단어 / 드문 번호 / 설명에만 있는 단어 / 2글자 (제목, 설명에만 있는 단어 - 단어 시작 일치)
+	private static final List<String> KEYWORDS = List.of("원피스", "빈티지 백팩", "987654", "통기성", "코트", "메쉬");
+
+	private static final List<String> TRGM_INDEXES = List.of("idx_product_title_trgm", "idx_product_description_trgm");
+
+	private static PostgreSQLContainer<?> postgres;
+	private static SessionFactory sessionFactory;
+	private static Connection connection;
+	private static TrigramSearchSupport trigramSearchSupport;
+	private static ProductCountResolver countResolver;
+
+	@BeforeAll
+	static void setUp() throws SQLException {
+		postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+		postgres.start();
+
+		// 스키마는 엔티티 매핑 그대로 생성
+		sessionFactory = new Configuration()
+			.addAnnotatedClass(Category.class)
+			.addAnnotatedClass(Product.class)
+			.addAnnotatedClass(ProductOption.class)
+			.addAnnotatedClass(ProductOptionValue.class)
+			.addAnnotatedClass(ProductVariant.class)
+			.addAnnotatedClass(ProductRatingEntity.class)
+			.setProperty("hibernate.connection.url", postgres.getJdbcUrl())
+			.setProperty("hibernate.connection.username", postgres.getUsername())
+			.setProperty("hibernate.connection.password", postgres.getPassword())
+			.setProperty("hibernate.hbm2ddl.auto", "create-drop")
+			.buildSessionFactory();
+
+		UUID categoryId = sessionFactory.fromTransaction(session -> {
+			Category category = Category.builder().name("의류").depth(1).sortOrder(1).build();
+			session.persist(category);
+			return category.getId();
+		});
+
+		connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+			statement.execute("""
+				INSERT INTO p_product (product_id, owner_id, category_id, title, description, status, has_options,
+				                       price, stock_quantity, created_at)
+				SELECT gen_random_uuid(),
+				       '%s'::uuid,
+				       '%s'::uuid,
+				       (ARRAY['프리미엄','데일리','빈티지','오버핏','경량','클래식'])[1 + i %% 6] || ' '
+				           || (ARRAY['후드티','원피스','운동화','백팩','텀블러','니트','청바지','코트'])[1 + (i / 6) %% 8]
+				           || ' ' || i,
+				       repeat('부드러운 소재와 편안한 착용감으로 매일 입기 좋은 상품입니다. ', 4)
+				           || CASE WHEN i %% 50 = 0 THEN '통기성이 뛰어난 메쉬 안감. ' ELSE '' END
+				           || md5(i::text),
+				       CASE WHEN i %% 10 = 0 THEN 'SOLD_OUT' ELSE 'ON_SALE' END,
+				       false,
+				       1000 + i %% 100 * 100,
+				       CASE WHEN i %% 10 = 0 THEN 0 ELSE 10 END,
+				       now() - (i || ' seconds')::interval
+				FROM generate_series(1, %d) AS i
+				""".formatted(UUID.randomUUID(), categoryId, PRODUCTS));
+			statement.execute("ANALYZE p_product");
+		}
+
+		// 관련도순 similarity 정렬 사용 (기동 시 ProductSearchIndexInitializer가 하는 확인)
+		trigramSearchSupport = new TrigramSearchSupport();
+		trigramSearchSupport.setAvailable(true);
+
+		countResolver = mock(ProductCountResolver.class);
+		when(countResolver.count(any(), any(), any()))
+			.thenAnswer(invocation -> invocation.<LongSupplier>getArgument(2).getAsLong());
+	}
+
+	@AfterAll
+	static void tearDown() throws SQLException {
+		if (connection != null) {
+			connection.close();
+		}
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+		if (postgres != null) {
+			postgres.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("검색 쿼리 LIKE 순차 스캔 vs trigram GIN 인덱스 (최신순/관련도순/개수, 2글자 검색어 포함)")
+	void compare_search_paths() throws SQLException {
+		List<long[]> before = new ArrayList<>();
+		List<Page<Product>> beforeResults = new ArrayList<>();
+		for (String keyword : KEYWORDS) {
+			before.add(measure(keyword));
+			beforeResults.add(search(keyword, ProductSortType.NEWEST, ProductCountMode.EXACT));
+		}
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE INDEX idx_product_title_trgm ON p_product USING gin (lower(title) gin_trgm_ops)");
+			statement.execute(
+				"CREATE INDEX idx_product_description_trgm ON p_product USING gin (lower(description) gin_trgm_ops)");
+			statement.execute("ANALYZE p_product");
+		}
+
+		System.out.printf("products=%d (median of %d runs, ms)%n", PRODUCTS, MEASURE_ROUNDS);
+		System.out.printf("%-14s %9s %12s %12s %12s %12s %12s %12s %11s%n", "keyword", "total",
+			"newest/like", "newest/trgm", "relev/like", "relev/trgm", "count/like", "count/trgm", "trgm scans");
+		for (int k = 0; k < KEYWORDS.size(); k++) {
+			String keyword = KEYWORDS.get(k);
+			long scansBefore = trgmIndexScans();
+			long[] after = measure(keyword);
+			long trgmScans = awaitTrgmIndexScans(scansBefore) - scansBefore;
+
+			// 인덱스 유무와 관계없이 같은 결과
+			Page<Product> result = search(keyword, ProductSortType.NEWEST, ProductCountMode.EXACT);
+			Page<Product> expected = beforeResults.get(k);
+			assertThat(result.getTotalElements()).isEqualTo(expected.getTotalElements());
+			assertThat(ids(result)).isEqualTo(ids(expected));
+			assertThat(result.getTotalElements()).isPositive();
+
+			long[] like = before.get(k);
+			System.out.printf("%-14s %9d %12.1f %12.1f %12.1f %12.1f %12.1f %12.1f %11d%n", keyword,
+				result.getTotalElements(), like[0] / 1e6, after[0] / 1e6, like[1] / 1e6, after[1] / 1e6,
+				like[2] / 1e6, after[2] / 1e6, trgmScans);
+		}
+	}
+
+	/**
+	 * @return [최신순, 관련도순, 최신순+정확한 개수] 중앙값 (ns)
+	 */
+	private long[] measure(String keyword) {
+		long[] result = new long[3];
+		List<Runnable> queries = List.of(
+			() -> search(keyword, ProductSortType.NEWEST, ProductCountMode.NONE),
+			() -> search(keyword, ProductSortType.RELEVANCE, ProductCountMode.NONE),
+			() -> search(keyword, ProductSortType.NEWEST, ProductCountMode.EXACT));
+		for (int q = 0; q < queries.size(); q++) {
+			for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+				queries.get(q).run();
+			}
+			long[] nanos = new long[MEASURE_ROUNDS];
+			for (int i = 0; i < MEASURE_ROUNDS; i++) {
+				long start = System.nanoTime();
+				queries.get(q).run();
+				nanos[i] = System.nanoTime() - start;
+			}
+			Arrays.sort(nanos);
+			result[q] = nanos[MEASURE_ROUNDS / 2];
+		}
+		return result;
+	}
+
+	private Page<Product> search(String keyword, ProductSortType sortType, ProductCountMode countMode) {
+		return sessionFactory.fromSession(session -> new ProductQueryRepository(new JPAQueryFactory(session),
+			mock(CategoryPathCache.class), countResolver, trigramSearchSupport)
+			.searchProductsForBuyer(keyword, null, null, null, sortType, countMode, PageRequest.of(0, PAGE_SIZE)));
+	}
+
+	private static List<UUID> ids(Page<Product> page) {
+		return page.map(Product::getId).getContent();
+	}
+
+	/**
+	 * 통계는 검색 세션이 비동기로 반영하므로 증가가 보일 때까지 잠시 대기 (순차 스캔이면 그대로 반환)
+	 */
+	private long awaitTrgmIndexScans(long before) throws SQLException {
+		long scans = trgmIndexScans();
+		for (int i = 0; i < 30 && scans == before; i++) {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			scans = trgmIndexScans();
+		}
+		return scans;
+	}
+
+	private long trgmIndexScans() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("SELECT pg_stat_clear_snapshot()");
+			try (ResultSet resultSet = statement.executeQuery(
+				"SELECT coalesce(sum(idx_scan), 0) FROM pg_stat_user_indexes WHERE indexrelname IN ('"
+					+ String.join("','", TRGM_INDEXES) + "')")) {
+				resultSet.next();
+				return resultSet.getLong(1);
+			}
+		}
+	}
+}
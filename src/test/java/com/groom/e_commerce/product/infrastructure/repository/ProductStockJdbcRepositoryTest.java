@@ -0,0 +1,268 @@
+package com.groom.e_commerce.product.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.groom.e_commerce.global.presentation.advice.CustomException;
+import com.groom.e_commerce.global.presentation.advice.ErrorCode;
+import com.groom.e_commerce.product.application.dto.StockManagement;
+import com.groom.e_commerce.product.domain.entity.Category;
+import com.groom.e_commerce.product.domain.entity.Product;
+import com.groom.e_commerce.product.domain.entity.ProductOption;
+import com.groom.e_commerce.product.domain.entity.ProductOptionValue;
+import com.groom.e_commerce.product.domain.entity.ProductVariant;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+
+/**
+ * 확정 차감 조건부 UPDATE 배치 검증 (PostgreSQL)
+ * 재고 조건, SOLD_OUT 전환, 같은 SKU 합산, 한 줄이라도 실패하면 주문 전체 롤백
+ */
+@Tag("integration")
+class ProductStockJdbcRepositoryTest {
+
+	private static PostgreSQLContainer<?> postgres;
+	private static SessionFactory sessionFactory;
+	private static Category category;
+	private static JdbcTemplate jdbcTemplate;
+	private static TransactionTemplate transactionTemplate;
+	private static ProductStockJdbcRepository repository;
+
+	@BeforeAll
+	static void setUp() {
+		postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+		postgres.start();
+
+		// 스키마는 엔티티 매핑 그대로 생성
+		sessionFactory = new Configuration()
+			.addAnnotatedClass(Category.class)
+			.addAnnotatedClass(Product.class)
+			.addAnnotatedClass(ProductOption.class)
+			.addAnnotatedClass(ProductOptionValue.class)
+			.addAnnotatedClass(ProductVariant.class)
+			.setProperty("hibernate.connection.url", postgres.getJdbcUrl())
+			.setProperty("hibernate.connection.username", postgres.getUsername())
+			.setProperty("hibernate.connection.password", postgres.getPassword())
+			.setProperty("hibernate.hbm2ddl.auto", "create-drop")
+			.buildSessionFactory();
+
+		sessionFactory.inTransaction(session -> {
+			category = Category.builder().name("의류").depth(1).sortOrder(1).build();
+			session.persist(category);
+		});
+
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		repository = new ProductStockJdbcRepository(jdbcTemplate);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		if (sessionFactory != null) {
+			sessionFactory.close();
+		}
+		if (postgres != null) {
+			postgres.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("재고가 충분하면 차감하고, 0이 된 판매중 상품은 같은 UPDATE에서 품절로 바뀐다")
+	void decreases_stock_and_marks_sold_out_at_zero() {
+		UUID remaining = saveProduct(10);
+		UUID soldOut = saveProduct(5);
+
+		decrease(List.of(StockManagement.of(remaining, null, 3), StockManagement.of(soldOut, null, 5)));
+
+		assertThat(productStock(remaining)).isEqualTo(7);
+		assertThat(productStatus(remaining)).isEqualTo("ON_SALE");
+		assertThat(productStock(soldOut)).isZero();
+		assertThat(productStatus(soldOut)).isEqualTo("SOLD_OUT");
+	}
+
+	@Test
+	@DisplayName("판매중이 아닌 상품은 재고가 0이 되어도 상태를 유지한다")
+	void keeps_non_on_sale_status_at_zero() {
+		UUID hidden = saveProduct(2, ProductStatus.HIDDEN);
+
+		decrease(List.of(StockManagement.of(hidden, null, 2)));
+
+		assertThat(productStock(hidden)).isZero();
+		assertThat(productStatus(hidden)).isEqualTo("HIDDEN");
+	}
+
+	@Test
+	@DisplayName("재고보다 많이 차감하면 STOCK_NOT_ENOUGH이고 재고는 그대로다")
+	void rejects_decrease_over_stock() {
+		UUID productId = saveProduct(2);
+
+		assertThatThrownBy(() -> decrease(List.of(StockManagement.of(productId, null, 3))))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.STOCK_NOT_ENOUGH);
+
+		assertThat(productStock(productId)).isEqualTo(2);
+		assertThat(productStatus(productId)).isEqualTo("ON_SALE");
+	}
+
+	@Test
+	@DisplayName("같은 SKU 여러 줄은 합산해 한 번에 조건을 검사한다")
+	void merges_duplicate_lines() {
+		UUID exact = saveProduct(5);
+		UUID over = saveProduct(5);
+
+		decrease(List.of(StockManagement.of(exact, null, 2), StockManagement.of(exact, null, 3)));
+
+		assertThat(productStock(exact)).isZero();
+		assertThat(productStatus(exact)).isEqualTo("SOLD_OUT");
+
+		assertThatThrownBy(() -> decrease(
+			List.of(StockManagement.of(over, null, 3), StockManagement.of(over, null, 3))))
+			.isInstanceOf(CustomException.class);
+		assertThat(productStock(over)).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("Variant는 상품 ID가 일치할 때만 차감하고 0이 되면 품절로 바뀐다")
+	void decreases_variant_of_matching_product_only() {
+		UUID productId = saveOptionProduct(4);
+		UUID variantId = variantIdOf(productId);
+
+		assertThatThrownBy(() -> decrease(List.of(StockManagement.of(UUID.randomUUID(), variantId, 1))))
+			.isInstanceOf(CustomException.class);
+		assertThat(variantStock(variantId)).isEqualTo(4);
+
+		decrease(List.of(StockManagement.of(productId, variantId, 4)));
+
+		assertThat(variantStock(variantId)).isZero();
+		assertThat(variantStatus(variantId)).isEqualTo("SOLD_OUT");
+	}
+
+	@Test
+	@DisplayName("옵션 상품과 삭제된 상품은 상품 재고로 차감하지 않는다")
+	void skips_option_and_deleted_products() {
+		UUID optionProductId = saveOptionProduct(4);
+		UUID deleted = saveProduct(5);
+		jdbcTemplate.update("UPDATE p_product SET deleted_at = now() WHERE product_id = ?", deleted);
+
+		assertThatThrownBy(() -> decrease(List.of(StockManagement.of(optionProductId, null, 1))))
+			.isInstanceOf(CustomException.class);
+		assertThatThrownBy(() -> decrease(List.of(StockManagement.of(deleted, null, 1))))
+			.isInstanceOf(CustomException.class);
+		assertThat(productStock(deleted)).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("한 줄이라도 0건 갱신이면 이미 차감한 상품/Variant까지 트랜잭션 전체가 롤백된다")
+	void rolls_back_whole_order_when_one_line_fails() {
+		UUID first = saveProduct(10);
+		UUID second = saveProduct(10);
+		UUID optionProductId = saveOptionProduct(1);
+		UUID variantId = variantIdOf(optionProductId);
+
+		// 상품 배치는 모두 성공, Variant 배치에서 실패
+		assertThatThrownBy(() -> decrease(List.of(
+			StockManagement.of(first, null, 4),
+			StockManagement.of(second, null, 10),
+			StockManagement.of(optionProductId, variantId, 2))))
+			.isInstanceOf(CustomException.class);
+
+		assertThat(productStock(first)).isEqualTo(10);
+		assertThat(productStock(second)).isEqualTo(10);
+		assertThat(productStatus(second)).isEqualTo("ON_SALE");
+		assertThat(variantStock(variantId)).isEqualTo(1);
+
+		// 같은 배치 안의 다른 줄이 실패해도 롤백
+		assertThatThrownBy(() -> decrease(List.of(
+			StockManagement.of(first, null, 4),
+			StockManagement.of(second, null, 11))))
+			.isInstanceOf(CustomException.class);
+
+		assertThat(productStock(first)).isEqualTo(10);
+		assertThat(productStock(second)).isEqualTo(10);
+	}
+
+	private void decrease(List<StockManagement> items) {
+		transactionTemplate.executeWithoutResult(status -> repository.decreaseStocks(items));
+	}
+
+	private UUID saveProduct(int stock) {
+		return saveProduct(stock, ProductStatus.ON_SALE);
+	}
+
+	private UUID saveProduct(int stock, ProductStatus status) {
+		return sessionFactory.fromTransaction(session -> {
+			Product product = Product.builder()
+				.ownerId(UUID.randomUUID())
+				.category(session.getReference(Category.class, category.getId()))
+				.title("상품")
+				.price(10_000L)
+				.stockQuantity(stock)
+				.build();
+			product.updateStatus(status);
+			session.persist(product);
+			return product.getId();
+		});
+	}
+
+	private UUID saveOptionProduct(int variantStock) {
+		return sessionFactory.fromTransaction(session -> {
+			Product product = Product.builder()
+				.ownerId(UUID.randomUUID())
+				.category(session.getReference(Category.class, category.getId()))
+				.title("옵션 상품")
+				.price(10_000L)
+				.hasOptions(true)
+				.build();
+			product.addVariant(ProductVariant.builder()
+				.product(product)
+				.skuCode(UUID.randomUUID().toString().substring(0, 20))
+				.optionName("기본")
+				.price(10_000L)
+				.stockQuantity(variantStock)
+				.build());
+			session.persist(product);
+			return product.getId();
+		});
+	}
+
+	private UUID variantIdOf(UUID productId) {
+		return jdbcTemplate.queryForObject(
+			"SELECT variant_id FROM p_product_variant WHERE product_id = ?", UUID.class, productId);
+	}
+
+	private Integer productStock(UUID productId) {
+		return jdbcTemplate.queryForObject(
+			"SELECT stock_quantity FROM p_product WHERE product_id = ?", Integer.class, productId);
+	}
+
+	private String productStatus(UUID productId) {
+		return jdbcTemplate.queryForObject(
+			"SELECT status FROM p_product WHERE product_id = ?", String.class, productId);
+	}
+
+	private Integer variantStock(UUID variantId) {
+		return jdbcTemplate.queryForObject(
+			"SELECT stock_quantity FROM p_product_variant WHERE variant_id = ?", Integer.class, variantId);
+	}
+
+	private String variantStatus(UUID variantId) {
+		return jdbcTemplate.queryForObject(
+			"SELECT status FROM p_product_variant WHERE variant_id = ?", String.class, variantId);
+	}
+}
@@ -0,0 +1,52 @@
+package com.groom.e_commerce.product.infrastructure.suggest;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HangulNormalizerTest {
+
+	@Test
+	@DisplayName("문자/숫자 외 문자는 단어 구분자로 처리하고 영문은 소문자로 바꾼다")
+	void tokenize_splits_on_non_letters() {
+		assertThat(HangulNormalizer.tokenize("Nike  에어-맥스!")).containsExactly("nike", "에어", "맥스");
+		assertThat(HangulNormalizer.tokenize(null)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("음절은 호환 자모로 분해하고 겹모음/겹받침도 나눈다")
+	void decompose_splits_compound_jamo() {
+		assertThat(HangulNormalizer.decompose(List.of("나이키", "에어"))).isEqualTo("ㄴㅏㅇㅣㅋㅣ ㅇㅔㅇㅓ");
+		assertThat(HangulNormalizer.decompose(List.of("과"))).isEqualTo("ㄱㅗㅏ");
+		assertThat(HangulNormalizer.decompose(List.of("닭"))).isEqualTo("ㄷㅏㄹㄱ");
+		assertThat(HangulNormalizer.decompose(List.of("ㄺ"))).isEqualTo("ㄹㄱ");
+	}
+
+	@Test
+	@DisplayName("입력 중인 글자의 자모 키는 완성된 글자 자모 키의 접두사가 된다")
+	void typing_key_is_prefix_of_complete_key() {
+		String typing = HangulNormalizer.decompose(List.of("나잌"));
+		String complete = HangulNormalizer.decompose(List.of("나이키"));
+
+		assertThat(complete).startsWith(typing);
+	}
+
+	@Test
+	@DisplayName("초성 키는 음절의 초성만 남기고 나머지 문자는 그대로 둔다")
+	void choseong_keeps_initial_consonants() {
+		assertThat(HangulNormalizer.choseong(List.of("나이키", "에어"))).isEqualTo("ㄴㅇㅋ ㅇㅇ");
+		assertThat(HangulNormalizer.choseong(List.of("나이키2", "air"))).isEqualTo("ㄴㅇㅋ2 air");
+	}
+
+	@Test
+	@DisplayName("자음만으로 된 입력만 초성 검색으로 판단한다")
+	void detects_choseong_query() {
+		assertThat(HangulNormalizer.isChoseongQuery(List.of("ㄴㅇㅋ", "ㅇㅇ"))).isTrue();
+		assertThat(HangulNormalizer.isChoseongQuery(List.of("나ㅇ"))).isFalse();
+		assertThat(HangulNormalizer.isChoseongQuery(List.of("ㄴㅏ"))).isFalse();
+		assertThat(HangulNormalizer.isChoseongQuery(List.of())).isFalse();
+	}
+}
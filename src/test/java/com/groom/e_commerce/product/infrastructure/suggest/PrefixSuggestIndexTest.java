@@ -0,0 +1,101 @@
+package com.groom.e_commerce.product.infrastructure.suggest;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PrefixSuggestIndexTest {
+
+	private final UUID airId = UUID.randomUUID();
+	private final UUID jordanId = UUID.randomUUID();
+	private final UUID nikeId = UUID.randomUUID();
+
+	private PrefixSuggestIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new PrefixSuggestIndex(6, 10, 100, 3, 32);
+		index.put(airId, "나이키 에어", 5);
+		index.put(jordanId, "나이키 조던", 10);
+		index.put(nikeId, "나이키", 10);
+	}
+
+	@Test
+	@DisplayName("인기 내림차순, 같은 인기면 짧은 문구 순으로 정렬한다")
+	void ranks_by_weight_then_length() {
+		assertThat(ids(index.suggest("나이", 10))).containsExactly(nikeId, jordanId, airId);
+		assertThat(ids(index.suggest("나이", 2))).containsExactly(nikeId, jordanId);
+	}
+
+	@Test
+	@DisplayName("입력 중인 글자, 초성, 중간 단어로도 찾는다")
+	void matches_partial_syllable_choseong_and_middle_word() {
+		assertThat(ids(index.suggest("나잌", 10))).containsExactly(nikeId, jordanId, airId);
+		assertThat(ids(index.suggest("ㄴㅇㅋ", 10))).containsExactly(nikeId, jordanId, airId);
+		assertThat(ids(index.suggest("조던", 10))).containsExactly(jordanId);
+		assertThat(index.suggest(" ", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("인기 가중치 변경은 순위에 바로 반영되고, 미색인 항목은 무시한다")
+	void update_weight_reorders() {
+		assertThat(index.updateWeight(airId, 100)).isTrue();
+		assertThat(index.updateWeight(UUID.randomUUID(), 100)).isFalse();
+
+		assertThat(ids(index.suggest("나이", 10))).containsExactly(airId, nikeId, jordanId);
+		assertThat(index.weightOf(airId)).isEqualTo(100L);
+	}
+
+	@Test
+	@DisplayName("제거한 항목은 모든 접두사 목록에서 빠진다")
+	void remove_drops_entry_from_every_prefix() {
+		index.remove(nikeId);
+
+		assertThat(ids(index.suggest("나이", 10))).containsExactly(jordanId, airId);
+		assertThat(ids(index.suggest("ㄴㅇㅋ", 10))).containsExactly(jordanId, airId);
+		assertThat(index.weightOf(nikeId)).isNull();
+		assertThat(index.size()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("잘린 상위 목록이 topK 아래로 줄면 범위를 다시 훑어 남은 항목으로 채운다")
+	void remove_rescans_truncated_head() {
+		PrefixSuggestIndex small = new PrefixSuggestIndex(6, 2, 100, 3, 32);
+		List<UUID> bags = new ArrayList<>();
+		for (int weight = 1; weight <= 6; weight++) {
+			UUID id = UUID.randomUUID();
+			bags.add(id);
+			small.put(id, "가방" + weight, weight);
+		}
+
+		// 보관분(상위 4개) 중 3개 제거 → 보관 범위 밖이던 항목까지 다시 훑음
+		small.remove(bags.get(5));
+		small.remove(bags.get(4));
+		small.remove(bags.get(3));
+
+		assertThat(ids(small.suggest("가방", 2))).containsExactly(bags.get(2), bags.get(1));
+	}
+
+	@Test
+	@DisplayName("긴 접두사 목록은 처음 조회 후에도 쓰기에 맞춰 유지된다")
+	void deep_prefix_head_is_maintained_after_first_lookup() {
+		assertThat(ids(index.suggest("나이키 에", 10))).containsExactly(airId);
+
+		UUID maxId = UUID.randomUUID();
+		index.put(maxId, "나이키 에어맥스", 1);
+		assertThat(ids(index.suggest("나이키 에", 10))).containsExactly(airId, maxId);
+
+		index.remove(airId);
+		assertThat(ids(index.suggest("나이키 에", 10))).containsExactly(maxId);
+	}
+
+	private static List<UUID> ids(List<PrefixSuggestIndex.Entry> entries) {
+		return entries.stream().map(PrefixSuggestIndex.Entry::id).toList();
+	}
+}
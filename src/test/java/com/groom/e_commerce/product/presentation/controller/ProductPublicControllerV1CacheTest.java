@@ -0,0 +1,236 @@
+package com.groom.e_commerce.product.presentation.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.groom.e_commerce.global.infrastructure.redis.SingleFlightLoader;
+import com.groom.e_commerce.product.application.service.ProductHotPageService;
+import com.groom.e_commerce.product.application.service.ProductListPrefetcher;
+import com.groom.e_commerce.product.application.service.ProductReadService;
+import com.groom.e_commerce.product.application.service.ProductServiceV1;
+import com.groom.e_commerce.product.application.service.ProductSuggestService;
+import com.groom.e_commerce.product.application.service.ProductWarmUpLoader;
+import com.groom.e_commerce.product.domain.enums.ProductStatus;
+import com.groom.e_commerce.product.infrastructure.cache.CachedProductDetail;
+import com.groom.e_commerce.product.infrastructure.cache.ProductCardCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductListCacheService;
+import com.groom.e_commerce.product.infrastructure.cache.ProductResponseCache;
+import com.groom.e_commerce.product.infrastructure.repository.ProductAggregateLoader;
+import com.groom.e_commerce.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.e_commerce.product.presentation.dto.response.ResProductSearchDtoV1;
+
+/**
+ * 응답 바이트 캐시 (ETag, If-None-Match → 304, 원본 조회 중 무효화 시 적재 생략)
+ *
+ * 컨트롤러 + ProductReadService + ProductResponseCache는 실제 객체, 상세/목록 원본 캐시만 mock
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductPublicControllerV1CacheTest {
+
+	private static final long CACHED_AT = 1_760_000_000_000L;
+	private static final int SIZE = 2;
+
+	@Mock
+	private ProductDetailCacheService detailCacheService;
+
+	@Mock
+	private ProductHotPageService hotPageService;
+
+	@Mock
+	private ProductListPrefetcher listPrefetcher;
+
+	private final UUID productId = UUID.randomUUID();
+	private final UUID categoryId = UUID.randomUUID();
+	private ProductResponseCache responseCache;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		responseCache = new ProductResponseCache();
+		ReflectionTestUtils.setField(responseCache, "enabled", true);
+		ReflectionTestUtils.setField(responseCache, "maxWeightBytes", 1_048_576L);
+		ReflectionTestUtils.setField(responseCache, "ttlSeconds", 30L);
+		ReflectionTestUtils.setField(responseCache, "listTtlSeconds", 5L);
+		ReflectionTestUtils.setField(responseCache, "hotListPages", 3);
+		ReflectionTestUtils.setField(responseCache, "maxListPageSize", 100);
+		responseCache.init();
+
+		ProductReadService productReadService = new ProductReadService(mock(ProductListCacheService.class),
+			detailCacheService, mock(ProductCardCacheService.class), mock(ProductQueryRepository.class),
+			mock(ProductAggregateLoader.class), mock(SingleFlightLoader.class), responseCache, hotPageService,
+			listPrefetcher, Jackson2ObjectMapperBuilder.json().build());
+
+		mockMvc = MockMvcBuilders.standaloneSetup(new ProductPublicControllerV1(productReadService,
+			mock(ProductServiceV1.class), mock(ProductWarmUpLoader.class), mock(ProductSuggestService.class))).build();
+	}
+
+	@Test
+	@DisplayName("상세: 상세 캐시 저장 시간으로 ETag를 만들고, 같은 ETag로 재요청하면 본문 없이 304")
+	void detail_etag_and_not_modified() throws Exception {
+		when(detailCacheService.get(productId)).thenReturn(cachedDetail());
+
+		MvcResult first = mockMvc.perform(get("/api/v1/products/{productId}", productId))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, "\"v1-" + Long.toHexString(CACHED_AT) + "\""))
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+			.andExpect(jsonPath("$.productId").value(productId.toString()))
+			.andReturn();
+		String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+		MvcResult second = mockMvc.perform(get("/api/v1/products/{productId}", productId)
+				.header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, etag))
+			.andReturn();
+
+		assertThat(second.getResponse().getContentAsByteArray()).isEmpty();
+		assertThat(responseCache.notModifiedCount()).isEqualTo(1);
+		// 두 번째 요청은 응답 바이트 캐시에서 응답
+		verify(detailCacheService, times(1)).get(productId);
+	}
+
+	@Test
+	@DisplayName("상세: ETag가 다르면 본문과 함께 200")
+	void detail_stale_etag_returns_body() throws Exception {
+		when(detailCacheService.get(productId)).thenReturn(cachedDetail());
+
+		mockMvc.perform(get("/api/v1/products/{productId}", productId)
+				.header(HttpHeaders.IF_NONE_MATCH, "\"v1-0\""))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.productId").value(productId.toString()));
+
+		assertThat(responseCache.notModifiedCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("상세: 상세 캐시 조회 중 무효화되면 응답은 하되 응답 바이트 캐시에 적재하지 않는다")
+	void detail_invalidated_during_load_is_not_cached() throws Exception {
+		AtomicBoolean invalidated = new AtomicBoolean();
+		when(detailCacheService.get(productId)).thenAnswer(invocation -> {
+			// 조회 시작 이후 변경 동기화/Pub/Sub 무효화 도착
+			if (invalidated.compareAndSet(false, true)) {
+				responseCache.invalidateAll(List.of(productId));
+			}
+			return cachedDetail();
+		});
+
+		mockMvc.perform(get("/api/v1/products/{productId}", productId))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(HttpHeaders.ETAG));
+
+		assertThat(responseCache.getDetail(productId)).isNull();
+
+		// 다음 요청은 상세 캐시를 다시 읽고, 무효화가 없었으므로 적재
+		mockMvc.perform(get("/api/v1/products/{productId}", productId))
+			.andExpect(status().isOk());
+
+		verify(detailCacheService, times(2)).get(productId);
+		assertThat(responseCache.getDetail(productId)).isNotNull();
+	}
+
+	@Test
+	@DisplayName("목록: 본문 해시로 ETag를 만들고, 같은 ETag로 재요청하면 304")
+	void list_etag_and_not_modified() throws Exception {
+		List<ResProductSearchDtoV1> content = List.of(card(UUID.randomUUID()), card(UUID.randomUUID()));
+		when(hotPageService.getPage(categoryId, PageRequest.of(0, SIZE)))
+			.thenReturn(new PageImpl<>(content, PageRequest.of(0, SIZE), content.size()));
+
+		MvcResult first = mockMvc.perform(listRequest())
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+			.andExpect(jsonPath("$.content.length()").value(SIZE))
+			.andReturn();
+		String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+		assertThat(etag).startsWith("\"v1-").endsWith("\"");
+
+		mockMvc.perform(listRequest().header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, etag));
+
+		assertThat(responseCache.notModifiedCount()).isEqualTo(1);
+		verify(hotPageService, times(1)).getPage(categoryId, PageRequest.of(0, SIZE));
+	}
+
+	@Test
+	@DisplayName("목록: 원본 조회 중 무효화되면 응답 바이트 캐시에 적재하지 않는다")
+	void list_invalidated_during_load_is_not_cached() throws Exception {
+		UUID listedId = UUID.randomUUID();
+		List<ResProductSearchDtoV1> content = List.of(card(listedId));
+		AtomicBoolean invalidated = new AtomicBoolean();
+		when(hotPageService.getPage(categoryId, PageRequest.of(0, SIZE))).thenAnswer(invocation -> {
+			if (invalidated.compareAndSet(false, true)) {
+				responseCache.invalidateAll(List.of(listedId));
+			}
+			return new PageImpl<>(content, PageRequest.of(0, SIZE), content.size());
+		});
+
+		mockMvc.perform(listRequest())
+			.andExpect(status().isOk())
+			.andExpect(header().exists(HttpHeaders.ETAG));
+
+		assertThat(responseCache.getList(categoryId, 0, SIZE)).isNull();
+
+		mockMvc.perform(listRequest())
+			.andExpect(status().isOk());
+
+		verify(hotPageService, times(2)).getPage(eq(categoryId), any());
+		assertThat(responseCache.getList(categoryId, 0, SIZE)).isNotNull();
+	}
+
+	private MockHttpServletRequestBuilder listRequest() {
+		return get("/api/v1/products")
+			.param("categoryId", categoryId.toString())
+			.param("page", "1")
+			.param("size", String.valueOf(SIZE));
+	}
+
+	private CachedProductDetail cachedDetail() {
+		return CachedProductDetail.builder()
+			.productId(productId)
+			.categoryId(categoryId)
+			.title("상품")
+			.price(1_000L)
+			.status(ProductStatus.ON_SALE)
+			.hasOptions(false)
+			.options(List.of())
+			.variants(List.of())
+			.createdAt(LocalDateTime.of(2026, 1, 1, 0, 0))
+			.cachedAt(CACHED_AT)
+			.build();
+	}
+
+	private ResProductSearchDtoV1 card(UUID id) {
+		return ResProductSearchDtoV1.builder()
+			.productId(id)
+			.title("상품")
+			.status(ProductStatus.ON_SALE)
+			.minPrice(1_000L)
+			.maxPrice(1_000L)
+			.build();
+	}
+}
@@ -0,0 +1,46 @@
+package com.groom.e_commerce.product.presentation.dto.response;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 검색 결과 설명 발췌 (강조 표시 없는 일반 텍스트)
+ */
+class ResProductSearchDtoV1Test {
+
+	private static final String FILLER = "부드러운 소재와 편안한 착용감으로 매일 입기 좋은 상품입니다. ";
+
+	@Test
+	@DisplayName("검색어가 뒤쪽에 있으면 앞 40자부터 120자를 잘라 양쪽에 말줄임표를 붙인다")
+	void cuts_around_keyword() {
+		String description = FILLER.repeat(3) + "통기성이 뛰어난 메쉬 안감. " + FILLER.repeat(3);
+
+		String snippet = ResProductSearchDtoV1.snippet(description, "메쉬");
+
+		assertThat(snippet).startsWith("…").endsWith("…").contains("메쉬");
+		assertThat(snippet).hasSize(120 + 2);
+		assertThat(snippet.indexOf("메쉬")).isEqualTo(1 + 40);
+		assertThat(snippet).doesNotContain("<", ">");
+	}
+
+	@Test
+	@DisplayName("공백을 하나로 정리하고 대소문자를 무시해 찾는다")
+	void collapses_whitespace_and_ignores_case() {
+		String snippet = ResProductSearchDtoV1.snippet("가벼운\n\n  NYLON   백팩", "nylon");
+
+		assertThat(snippet).isEqualTo("가벼운 NYLON 백팩");
+	}
+
+	@Test
+	@DisplayName("설명에 검색어가 없으면 (제목 일치) 설명 앞부분, 설명이 없으면 null")
+	void falls_back_to_head_of_description() {
+		String description = FILLER.repeat(5);
+
+		assertThat(ResProductSearchDtoV1.snippet(description, "원피스"))
+			.isEqualTo(description.strip().substring(0, 120) + "…");
+		assertThat(ResProductSearchDtoV1.snippet(" ", "원피스")).isNull();
+		assertThat(ResProductSearchDtoV1.snippet(null, "원피스")).isNull();
+	}
+}
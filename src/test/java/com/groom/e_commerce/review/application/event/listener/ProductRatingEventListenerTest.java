@@ -14,6 +14,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.groom.e_commerce.review.application.event.ReviewCreatedEvent;
 import com.groom.e_commerce.review.domain.entity.ProductRatingEntity;
@@ -24,6 +25,9 @@ class ProductRatingEventListenerTest {
     @Mock
     private ProductRatingRepository productRatingRepository;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private ProductRatingEventListener listener;
 
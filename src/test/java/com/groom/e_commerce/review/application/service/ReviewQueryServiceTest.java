@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
+import com.groom.e_commerce.global.infrastructure.redis.SingleFlightLoader;
 import com.groom.e_commerce.review.domain.entity.ProductRatingEntity;
 import com.groom.e_commerce.review.domain.entity.ReviewEntity;
 import com.groom.e_commerce.review.domain.repository.ProductRatingRepository;
@@ -39,6 +41,9 @@ class ReviewQueryServiceTest {
     @Mock
     private ProductRatingRepository productRatingRepository;
 
+    @Mock
+    private SingleFlightLoader singleFlightLoader;
+
     @InjectMocks
     private ReviewQueryService service;
 
@@ -86,6 +91,8 @@ class ReviewQueryServiceTest {
         when(reviewRedisRepository.findByProductId(productId, 0, 10))
             .thenReturn(List.of());
 
+        givenSingleFlightRunsLoader();
+
         ReviewEntity review = mock(ReviewEntity.class);
         when(review.getReviewId()).thenReturn(UUID.randomUUID());
         when(review.getProductId()).thenReturn(productId);
@@ -123,6 +130,8 @@ class ReviewQueryServiceTest {
         when(reviewRedisRepository.findByProductId(productId, 0, 10))
             .thenReturn(List.of());
 
+        givenSingleFlightRunsLoader();
+
         when(reviewRepository.findAllByProductId(eq(productId), any()))
             .thenReturn(Page.empty());
 
@@ -138,4 +147,10 @@ class ReviewQueryServiceTest {
         assertThat(response.getReviewCount()).isEqualTo(0);
         assertThat(response.getReviews()).isEmpty();
     }
+
+    @SuppressWarnings("unchecked")
+    private void givenSingleFlightRunsLoader() {
+        when(singleFlightLoader.load(anyString(), any(), any()))
+            .thenAnswer(invocation -> ((Supplier<Object>) invocation.getArgument(2)).get());
+    }
 }